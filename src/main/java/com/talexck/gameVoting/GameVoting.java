@@ -21,6 +21,7 @@ public final class GameVoting extends JavaPlugin {
     private GamesConfigManager gamesManager;
     private com.talexck.gameVoting.config.HologramConfigManager hologramConfigManager;
     private com.talexck.gameVoting.utils.hologram.HologramDisplayManager hologramDisplayManager;
+    private VoteCommand voteCommand;
 
     /**
      * Get the plugin instance.
@@ -58,12 +59,24 @@ public final class GameVoting extends JavaPlugin {
         return hologramDisplayManager;
     }
 
+    /**
+     * Get the registered /vote command, which also starts and ends voting.
+     *
+     * @return The vote command, or null if it could not be registered
+     */
+    public VoteCommand getVoteCommand() {
+        return voteCommand;
+    }
+
     @Override
     public void onEnable() {
         instance = this;
         // Save if it doesn't exist
         saveDefaultConfig();
 
+        // Cache the debug flag for DebugTrace (refreshed on /vote reload)
+        com.talexck.gameVoting.utils.debug.DebugTrace.configure(getConfig(), getLogger());
+
         try {
             // Initialize CloudNet API (using Driver API injection)
             CloudNetAPI.initialize();
@@ -108,6 +121,10 @@ public final class GameVoting extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new com.talexck.gameVoting.listeners.VoteItemListener(), this);
         getLogger().info("VoteItemListener registered");
 
+        // Register VotingRoom listener (routes players to their room's session)
+        getServer().getPluginManager().registerEvents(new com.talexck.gameVoting.listeners.VotingRoomListener(), this);
+        getLogger().info("VotingRoomListener registered");
+
         // Register PlayerJoin listener
         getServer().getPluginManager().registerEvents(new com.talexck.gameVoting.listeners.PlayerJoinListener(), this);
         getLogger().info("PlayerJoinListener registered");
@@ -116,6 +133,10 @@ public final class GameVoting extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new com.talexck.gameVoting.listeners.VotingPlayerQuitListener(), this);
         getLogger().info("VotingPlayerQuitListener registered");
 
+        // Register Language listener (per-player client locales)
+        getServer().getPluginManager().registerEvents(new com.talexck.gameVoting.listeners.LanguageListener(), this);
+        getLogger().info("LanguageListener registered");
+
         // Initialize HologramManager (only if DecentHolograms is present)
         if (getServer().getPluginManager().getPlugin("DecentHolograms") != null) {
             HologramManager.initialize(this);
@@ -127,6 +148,33 @@ public final class GameVoting extends JavaPlugin {
         gamesManager = new GamesConfigManager(this);
         getLogger().info("Games configuration manager initialized");
 
+        // Load voting rooms (world -> room) and route online players
+        var sessionRegistry = com.talexck.gameVoting.voting.VotingSessionRegistry.getInstance();
+        sessionRegistry.load(getConfig().getConfigurationSection("rooms"));
+
+        // Select vote tally (concurrent ingest allows votes from async threads)
+        sessionRegistry.setConcurrentIngest(getConfig().getBoolean("voting.concurrent-ingest", false));
+
+        // Select how ballots decide the winner (per room)
+        sessionRegistry.loadStrategies(getConfig().getString("voting.strategy", "approval"),
+            getConfig().getConfigurationSection("voting.room-strategies"), getLogger());
+
+        // One clock task drives every voting phase deadline and publishes vote snapshots
+        com.talexck.gameVoting.voting.VotingClock.getInstance().start(this);
+
+        // Shared timing wheel for invite expiry, click cooldowns and timed boss bars
+        com.talexck.gameVoting.utils.timer.TimerService.getInstance().start(this);
+
+        // Per-tick action bar flush (priorities, dedup and packet rate cap)
+        com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().start(this);
+
+        // Initialize network voting (shares one tally across lobby services)
+        try {
+            com.talexck.gameVoting.voting.network.NetworkVotingManager.initialize(this);
+        } catch (Exception ex) {
+            getLogger().warning("Failed to enable network voting: " + ex.getMessage());
+        }
+
         // Initialize hologram configuration manager
         hologramConfigManager = new com.talexck.gameVoting.config.HologramConfigManager(this);
         getLogger().info("Hologram configuration manager initialized");
@@ -138,11 +186,20 @@ public final class GameVoting extends JavaPlugin {
         // Register vote command using legacy Bukkit API
         PluginCommand voteCmd = this.getCommand("vote");
         if (voteCmd != null) {
-            VoteCommand voteCommand = new VoteCommand(this);
+            voteCommand = new VoteCommand(this);
             voteCommand.setGamesManager(gamesManager);
             voteCmd.setExecutor(voteCommand);
             voteCmd.setTabCompleter(new com.talexck.gameVoting.commands.VoteTabCompleter(gamesManager));
             getLogger().info("Registered /vote command with tab completion");
+
+            // Replay vote journals and resume sessions that were in progress
+            if (getConfig().getBoolean("voting.journal.enabled", true)) {
+                var recovered = sessionRegistry.openJournals(new java.io.File(getDataFolder(), "journal"), getLogger());
+                recovered.forEach(voteCommand::recoverSession);
+                if (!recovered.isEmpty()) {
+                    getLogger().info("Recovered " + recovered.size() + " voting session(s) from the vote journal");
+                }
+            }
         } else {
             getLogger().warning("Failed to register /vote command - check plugin.yml");
         }
@@ -164,8 +221,16 @@ public final class GameVoting extends JavaPlugin {
         Bukkit.getScheduler().runTaskLater(this, () -> {
             int onlineCount = Bukkit.getOnlinePlayers().size();
             if (onlineCount > 0) {
+                var registry = com.talexck.gameVoting.voting.VotingSessionRegistry.getInstance();
                 for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (onlineCount >= 6) {
+                    var session = registry.getSession(player);
+                    // Sessions recovered from the journal keep their phase
+                    if (session.isActive()) {
+                        com.talexck.gameVoting.utils.item.VoteItem.giveVotingItem(player);
+                    } else if (session.isReadyPhase()) {
+                        com.talexck.gameVoting.utils.item.VoteItem.giveReadyItem(player);
+                    } else if (session.getPlayers().size() >= 6) {
+                        // Player count is per voting room
                         // Give green emerald for ready system
                         com.talexck.gameVoting.utils.item.VoteItem.giveStartVotingItem(player);
                     } else {
@@ -182,8 +247,22 @@ public final class GameVoting extends JavaPlugin {
 
     @Override
     public void onDisable() {
-        // Cleanup boss bars
+        // Deliver broadcasts still waiting for the next tick
+        com.talexck.gameVoting.utils.message.BroadcastQueue.getInstance().flush();
+
+        // Leave network voting
+        com.talexck.gameVoting.voting.network.NetworkVotingManager.shutdown();
+
+        // Stop phase timers before the journals close, so nothing fires mid-shutdown
+        com.talexck.gameVoting.voting.VotingClock.getInstance().stop();
+        com.talexck.gameVoting.utils.timer.TimerService.getInstance().stop();
+
+        // Flush vote journals (in-progress sessions are recovered on next start)
+        com.talexck.gameVoting.voting.VotingSessionRegistry.getInstance().closeJournals();
+
+        // Cleanup boss bars and action bar channels
         BossBarManager.getInstance().shutdown();
+        com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().shutdown();
 
         // Cleanup holograms (if initialized)
         if (HologramManager.isInitialized()) {
@@ -204,6 +283,12 @@ public final class GameVoting extends JavaPlugin {
         // Clear all active menus
         ChestUIListener.clearAll();
 
+        // Write language choices still waiting for their async save
+        var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+        if (languageManager != null) {
+            languageManager.flushPreferences();
+        }
+
         getLogger().info("GameVoting plugin disabled!");
     }
 }
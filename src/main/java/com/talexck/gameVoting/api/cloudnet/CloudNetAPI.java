@@ -1,5 +1,6 @@
 package com.talexck.gameVoting.api.cloudnet;
 
+import eu.cloudnetservice.driver.ComponentInfo;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.CloudServiceFactory;
@@ -78,6 +79,14 @@ public class CloudNetAPI {
         return Optional.ofNullable(serviceProvider.service(uniqueId));
     }
 
+    /**
+     * Get the name of the service this plugin runs on, e.g. "Lobby-1"
+     * Stable across restarts and unique within the network
+     */
+    public String getCurrentServiceName() {
+        return InjectionLayer.ext().instance(ComponentInfo.class).componentName();
+    }
+
     /**
      * Get a specific service by name
      */
@@ -0,0 +1,70 @@
+package com.talexck.gameVoting.api.database;
+
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of VoteHistoryRepository.
+ * Queries run on the database I/O executor; the returned futures complete on
+ * an I/O thread. Use whenMain() or thenAcceptAsync(..., mainThread()) of the
+ * DatabaseExecutor to continue on the server thread.
+ *
+ * When the I/O queue is full, futures complete exceptionally with a
+ * RejectedExecutionException instead of blocking the caller. Reads that fail
+ * in the database complete exceptionally with a VoteHistoryException.
+ */
+public interface AsyncVoteHistoryRepository {
+
+    /**
+     * Save a voting session to the database.
+     *
+     * @param history The vote history record to save
+     * @return Future completing with true if saved successfully
+     */
+    CompletableFuture<Boolean> saveSession(VoteHistory history);
+
+    /**
+     * Get paginated voting session history.
+     *
+     * @param page Page number (0-indexed)
+     * @param pageSize Number of records per page
+     * @return Future completing with the vote history records for the page
+     */
+    CompletableFuture<List<VoteHistory>> getSessionHistory(int page, int pageSize);
+
+    /**
+     * Get a page of voting session history by cursor (keyset pagination).
+     *
+     * @param cursor Token from HistoryPage.getNextCursor(), or null for the first page
+     * @param pageSize Number of records per page
+     * @return Future completing with the page; fails with IllegalArgumentException for an invalid cursor
+     */
+    CompletableFuture<HistoryPage> getSessionHistoryPage(String cursor, int pageSize);
+
+    /**
+     * Get a specific session by ID.
+     *
+     * @param sessionId The session UUID
+     * @return Future completing with the VoteHistory, or null if not found
+     */
+    CompletableFuture<VoteHistory> getSession(UUID sessionId);
+
+    /**
+     * Get top N games by historical win count.
+     *
+     * @param limit Number of top games to return
+     * @return Future completing with a map of game_id -> win_count sorted by win count descending
+     */
+    CompletableFuture<Map<String, Integer>> getTopWinningGames(int limit);
+
+    /**
+     * Get total number of voting sessions.
+     *
+     * @return Future completing with the total session count
+     */
+    CompletableFuture<Integer> getTotalSessions();
+}
@@ -0,0 +1,129 @@
+package com.talexck.gameVoting.api.database;
+
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Position in the session history, used for keyset pagination.
+ *
+ * Sessions are ordered newest first by (timestamp, session_id). A cursor
+ * holds the key of the last session on a page, so the next page seeks
+ * straight to the sessions after it through the timestamp index, whatever
+ * the page number. It also carries that next page's number for display.
+ *
+ * Encoded as an opaque URL-safe token for commands and GUIs to pass back.
+ */
+public final class HistoryCursor {
+    /**
+     * Newest first by (timestamp, session_id), like the database queries.
+     * Session IDs compare as their text, which is how the backends order them.
+     */
+    public static final Comparator<VoteHistory> NEWEST_FIRST = Comparator
+        .comparing(VoteHistory::getTimestamp)
+        .thenComparing(history -> history.getSessionId().toString())
+        .reversed();
+
+    private final Instant timestamp;
+    private final UUID sessionId;
+    private final int page;
+
+    private HistoryCursor(Instant timestamp, UUID sessionId, int page) {
+        this.timestamp = timestamp;
+        this.sessionId = sessionId;
+        this.page = page;
+    }
+
+    /**
+     * Create the cursor of the page following a session.
+     *
+     * @param last The last session of the current page
+     * @param page Number of the following page (0-indexed)
+     * @return The cursor
+     */
+    public static HistoryCursor after(VoteHistory last, int page) {
+        return new HistoryCursor(last.getTimestamp(), last.getSessionId(), page);
+    }
+
+    /**
+     * Decode a token.
+     *
+     * @param token The token from encode()
+     * @return The cursor, or null if the token is not valid
+     */
+    public static HistoryCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4) {
+                return null;
+            }
+            int page = Integer.parseInt(parts[0]);
+            Instant timestamp = Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            return page < 0 ? null : new HistoryCursor(timestamp, UUID.fromString(parts[3]), page);
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Decode a token passed to a repository.
+     *
+     * @param token The token, or null for the first page
+     * @return The cursor, or null for the first page
+     * @throws IllegalArgumentException if the token is not valid
+     */
+    public static HistoryCursor require(String token) {
+        if (token == null) {
+            return null;
+        }
+        HistoryCursor cursor = decode(token);
+        if (cursor == null) {
+            throw new IllegalArgumentException("Invalid history cursor: " + token);
+        }
+        return cursor;
+    }
+
+    /**
+     * Encode as an opaque token.
+     *
+     * @return The token
+     */
+    public String encode() {
+        String raw = page + ":" + timestamp.getEpochSecond() + ":" + timestamp.getNano() + ":" + sessionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the timestamp of the last session before this position.
+     *
+     * @return The timestamp
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Get the ID of the last session before this position.
+     *
+     * @return The session ID
+     */
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Get the number of the page starting at this position.
+     *
+     * @return Page number (0-indexed)
+     */
+    public int getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,73 @@
+package com.talexck.gameVoting.api.database;
+
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.util.List;
+
+/**
+ * A page of session history from keyset pagination.
+ */
+public final class HistoryPage {
+    private final List<VoteHistory> records;
+    private final int page;
+    private final String nextCursor;
+
+    private HistoryPage(List<VoteHistory> records, int page, String nextCursor) {
+        this.records = records;
+        this.page = page;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build a page from a query that fetched up to pageSize + 1 sessions.
+     * The extra session only tells whether another page follows.
+     *
+     * @param fetched Sessions in history order, at most pageSize + 1
+     * @param pageSize Number of sessions per page
+     * @param page Number of this page (0-indexed)
+     * @return The page
+     */
+    public static HistoryPage of(List<VoteHistory> fetched, int pageSize, int page) {
+        if (fetched.size() <= pageSize) {
+            return new HistoryPage(List.copyOf(fetched), page, null);
+        }
+        List<VoteHistory> records = List.copyOf(fetched.subList(0, pageSize));
+        return new HistoryPage(records, page, HistoryCursor.after(records.get(pageSize - 1), page + 1).encode());
+    }
+
+    /**
+     * Get the sessions of this page, newest first.
+     *
+     * @return The sessions
+     */
+    public List<VoteHistory> getRecords() {
+        return records;
+    }
+
+    /**
+     * Get the number of this page.
+     *
+     * @return Page number (0-indexed)
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Get the token of the next page.
+     *
+     * @return The cursor token, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Check if another page follows.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.talexck.gameVoting.api.database;
+
+/**
+ * Thrown by VoteHistoryRepository reads when the database cannot be queried.
+ * Unchecked, so async callers see it as a failed future instead of an empty result.
+ */
+public class VoteHistoryException extends RuntimeException {
+
+    /**
+     * Create an exception.
+     *
+     * @param message What failed
+     * @param cause The driver exception
+     */
+    public VoteHistoryException(String message, Throwable cause) {
+        super(message + ": " + cause.getMessage(), cause);
+    }
+}
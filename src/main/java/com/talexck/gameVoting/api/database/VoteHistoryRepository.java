@@ -9,6 +9,9 @@ import java.util.UUID;
 /**
  * Repository interface for vote history database operations.
  * Implementations exist for PostgreSQL, MySQL, and MongoDB.
+ *
+ * Reads throw VoteHistoryException when the database fails, rather than
+ * returning an empty result that would look like an empty history.
  */
 public interface VoteHistoryRepository {
 
@@ -20,20 +23,45 @@ public interface VoteHistoryRepository {
      */
     boolean saveSession(VoteHistory history);
 
+    /**
+     * Save several voting sessions in one batch.
+     * Idempotent: sessions whose ID is already stored are skipped, so a batch
+     * can be retried safely after a failure.
+     *
+     * @param histories The vote history records to save
+     * @return The sessions that were newly stored, or null if the batch failed
+     */
+    List<VoteHistory> saveSessions(List<VoteHistory> histories);
+
     /**
      * Get paginated voting session history.
      *
      * @param page Page number (0-indexed)
      * @param pageSize Number of records per page
      * @return List of vote history records for the page
+     * @throws VoteHistoryException if the database cannot be queried
      */
     List<VoteHistory> getSessionHistory(int page, int pageSize);
 
+    /**
+     * Get a page of voting session history by cursor (keyset pagination).
+     * Seeks past the cursor's session instead of skipping rows, so every page
+     * costs the same however deep it is.
+     *
+     * @param cursor Token from HistoryPage.getNextCursor(), or null for the first page
+     * @param pageSize Number of records per page
+     * @return The page, with the token of the next one
+     * @throws IllegalArgumentException if the cursor is not valid
+     * @throws VoteHistoryException if the database cannot be queried
+     */
+    HistoryPage getSessionHistoryPage(String cursor, int pageSize);
+
     /**
      * Get a specific session by ID.
      *
      * @param sessionId The session UUID
      * @return VoteHistory or null if not found
+     * @throws VoteHistoryException if the database cannot be queried
      */
     VoteHistory getSession(UUID sessionId);
 
@@ -42,6 +70,7 @@ public interface VoteHistoryRepository {
      *
      * @param limit Number of top games to return
      * @return Map of game_id -> win_count sorted by win count descending
+     * @throws VoteHistoryException if the database cannot be queried
      */
     Map<String, Integer> getTopWinningGames(int limit);
 
@@ -49,6 +78,7 @@ public interface VoteHistoryRepository {
      * Get total number of voting sessions.
      *
      * @return Total session count
+     * @throws VoteHistoryException if the database cannot be queried
      */
     int getTotalSessions();
 
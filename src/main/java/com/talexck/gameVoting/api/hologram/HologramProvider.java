@@ -2,7 +2,10 @@ package com.talexck.gameVoting.api.hologram;
 
 import org.bukkit.Location;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Interface for hologram providers.
@@ -24,8 +27,24 @@ public interface HologramProvider {
      */
     boolean createHologram(String id, Location location, List<String> lines);
 
+    /**
+     * Create a hologram that is not saved to the hologram plugin's configuration.
+     * Used for content GameVoting regenerates itself, such as the voting displays.
+     * Providers without a transient mode create a regular hologram.
+     *
+     * @param id The unique identifier for the hologram (will be namespaced with "gamevoting_")
+     * @param location The location where the hologram should appear
+     * @param lines The lines of text to display (supports color codes)
+     * @return true if the hologram was created successfully, false otherwise
+     */
+    default boolean createTransientHologram(String id, Location location, List<String> lines) {
+        return createHologram(id, location, lines);
+    }
+
     /**
      * Update the lines of an existing hologram.
+     * Providers rewrite only the lines that changed where they can, and save
+     * only persistent holograms.
      *
      * @param id The unique identifier of the hologram
      * @param lines The new lines of text to display
@@ -33,6 +52,22 @@ public interface HologramProvider {
      */
     boolean updateLines(String id, List<String> lines);
 
+    /**
+     * Update the lines of several holograms at once.
+     *
+     * @param updates Map of hologram ID to its new lines
+     * @return The IDs of the holograms that were updated successfully
+     */
+    default Set<String> updateAll(Map<String, List<String>> updates) {
+        Set<String> updated = new HashSet<>();
+        for (Map.Entry<String, List<String>> entry : updates.entrySet()) {
+            if (updateLines(entry.getKey(), entry.getValue())) {
+                updated.add(entry.getKey());
+            }
+        }
+        return updated;
+    }
+
     /**
      * Delete a hologram.
      *
@@ -5,8 +5,12 @@ import com.talexck.gameVoting.api.cloudnet.CloudNetAPI;
 import com.talexck.gameVoting.config.GameConfig;
 import com.talexck.gameVoting.config.GamesConfigManager;
 import com.talexck.gameVoting.ui.VotingUI;
+import com.talexck.gameVoting.utils.message.Broadcast;
 import com.talexck.gameVoting.utils.message.MessageUtil;
+import com.talexck.gameVoting.voting.VotingClock;
 import com.talexck.gameVoting.voting.VotingSession;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
+import com.talexck.gameVoting.voting.network.NetworkVotingManager;
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
@@ -25,9 +29,6 @@ public class VoteCommand implements CommandExecutor {
     private final GameVoting plugin;
     private GamesConfigManager gamesManager;
     private static final int DEFAULT_VOTING_DURATION = 3; // 3 minutes
-    
-    // Store players who voted, for teleportation after session is cleared
-    private Set<UUID> playersToTeleport = new HashSet<>();
 
     public VoteCommand(GameVoting plugin) {
         this.plugin = plugin;
@@ -61,10 +62,12 @@ public class VoteCommand implements CommandExecutor {
             // Allow console to execute gamestart command
             if ("gamestart".equals(subCommand)) {
                 if (sender instanceof Player) {
-                    return handleGameStart((Player) sender);
+                    return handleGameStart(sessionOf((Player) sender), (Player) sender);
                 } else {
-                    // Console sender
-                    return handleGameStart(null);
+                    // Console sender (optional room ID, defaults to the default room)
+                    VotingSessionRegistry registry = VotingSessionRegistry.getInstance();
+                    VotingSession session = args.length > 1 ? registry.getSession(args[1]) : registry.getDefaultSession();
+                    return handleGameStart(session, null);
                 }
             }
         }
@@ -96,6 +99,10 @@ public class VoteCommand implements CommandExecutor {
                     return handleReload(player);
                 case "join":
                     return handleJoin(player);
+                case "language":
+                    return handleLanguage(player, args);
+                case "debug":
+                    return handleDebug(player, args);
                 default:
                     MessageUtil.sendTranslated(player, "command.usage");
                     return true;
@@ -113,7 +120,7 @@ public class VoteCommand implements CommandExecutor {
      * @return true
      */
     private boolean handleOpenUI(Player player) {
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
 
         if (!session.isActive()) {
             MessageUtil.sendTranslated(player, "voting.not_active");
@@ -135,7 +142,16 @@ public class VoteCommand implements CommandExecutor {
      * @param duration Voting duration in minutes
      */
     public void actuallyStartVoting(int duration) {
-        VotingSession session = VotingSession.getInstance();
+        actuallyStartVoting(VotingSession.getInstance(), duration);
+    }
+
+    /**
+     * Actually start the voting session of a room (called from pre-voting ready phase).
+     *
+     * @param session The room's voting session
+     * @param duration Voting duration in minutes
+     */
+    public void actuallyStartVoting(VotingSession session, int duration) {
         
         // End pre-voting ready phase
         session.endPreVotingReady();
@@ -143,11 +159,17 @@ public class VoteCommand implements CommandExecutor {
         // Start the voting session with timer and callback
         session.startVoting(duration, plugin, () -> {
             // This runs when voting ends automatically
-            handleVotingEnd();
+            handleVotingEnd(session);
         });
 
+        // Invite other lobbies to vote in the same round
+        NetworkVotingManager network = networkFor(session);
+        if (network != null) {
+            network.announceStart(duration);
+        }
+
         // Give vote item to all online players
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        for (Player online : session.getPlayers()) {
             com.talexck.gameVoting.utils.item.VoteItem.giveVotingItem(online);
         }
 
@@ -156,16 +178,18 @@ public class VoteCommand implements CommandExecutor {
         placeholders.put("count", String.valueOf(gamesManager.getGameCount()));
         placeholders.put("time", String.valueOf(duration));
         
-        MessageUtil.broadcastTranslated("general.separator");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.start_header");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.start_instructions_1");
-        MessageUtil.broadcastTranslated("voting.start_instructions_2");
-        MessageUtil.broadcastTranslated("voting.start_instructions_3", placeholders);
-        MessageUtil.broadcastTranslated("voting.start_instructions_4", placeholders);
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("general.separator");
+        Broadcast.to(session.getPlayers())
+            .translated("general.separator")
+            .blank()
+            .translated("voting.start_header")
+            .blank()
+            .translated("voting.start_instructions_1")
+            .translated("voting.start_instructions_2")
+            .translated("voting.start_instructions_3", placeholders)
+            .translated("voting.start_instructions_4", placeholders)
+            .blank()
+            .translated("general.separator")
+            .queue();
         
         // Update holograms to show voting active
         updateHologramDisplays();
@@ -185,7 +209,7 @@ public class VoteCommand implements CommandExecutor {
             return true;
         }
 
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
 
         // Check if already active or in pre-voting ready phase
         if (session.isActive() || session.isPreVotingReady()) {
@@ -223,11 +247,17 @@ public class VoteCommand implements CommandExecutor {
         // Start the voting session with timer and callback
         session.startVoting(finalDuration, plugin, () -> {
             // This runs when voting ends automatically
-            handleVotingEnd();
+            handleVotingEnd(session);
         });
 
+        // Invite other lobbies to vote in the same round
+        NetworkVotingManager network = networkFor(session);
+        if (network != null) {
+            network.announceStart(finalDuration);
+        }
+
         // Give vote item (compass) to all online players
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        for (Player online : session.getPlayers()) {
             com.talexck.gameVoting.utils.item.VoteItem.giveVotingItem(online);
         }
 
@@ -236,16 +266,18 @@ public class VoteCommand implements CommandExecutor {
         placeholders.put("count", String.valueOf(gamesManager.getGameCount()));
         placeholders.put("time", String.valueOf(finalDuration));
         
-        MessageUtil.broadcastTranslated("general.separator");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.start_header");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.start_instructions_1");
-        MessageUtil.broadcastTranslated("voting.start_instructions_2");
-        MessageUtil.broadcastTranslated("voting.start_instructions_3", placeholders);
-        MessageUtil.broadcastTranslated("voting.start_instructions_4", placeholders);
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("general.separator");
+        Broadcast.to(session.getPlayers())
+            .translated("general.separator")
+            .blank()
+            .translated("voting.start_header")
+            .blank()
+            .translated("voting.start_instructions_1")
+            .translated("voting.start_instructions_2")
+            .translated("voting.start_instructions_3", placeholders)
+            .translated("voting.start_instructions_4", placeholders)
+            .blank()
+            .translated("general.separator")
+            .queue();
         
         // Update holograms to show voting active
         updateHologramDisplays();
@@ -266,7 +298,7 @@ public class VoteCommand implements CommandExecutor {
             return true;
         }
 
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
 
         // Check if voting is active
         if (!session.isActive()) {
@@ -276,11 +308,12 @@ public class VoteCommand implements CommandExecutor {
 
         // Stop voting manually (won't trigger auto-start)
         Map<String, Integer> results = session.stopVoting();
-        broadcastResults(results);
+        broadcastResults(session, results);
+        leaveNetworkRound(session);
 
         // Give appropriate items based on player count (replace compass with redstone block/emerald)
-        int onlineCount = Bukkit.getOnlinePlayers().size();
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        int onlineCount = session.getPlayers().size();
+        for (Player online : session.getPlayers()) {
             // First remove the old vote item (compass or ready item)
             com.talexck.gameVoting.utils.item.VoteItem.removeVoteItem(online);
 
@@ -327,28 +360,60 @@ public class VoteCommand implements CommandExecutor {
         }
 
         // Start the game
-        startGame(game, player);
+        startGame(sessionOf(player), game, player);
 
         return true;
     }
 
+    /**
+     * Resume a session replayed from the vote journal after a crash or reload.
+     * Network rounds are not resumed; a recovered vote is decided locally.
+     *
+     * @param session The room's voting session
+     * @param state The replayed session state
+     */
+    public void recoverSession(VotingSession session, com.talexck.gameVoting.voting.journal.JournalState state) {
+        session.restore(state, plugin, () -> handleVotingEnd(session));
+        updateHologramDisplays();
+    }
+
     /**
      * Handle voting end (called when timer expires or manually stopped).
      */
-    private void handleVotingEnd() {
-        VotingSession session = VotingSession.getInstance();
+    private void handleVotingEnd(VotingSession session) {
 
         // Stop voting and get results
         Map<String, Integer> results = session.stopVoting();
-        broadcastResults(results);
+
+        // In network mode, publish final counts and wait for the other lobbies' shards
+        NetworkVotingManager network = networkFor(session);
+        if (network != null && network.hasRound()) {
+            network.closeRound(results);
+            Bukkit.getScheduler().runTaskLater(plugin, () -> finishVotingEnd(session, network.getResults()),
+                network.getSettleTicks());
+            return;
+        }
+
+        finishVotingEnd(session, results);
+    }
+
+    /**
+     * Announce results and start the ready phase for the winning game.
+     *
+     * @param session The room's voting session
+     * @param results Results map, sorted by count (descending)
+     */
+    private void finishVotingEnd(VotingSession session, Map<String, Integer> results) {
+        broadcastResults(session, results);
 
         // Get winner game ID
-        String winnerId = session.getWinner();
+        String winnerId = resolveWinner(session);
         if (winnerId == null) {
-            MessageUtil.broadcastTranslated("voting.no_votes_cast");
+            Broadcast.to(session.getPlayers()).translated("voting.no_votes_cast").queue();
             session.clear();
+            leaveNetworkRound(session);
             // Remove vote items from all players
-            for (Player online : Bukkit.getOnlinePlayers()) {
+            for (Player online : session.getPlayers()) {
                 com.talexck.gameVoting.utils.item.VoteItem.removeVoteItem(online);
             }
             return;
@@ -357,14 +422,24 @@ public class VoteCommand implements CommandExecutor {
         // Get winner GameConfig
         GameConfig winner = gamesManager.getGame(winnerId);
         if (winner == null) {
-            MessageUtil.broadcastTranslated("voting.winner_not_found");
+            Broadcast.to(session.getPlayers()).translated("voting.winner_not_found").queue();
             session.clear();
-            for (Player online : Bukkit.getOnlinePlayers()) {
+            leaveNetworkRound(session);
+            for (Player online : session.getPlayers()) {
                 com.talexck.gameVoting.utils.item.VoteItem.removeVoteItem(online);
             }
             return;
         }
 
+        // The network coordinator boots the winning server while players ready up
+        NetworkVotingManager network = networkFor(session);
+        if (network != null && network.hasRound() && network.isCoordinator()) {
+            String serviceName = createGameService(winner, null);
+            if (serviceName != null) {
+                network.announceService(winner.getId(), serviceName);
+            }
+        }
+
         // Start ready phase instead of immediately starting game
         session.startReadyPhase();
         
@@ -372,62 +447,59 @@ public class VoteCommand implements CommandExecutor {
         updateHologramDisplays();
 
         // Give ready items to all players
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        for (Player online : session.getPlayers()) {
             com.talexck.gameVoting.utils.item.VoteItem.giveReadyItem(online);
         }
 
-        // Announce ready phase
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("game", winner.getName());
-        
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("ready.header");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("ready.winner_label", placeholders);
-        MessageUtil.broadcastTranslated("ready.instructions_1");
-        MessageUtil.broadcastTranslated("ready.instructions_2");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("ready.instructions_3");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("general.separator");
+        // Announce ready phase (merged with the results queued above)
+        Broadcast.to(session.getPlayers())
+            .blank()
+            .translated("ready.header")
+            .blank()
+            .translated("ready.winner_label", "game", winner.getName())
+            .translated("ready.instructions_1")
+            .translated("ready.instructions_2")
+            .blank()
+            .translated("ready.instructions_3")
+            .blank()
+            .translated("general.separator")
+            .queue();
     }
 
     /**
      * Broadcast voting results.
      *
+     * @param session The room's voting session
      * @param results Results map
      */
-    private void broadcastResults(Map<String, Integer> results) {
-        VotingSession session = VotingSession.getInstance();
-
-        MessageUtil.broadcastTranslated("general.separator");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.end_header");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.results_header");
-        MessageUtil.broadcast("");
+    private void broadcastResults(VotingSession session, Map<String, Integer> results) {
+        Broadcast broadcast = Broadcast.to(session.getPlayers())
+            .translated("general.separator")
+            .blank()
+            .translated("voting.end_header")
+            .blank()
+            .translated("voting.results_header")
+            .blank();
 
         if (results.isEmpty()) {
-            MessageUtil.broadcastTranslated("voting.no_results");
+            broadcast.translated("voting.no_results");
         } else {
             int position = 1;
             for (Map.Entry<String, Integer> entry : results.entrySet()) {
                 GameConfig game = gamesManager.getGame(entry.getKey());
                 if (game != null) {
                     String medal = position == 1 ? "&6🥇" : position == 2 ? "&7🥈" : position == 3 ? "&c🥉" : "&e" + position + ".";
-                    MessageUtil.broadcast(medal + " " + game.getName() + " &7- &e" + entry.getValue() + " vote(s)");
+                    broadcast.line(medal + " " + game.getName() + " &7- &e" + entry.getValue() + " vote(s)");
                     position++;
                 }
             }
         }
 
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("count", String.valueOf(session.getTotalVotes()));
-        
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("voting.total_votes", placeholders);
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("general.separator");
+        broadcast.blank()
+            .translated("voting.total_votes", "count", session.getSnapshot().getVoterCount())
+            .blank()
+            .translated("general.separator")
+            .queue();
     }
 
     /**
@@ -436,7 +508,41 @@ public class VoteCommand implements CommandExecutor {
      * @param game The game to start
      * @param initiator The player who initiated (null if automatic)
      */
-    private void startGame(GameConfig game, Player initiator) {
+    private void startGame(VotingSession session, GameConfig game, Player initiator) {
+        String serviceName = createGameService(game, initiator);
+        if (serviceName != null) {
+            beginTeleport(session, serviceName, game);
+        }
+    }
+
+    /**
+     * Announce the game server and begin the 60-second countdown before teleporting.
+     *
+     * @param session The room's voting session
+     * @param serviceName The name of the service
+     * @param game The game configuration
+     */
+    private void beginTeleport(VotingSession session, String serviceName, GameConfig game) {
+        // Announce game starting
+        Broadcast.to(session.getPlayers())
+            .blank()
+            .translated("game.creating_service", "game", game.getName())
+            .translated("game.teleporting_in")
+            .blank()
+            .queue();
+
+        // Start 60-second countdown before teleporting
+        startTeleportCountdown(session, serviceName, game, 60);
+    }
+
+    /**
+     * Create and start a CloudNet service for the given game.
+     *
+     * @param game The game to start
+     * @param initiator The player who initiated (null if automatic)
+     * @return The service name, or null if creation failed
+     */
+    private String createGameService(GameConfig game, Player initiator) {
         String taskName = game.getCloudnetTask();
 
         if (taskName == null || taskName.isEmpty()) {
@@ -446,7 +552,7 @@ public class VoteCommand implements CommandExecutor {
                 placeholders.put("game", game.getName());
                 MessageUtil.sendTranslated(initiator, "game.no_cloudnet_task", placeholders);
             }
-            return;
+            return null;
         }
 
         try {
@@ -471,19 +577,8 @@ public class VoteCommand implements CommandExecutor {
                 api.startService(serviceInfo.serviceId().uniqueId());
             }
 
-            // Announce game starting
-            Map<String, String> placeholders = new HashMap<>();
-            placeholders.put("game", game.getName());
-            
-            MessageUtil.broadcast("");
-            MessageUtil.broadcastTranslated("game.creating_service", placeholders);
-            MessageUtil.broadcastTranslated("game.teleporting_in");
-            MessageUtil.broadcast("");
-
             plugin.getLogger().info("Successfully started CloudNet service for " + game.getName() + ": " + serviceName);
-            
-            // Start 60-second countdown before teleporting
-            startTeleportCountdown(serviceName, game, 60);
+            return serviceName;
 
         } catch (Exception e) {
             plugin.getLogger().severe("Failed to start CloudNet service for " + game.getName() + ": " + e.getMessage());
@@ -491,6 +586,7 @@ public class VoteCommand implements CommandExecutor {
             if (initiator != null) {
                 MessageUtil.sendTranslated(initiator, "game.service_creation_failed");
             }
+            return null;
         }
     }
     
@@ -498,47 +594,18 @@ public class VoteCommand implements CommandExecutor {
      * Start a countdown before teleporting players.
      * Shows countdown in ActionBar for all players.
      * 
+     * @param session The room's voting session
      * @param serviceName The name of the service
      * @param game The game configuration
      * @param seconds Total countdown seconds
      */
-    private void startTeleportCountdown(String serviceName, GameConfig game, int seconds) {
-        final int[] remaining = {seconds};
-        final int[] taskIdHolder = new int[1];
-        
-        // Schedule repeating task for countdown
-        taskIdHolder[0] = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
+    private void startTeleportCountdown(VotingSession session, String serviceName, GameConfig game, int seconds) {
+        VotingClock clock = VotingClock.getInstance();
+        clock.start(plugin);
+        clock.schedule(session, VotingClock.Phase.TELEPORT, seconds * 20L, new VotingClock.Countdown() {
             @Override
-            public void run() {
-                int timeLeft = remaining[0];
-                
-                // Countdown finished
-                if (timeLeft <= 0) {
-                    // Cancel this task
-                    Bukkit.getScheduler().cancelTask(taskIdHolder[0]);
-                    
-                    // Show final message
-                    Map<String, String> placeholders = new HashMap<>();
-                    placeholders.put("game", game.getName());
-                    
-                    for (Player player : Bukkit.getOnlinePlayers()) {
-                        String message = com.talexck.gameVoting.utils.language.LanguageManager.getInstance()
-                            .getMessage("teleport.teleporting_now", placeholders);
-                        com.talexck.gameVoting.utils.display.ActionBarUtil.sendActionBar(player, message);
-                    }
-                    
-                    // Teleport players after a brief delay
-                    Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                        teleportPlayersToService(serviceName, game);
-                    }, 10L);
-                    return;
-                }
-                
+            public void onSecond(int timeLeft) {
                 // Show countdown in ActionBar for all players
-                Map<String, String> placeholders = new HashMap<>();
-                placeholders.put("game", game.getName());
-                placeholders.put("time", String.valueOf(timeLeft));
-                
                 String messageKey;
                 if (timeLeft > 10) {
                     messageKey = "teleport.countdown_yellow";
@@ -548,26 +615,38 @@ public class VoteCommand implements CommandExecutor {
                     messageKey = "teleport.countdown_red";
                 }
                 
-                String message = com.talexck.gameVoting.utils.language.LanguageManager.getInstance()
-                    .getMessage(messageKey, placeholders);
-                
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    com.talexck.gameVoting.utils.display.ActionBarUtil.sendActionBar(player, message);
-                }
+                var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+                com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().showTranslated(session.getPlayers(),
+                    "teleport:" + session.getRoomId(), language ->
+                        languageManager.getTemplate(language, messageKey).format("game", game.getName(), "time", timeLeft),
+                    com.talexck.gameVoting.utils.display.ActionBarManager.Priority.COUNTDOWN, 30);
+            }
+            
+            @Override
+            public void onExpire() {
+                // Show final message
+                var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+                com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().showTranslated(session.getPlayers(),
+                    "teleport:" + session.getRoomId(), language ->
+                        languageManager.getTemplate(language, "teleport.teleporting_now").format("game", game.getName()),
+                    com.talexck.gameVoting.utils.display.ActionBarManager.Priority.ALERT, 60);
                 
-                remaining[0]--;
+                // Teleport players after a brief delay
+                clock.schedule(session, VotingClock.Phase.TELEPORT, 10L,
+                    () -> teleportPlayersToService(session, serviceName, game));
             }
-        }, 0L, 20L).getTaskId(); // Run every second
+        });
     }
     
     /**
      * Teleport all online players to the specified service using CloudNet Bridge API.
      * Executes "send <player> <server>" command on the proxy service.
      * 
+     * @param session The room's voting session
      * @param serviceName The name of the service
      * @param game The game configuration
      */
-    private void teleportPlayersToService(String serviceName, GameConfig game) {
+    private void teleportPlayersToService(VotingSession session, String serviceName, GameConfig game) {
         // Get proxy service name from config
         String proxyService = plugin.getConfig().getString("proxy-service-name", "Proxy-1");
         
@@ -575,9 +654,9 @@ public class VoteCommand implements CommandExecutor {
         int successCount = 0;
         int failCount = 0;
         
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : session.getPlayers()) {
             // Only teleport players who voted (using saved list from before session was cleared)
-            if (!playersToTeleport.contains(player.getUniqueId())) {
+            if (!session.getTeleportPlayers().contains(player.getUniqueId())) {
                 plugin.getLogger().info("Skipping teleport for " + player.getName() + " - did not vote");
                 continue;
             }
@@ -600,11 +679,11 @@ public class VoteCommand implements CommandExecutor {
         plugin.getLogger().info("Teleport commands sent: " + successCount + " succeeded, " + failCount + " failed");
         
         if (failCount > 0) {
-            MessageUtil.broadcastTranslated("teleport.commands_failed");
+            MessageUtil.broadcastTranslated(session.getPlayers(), "teleport.commands_failed");
         }
         
         // Store service name in voting session for /vote join
-        VotingSession.getInstance().setCurrentGameService(serviceName);
+        session.setCurrentGameService(serviceName);
         
         // Schedule hologram update to show historical wins after a short delay
         // This allows players time to be teleported before hologram changes
@@ -617,7 +696,7 @@ public class VoteCommand implements CommandExecutor {
      * Handle /vote ready - Mark player as ready.
      */
     private boolean handleReady(Player player) {
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
 
         if (!session.isReadyPhase()) {
             MessageUtil.sendTranslated(player, "ready.not_active");
@@ -633,7 +712,7 @@ public class VoteCommand implements CommandExecutor {
         com.talexck.gameVoting.utils.item.VoteItem.updateReadyItem(player, true);
 
         int readyCount = session.getReadyCount();
-        int totalPlayers = Bukkit.getOnlinePlayers().size();
+        int totalPlayers = session.getPlayers().size();
 
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("player", player.getName());
@@ -641,12 +720,12 @@ public class VoteCommand implements CommandExecutor {
         placeholders.put("total", String.valueOf(totalPlayers));
 
         MessageUtil.sendTranslated(player, "ready.marked_ready");
-        MessageUtil.broadcastTranslated("ready.player_ready", placeholders);
+        MessageUtil.broadcastTranslated(session.getPlayers(), "ready.player_ready", placeholders);
 
         // Check if all players are ready
         if (session.allPlayersReady()) {
-            MessageUtil.broadcastTranslated("ready.all_ready");
-            return handleGameStart(player);
+            MessageUtil.broadcastTranslated(session.getPlayers(), "ready.all_ready");
+            return handleGameStart(session, player);
         }
 
         return true;
@@ -656,8 +735,7 @@ public class VoteCommand implements CommandExecutor {
      * Handle /vote gamestart - Force start the game (only for vote starter).
      * Can also be called by console (when player is null).
      */
-    private boolean handleGameStart(Player player) {
-        VotingSession session = VotingSession.getInstance();
+    private boolean handleGameStart(VotingSession session, Player player) {
 
         if (!session.isReadyPhase()) {
             if (player != null) {
@@ -679,21 +757,21 @@ public class VoteCommand implements CommandExecutor {
         }
 
         // Actually start the game
-        return executeGameStart(player);
+        return executeGameStart(session, player);
     }
 
     /**
      * Execute the actual game start logic.
      * Can be called by force start or countdown completion.
      *
+     * @param session The room's voting session
      * @param initiator The player who initiated (null if countdown)
      * @return true if command handled
      */
-    public boolean executeGameStart(Player initiator) {
-        VotingSession session = VotingSession.getInstance();
+    public boolean executeGameStart(VotingSession session, Player initiator) {
 
         // Get the winning game ID
-        String winnerId = session.getWinner();
+        String winnerId = resolveWinner(session);
         if (winnerId == null) {
             if (initiator != null) {
                 MessageUtil.sendTranslated(initiator, "game.no_winner");
@@ -716,21 +794,23 @@ public class VoteCommand implements CommandExecutor {
             placeholders.put("player", initiator.getName());
         }
         
-        MessageUtil.broadcastTranslated("general.separator");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("game.starting");
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("game.game_label", placeholders);
+        Broadcast broadcast = Broadcast.to(session.getPlayers())
+            .translated("general.separator")
+            .blank()
+            .translated("game.starting")
+            .blank()
+            .translated("game.game_label", placeholders);
         if (initiator != null) {
-            MessageUtil.broadcastTranslated("game.started_by_player", placeholders);
+            broadcast.translated("game.started_by_player", placeholders);
         } else {
-            MessageUtil.broadcastTranslated("game.started_by_ready");
+            broadcast.translated("game.started_by_ready");
         }
-        MessageUtil.broadcast("");
-        MessageUtil.broadcastTranslated("general.separator");
+        broadcast.blank()
+            .translated("general.separator")
+            .queue();
 
         // Remove vote items from all players
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        for (Player online : session.getPlayers()) {
             com.talexck.gameVoting.utils.item.VoteItem.removeVoteItem(online);
         }
         
@@ -738,15 +818,24 @@ public class VoteCommand implements CommandExecutor {
         saveVoteResultToDatabase(session, winner);
 
         // Save list of players who voted for teleportation (before clearing session)
-        playersToTeleport.clear();
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        Set<UUID> playersToTeleport = new HashSet<>();
+        for (Player online : session.getPlayers()) {
             if (session.hasVoted(online)) {
                 playersToTeleport.add(online.getUniqueId());
             }
         }
-
-        // Start the game
-        startGame(winner, initiator);
+        session.setTeleportPlayers(playersToTeleport);
+
+        // Start the game (in network mode the coordinator already provisioned the server)
+        NetworkVotingManager network = networkFor(session);
+        if (network != null && network.hasRound()) {
+            Broadcast.to(session.getPlayers()).translated("game.waiting_network_service").queue();
+            network.whenServiceReady(winner.getId(),
+                serviceName -> beginTeleport(session, serviceName, winner),
+                () -> startGame(session, winner, null));
+        } else {
+            startGame(session, winner, initiator);
+        }
 
         // Clear session
         session.clear();
@@ -887,7 +976,9 @@ public class VoteCommand implements CommandExecutor {
     }
 
     /**
-     * Handle /vote session list [page].
+     * Handle /vote session list [page|cursor].
+     * A cursor is the token behind the "next page" link; it seeks straight to
+     * the page instead of skipping the sessions before it.
      */
     private boolean handleSessionList(Player player, String[] args) {
         var dbManager = com.talexck.gameVoting.utils.database.DatabaseManager.getInstance();
@@ -897,9 +988,11 @@ public class VoteCommand implements CommandExecutor {
             return true;
         }
         
-        var repository = dbManager.getVoteHistoryRepository();
+        var repository = dbManager.getAsyncVoteHistoryRepository();
+        int pageSize = 10;
         
-        // Parse page number
+        // Parse page number or cursor
+        String cursor = null;
         int page = 0;
         if (args.length > 2) {
             try {
@@ -909,25 +1002,62 @@ public class VoteCommand implements CommandExecutor {
                     return true;
                 }
             } catch (NumberFormatException e) {
-                MessageUtil.sendTranslated(player, "session.invalid_page");
-                return true;
+                var position = com.talexck.gameVoting.api.database.HistoryCursor.decode(args[2]);
+                if (position == null) {
+                    MessageUtil.sendTranslated(player, "session.invalid_page");
+                    return true;
+                }
+                cursor = args[2];
+                page = position.getPage();
             }
         }
         
-        int pageSize = 10;
-        var history = repository.getSessionHistory(page, pageSize);
-        int totalSessions = repository.getTotalSessions();
-        int totalPages = (int) Math.ceil((double) totalSessions / pageSize);
+        // Page numbers past the first fall back to offset paging
+        int requestedPage = page;
+        var pageFuture = cursor != null || page == 0
+            ? repository.getSessionHistoryPage(cursor, pageSize)
+            : repository.getSessionHistory(page, pageSize).thenApply(records ->
+                com.talexck.gameVoting.api.database.HistoryPage.of(records, pageSize, requestedPage));
+        var totalFuture = repository.getTotalSessions();
         
+        // Query off the main thread, reply once both results are back
+        dbManager.getExecutor().whenMain(java.util.concurrent.CompletableFuture.allOf(pageFuture, totalFuture),
+            (ignored, error) -> {
+                if (!player.isOnline()) {
+                    return;
+                }
+                if (error != null) {
+                    MessageUtil.sendTranslated(player, "session.load_failed");
+                    plugin.getLogger().warning("Failed to load session history: " + error.getMessage());
+                    return;
+                }
+                int total = totalFuture.join();
+                sendSessionList(player, pageFuture.join(), pageSize, total);
+            });
+        
+        return true;
+    }
+
+    /**
+     * Send a page of session history to a player, with a link to the next page.
+     *
+     * @param player The player
+     * @param historyPage The page
+     * @param pageSize Number of records per page
+     * @param totalSessions Total number of sessions
+     */
+    private void sendSessionList(Player player, com.talexck.gameVoting.api.database.HistoryPage historyPage,
+                                 int pageSize, int totalSessions) {
+        var history = historyPage.getRecords();
         if (history.isEmpty()) {
             MessageUtil.sendTranslated(player, "session.no_history");
-            return true;
+            return;
         }
         
         // Display header
         Map<String, String> headerPlaceholders = new HashMap<>();
-        headerPlaceholders.put("page", String.valueOf(page + 1));
-        headerPlaceholders.put("total", String.valueOf(totalPages));
+        headerPlaceholders.put("page", String.valueOf(historyPage.getPage() + 1));
+        headerPlaceholders.put("total", String.valueOf((int) Math.ceil((double) totalSessions / pageSize)));
         MessageUtil.sendTranslated(player, "session.list_header", headerPlaceholders);
         
         // Display entries
@@ -940,7 +1070,19 @@ public class VoteCommand implements CommandExecutor {
             MessageUtil.sendTranslated(player, "session.list_entry", placeholders);
         }
         
-        return true;
+        // Offset pages only know there is more from the total
+        String next = historyPage.getNextCursor();
+        if (next == null && (historyPage.getPage() + 1) * pageSize < totalSessions && history.size() == pageSize) {
+            next = com.talexck.gameVoting.api.database.HistoryCursor
+                .after(history.get(history.size() - 1), historyPage.getPage() + 1).encode();
+        }
+        if (next != null) {
+            String command = "/vote session list " + next;
+            var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+            player.sendMessage(com.talexck.gameVoting.utils.ColorUtil
+                .colorize(languageManager.getMessage(player, "session.next_page"))
+                .clickEvent(net.kyori.adventure.text.event.ClickEvent.runCommand(command)));
+        }
     }
 
     /**
@@ -953,7 +1095,7 @@ public class VoteCommand implements CommandExecutor {
             return true;
         }
 
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
 
         // Check if session is active (voting or ready phase)
         if (!session.isActive() && !session.isReadyPhase() && !session.isPreVotingReady()) {
@@ -963,17 +1105,19 @@ public class VoteCommand implements CommandExecutor {
 
         // Clear session completely (this also stops countdown and cancels tasks)
         session.clear();
+        leaveNetworkRound(session);
 
         // Clear BossBar display for all players (do this AFTER clearing session to ensure tasks are stopped)
         com.talexck.gameVoting.utils.display.BossBarManager bossBarManager =
             com.talexck.gameVoting.utils.display.BossBarManager.getInstance();
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        bossBarManager.removeChannelGroup(session.getBossBarChannel());
+        for (Player online : session.getPlayers()) {
             bossBarManager.removeBar(online);
         }
 
         // Give appropriate items based on player count
-        int onlineCount = Bukkit.getOnlinePlayers().size();
-        for (Player online : Bukkit.getOnlinePlayers()) {
+        int onlineCount = session.getPlayers().size();
+        for (Player online : session.getPlayers()) {
             // First remove the old vote item (compass or ready item)
             com.talexck.gameVoting.utils.item.VoteItem.removeVoteItem(online);
 
@@ -989,7 +1133,7 @@ public class VoteCommand implements CommandExecutor {
         // Update holograms to NOT_VOTING state
         updateHologramDisplays();
 
-        MessageUtil.broadcastTranslated("command.session_stopped");
+        MessageUtil.broadcastTranslated(session.getPlayers(), "command.session_stopped");
 
         return true;
     }
@@ -1009,6 +1153,15 @@ public class VoteCommand implements CommandExecutor {
         try {
             // Reload main config
             plugin.reloadConfig();
+            com.talexck.gameVoting.utils.debug.DebugTrace.configure(plugin.getConfig(), plugin.getLogger());
+            com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().start(plugin);
+
+            // Reload voting rooms and switch vote tally if changed (skipped while a session is active)
+            VotingSessionRegistry registry = VotingSessionRegistry.getInstance();
+            registry.load(plugin.getConfig().getConfigurationSection("rooms"));
+            registry.setConcurrentIngest(plugin.getConfig().getBoolean("voting.concurrent-ingest", false));
+            registry.loadStrategies(plugin.getConfig().getString("voting.strategy", "approval"),
+                plugin.getConfig().getConfigurationSection("voting.room-strategies"), plugin.getLogger());
             
             // Reload games configuration
             if (gamesManager != null) {
@@ -1037,6 +1190,7 @@ public class VoteCommand implements CommandExecutor {
             }
             
             // Update holograms to reflect any changes
+            plugin.getHologramDisplayManager().invalidateContent();
             updateHologramDisplays();
             
             MessageUtil.sendTranslated(player, "command.reload_success");
@@ -1055,7 +1209,7 @@ public class VoteCommand implements CommandExecutor {
      * Handle /vote join - Join current running game.
      */
     private boolean handleJoin(Player player) {
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = sessionOf(player);
         
         // Check if there's a game running
         if (!session.hasCurrentGame()) {
@@ -1084,6 +1238,151 @@ public class VoteCommand implements CommandExecutor {
         return true;
     }
 
+    /**
+     * Handle /vote debug [count|clear|on|off] - Dump or control the debug trace buffer.
+     *
+     * @param player The player
+     * @param args Command arguments
+     * @return true
+     */
+    private boolean handleDebug(Player player, String[] args) {
+        if (!player.hasPermission("gamevoting.vote.admin")) {
+            MessageUtil.sendTranslated(player, "command.no_permission");
+            return true;
+        }
+
+        Map<String, String> placeholders = new HashMap<>();
+        String action = args.length > 1 ? args[1].toLowerCase() : "";
+        switch (action) {
+            case "clear":
+                com.talexck.gameVoting.utils.debug.DebugTrace.clear();
+                MessageUtil.sendTranslated(player, "debug.cleared");
+                return true;
+            case "on":
+            case "off":
+                com.talexck.gameVoting.utils.debug.DebugTrace.setEnabled(action.equals("on"));
+                placeholders.put("state", action);
+                MessageUtil.sendTranslated(player, "debug.toggled", placeholders);
+                return true;
+            default:
+                break;
+        }
+
+        int count = 20;
+        if (!action.isEmpty()) {
+            try {
+                count = Math.max(1, Integer.parseInt(action));
+            } catch (NumberFormatException e) {
+                MessageUtil.sendTranslated(player, "debug.usage");
+                return true;
+            }
+        }
+
+        java.util.List<String> events = com.talexck.gameVoting.utils.debug.DebugTrace.dump(count);
+        placeholders.put("state", com.talexck.gameVoting.utils.debug.DebugTrace.isEnabled() ? "on" : "off");
+        if (events.isEmpty()) {
+            MessageUtil.sendTranslated(player, "debug.empty", placeholders);
+            return true;
+        }
+
+        placeholders.put("shown", String.valueOf(events.size()));
+        placeholders.put("recorded", String.valueOf(com.talexck.gameVoting.utils.debug.DebugTrace.getRecordedCount()));
+        MessageUtil.sendTranslated(player, "debug.header", placeholders);
+        // Events are plain text, not parsed for color codes
+        player.sendMessage(net.kyori.adventure.text.Component.text(String.join("\n", events),
+            net.kyori.adventure.text.format.NamedTextColor.GRAY));
+        return true;
+    }
+
+    /**
+     * Handle /vote language [code|auto] - Show or choose the player's language.
+     *
+     * @param player The player
+     * @param args Command arguments
+     * @return true
+     */
+    private boolean handleLanguage(Player player, String[] args) {
+        var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+        Map<String, String> placeholders = new HashMap<>();
+
+        if (args.length < 2) {
+            placeholders.put("language", languageManager.getLanguage(player));
+            placeholders.put("languages", String.join("|", languageManager.getSupportedLanguages()));
+            MessageUtil.sendTranslated(player, "language.current", placeholders);
+            MessageUtil.sendTranslated(player, "language.usage", placeholders);
+            return true;
+        }
+
+        if (args[1].equalsIgnoreCase("auto")) {
+            languageManager.setPreference(player, null);
+            placeholders.put("language", languageManager.getLanguage(player));
+            MessageUtil.sendTranslated(player, "language.auto", placeholders);
+        } else {
+            String language = languageManager.setPreference(player, args[1]);
+            if (language == null) {
+                placeholders.put("language", args[1]);
+                MessageUtil.sendTranslated(player, "language.not_found", placeholders);
+                return true;
+            }
+            placeholders.put("language", language);
+            MessageUtil.sendTranslated(player, "language.set", placeholders);
+        }
+
+        // Re-render the hotbar item in the new language
+        com.talexck.gameVoting.utils.item.VoteItem.refreshLanguage(player);
+        return true;
+    }
+
+    /**
+     * Get the winning game ID, using network-wide results when voting across lobbies.
+     *
+     * @param session The voting session
+     * @return The winning game ID, or null if no votes
+     */
+    private String resolveWinner(VotingSession session) {
+        NetworkVotingManager network = networkFor(session);
+        if (network != null && network.hasRound()) {
+            return network.getWinner();
+        }
+        return session.getWinner();
+    }
+
+    /**
+     * Stop taking part in the current network voting round, if any.
+     *
+     * @param session The room's voting session
+     */
+    private void leaveNetworkRound(VotingSession session) {
+        NetworkVotingManager network = networkFor(session);
+        if (network != null) {
+            network.leaveRound();
+        }
+    }
+
+    /**
+     * Get the network voting manager if it applies to a session.
+     * Network rounds only span the default room of each lobby.
+     *
+     * @param session The room's voting session
+     * @return The network voting manager, or null if not voting across lobbies
+     */
+    private NetworkVotingManager networkFor(VotingSession session) {
+        if (session != VotingSession.getInstance()) {
+            return null;
+        }
+        return NetworkVotingManager.getInstance();
+    }
+
+    /**
+     * Get the voting session of a player's room.
+     *
+     * @param player The player
+     * @return The player's room session
+     */
+    private VotingSession sessionOf(Player player) {
+        return VotingSessionRegistry.getInstance().getSession(player);
+    }
+
     /**
      * Save vote result to database after game starts.
      *
@@ -1099,7 +1398,9 @@ public class VoteCommand implements CommandExecutor {
         }
         
         try {
-            var repository = dbManager.getVoteHistoryRepository();
+            var writer = dbManager.getHistoryWriter();
+            // Immutable, so the async save sees the final counts even after the session is cleared
+            var snapshot = session.getSnapshot();
             
             // Build vote history record
             var voteHistory = new com.talexck.gameVoting.voting.VoteHistory.Builder()
@@ -1107,20 +1408,14 @@ public class VoteCommand implements CommandExecutor {
                 .timestamp(java.time.Instant.now())
                 .winningGameId(winner.getId())
                 .winningGameName(winner.getName())
-                .totalVotes(session.getTotalVoteCount())
-                .playerCount(Bukkit.getOnlinePlayers().size())
-                .voteDetails(new HashMap<>(session.getVoteCounts()))
+                .totalVotes(snapshot.getTotalVotes())
+                .playerCount(session.getPlayers().size())
+                .voteDetails(new HashMap<>(snapshot.getCounts()))
                 .build();
             
-            // Save to database asynchronously
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                boolean success = repository.saveSession(voteHistory);
-                if (success) {
-                    plugin.getLogger().info("Saved vote result to database: " + winner.getName() + " won with " + session.getTotalVoteCount() + " votes");
-                } else {
-                    plugin.getLogger().warning("Failed to save vote result to database");
-                }
-            });
+            // Saved in the next batch by the writer thread
+            writer.submit(voteHistory);
+            plugin.getLogger().info("Queued vote result: " + winner.getName() + " won with " + snapshot.getTotalVotes() + " votes");
         } catch (Exception e) {
             plugin.getLogger().severe("Exception saving vote result to database: " + e.getMessage());
             e.printStackTrace();
@@ -1139,17 +1434,7 @@ public class VoteCommand implements CommandExecutor {
             return;
         }
         
-        VotingSession session = VotingSession.getInstance();
-        var state = com.talexck.gameVoting.utils.hologram.HologramDisplayManager.DisplayState.NOT_VOTING;
-        
-        if (session.isPreVotingReady()) {
-            state = com.talexck.gameVoting.utils.hologram.HologramDisplayManager.DisplayState.PRE_VOTING_READY;
-        } else if (session.isActive()) {
-            state = com.talexck.gameVoting.utils.hologram.HologramDisplayManager.DisplayState.VOTING_ACTIVE;
-        } else if (session.isReadyPhase()) {
-            state = com.talexck.gameVoting.utils.hologram.HologramDisplayManager.DisplayState.VOTE_ENDED;
-        }
-        
-        displayManager.updateAllHolograms(state, locations);
+        // Each hologram shows the state of its world's room
+        displayManager.updateAllHolograms(locations);
     }
 }
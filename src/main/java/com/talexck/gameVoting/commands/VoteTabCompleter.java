@@ -26,7 +26,7 @@ public class VoteTabCompleter implements TabCompleter {
 
         if (args.length == 1) {
             // First argument - main subcommands
-            List<String> subcommands = Arrays.asList("start", "stop", "forcestart", "ready", "gamestart", "holograms", "session", "reload", "join");
+            List<String> subcommands = Arrays.asList("start", "stop", "forcestart", "ready", "gamestart", "holograms", "session", "reload", "join", "language", "debug");
             
             // Filter based on permissions
             for (String sub : subcommands) {
@@ -64,6 +64,23 @@ public class VoteTabCompleter implements TabCompleter {
                         .collect(Collectors.toList()));
                     break;
                     
+                case "debug":
+                    // Debug trace actions
+                    completions.addAll(Arrays.asList("20", "100", "clear", "on", "off").stream()
+                        .filter(sub -> sub.startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList()));
+                    break;
+
+                case "language":
+                    // Language codes
+                    List<String> languages = new ArrayList<>(Arrays.asList(
+                        com.talexck.gameVoting.utils.language.LanguageManager.getInstance().getSupportedLanguages()));
+                    languages.add("auto");
+                    completions.addAll(languages.stream()
+                        .filter(lang -> lang.toLowerCase().startsWith(args[1].toLowerCase()))
+                        .collect(Collectors.toList()));
+                    break;
+
                 case "session":
                     // Session subcommands
                     List<String> sessionSubs = Arrays.asList("list", "stop");
@@ -92,6 +109,6 @@ public class VoteTabCompleter implements TabCompleter {
      * Check if a subcommand requires admin permission.
      */
     private boolean requiresAdmin(String subcommand) {
-        return Arrays.asList("start", "stop", "forcestart", "gamestart", "holograms", "session", "reload").contains(subcommand);
+        return Arrays.asList("start", "stop", "forcestart", "gamestart", "holograms", "session", "reload", "debug").contains(subcommand);
     }
 }
@@ -7,8 +7,8 @@ import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Listener for boss bar cleanup on player disconnect.
- * Ensures that boss bars are properly removed when players leave the server
- * to prevent memory leaks.
+ * Ensures that boss bars and action bar channels are properly removed when
+ * players leave the server to prevent memory leaks.
  */
 public class BossBarListener implements Listener {
 
@@ -21,5 +21,7 @@ public class BossBarListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         // Remove any active boss bar for the disconnecting player
         BossBarManager.getInstance().removeBar(event.getPlayer());
+        BossBarManager.getInstance().removeFromChannels(event.getPlayer());
+        com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().removePlayer(event.getPlayer());
     }
 }
@@ -0,0 +1,45 @@
+package com.talexck.gameVoting.listeners;
+
+import com.talexck.gameVoting.utils.item.VoteItem;
+import com.talexck.gameVoting.utils.language.LanguageManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerLocaleChangeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Listener keeping per-player languages in sync with client locales.
+ * Clients report their locale shortly after joining and whenever it is
+ * changed in the options menu; the hotbar vote item is re-rendered when
+ * the player's language changes.
+ */
+public class LanguageListener implements Listener {
+
+    /**
+     * Handle client locale changes.
+     *
+     * @param event The locale change event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onLocaleChange(PlayerLocaleChangeEvent event) {
+        LanguageManager languageManager = LanguageManager.getInstance();
+        if (languageManager != null
+                && languageManager.updateLocale(event.getPlayer(), event.locale().toLanguageTag())) {
+            VoteItem.refreshLanguage(event.getPlayer());
+        }
+    }
+
+    /**
+     * Forget the cached language of players who leave.
+     *
+     * @param event The player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        LanguageManager languageManager = LanguageManager.getInstance();
+        if (languageManager != null) {
+            languageManager.forgetPlayer(event.getPlayer().getUniqueId());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.talexck.gameVoting.listeners;
 
 import com.talexck.gameVoting.voting.VotingSession;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -19,11 +20,11 @@ public class PlayerJoinListener implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = VotingSessionRegistry.getInstance().getSession(player);
 
         // Wait 1 tick to ensure player is fully loaded
         Bukkit.getScheduler().runTaskLater(com.talexck.gameVoting.GameVoting.getInstance(), () -> {
-            int onlineCount = Bukkit.getOnlinePlayers().size();
+            int onlineCount = session.getPlayers().size();
 
             // Check current voting state
             if (session.isPreVotingReady()) {
@@ -5,7 +5,9 @@ import com.talexck.gameVoting.commands.VoteCommand;
 import com.talexck.gameVoting.ui.VotingUI;
 import com.talexck.gameVoting.utils.item.VoteItem;
 import com.talexck.gameVoting.utils.message.MessageUtil;
+import com.talexck.gameVoting.utils.timer.TimerService;
 import com.talexck.gameVoting.voting.VotingSession;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -19,7 +21,9 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -28,9 +32,9 @@ import java.util.UUID;
  */
 public class VoteItemListener implements Listener {
     
-    // Cooldown map to prevent double-clicking (UUID -> timestamp in milliseconds)
-    private final Map<UUID, Long> readyCooldowns = new HashMap<>();
-    private static final long READY_COOLDOWN_MS = 1000; // 1 second cooldown
+    // Players in click cooldown to prevent double-clicking (removed by a TimerService timer)
+    private final Set<UUID> readyCooldowns = new HashSet<>();
+    private static final long READY_COOLDOWN_TICKS = 20; // 1 second cooldown
 
     /**
      * Handle player interaction with vote item (right-click).
@@ -57,32 +61,30 @@ public class VoteItemListener implements Listener {
             return;
         }
 
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = VotingSessionRegistry.getInstance().getSession(player);
 
         switch (itemType) {
             case "insufficient_players":
                 // Show insufficient players message
                 var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
-                int currentPlayers = Bukkit.getOnlinePlayers().size();
+                int currentPlayers = session.getPlayers().size();
                 Map<String, String> placeholders = new HashMap<>();
                 placeholders.put("current", String.valueOf(currentPlayers));
-                com.talexck.gameVoting.utils.display.ActionBarUtil.sendActionBar(player,
-                    langManager.getMessage("ready.insufficient_players_action", placeholders));
+                var actionBars = com.talexck.gameVoting.utils.display.ActionBarManager.getInstance();
+                actionBars.show(player, com.talexck.gameVoting.utils.display.ActionBarManager.FEEDBACK_CHANNEL,
+                    com.talexck.gameVoting.utils.ColorUtil.colorize(
+                        langManager.getMessage(player, "ready.insufficient_players_action", placeholders)),
+                    com.talexck.gameVoting.utils.display.ActionBarManager.Priority.FEEDBACK, 40);
                 player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
                 break;
                 
             case "start_voting":
                 // Handle pre-voting ready phase
                 // Check cooldown to prevent double-clicking
-                long currentTimeStart = System.currentTimeMillis();
-                Long lastClickTimeStart = readyCooldowns.get(player.getUniqueId());
-                
-                if (lastClickTimeStart != null && (currentTimeStart - lastClickTimeStart) < READY_COOLDOWN_MS) {
+                if (!startReadyCooldown(player.getUniqueId())) {
                     return;
                 }
                 
-                readyCooldowns.put(player.getUniqueId(), currentTimeStart);
-                
                 var langMgr = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
                 if (session.isPreVotingReady()) {
                     if (session.isPreVotingPlayerReady(player.getUniqueId())) {
@@ -91,44 +93,44 @@ public class VoteItemListener implements Listener {
                         VoteItem.updateStartVotingItem(player, false);
 
                         int readyCount = session.getPreVotingReadyCount();
-                        int totalPlayers = Bukkit.getOnlinePlayers().size();
+                        int totalPlayers = session.getPlayers().size();
 
-                        MessageUtil.sendMessage(player, langMgr.getMessage("ready.unready_start"));
+                        MessageUtil.sendMessage(player, langMgr.getMessage(player, "ready.unready_start"));
                         Map<String, String> unreadyPlaceholders = new HashMap<>();
                         unreadyPlaceholders.put("player", player.getName());
                         unreadyPlaceholders.put("count", String.valueOf(readyCount));
                         unreadyPlaceholders.put("total", String.valueOf(totalPlayers));
-                        MessageUtil.broadcast(langMgr.getMessage("ready.player_unready_start", unreadyPlaceholders));
+                        MessageUtil.broadcastTranslated(session.getPlayers(), "ready.player_unready_start", unreadyPlaceholders);
                     } else {
                         // Ready up
                         session.markPreVotingReady(player.getUniqueId());
                         VoteItem.updateStartVotingItem(player, true);
 
                         int readyCount = session.getPreVotingReadyCount();
-                        int totalPlayers = Bukkit.getOnlinePlayers().size();
+                        int totalPlayers = session.getPlayers().size();
 
-                        MessageUtil.sendMessage(player, langMgr.getMessage("ready.ready_start"));
+                        MessageUtil.sendMessage(player, langMgr.getMessage(player, "ready.ready_start"));
                         Map<String, String> readyPlaceholders = new HashMap<>();
                         readyPlaceholders.put("player", player.getName());
                         readyPlaceholders.put("count", String.valueOf(readyCount));
                         readyPlaceholders.put("total", String.valueOf(totalPlayers));
-                        MessageUtil.broadcast(langMgr.getMessage("ready.player_ready_start", readyPlaceholders));
+                        MessageUtil.broadcastTranslated(session.getPlayers(), "ready.player_ready_start", readyPlaceholders);
 
                         // Check if all players are ready
                         if (session.allPlayersReadyToVote()) {
-                            MessageUtil.broadcast(langMgr.getMessage("ready.all_ready_start"));
+                            MessageUtil.broadcastTranslated(session.getPlayers(), "ready.all_ready_start");
 
                             // Actually start voting with stored duration
                             Bukkit.getScheduler().runTask(GameVoting.getInstance(), () -> {
-                                GameVoting plugin = GameVoting.getInstance();
-                                VoteCommand voteCommand = new VoteCommand(plugin);
-                                voteCommand.setGamesManager(plugin.getGamesManager());
-                                voteCommand.actuallyStartVoting(session.getPendingVotingDuration());
+                                VoteCommand voteCommand = GameVoting.getInstance().getVoteCommand();
+                                if (voteCommand != null) {
+                                    voteCommand.actuallyStartVoting(session, session.getPendingVotingDuration());
+                                }
                             });
                         }
                     }
                 } else {
-                    MessageUtil.sendMessage(player, langMgr.getMessage("ready.prevoting_not_active"));
+                    MessageUtil.sendMessage(player, langMgr.getMessage(player, "ready.prevoting_not_active"));
                 }
                 break;
                 
@@ -139,23 +141,17 @@ public class VoteItemListener implements Listener {
                     VotingUI ui = new VotingUI(player, GameVoting.getInstance().getGamesManager());
                     ui.open(player);
                 } else {
-                    MessageUtil.sendMessage(player, voteLangMgr.getMessage("ready.voting_not_active"));
+                    MessageUtil.sendMessage(player, voteLangMgr.getMessage(player, "ready.voting_not_active"));
                 }
                 break;
 
             case "ready":
                 // Check cooldown to prevent double-clicking
-                long currentTime = System.currentTimeMillis();
-                Long lastClickTime = readyCooldowns.get(player.getUniqueId());
-                
-                if (lastClickTime != null && (currentTime - lastClickTime) < READY_COOLDOWN_MS) {
+                if (!startReadyCooldown(player.getUniqueId())) {
                     // Still in cooldown, ignore click
                     return;
                 }
                 
-                // Update cooldown timestamp
-                readyCooldowns.put(player.getUniqueId(), currentTime);
-                
                 // Toggle ready status
                 var readyLangMgr = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
                 if (session.isReadyPhase()) {
@@ -165,19 +161,19 @@ public class VoteItemListener implements Listener {
                         VoteItem.updateReadyItem(player, false);
 
                         int readyCount = session.getReadyCount();
-                        int totalPlayers = Bukkit.getOnlinePlayers().size();
+                        int totalPlayers = session.getPlayers().size();
 
-                        MessageUtil.sendMessage(player, readyLangMgr.getMessage("ready.unready_message"));
+                        MessageUtil.sendMessage(player, readyLangMgr.getMessage(player, "ready.unready_message"));
                         Map<String, String> unreadyPlaceholders2 = new HashMap<>();
                         unreadyPlaceholders2.put("player", player.getName());
                         unreadyPlaceholders2.put("count", String.valueOf(readyCount));
                         unreadyPlaceholders2.put("total", String.valueOf(totalPlayers));
-                        MessageUtil.broadcast(readyLangMgr.getMessage("ready.player_unready_broadcast", unreadyPlaceholders2));
+                        MessageUtil.broadcastTranslated(session.getPlayers(), "ready.player_unready_broadcast", unreadyPlaceholders2);
 
                         // Stop countdown if it was running
                         if (session.isCountdownActive()) {
                             session.stopCountdown();
-                            MessageUtil.broadcast(readyLangMgr.getMessage("ready.countdown_cancelled_broadcast"));
+                            MessageUtil.broadcastTranslated(session.getPlayers(), "ready.countdown_cancelled_broadcast");
                         }
                     } else {
                         // Ready up
@@ -185,30 +181,30 @@ public class VoteItemListener implements Listener {
                         VoteItem.updateReadyItem(player, true);
 
                         int readyCount = session.getReadyCount();
-                        int totalPlayers = Bukkit.getOnlinePlayers().size();
+                        int totalPlayers = session.getPlayers().size();
 
-                        MessageUtil.sendMessage(player, readyLangMgr.getMessage("ready.ready_message"));
+                        MessageUtil.sendMessage(player, readyLangMgr.getMessage(player, "ready.ready_message"));
                         Map<String, String> readyPlaceholders2 = new HashMap<>();
                         readyPlaceholders2.put("player", player.getName());
                         readyPlaceholders2.put("count", String.valueOf(readyCount));
                         readyPlaceholders2.put("total", String.valueOf(totalPlayers));
-                        MessageUtil.broadcast(readyLangMgr.getMessage("ready.player_ready_broadcast", readyPlaceholders2));
+                        MessageUtil.broadcastTranslated(session.getPlayers(), "ready.player_ready_broadcast", readyPlaceholders2);
 
                         // Check if all players are ready
                         if (session.allPlayersReady()) {
-                            MessageUtil.broadcast(readyLangMgr.getMessage("ready.all_ready_countdown"));
+                            MessageUtil.broadcastTranslated(session.getPlayers(), "ready.all_ready_countdown");
 
                             // Start 10-second countdown
                             session.startCountdown(GameVoting.getInstance(), () -> {
                                 // After countdown, start the game
                                 Bukkit.getScheduler().runTask(GameVoting.getInstance(), () -> {
-                                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "vote gamestart");
+                                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "vote gamestart " + session.getRoomId());
                                 });
                             });
                         }
                     }
                 } else {
-                    MessageUtil.sendMessage(player, readyLangMgr.getMessage("ready.not_in_ready_phase"));
+                    MessageUtil.sendMessage(player, readyLangMgr.getMessage(player, "ready.not_in_ready_phase"));
                 }
                 break;
         }
@@ -224,7 +220,7 @@ public class VoteItemListener implements Listener {
         if (VoteItem.isVoteItem(item)) {
             event.setCancelled(true);
             var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
-            MessageUtil.sendMessage(event.getPlayer(), langManager.getMessage("item.cannot_drop"));
+            MessageUtil.sendMessage(event.getPlayer(), langManager.getMessage(event.getPlayer(), "item.cannot_drop"));
         }
     }
 
@@ -267,6 +263,23 @@ public class VoteItemListener implements Listener {
         }
     }
 
+    /**
+     * Put a player into click cooldown unless they already are.
+     * Without a timer slot the click is allowed, so the set never outgrows the timer wheel.
+     *
+     * @param playerId The clicking player
+     * @return true if the click may proceed
+     */
+    private boolean startReadyCooldown(UUID playerId) {
+        if (!readyCooldowns.add(playerId)) {
+            return false;
+        }
+        if (TimerService.getInstance().schedule(READY_COOLDOWN_TICKS, () -> readyCooldowns.remove(playerId)) == null) {
+            readyCooldowns.remove(playerId);
+        }
+        return true;
+    }
+
     /**
      * Remove vote item when player quits.
      */
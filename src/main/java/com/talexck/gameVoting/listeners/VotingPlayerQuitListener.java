@@ -1,6 +1,7 @@
 package com.talexck.gameVoting.listeners;
 
 import com.talexck.gameVoting.voting.VotingSession;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -18,17 +19,17 @@ public class VotingPlayerQuitListener implements Listener {
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = VotingSessionRegistry.getInstance().getSession(event.getPlayer());
 
         // Wait 1 tick to ensure player count is updated
         Bukkit.getScheduler().runTaskLater(com.talexck.gameVoting.GameVoting.getInstance(), () -> {
-            int onlineCount = Bukkit.getOnlinePlayers().size();
+            int onlineCount = session.getPlayers().size();
 
             // Only update if no voting is active and player count dropped below 6
             if (!session.isActive() && !session.isPreVotingReady() && !session.isReadyPhase()) {
                 if (onlineCount < 6 && onlineCount > 0) {
-                    // Give insufficient players item to all remaining players
-                    for (Player player : Bukkit.getOnlinePlayers()) {
+                    // Give insufficient players item to all remaining players in the room
+                    for (Player player : session.getPlayers()) {
                         com.talexck.gameVoting.utils.item.VoteItem.giveInsufficientPlayersItem(player);
                     }
                 }
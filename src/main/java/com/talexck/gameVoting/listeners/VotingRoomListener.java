@@ -0,0 +1,32 @@
+package com.talexck.gameVoting.listeners;
+
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Listener that keeps players routed to the voting room of their world.
+ * Runs before other join handlers and after other quit handlers so they
+ * always see the player's current room.
+ */
+public class VotingRoomListener implements Listener {
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        VotingSessionRegistry.getInstance().route(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        VotingSessionRegistry.getInstance().route(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        VotingSessionRegistry.getInstance().remove(event.getPlayer());
+    }
+}
@@ -1,16 +1,20 @@
 package com.talexck.gameVoting.party;
 
+import com.talexck.gameVoting.utils.timer.TimingWheel;
+
 import java.util.UUID;
 
 /**
  * Represents a party invitation with expiry tracking.
- * Invitations automatically expire after 30 seconds.
+ * Invitations automatically expire after 30 seconds; PartyManager drops them
+ * through a TimerService timer, isExpired() covers invites without one.
  */
 public class PartyInvite {
     private final UUID partyId;
     private final UUID inviterId;
     private final UUID targetId;
     private final long timestamp;
+    private TimingWheel.Timeout expiry;  // Removal timer, null if none could be scheduled
     private static final long TIMEOUT_MS = 30000;  // 30 seconds
 
     /**
@@ -36,6 +40,20 @@ public class PartyInvite {
         return System.currentTimeMillis() - timestamp > TIMEOUT_MS;
     }
 
+    /**
+     * Cancel the removal timer, if any.
+     */
+    void cancelExpiry() {
+        if (expiry != null) {
+            expiry.cancel();
+            expiry = null;
+        }
+    }
+
+    void setExpiry(TimingWheel.Timeout expiry) {
+        this.expiry = expiry;
+    }
+
     // === Getters ===
 
     public UUID getPartyId() {
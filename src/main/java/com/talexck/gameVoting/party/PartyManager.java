@@ -1,5 +1,7 @@
 package com.talexck.gameVoting.party;
 
+import com.talexck.gameVoting.utils.timer.TimerService;
+
 import java.util.*;
 
 /**
@@ -85,8 +87,14 @@ public class PartyManager {
         if (!party.canInvite()) return false;  // Party full
 
         PartyInvite invite = new PartyInvite(party.getPartyId(), inviterId, targetId);
+        removeInvite(targetId);  // A new invite replaces the previous one
         pendingInvites.put(targetId, invite);
         party.addInvite(targetId);
+        invite.setExpiry(TimerService.getInstance().schedule(INVITE_TIMEOUT_SECONDS * 20L, () -> {
+            if (pendingInvites.get(targetId) == invite) {
+                removeInvite(targetId);
+            }
+        }));
 
         return true;
     }
@@ -100,7 +108,7 @@ public class PartyManager {
     public boolean acceptInvite(UUID playerId) {
         PartyInvite invite = pendingInvites.get(playerId);
         if (invite == null || invite.isExpired()) {
-            pendingInvites.remove(playerId);
+            removeInvite(playerId);
             return false;
         }
 
@@ -109,9 +117,8 @@ public class PartyManager {
 
         // Add to party
         party.addMember(playerId);
-        party.removeInvite(playerId);
         playerToParty.put(playerId, party.getPartyId());
-        pendingInvites.remove(playerId);
+        removeInvite(playerId);
 
         return true;
     }
@@ -122,8 +129,18 @@ public class PartyManager {
      * @param playerId The player declining the invite
      */
     public void declineInvite(UUID playerId) {
+        removeInvite(playerId);
+    }
+
+    /**
+     * Drop a player's pending invitation and cancel its expiry timer.
+     *
+     * @param playerId The invited player
+     */
+    private void removeInvite(UUID playerId) {
         PartyInvite invite = pendingInvites.remove(playerId);
         if (invite != null) {
+            invite.cancelExpiry();
             Party party = parties.get(invite.getPartyId());
             if (party != null) {
                 party.removeInvite(playerId);
@@ -217,6 +234,6 @@ public class PartyManager {
      */
     public void handlePlayerQuit(UUID playerId) {
         leaveParty(playerId);
-        pendingInvites.remove(playerId);
+        removeInvite(playerId);
     }
 }
@@ -8,8 +8,9 @@ import com.talexck.gameVoting.utils.gui.ChestUI;
 import com.talexck.gameVoting.utils.gui.ChestUIListener;
 import com.talexck.gameVoting.utils.message.MessageUtil;
 import com.talexck.gameVoting.voting.VotingSession;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
 import com.talexck.gameVoting.voting.VoteResult;
-import com.talexck.gameVoting.utils.display.ActionBarUtil;
+import com.talexck.gameVoting.utils.display.ActionBarManager;
 import org.bukkit.Sound;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
@@ -54,7 +55,7 @@ public class VotingUI extends ChestUI {
     private int currentPage;
 
     public VotingUI(Player player, GamesConfigManager gamesManager) {
-        super(ColorUtil.stripColors(com.talexck.gameVoting.utils.language.LanguageManager.getInstance().getMessage("ui.voting_title")), ROWS);
+        super(ColorUtil.stripColors(com.talexck.gameVoting.utils.language.LanguageManager.getInstance().getMessage(player, "ui.voting_title")), ROWS);
         this.player = player;
         this.gamesManager = gamesManager;
         this.games = gamesManager.getGames();
@@ -123,13 +124,21 @@ public class VotingUI extends ChestUI {
         int start = currentPage * ITEMS_PER_PAGE;
         int end = Math.min(start + ITEMS_PER_PAGE, games.size());
 
+        // Ballot state is the same for every item on the page
+        VotingSession session = VotingSessionRegistry.getInstance().getSession(player);
+        int voteCount = session.getPlayerVoteCount(player);
+        Map<String, String> votePlaceholders = new HashMap<>();
+        votePlaceholders.put("count", String.valueOf(voteCount));
+        Component yourVotes = ColorUtil.colorize(
+            com.talexck.gameVoting.utils.language.LanguageManager.getInstance().getMessage(player, "ui.your_votes", votePlaceholders));
+
         // Add game items
         for (int i = start; i < end; i++) {
             GameConfig game = games.get(i);
             int slotIndex = i - start;
             int slot = CONTENT_SLOTS[slotIndex];
 
-            ItemStack item = createGameItem(game);
+            ItemStack item = createGameItem(game, session, voteCount, yourVotes);
             setItem(slot, ClickableItem.of(item, p -> handleVote(game)));
         }
     }
@@ -138,9 +147,12 @@ public class VotingUI extends ChestUI {
      * Create an item stack for a game.
      *
      * @param game The game configuration
+     * @param session The player's voting session
+     * @param voteCount Number of votes the player has cast
+     * @param yourVotes Pre-rendered "your votes" lore line
      * @return The item stack
      */
-    private ItemStack createGameItem(GameConfig game) {
+    private ItemStack createGameItem(GameConfig game, VotingSession session, int voteCount, Component yourVotes) {
         ItemStack item = new ItemStack(game.getMaterial());
         ItemMeta meta = item.getItemMeta();
 
@@ -155,26 +167,22 @@ public class VotingUI extends ChestUI {
             }
 
             // Add voting indicator if player voted for this game
-            VotingSession session = VotingSession.getInstance();
             boolean voted = session.hasVotedFor(player, game.getId());
-            int voteCount = session.getPlayerVoteCount(player);
 
             var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
 
             lore.add(Component.text(""));
             if (voted) {
-                lore.add(ColorUtil.colorize(langManager.getMessage("ui.voted_indicator")));
+                lore.add(ColorUtil.colorize(langManager.getMessage(player, "ui.voted_indicator")));
             } else {
-                if (voteCount < 3) {
-                    lore.add(ColorUtil.colorize(langManager.getMessage("ui.click_to_vote")));
+                if (voteCount < session.getMaxVotes()) {
+                    lore.add(ColorUtil.colorize(langManager.getMessage(player, "ui.click_to_vote")));
                 } else {
-                    lore.add(ColorUtil.colorize(langManager.getMessage("ui.vote_limit_reached")));
+                    lore.add(ColorUtil.colorize(langManager.getMessage(player, "ui.vote_limit_reached")));
                 }
             }
             lore.add(Component.text(""));
-            Map<String, String> votePlaceholders = new HashMap<>();
-            votePlaceholders.put("count", String.valueOf(voteCount));
-            lore.add(ColorUtil.colorize(langManager.getMessage("ui.your_votes", votePlaceholders)));
+            lore.add(yourVotes);
 
             meta.lore(lore);
 
@@ -201,11 +209,11 @@ public class VotingUI extends ChestUI {
      * @param game The game being voted for
      */
     private void handleVote(GameConfig game) {
-        VotingSession session = VotingSession.getInstance();
+        VotingSession session = VotingSessionRegistry.getInstance().getSession(player);
         var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
 
         if (!session.isActive()) {
-            MessageUtil.sendMessage(player, langManager.getMessage("ui.voting_inactive"));
+            MessageUtil.sendMessage(player, langManager.getMessage(player, "ui.voting_inactive"));
             player.closeInventory();
             return;
         }
@@ -219,22 +227,25 @@ public class VotingUI extends ChestUI {
         // Handle result and send feedback
         switch (result) {
             case ADDED:
-                MessageUtil.sendMessage(player, langManager.getMessage("ui.vote_added", placeholders));
-                ActionBarUtil.sendActionBar(player, langManager.getMessage("ui.vote_added", placeholders));
+                MessageUtil.sendMessage(player, langManager.getMessage(player, "ui.vote_added", placeholders));
+                ActionBarManager.getInstance().show(player, ActionBarManager.FEEDBACK_CHANNEL,
+                    ColorUtil.colorize(langManager.getMessage(player, "ui.vote_added", placeholders)), ActionBarManager.Priority.FEEDBACK, 40);
                 player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 1.0f, 1.0f);
                 break;
             case REMOVED:
-                MessageUtil.sendMessage(player, langManager.getMessage("ui.vote_removed", placeholders));
-                ActionBarUtil.sendActionBar(player, langManager.getMessage("ui.vote_removed", placeholders));
+                MessageUtil.sendMessage(player, langManager.getMessage(player, "ui.vote_removed", placeholders));
+                ActionBarManager.getInstance().show(player, ActionBarManager.FEEDBACK_CHANNEL,
+                    ColorUtil.colorize(langManager.getMessage(player, "ui.vote_removed", placeholders)), ActionBarManager.Priority.FEEDBACK, 40);
                 player.playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_BASS, 1.0f, 1.0f);
                 break;
             case LIMIT_REACHED:
-                MessageUtil.sendMessage(player, langManager.getMessage("ui.vote_limit"));
-                ActionBarUtil.sendActionBar(player, langManager.getMessage("ui.vote_limit"));
+                MessageUtil.sendMessage(player, langManager.getMessage(player, "ui.vote_limit"));
+                ActionBarManager.getInstance().show(player, ActionBarManager.FEEDBACK_CHANNEL,
+                    ColorUtil.colorize(langManager.getMessage(player, "ui.vote_limit")), ActionBarManager.Priority.FEEDBACK, 40);
                 player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
                 break;
             case SESSION_INACTIVE:
-                MessageUtil.sendMessage(player, langManager.getMessage("ui.voting_inactive"));
+                MessageUtil.sendMessage(player, langManager.getMessage(player, "ui.voting_inactive"));
                 player.closeInventory();
                 return;
         }
@@ -256,7 +267,7 @@ public class VotingUI extends ChestUI {
             ItemStack prevButton = new ItemStack(Material.ARROW);
             ItemMeta meta = prevButton.getItemMeta();
             if (meta != null) {
-                meta.displayName(ColorUtil.colorize(langManager.getMessage("ui.prev_page")));
+                meta.displayName(ColorUtil.colorize(langManager.getMessage(player, "ui.prev_page")));
                 prevButton.setItemMeta(meta);
             }
             setItem(PREV_SLOT, ClickableItem.of(prevButton, p -> {
@@ -279,7 +290,7 @@ public class VotingUI extends ChestUI {
         ItemStack closeButton = new ItemStack(Material.BARRIER);
         ItemMeta closeMeta = closeButton.getItemMeta();
         if (closeMeta != null) {
-            closeMeta.displayName(ColorUtil.colorize(langManager.getMessage("ui.close_button")));
+            closeMeta.displayName(ColorUtil.colorize(langManager.getMessage(player, "ui.close_button")));
             closeButton.setItemMeta(closeMeta);
         }
         setItem(CLOSE_SLOT, ClickableItem.of(closeButton, Player::closeInventory));
@@ -289,7 +300,7 @@ public class VotingUI extends ChestUI {
             ItemStack nextButton = new ItemStack(Material.ARROW);
             ItemMeta meta = nextButton.getItemMeta();
             if (meta != null) {
-                meta.displayName(ColorUtil.colorize(langManager.getMessage("ui.next_page")));
+                meta.displayName(ColorUtil.colorize(langManager.getMessage(player, "ui.next_page")));
                 nextButton.setItemMeta(meta);
             }
             setItem(NEXT_SLOT, ClickableItem.of(nextButton, p -> {
@@ -3,16 +3,41 @@ package com.talexck.gameVoting.utils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Utility class for handling color codes and text formatting.
  * Converts legacy & color codes to Minecraft § codes.
  * 
  * Compatible with both legacy Paper (1.16.5) and modern Paper (1.20+).
  * Falls back to legacy color codes if MiniMessage is not available.
+ *
+ * Parsed Components (and their legacy serialization) are kept in an LRU cache
+ * keyed by the source string. Components are immutable, so every caller of the
+ * same text shares one instance. The cache is bounded by the total length of
+ * the cached source strings; very long strings are parsed but not cached.
  */
 public class ColorUtil {
 
     private static final LegacyComponentSerializer LEGACY_SERIALIZER = LegacyComponentSerializer.legacySection();
+
+    // All markup removed by stripColors(), matched in one pass
+    private static final Pattern STRIP_PATTERN = Pattern.compile(
+        "[§&][0-9a-fk-or]|<#[0-9A-Fa-f]{6}>|</?gradient[^>]*>|</?[a-z_]+>");
+
+    // Cache bounds, in chars of source text (plus a fixed per-entry overhead)
+    private static final int CACHE_MAX_WEIGHT = 256 * 1024;
+    private static final int CACHE_MAX_ENTRY_LENGTH = 2048;
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final Map<String, Rendered> CACHE = new LinkedHashMap<>(256, 0.75f, true);
+    private static long cacheWeight;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
     private static final boolean MINI_MESSAGE_AVAILABLE;
     private static Object MINI_MESSAGE_INSTANCE;
 
@@ -44,7 +69,60 @@ public class ColorUtil {
         if (message == null || message.isEmpty()) {
             return Component.empty();
         }
+        return render(message).component;
+    }
+
+    /**
+     * Colorize a string and serialize the result to legacy § codes.
+     * Same as serialize(colorize(message)), but the string is cached too.
+     *
+     * @param message The message to colorize
+     * @return String with § color codes
+     */
+    public static String colorizeLegacy(String message) {
+        if (message == null || message.isEmpty()) {
+            return "";
+        }
+        Rendered rendered = render(message);
+        String legacy = rendered.legacy;
+        if (legacy == null) {
+            // Benign race: concurrent callers compute the same string
+            legacy = LEGACY_SERIALIZER.serialize(rendered.component);
+            rendered.legacy = legacy;
+        }
+        return legacy;
+    }
 
+    /**
+     * Look up a parsed message, parsing and caching it on a miss.
+     */
+    private static Rendered render(String message) {
+        boolean cacheable = message.length() <= CACHE_MAX_ENTRY_LENGTH;
+        if (cacheable) {
+            synchronized (CACHE) {
+                Rendered cached = CACHE.get(message);
+                if (cached != null) {
+                    hits++;
+                    return cached;
+                }
+                misses++;
+            }
+        }
+
+        // Parse outside the lock, parsing MiniMessage is the expensive part
+        Rendered rendered = new Rendered(parseMarkup(message));
+        if (cacheable) {
+            synchronized (CACHE) {
+                if (CACHE.put(message, rendered) == null) {
+                    cacheWeight += weight(message);
+                }
+                evictToLimit();
+            }
+        }
+        return rendered;
+    }
+
+    private static Component parseMarkup(String message) {
         try {
             // First, convert & codes to § codes for legacy support
             String legacyConverted = message.replace('&', '§');
@@ -63,6 +141,40 @@ public class ColorUtil {
         }
     }
 
+    private static void evictToLimit() {
+        Iterator<Map.Entry<String, Rendered>> it = CACHE.entrySet().iterator();
+        while (cacheWeight > CACHE_MAX_WEIGHT && it.hasNext()) {
+            cacheWeight -= weight(it.next().getKey());  // Eldest (least recently used) first
+            it.remove();
+            evictions++;
+        }
+    }
+
+    private static int weight(String message) {
+        return message.length() + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Get the render cache statistics.
+     *
+     * @return Snapshot of hit, miss and eviction counts and the cache size
+     */
+    public static CacheStats getCacheStats() {
+        synchronized (CACHE) {
+            return new CacheStats(hits, misses, evictions, CACHE.size(), cacheWeight);
+        }
+    }
+
+    /**
+     * Drop all cached renderings. Counters are kept.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            cacheWeight = 0;
+        }
+    }
+
     /**
      * Colorize a string and return it as a plain text Component.
      * Same as colorize() but with a more explicit name.
@@ -86,16 +198,11 @@ public class ColorUtil {
             return text;
         }
 
-        // Remove § codes
-        text = text.replaceAll("§[0-9a-fk-or]", "");
-        // Remove & codes
-        text = text.replaceAll("&[0-9a-fk-or]", "");
-        // Remove MiniMessage tags (simple regex for common tags)
-        text = text.replaceAll("<#[0-9A-Fa-f]{6}>", "");
-        text = text.replaceAll("</?gradient[^>]*>", "");
-        text = text.replaceAll("</?[a-z_]+>", "");
-
-        return text;
+        // Remove § and & codes and MiniMessage tags (simple regex for common tags)
+        if (text.indexOf('§') < 0 && text.indexOf('&') < 0 && text.indexOf('<') < 0) {
+            return text;
+        }
+        return STRIP_PATTERN.matcher(text).replaceAll("");
     }
 
     /**
@@ -111,4 +218,71 @@ public class ColorUtil {
         }
         return LEGACY_SERIALIZER.serialize(component);
     }
+
+    /**
+     * Cached rendering of one source string.
+     */
+    private static final class Rendered {
+        private final Component component;
+        private volatile String legacy;  // Serialized on first use
+
+        private Rendered(Component component) {
+            this.component = component;
+        }
+    }
+
+    /**
+     * Statistics of the render cache.
+     */
+    public static final class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+        private final long weight;
+
+        private CacheStats(long hits, long misses, long evictions, int size, long weight) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+            this.weight = weight;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        /**
+         * Get the share of lookups served from the cache.
+         *
+         * @return Hit rate between 0.0 and 1.0
+         */
+        public double getHitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0.0 : (double) hits / lookups;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses (%.1f%% hit rate), %d evictions, %d entries, %d chars",
+                hits, misses, getHitRate() * 100, evictions, size, weight);
+        }
+    }
 }
@@ -0,0 +1,404 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.AsyncVoteHistoryRepository;
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * In-memory cache in front of an AsyncVoteHistoryRepository.
+ *
+ * Holds the top winning games, the total session count and the most recent
+ * sessions (the first history pages). Reads that the cache can answer
+ * complete immediately; everything else goes to the database.
+ *
+ * - Write-through: a successful saveSession() updates the cached counts and
+ *   recent sessions directly instead of invalidating them. Sessions saved
+ *   behind the cache's back (the write-behind queue) are applied with
+ *   recordSaved().
+ * - Refresh: once the snapshot is older than the TTL, the next read starts a
+ *   reload in the background and keeps serving the old snapshot meanwhile.
+ * - Warm-up: refresh() is called once at startup.
+ * - Expiry: refreshIfExpired() is called periodically, so sessions saved by
+ *   other servers show up even when nothing reads the cache.
+ *
+ * peekTopWinningGames() never does I/O, so holograms can render from it on
+ * the server thread. Change listeners run on the server thread whenever the
+ * cached data changed.
+ *
+ * Thread-safe: the cached data is one immutable snapshot swapped atomically.
+ */
+public class CachingVoteHistoryRepository implements AsyncVoteHistoryRepository {
+    private static final int TOP_LIMIT = 10;
+    private static final long RETRY_MILLIS = 30_000L;
+
+    private final AsyncVoteHistoryRepository delegate;
+    private final DatabaseExecutor executor;
+    private final Logger logger;
+    private final int recentSize;
+    private final long ttlMillis;
+    private final AtomicReference<Snapshot> snapshot;
+    private final AtomicBoolean refreshing;
+    private final List<Runnable> listeners;
+    private volatile boolean stale;
+    private volatile long retryAt;  // No automatic refresh before this time after a failure
+    private volatile long failures;  // Failed loads, part of the version so readers notice them
+
+    /**
+     * Create a cache.
+     *
+     * @param delegate The repository to cache
+     * @param executor Executor for main thread callbacks
+     * @param logger Logger for refresh failures
+     * @param recentSize Number of most recent sessions to keep
+     * @param ttlSeconds Seconds before cached data is reloaded
+     */
+    public CachingVoteHistoryRepository(AsyncVoteHistoryRepository delegate, DatabaseExecutor executor,
+                                        Logger logger, int recentSize, int ttlSeconds) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.logger = logger;
+        this.recentSize = Math.max(0, recentSize);
+        this.ttlMillis = Math.max(1, ttlSeconds) * 1000L;
+        this.snapshot = new AtomicReference<>();
+        this.refreshing = new AtomicBoolean();
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.stale = true;
+    }
+
+    /**
+     * Register a listener called on the server thread when the cached data changed.
+     *
+     * @param listener The listener
+     */
+    public void addChangeListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Get the cached top winning games without any I/O.
+     * Starts a background refresh if the data is out of date.
+     *
+     * @param limit Number of top games, at most 10
+     * @return Map of game_id -> win_count sorted by win count descending,
+     *         or null if not loaded yet
+     */
+    public Map<String, Integer> peekTopWinningGames(int limit) {
+        Snapshot current = current();
+        if (current == null) {
+            return null;
+        }
+        return limit >= current.topGames.size() ? current.topGames : head(current.topGames, limit);
+    }
+
+    /**
+     * Get the data version. Changes whenever the cached data changes or a load fails.
+     *
+     * @return The version, 0 until the first load or failure
+     */
+    public long getVersion() {
+        Snapshot current = snapshot.get();
+        return (current != null ? current.version : 0) + failures;
+    }
+
+    /**
+     * Check if the data has never loaded because the last attempt failed.
+     *
+     * @return true if there is no data and the last load failed
+     */
+    public boolean isUnavailable() {
+        return snapshot.get() == null && failures > 0 && !refreshing.get();
+    }
+
+    /**
+     * Start a background refresh if the data is missing or older than the TTL.
+     * Failed loads are retried after a backoff.
+     */
+    public void refreshIfExpired() {
+        current();
+    }
+
+    /**
+     * Reload all cached data in the background, e.g. to warm up at startup.
+     * Does nothing if a reload is already running, except to run another one after it.
+     */
+    public void refresh() {
+        stale = true;
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        stale = false;
+
+        CompletableFuture<Map<String, Integer>> top = delegate.getTopWinningGames(TOP_LIMIT);
+        CompletableFuture<Integer> total = delegate.getTotalSessions();
+        CompletableFuture<List<VoteHistory>> recent = recentSize > 0
+                ? delegate.getSessionHistoryPage(null, recentSize).thenApply(HistoryPage::getRecords)
+                : CompletableFuture.completedFuture(List.of());
+
+        CompletableFuture.allOf(top, total, recent).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.warning("Failed to refresh vote history cache: " + error.getMessage());
+                // Keep serving the old data
+                retryAt = System.currentTimeMillis() + Math.min(ttlMillis, RETRY_MILLIS);
+                if (snapshot.get() == null) {
+                    // Let readers replace the loading placeholder
+                    failures++;
+                    notifyListeners();
+                }
+            } else {
+                Snapshot loaded = new Snapshot(Collections.unmodifiableMap(new LinkedHashMap<>(top.join())),
+                        total.join(), List.copyOf(recent.join()), 0, System.currentTimeMillis());
+                Snapshot old = snapshot.getAndUpdate(previous -> loaded.withVersion(previous, loaded.sameData(previous)));
+                if (!loaded.sameData(old)) {
+                    DebugTrace.trace("database", () -> String.format(
+                            "History cache refreshed: %d games, %d sessions, %d recent",
+                            loaded.topGames.size(), loaded.totalSessions, loaded.recent.size()));
+                    notifyListeners();
+                }
+            }
+            refreshing.set(false);
+            if (stale) {
+                // A write came in while loading
+                refresh();
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveSession(VoteHistory history) {
+        return delegate.saveSession(history).thenApply(success -> {
+            if (success) {
+                recordSaved(List.of(history));
+            }
+            return success;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<VoteHistory>> getSessionHistory(int page, int pageSize) {
+        Snapshot current = current();
+        if (current != null && page >= 0 && pageSize > 0) {
+            int from = page * pageSize;
+            int to = from + pageSize;
+            // Served if the page is cached, or if all sessions are cached
+            if (to <= current.recent.size() || current.recent.size() >= current.totalSessions) {
+                return CompletableFuture.completedFuture(
+                        from >= current.recent.size() ? List.of()
+                                : current.recent.subList(from, Math.min(to, current.recent.size())));
+            }
+        }
+        return delegate.getSessionHistory(page, pageSize);
+    }
+
+    @Override
+    public CompletableFuture<HistoryPage> getSessionHistoryPage(String cursor, int pageSize) {
+        HistoryCursor position;
+        try {
+            position = HistoryCursor.require(cursor);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        Snapshot current = current();
+        int size = Math.max(1, pageSize);
+        if (current != null) {
+            int from = 0;
+            if (position != null) {
+                from = -1;
+                for (int i = 0; i < current.recent.size(); i++) {
+                    if (current.recent.get(i).getSessionId().equals(position.getSessionId())) {
+                        from = i + 1;
+                        break;
+                    }
+                }
+            }
+            boolean allCached = current.recent.size() >= current.totalSessions;
+            // Served if the page and the session after it are cached, or if all sessions are cached
+            if (from >= 0 && (from + size < current.recent.size() || allCached)) {
+                int to = Math.min(from + size + 1, current.recent.size());
+                return CompletableFuture.completedFuture(HistoryPage.of(current.recent.subList(Math.min(from, to), to),
+                        size, position != null ? position.getPage() : 0));
+            }
+        }
+        return delegate.getSessionHistoryPage(cursor, pageSize);
+    }
+
+    @Override
+    public CompletableFuture<VoteHistory> getSession(UUID sessionId) {
+        Snapshot current = current();
+        if (current != null) {
+            for (VoteHistory history : current.recent) {
+                if (history.getSessionId().equals(sessionId)) {
+                    return CompletableFuture.completedFuture(history);
+                }
+            }
+        }
+        return delegate.getSession(sessionId);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> getTopWinningGames(int limit) {
+        if (limit <= TOP_LIMIT) {
+            Map<String, Integer> cached = peekTopWinningGames(limit);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+        return delegate.getTopWinningGames(limit);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getTotalSessions() {
+        Snapshot current = current();
+        if (current != null) {
+            return CompletableFuture.completedFuture(current.totalSessions);
+        }
+        return delegate.getTotalSessions();
+    }
+
+    /**
+     * Get the snapshot, starting a refresh if it is missing or expired.
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        long now = System.currentTimeMillis();
+        if ((current == null || now - current.loadedAt >= ttlMillis) && now >= retryAt) {
+            refresh();
+        }
+        return current;
+    }
+
+    /**
+     * Apply sessions that were saved to the database to the cached data.
+     * Listeners are notified once for the whole list.
+     *
+     * @param histories Newly stored sessions, in any order
+     */
+    public void recordSaved(List<VoteHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+        if (refreshing.get()) {
+            // The running reload may or may not include these sessions
+            stale = true;
+        }
+        boolean outranked = false;
+        Snapshot updated = null;
+        for (VoteHistory history : histories) {
+            updated = snapshot.updateAndGet(current -> current == null ? null : current.with(history, recentSize));
+            if (updated == null) {
+                // Nothing loaded yet; the load will include these sessions
+                refresh();
+                return;
+            }
+            outranked |= !updated.topGames.containsKey(history.getWinningGameId())
+                    && updated.topGames.size() >= TOP_LIMIT;
+        }
+        if (outranked) {
+            // A winner may have entered the top games; only the database knows
+            refresh();
+        }
+        notifyListeners();
+    }
+
+    private void notifyListeners() {
+        for (Runnable listener : listeners) {
+            executor.mainThread().execute(listener);
+        }
+    }
+
+    private static Map<String, Integer> head(Map<String, Integer> ranking, int limit) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : ranking.entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Immutable cached data.
+     */
+    private static final class Snapshot {
+        private final Map<String, Integer> topGames;
+        private final int totalSessions;
+        private final List<VoteHistory> recent;  // Newest first
+        private final long version;
+        private final long loadedAt;
+
+        private Snapshot(Map<String, Integer> topGames, int totalSessions, List<VoteHistory> recent,
+                         long version, long loadedAt) {
+            this.topGames = topGames;
+            this.totalSessions = totalSessions;
+            this.recent = recent;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean sameData(Snapshot other) {
+            if (other == null || !topGames.equals(other.topGames) || totalSessions != other.totalSessions
+                    || recent.size() != other.recent.size()) {
+                return false;
+            }
+            for (int i = 0; i < recent.size(); i++) {
+                if (!recent.get(i).getSessionId().equals(other.recent.get(i).getSessionId())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Snapshot withVersion(Snapshot previous, boolean unchanged) {
+            long base = previous != null ? previous.version : 0;
+            return new Snapshot(topGames, totalSessions, recent, unchanged ? base : base + 1, loadedAt);
+        }
+
+        private Snapshot with(VoteHistory history, int recentSize) {
+            // Increment the winner and re-sort; the sort is stable, so ties keep their order
+            Map<String, Integer> counts = new LinkedHashMap<>(topGames);
+            counts.computeIfPresent(history.getWinningGameId(), (id, wins) -> wins + 1);
+            if (!counts.containsKey(history.getWinningGameId()) && counts.size() < TOP_LIMIT) {
+                // Fewer games than the limit, so every winner is in the ranking
+                counts.put(history.getWinningGameId(), 1);
+            }
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+            Map<String, Integer> sorted = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> entry : entries) {
+                sorted.put(entry.getKey(), entry.getValue());
+            }
+
+            // Usually the newest session, but replayed sessions can be older than cached ones;
+            // ties on the timestamp go by session ID, as in the database, so cursors line up
+            int position = 0;
+            while (position < recent.size() && HistoryCursor.NEWEST_FIRST.compare(recent.get(position), history) < 0) {
+                position++;
+            }
+            List<VoteHistory> newest = new ArrayList<>(recent);
+            if (position < recentSize) {
+                newest.add(position, history);
+            }
+            if (newest.size() > recentSize) {
+                newest = newest.subList(0, recentSize);
+            }
+
+            return new Snapshot(Collections.unmodifiableMap(sorted), totalSessions + 1,
+                    Collections.unmodifiableList(newest), version + 1, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Bounded executor for database I/O.
+ *
+ * A fixed number of threads (database.io-threads) work through a bounded
+ * queue (database.io-queue-size). When the queue is full, new work is
+ * rejected and its future fails with a RejectedExecutionException, so a slow
+ * database pushes back on callers instead of piling up work or blocking the
+ * server thread.
+ *
+ * mainThread() and whenMain() hand results back to the server thread.
+ */
+public class DatabaseExecutor {
+    private static final int DEFAULT_THREADS = 2;
+    private static final int DEFAULT_QUEUE_SIZE = 64;
+
+    private final Logger logger;
+    private final ThreadPoolExecutor executor;
+    private final Executor mainThread;
+
+    /**
+     * Create an executor.
+     *
+     * @param plugin Plugin instance for main thread scheduling
+     * @param threads Number of I/O threads
+     * @param queueSize Maximum number of queued tasks
+     */
+    public DatabaseExecutor(Plugin plugin, int threads, int queueSize) {
+        this.logger = plugin.getLogger();
+        int poolSize = Math.max(1, threads);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "GameVoting-DB-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // Always a later tick, never inline, so callbacks cannot re-enter the caller
+        this.mainThread = runnable -> {
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, runnable);
+            }
+        };
+    }
+
+    /**
+     * Create an executor from the database config section values.
+     *
+     * @param plugin Plugin instance
+     * @return The executor
+     */
+    public static DatabaseExecutor fromConfig(Plugin plugin) {
+        return new DatabaseExecutor(plugin,
+                plugin.getConfig().getInt("database.io-threads", DEFAULT_THREADS),
+                plugin.getConfig().getInt("database.io-queue-size", DEFAULT_QUEUE_SIZE));
+    }
+
+    /**
+     * Run a query on an I/O thread.
+     *
+     * @param name Short description for logging
+     * @param query The query
+     * @return Future with the query result; fails if the query throws or the queue is full
+     */
+    public <T> CompletableFuture<T> submit(String name, Callable<T> query) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    future.complete(query.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+                DebugTrace.trace("database", () -> String.format("%s took %.1f ms",
+                        name, (System.nanoTime() - start) / 1_000_000.0));
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Database queue full, rejected " + name);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Get an executor that runs tasks on the server thread.
+     * Tasks are dropped once the plugin is disabled.
+     *
+     * @return The main thread executor
+     */
+    public Executor mainThread() {
+        return mainThread;
+    }
+
+    /**
+     * Handle a future's outcome on the server thread.
+     *
+     * @param future The future
+     * @param callback Receives the result, or the failure
+     */
+    public <T> void whenMain(CompletableFuture<T> future, BiConsumer<? super T, ? super Throwable> callback) {
+        future.whenCompleteAsync(callback, mainThread);
+    }
+
+    /**
+     * Get the number of queued tasks.
+     *
+     * @return Queue size
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Stop accepting work and wait for queued tasks to finish.
+     *
+     * @param timeoutSeconds Maximum time to wait
+     */
+    public void shutdown(int timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                logger.warning("Database tasks still running after " + timeoutSeconds + "s, abandoning them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.logging.Logger;
 
 /**
  * Factory for creating database connections based on configuration.
- * Supports PostgreSQL, MySQL, and MongoDB.
+ * Supports PostgreSQL, MySQL, MongoDB, and an embedded file needing no server.
  */
 public class DatabaseFactory {
 
@@ -19,6 +19,7 @@ public class DatabaseFactory {
         POSTGRESQL,
         MYSQL,
         MONGODB,
+        EMBEDDED,
         NONE
     }
 
@@ -71,7 +72,7 @@ public class DatabaseFactory {
     /**
      * Parse database type from string.
      *
-     * @param typeStr Type string (e.g., "postgresql", "mysql", "mongodb")
+     * @param typeStr Type string (e.g., "postgresql", "mysql", "mongodb", "embedded")
      * @return DatabaseType enum value
      */
     public static DatabaseType parseType(String typeStr) {
@@ -88,6 +89,9 @@ public class DatabaseFactory {
             case "mongodb":
             case "mongo":
                 return DatabaseType.MONGODB;
+            case "embedded":
+            case "file":
+                return DatabaseType.EMBEDDED;
             default:
                 return DatabaseType.NONE;
         }
@@ -131,4 +135,14 @@ public class DatabaseFactory {
     public static boolean isNoSQLDatabase(DatabaseType type) {
         return type == DatabaseType.MONGODB;
     }
+
+    /**
+     * Check if database type is stored locally without a server.
+     *
+     * @param type Database type
+     * @return true if embedded database
+     */
+    public static boolean isEmbeddedDatabase(DatabaseType type) {
+        return type == DatabaseType.EMBEDDED;
+    }
 }
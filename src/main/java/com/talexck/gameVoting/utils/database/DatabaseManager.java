@@ -1,10 +1,13 @@
 package com.talexck.gameVoting.utils.database;
 
+import com.talexck.gameVoting.api.database.AsyncVoteHistoryRepository;
 import com.talexck.gameVoting.api.database.DatabaseConnection;
 import com.talexck.gameVoting.api.database.NoSQLConnection;
 import com.talexck.gameVoting.api.database.VoteHistoryRepository;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.util.logging.Logger;
 
@@ -18,10 +21,16 @@ public class DatabaseManager {
     private DatabaseConnection sqlConnection;
     private NoSQLConnection noSqlConnection;
     private VoteHistoryRepository voteHistoryRepository;
+    private CachingVoteHistoryRepository asyncVoteHistoryRepository;
+    private DatabaseExecutor executor;
+    private VoteHistoryWriter historyWriter;
+    private BukkitTask cacheRefreshTask;
     private DatabaseFactory.DatabaseType databaseType;
+    private final Plugin plugin;
     private final Logger logger;
 
     private DatabaseManager(Plugin plugin) {
+        this.plugin = plugin;
         this.logger = plugin.getLogger();
     }
 
@@ -99,6 +108,9 @@ public class DatabaseManager {
                 logger.severe("Failed to initialize MongoDB connection");
                 noSqlConnection = null;
             }
+        } else if (DatabaseFactory.isEmbeddedDatabase(databaseType)) {
+            // No connection; the repository is the storage
+            initializeVoteHistoryRepository();
         }
     }
 
@@ -116,12 +128,29 @@ public class DatabaseManager {
             case MONGODB:
                 voteHistoryRepository = new MongoDBVoteHistoryRepository(noSqlConnection.getClient(), logger);
                 break;
+            case EMBEDDED:
+                voteHistoryRepository = new EmbeddedVoteHistoryRepository(
+                    plugin.getDataFolder().toPath().resolve(plugin.getConfig().getString("database.embedded.file", "history.log")),
+                    logger, plugin.getConfig().getInt("database.embedded.max-sessions", 10000));
+                break;
             default:
                 logger.warning("No VoteHistoryRepository implementation for database type: " + databaseType);
                 return;
         }
 
         if (voteHistoryRepository != null && voteHistoryRepository.initialize()) {
+            executor = DatabaseExecutor.fromConfig(plugin);
+            asyncVoteHistoryRepository = new CachingVoteHistoryRepository(
+                new ExecutorVoteHistoryRepository(voteHistoryRepository, executor), executor, logger,
+                plugin.getConfig().getInt("database.cache.recent-sessions", 30),
+                plugin.getConfig().getInt("database.cache.ttl-seconds", 300));
+            // Warm up in the background, then reload once expired whether or not anything reads it
+            asyncVoteHistoryRepository.refresh();
+            long refreshTicks = Math.max(1, Math.min(plugin.getConfig().getInt("database.cache.ttl-seconds", 300), 30)) * 20L;
+            cacheRefreshTask = Bukkit.getScheduler().runTaskTimer(plugin,
+                asyncVoteHistoryRepository::refreshIfExpired, refreshTicks, refreshTicks);
+            historyWriter = VoteHistoryWriter.fromConfig(plugin, voteHistoryRepository,
+                asyncVoteHistoryRepository::recordSaved);
             logger.info("VoteHistoryRepository initialized successfully");
         } else {
             logger.severe("Failed to initialize VoteHistoryRepository");
@@ -168,7 +197,8 @@ public class DatabaseManager {
         if (noSqlConnection != null) {
             return noSqlConnection.isActive();
         }
-        return false;
+        // The embedded database is active once its file is loaded
+        return DatabaseFactory.isEmbeddedDatabase(databaseType) && voteHistoryRepository != null;
     }
 
     /**
@@ -198,6 +228,44 @@ public class DatabaseManager {
         return voteHistoryRepository;
     }
 
+    /**
+     * Get the non-blocking VoteHistoryRepository.
+     * Prefer this on the server thread.
+     *
+     * @return AsyncVoteHistoryRepository instance, or null if not initialized
+     */
+    public AsyncVoteHistoryRepository getAsyncVoteHistoryRepository() {
+        return asyncVoteHistoryRepository;
+    }
+
+    /**
+     * Get the in-memory cache in front of the vote history.
+     * Same instance as getAsyncVoteHistoryRepository(), with the cache-only methods.
+     *
+     * @return CachingVoteHistoryRepository instance, or null if not initialized
+     */
+    public CachingVoteHistoryRepository getVoteHistoryCache() {
+        return asyncVoteHistoryRepository;
+    }
+
+    /**
+     * Get the executor running database I/O.
+     *
+     * @return DatabaseExecutor instance, or null if no repository is initialized
+     */
+    public DatabaseExecutor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Get the write-behind queue for saving finished sessions.
+     *
+     * @return VoteHistoryWriter instance, or null if no repository is initialized
+     */
+    public VoteHistoryWriter getHistoryWriter() {
+        return historyWriter;
+    }
+
     /**
      * Check if VoteHistoryRepository is available.
      *
@@ -211,6 +279,23 @@ public class DatabaseManager {
      * Shutdown and close all database connections.
      */
     public void shutdown() {
+        if (cacheRefreshTask != null) {
+            cacheRefreshTask.cancel();
+            cacheRefreshTask = null;
+        }
+        // Let queued saves finish before closing the connections
+        if (historyWriter != null) {
+            historyWriter.shutdown(plugin.getConfig().getLong("database.write-behind.drain-timeout-seconds", 5));
+            historyWriter = null;
+        }
+        if (executor != null) {
+            executor.shutdown(5);
+            executor = null;
+            asyncVoteHistoryRepository = null;
+        }
+        if (voteHistoryRepository instanceof EmbeddedVoteHistoryRepository embedded) {
+            embedded.close();
+        }
         if (sqlConnection != null) {
             sqlConnection.close();
             sqlConnection = null;
@@ -0,0 +1,531 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryRepository;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Embedded implementation of VoteHistoryRepository, for servers without a
+ * database server.
+ *
+ * Sessions are appended to a local log file and indexed in memory: by session
+ * ID, by (timestamp, session_id) for history pages, and by winning game for
+ * the win counts. Reads never touch the file.
+ *
+ * File layout:
+ * - Header: magic (int), then a summary record of the sessions dropped by
+ *   compaction: count (int), games (int), then game ID (UTF) and wins (int)
+ * - Records: length (int), crc32 (int), session (length bytes)
+ *
+ * Loading stops at the first short or corrupt record (a torn write) and cuts
+ * the file there. Once more than max-sessions are stored, compaction rewrites
+ * the file with only the newest max-sessions, so the log stays bounded. The
+ * dropped sessions still count towards the totals and win counts, through the
+ * summary; only their details are gone.
+ *
+ * All methods are thread-safe.
+ */
+public class EmbeddedVoteHistoryRepository implements VoteHistoryRepository, AutoCloseable {
+    private static final int MAGIC = 0x47564832;  // "GVH2"
+    private static final int LEGACY_MAGIC = 0x47564831;  // "GVH1", no summary record
+    private static final int HEADER_SIZE = 4;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 1024 * 1024;
+
+    private final Path file;
+    private final Logger logger;
+    private final int maxSessions;
+    private final ReentrantReadWriteLock lock;
+    private final Map<UUID, VoteHistory> byId;
+    private final NavigableSet<VoteHistory> byTime;
+    private final Map<String, Integer> winsByGame;  // Including dropped sessions
+    private Map<String, Integer> droppedWins;
+    private int droppedSessions;
+    private boolean legacyFile;
+    private FileChannel channel;
+
+    /**
+     * Create an embedded repository. Nothing is read before initialize().
+     *
+     * @param file The log file
+     * @param logger Logger instance
+     * @param maxSessions Number of newest sessions kept by compaction, 0 to keep all
+     */
+    public EmbeddedVoteHistoryRepository(Path file, Logger logger, int maxSessions) {
+        this.file = file;
+        this.logger = logger;
+        this.maxSessions = Math.max(0, maxSessions);
+        this.lock = new ReentrantReadWriteLock();
+        this.byId = new HashMap<>();
+        this.byTime = new TreeSet<>(HistoryCursor.NEWEST_FIRST);
+        this.winsByGame = new HashMap<>();
+        this.droppedWins = new HashMap<>();
+    }
+
+    @Override
+    public boolean initialize() {
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            long start = System.nanoTime();
+            int records = load();
+            if (records > byId.size() || exceedsLimit() || legacyFile) {
+                // Duplicates from replays, old sessions past the limit, or a file without a summary
+                compact();
+            }
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            logger.info("Loaded " + byId.size() + " vote history session(s) from " + file.getFileName()
+                + String.format(" in %.1f ms", (System.nanoTime() - start) / 1_000_000.0));
+            return true;
+        } catch (IOException e) {
+            logger.severe("Failed to open vote history file " + file + ": " + e.getMessage());
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean saveSession(VoteHistory history) {
+        return saveSessions(List.of(history)) != null;
+    }
+
+    @Override
+    public List<VoteHistory> saveSessions(List<VoteHistory> histories) {
+        lock.writeLock().lock();
+        try {
+            if (channel == null) {
+                logger.severe("Failed to save vote history: repository is not initialized");
+                return null;
+            }
+
+            // Sessions already stored (replays) are skipped
+            List<VoteHistory> inserted = new ArrayList<>();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            for (VoteHistory history : histories) {
+                if (!byId.containsKey(history.getSessionId()) && !containsSession(inserted, history.getSessionId())) {
+                    inserted.add(history);
+                    bytes.write(encodeRecord(history));
+                }
+            }
+            if (inserted.isEmpty()) {
+                return inserted;
+            }
+
+            // One write and one sync per batch; indexes change only once it is on disk
+            long end = channel.size();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                // Drop a partial batch, or later records would sit behind a torn one
+                channel.truncate(end);
+                throw e;
+            }
+            for (VoteHistory history : inserted) {
+                index(history);
+            }
+
+            if (exceedsLimit()) {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    // The batch is stored either way; the next save tries again
+                    logger.warning("Failed to compact vote history file: " + e.getMessage());
+                }
+            }
+            return inserted;
+        } catch (IOException e) {
+            logger.severe("Failed to save vote history: " + e.getMessage());
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<VoteHistory> getSessionHistory(int page, int pageSize) {
+        lock.readLock().lock();
+        try {
+            List<VoteHistory> result = new ArrayList<>();
+            long skip = (long) Math.max(0, page) * pageSize;
+            Iterator<VoteHistory> iterator = byTime.iterator();
+            while (iterator.hasNext() && result.size() < pageSize) {
+                VoteHistory history = iterator.next();
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(history);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public HistoryPage getSessionHistoryPage(String cursor, int pageSize) {
+        HistoryCursor position = HistoryCursor.require(cursor);
+        int size = Math.max(1, pageSize);
+
+        lock.readLock().lock();
+        try {
+            NavigableSet<VoteHistory> sessions = position == null ? byTime
+                : byTime.tailSet(probe(position.getTimestamp(), position.getSessionId()), false);
+            List<VoteHistory> fetched = new ArrayList<>(size + 1);
+            for (VoteHistory history : sessions) {
+                if (fetched.size() > size) {
+                    break;
+                }
+                fetched.add(history);
+            }
+            return HistoryPage.of(fetched, size, position != null ? position.getPage() : 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public VoteHistory getSession(UUID sessionId) {
+        lock.readLock().lock();
+        try {
+            return byId.get(sessionId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getTopWinningGames(int limit) {
+        List<Map.Entry<String, Integer>> entries;
+        lock.readLock().lock();
+        try {
+            entries = new ArrayList<>(winsByGame.entrySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        Map<String, Integer> topGames = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            if (topGames.size() >= limit) {
+                break;
+            }
+            topGames.put(entry.getKey(), entry.getValue());
+        }
+        return topGames;
+    }
+
+    @Override
+    public int getTotalSessions() {
+        lock.readLock().lock();
+        try {
+            return byId.size() + droppedSessions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Close the log file. Saved sessions are already on disk.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to close vote history file: " + e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read the log into the indexes, cutting off a torn tail.
+     *
+     * @return Number of valid records, including duplicates
+     */
+    private int load() throws IOException {
+        if (!Files.exists(file) || Files.size(file) < HEADER_SIZE) {
+            writeFile(file, List.of(), 0, Map.of());
+            return 0;
+        }
+
+        int records = 0;
+        long valid = HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            int magic = in.readInt();
+            if (magic != MAGIC && magic != LEGACY_MAGIC) {
+                throw new IOException("not a vote history file");
+            }
+            legacyFile = magic == LEGACY_MAGIC;
+            if (!legacyFile) {
+                // Only ever written whole, through a temporary file
+                valid += loadSummary(in, crc);
+            }
+            while (true) {
+                int length;
+                int checksum;
+                byte[] payload;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0 || length > MAX_RECORD_SIZE) {
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException e) {
+                    break;
+                }
+
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                VoteHistory history = decode(payload);
+                if (!byId.containsKey(history.getSessionId())) {
+                    index(history);
+                }
+                records++;
+                valid += RECORD_HEADER_SIZE + length;
+            }
+        }
+
+        if (valid < Files.size(file)) {
+            logger.warning("Vote history file has a corrupt tail after " + records + " session(s) - cutting it off");
+            try (FileChannel truncate = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                truncate.truncate(valid);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Read the summary record into the dropped session counts.
+     *
+     * @return Size of the record
+     */
+    private int loadSummary(DataInputStream in, CRC32 crc) throws IOException {
+        int length = in.readInt();
+        int checksum = in.readInt();
+        if (length <= 0 || length > MAX_RECORD_SIZE) {
+            throw new IOException("corrupt summary record");
+        }
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        crc.reset();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("corrupt summary record");
+        }
+
+        DataInputStream summary = new DataInputStream(new ByteArrayInputStream(payload));
+        droppedSessions = summary.readInt();
+        int games = summary.readInt();
+        for (int i = 0; i < games; i++) {
+            String gameId = summary.readUTF();
+            int wins = summary.readInt();
+            droppedWins.put(gameId, wins);
+            winsByGame.merge(gameId, wins, Integer::sum);
+        }
+        return RECORD_HEADER_SIZE + length;
+    }
+
+    private boolean exceedsLimit() {
+        // Some slack, so that not every save past the limit rewrites the file
+        return maxSessions > 0 && byId.size() > maxSessions + Math.max(1, maxSessions / 4);
+    }
+
+    /**
+     * Rewrite the log with one record per session, moving the oldest sessions
+     * past max-sessions into the summary. The new file replaces the old one
+     * atomically, and the indexes only change once it has.
+     * Called with the write lock held.
+     */
+    private void compact() throws IOException {
+        long start = System.nanoTime();
+        List<VoteHistory> oldestFirst = new ArrayList<>(byTime.descendingSet());
+        int evicted = maxSessions > 0 ? Math.max(0, oldestFirst.size() - maxSessions) : 0;
+        List<VoteHistory> dropped = oldestFirst.subList(0, evicted);
+        List<VoteHistory> kept = oldestFirst.subList(evicted, oldestFirst.size());
+        Map<String, Integer> wins = new HashMap<>(droppedWins);
+        for (VoteHistory history : dropped) {
+            wins.merge(history.getWinningGameId(), 1, Integer::sum);
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        writeFile(temp, kept, droppedSessions + evicted, wins);
+
+        boolean reopen = channel != null;
+        if (reopen) {
+            channel.close();
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (VoteHistory history : dropped) {
+                byId.remove(history.getSessionId());
+                byTime.remove(history);
+            }
+            droppedSessions += evicted;
+            droppedWins = wins;
+            legacyFile = false;
+        } finally {
+            if (reopen) {
+                // Saves fail as not initialized rather than on a closed channel if this throws
+                channel = null;
+                channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+        }
+        DebugTrace.trace("database", () -> String.format("Compacted vote history to %d session(s) in %.1f ms",
+            kept.size(), (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    private static void writeFile(Path target, List<VoteHistory> histories,
+                                  int droppedSessions, Map<String, Integer> droppedWins) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            new DataOutputStream(bytes).writeInt(MAGIC);
+            bytes.write(encodeSummary(droppedSessions, droppedWins));
+            for (VoteHistory history : histories) {
+                bytes.write(encodeRecord(history));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+    }
+
+    private void index(VoteHistory history) {
+        byId.put(history.getSessionId(), history);
+        byTime.add(history);
+        winsByGame.merge(history.getWinningGameId(), 1, Integer::sum);
+    }
+
+
+    private static boolean containsSession(List<VoteHistory> histories, UUID sessionId) {
+        for (VoteHistory history : histories) {
+            if (history.getSessionId().equals(sessionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Key-only session for seeking in byTime; the comparator only looks at the key.
+     */
+    private static VoteHistory probe(Instant timestamp, UUID sessionId) {
+        return new VoteHistory.Builder()
+            .sessionId(sessionId)
+            .timestamp(timestamp)
+            .voteDetails(Map.of())
+            .build();
+    }
+
+    private static byte[] encodeSummary(int droppedSessions, Map<String, Integer> droppedWins) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeInt(droppedSessions);
+        out.writeInt(droppedWins.size());
+        for (Map.Entry<String, Integer> entry : droppedWins.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+        return frame(payload.toByteArray());
+    }
+
+    private static byte[] encodeRecord(VoteHistory history) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeLong(history.getSessionId().getMostSignificantBits());
+        out.writeLong(history.getSessionId().getLeastSignificantBits());
+        out.writeLong(history.getTimestamp().getEpochSecond());
+        out.writeInt(history.getTimestamp().getNano());
+        out.writeUTF(history.getWinningGameId());
+        out.writeUTF(history.getWinningGameName());
+        out.writeInt(history.getTotalVotes());
+        out.writeInt(history.getPlayerCount());
+        out.writeInt(history.getVoteDetails().size());
+        for (Map.Entry<String, Integer> entry : history.getVoteDetails().entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+        return frame(payload.toByteArray());
+    }
+
+    private static byte[] frame(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return ByteBuffer.allocate(RECORD_HEADER_SIZE + bytes.length)
+            .putInt(bytes.length)
+            .putInt((int) crc.getValue())
+            .put(bytes)
+            .array();
+    }
+
+    private static VoteHistory decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        UUID sessionId = new UUID(in.readLong(), in.readLong());
+        Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        String winningGameId = in.readUTF();
+        String winningGameName = in.readUTF();
+        int totalVotes = in.readInt();
+        int playerCount = in.readInt();
+        int detailCount = in.readInt();
+        Map<String, Integer> voteDetails = new HashMap<>();
+        for (int i = 0; i < detailCount; i++) {
+            voteDetails.put(in.readUTF(), in.readInt());
+        }
+        return new VoteHistory.Builder()
+            .sessionId(sessionId)
+            .timestamp(timestamp)
+            .winningGameId(winningGameId)
+            .winningGameName(winningGameName)
+            .totalVotes(totalVotes)
+            .playerCount(playerCount)
+            .voteDetails(voteDetails)
+            .build();
+    }
+}
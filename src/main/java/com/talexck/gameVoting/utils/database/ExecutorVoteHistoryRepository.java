@@ -0,0 +1,56 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.AsyncVoteHistoryRepository;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryRepository;
+import com.talexck.gameVoting.voting.VoteHistory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncVoteHistoryRepository that runs a blocking repository on a DatabaseExecutor.
+ * Works with the PostgreSQL, MySQL and MongoDB repositories alike, since their
+ * drivers are blocking.
+ */
+public class ExecutorVoteHistoryRepository implements AsyncVoteHistoryRepository {
+    private final VoteHistoryRepository repository;
+    private final DatabaseExecutor executor;
+
+    public ExecutorVoteHistoryRepository(VoteHistoryRepository repository, DatabaseExecutor executor) {
+        this.repository = repository;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveSession(VoteHistory history) {
+        return executor.submit("saveSession", () -> repository.saveSession(history));
+    }
+
+    @Override
+    public CompletableFuture<List<VoteHistory>> getSessionHistory(int page, int pageSize) {
+        return executor.submit("getSessionHistory", () -> repository.getSessionHistory(page, pageSize));
+    }
+
+    @Override
+    public CompletableFuture<HistoryPage> getSessionHistoryPage(String cursor, int pageSize) {
+        return executor.submit("getSessionHistoryPage", () -> repository.getSessionHistoryPage(cursor, pageSize));
+    }
+
+    @Override
+    public CompletableFuture<VoteHistory> getSession(UUID sessionId) {
+        return executor.submit("getSession", () -> repository.getSession(sessionId));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Integer>> getTopWinningGames(int limit) {
+        return executor.submit("getTopWinningGames", () -> repository.getTopWinningGames(limit));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getTotalSessions() {
+        return executor.submit("getTotalSessions", repository::getTotalSessions);
+    }
+}
@@ -1,13 +1,24 @@
 package com.talexck.gameVoting.utils.database;
 
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryException;
 import com.talexck.gameVoting.api.database.VoteHistoryRepository;
 import com.talexck.gameVoting.voting.VoteHistory;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.time.Instant;
 import java.util.*;
@@ -15,14 +26,25 @@ import java.util.logging.Logger;
 
 /**
  * MongoDB implementation of VoteHistoryRepository.
+ * Win counts per game are kept in the game_win_stats collection, so the top
+ * games are read from an index instead of aggregating the whole history.
+ * After every batch the winning games of the batch are recounted from the
+ * history (using the winning_game_id index) and raised with $max, so the
+ * counts never drift: a retried batch fixes counts whose update failed, and
+ * concurrent servers cannot lower them. The counts are rebuilt from the
+ * history when the collection is empty.
+ * Sessions are saved with insertMany; IDs already stored are skipped, so
+ * retried batches are not duplicated.
  */
 public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
 
     private final MongoDatabase database;
     private final Logger logger;
     private MongoCollection<Document> collection;
+    private MongoCollection<Document> statsCollection;
 
     private static final String COLLECTION_NAME = "vote_history";
+    private static final String STATS_COLLECTION_NAME = "game_win_stats";
 
     public MongoDBVoteHistoryRepository(MongoDatabase database, Logger logger) {
         this.database = database;
@@ -41,8 +63,15 @@ public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
 
             // Create indexes
             collection.createIndex(Indexes.descending("timestamp"));
+            collection.createIndex(Indexes.descending("timestamp", "session_id"));
             collection.createIndex(Indexes.ascending("winning_game_id"));
 
+            statsCollection = database.getCollection(STATS_COLLECTION_NAME);
+            statsCollection.createIndex(Indexes.descending("win_count"));
+            if (statsCollection.countDocuments() == 0 && collection.countDocuments() > 0) {
+                backfillWinStats();
+            }
+
             logger.info("Vote history collection initialized successfully");
             return true;
         } catch (Exception e) {
@@ -53,42 +82,130 @@ public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
 
     @Override
     public boolean saveSession(VoteHistory history) {
+        return saveSessions(List.of(history)) != null;
+    }
+
+    @Override
+    public List<VoteHistory> saveSessions(List<VoteHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
         try {
-            Document doc = new Document()
-                .append("_id", history.getSessionId().toString())
-                .append("session_id", history.getSessionId().toString())
-                .append("timestamp", Date.from(history.getTimestamp()))
-                .append("winning_game_id", history.getWinningGameId())
-                .append("winning_game_name", history.getWinningGameName())
-                .append("total_votes", history.getTotalVotes())
-                .append("player_count", history.getPlayerCount())
-                .append("vote_details", new Document(history.getVoteDetails()));
-
-            collection.insertOne(doc);
-            return true;
+            // Sessions already stored (replays) are not inserted again
+            Set<String> existing = new HashSet<>();
+            List<String> ids = new ArrayList<>();
+            for (VoteHistory history : histories) {
+                ids.add(history.getSessionId().toString());
+            }
+            collection.find(Filters.in("_id", ids))
+                .projection(new Document("_id", 1))
+                .forEach(doc -> existing.add(doc.getString("_id")));
+
+            List<VoteHistory> inserted = new ArrayList<>();
+            List<Document> docs = new ArrayList<>();
+            for (VoteHistory history : histories) {
+                if (existing.add(history.getSessionId().toString())) {
+                    inserted.add(history);
+                    docs.add(toDocument(history));
+                }
+            }
+            try {
+                if (!docs.isEmpty()) {
+                    collection.insertMany(docs, new InsertManyOptions().ordered(false));
+                }
+            } catch (MongoBulkWriteException e) {
+                // Inserted concurrently since the check above; count only the new ones
+                Set<Integer> duplicates = new HashSet<>();
+                for (BulkWriteError error : e.getWriteErrors()) {
+                    if (error.getCode() != 11000) {
+                        throw e;
+                    }
+                    duplicates.add(error.getIndex());
+                }
+                List<VoteHistory> remaining = new ArrayList<>();
+                for (int i = 0; i < inserted.size(); i++) {
+                    if (!duplicates.contains(i)) {
+                        remaining.add(inserted.get(i));
+                    }
+                }
+                inserted = remaining;
+            }
+
+            // Every game of the batch, including replayed sessions whose count update may have failed
+            Set<String> games = new HashSet<>();
+            for (VoteHistory history : histories) {
+                games.add(history.getWinningGameId());
+            }
+            List<UpdateOneModel<Document>> updates = new ArrayList<>();
+            for (String gameId : games) {
+                long wins = collection.countDocuments(Filters.eq("winning_game_id", gameId));
+                updates.add(new UpdateOneModel<>(Filters.eq("_id", gameId),
+                    Updates.max("win_count", wins), new UpdateOptions().upsert(true)));
+            }
+            statsCollection.bulkWrite(updates);
+            return inserted;
         } catch (Exception e) {
             logger.severe("Failed to save vote history: " + e.getMessage());
-            return false;
+            return null;
         }
     }
 
+    private static Document toDocument(VoteHistory history) {
+        return new Document()
+            .append("_id", history.getSessionId().toString())
+            .append("session_id", history.getSessionId().toString())
+            .append("timestamp", Date.from(history.getTimestamp()))
+            .append("winning_game_id", history.getWinningGameId())
+            .append("winning_game_name", history.getWinningGameName())
+            .append("total_votes", history.getTotalVotes())
+            .append("player_count", history.getPlayerCount())
+            .append("vote_details", new Document(history.getVoteDetails()));
+    }
+
     @Override
     public List<VoteHistory> getSessionHistory(int page, int pageSize) {
         List<VoteHistory> results = new ArrayList<>();
 
         try {
             collection.find()
-                .sort(Sorts.descending("timestamp"))
+                .sort(Sorts.descending("timestamp", "session_id"))
                 .skip(page * pageSize)
                 .limit(pageSize)
                 .forEach(doc -> results.add(mapDocumentToHistory(doc)));
         } catch (Exception e) {
-            logger.severe("Failed to retrieve session history: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session history", e);
         }
 
         return results;
     }
 
+    @Override
+    public HistoryPage getSessionHistoryPage(String cursor, int pageSize) {
+        HistoryCursor position = HistoryCursor.require(cursor);
+        int size = Math.max(1, pageSize);
+        List<VoteHistory> results = new ArrayList<>();
+
+        try {
+            Bson filter = new Document();
+            if (position != null) {
+                Date timestamp = Date.from(position.getTimestamp());
+                filter = Filters.or(
+                    Filters.lt("timestamp", timestamp),
+                    Filters.and(Filters.eq("timestamp", timestamp),
+                        Filters.lt("session_id", position.getSessionId().toString())));
+            }
+            // One extra document tells whether a next page exists
+            collection.find(filter)
+                .sort(Sorts.descending("timestamp", "session_id"))
+                .limit(size + 1)
+                .forEach(doc -> results.add(mapDocumentToHistory(doc)));
+        } catch (Exception e) {
+            throw new VoteHistoryException("Failed to retrieve session history", e);
+        }
+
+        return HistoryPage.of(results, size, position != null ? position.getPage() : 0);
+    }
+
     @Override
     public VoteHistory getSession(UUID sessionId) {
         try {
@@ -99,7 +216,7 @@ public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
                 return mapDocumentToHistory(doc);
             }
         } catch (Exception e) {
-            logger.severe("Failed to retrieve session: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session", e);
         }
 
         return null;
@@ -110,21 +227,16 @@ public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
         Map<String, Integer> results = new LinkedHashMap<>();
 
         try {
-            // Aggregation pipeline to count wins by game_id
-            List<Document> pipeline = Arrays.asList(
-                new Document("$group", new Document("_id", "$winning_game_id")
-                    .append("win_count", new Document("$sum", 1))),
-                new Document("$sort", new Document("win_count", -1)),
-                new Document("$limit", limit)
-            );
-
-            collection.aggregate(pipeline).forEach(doc -> {
-                String gameId = doc.getString("_id");
-                Integer winCount = doc.getInteger("win_count");
-                results.put(gameId, winCount);
-            });
+            statsCollection.find()
+                .sort(Sorts.descending("win_count"))
+                .limit(limit)
+                .forEach(doc -> {
+                    String gameId = doc.getString("_id");
+                    Number winCount = doc.get("win_count", Number.class);
+                    results.put(gameId, winCount.intValue());
+                });
         } catch (Exception e) {
-            logger.severe("Failed to retrieve top winning games: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve top winning games", e);
         }
 
         return results;
@@ -135,11 +247,24 @@ public class MongoDBVoteHistoryRepository implements VoteHistoryRepository {
         try {
             return (int) collection.countDocuments();
         } catch (Exception e) {
-            logger.severe("Failed to count sessions: " + e.getMessage());
-            return 0;
+            throw new VoteHistoryException("Failed to count sessions", e);
         }
     }
 
+    /**
+     * Fill game_win_stats from the existing history.
+     */
+    private void backfillWinStats() {
+        List<Document> pipeline = Arrays.asList(
+            new Document("$group", new Document("_id", "$winning_game_id")
+                .append("win_count", new Document("$sum", 1L))),
+            new Document("$merge", new Document("into", STATS_COLLECTION_NAME)
+                .append("whenMatched", "replace"))
+        );
+        collection.aggregate(pipeline).toCollection();
+        logger.info("Backfilled win counts for " + statsCollection.countDocuments() + " games");
+    }
+
     private boolean collectionExists() {
         for (String name : database.listCollectionNames()) {
             if (name.equals(COLLECTION_NAME)) {
@@ -3,6 +3,9 @@ package com.talexck.gameVoting.utils.database;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.talexck.gameVoting.api.database.DatabaseConnection;
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryException;
 import com.talexck.gameVoting.api.database.VoteHistoryRepository;
 import com.talexck.gameVoting.voting.VoteHistory;
 
@@ -13,6 +16,11 @@ import java.util.logging.Logger;
 
 /**
  * MySQL implementation of VoteHistoryRepository.
+ * Win counts per game are kept in game_win_stats, updated in the same
+ * transaction as every insert, so the top games are read from an index
+ * instead of grouping the whole history.
+ * Sessions are saved in batches; IDs already stored are skipped, so retried
+ * batches are neither duplicated nor counted twice.
  */
 public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
 
@@ -31,20 +39,43 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
         String createTableSQL = """
             CREATE TABLE IF NOT EXISTS vote_history (
                 session_id VARCHAR(36) PRIMARY KEY,
-                timestamp TIMESTAMP NOT NULL,
+                timestamp TIMESTAMP(3) NOT NULL,
                 winning_game_id VARCHAR(255) NOT NULL,
                 winning_game_name VARCHAR(255) NOT NULL,
                 total_votes INT NOT NULL,
                 player_count INT NOT NULL,
                 vote_details JSON NOT NULL,
                 INDEX idx_timestamp (timestamp DESC),
+                INDEX idx_timestamp_session (timestamp DESC, session_id DESC),
                 INDEX idx_winning_game (winning_game_id)
             ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
             """;
+        String createStatsSQL = """
+            CREATE TABLE IF NOT EXISTS game_win_stats (
+                game_id VARCHAR(255) PRIMARY KEY,
+                win_count BIGINT NOT NULL,
+                INDEX idx_win_count (win_count DESC)
+            ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+            """;
+
+        // Fill the aggregate once from existing history; IGNORE lets lobbies starting together race safely
+        String backfillSQL = """
+            INSERT IGNORE INTO game_win_stats (game_id, win_count)
+            SELECT winning_game_id, COUNT(*) FROM vote_history
+            WHERE NOT EXISTS (SELECT 1 FROM game_win_stats)
+            GROUP BY winning_game_id
+            """;
 
         try (Connection conn = connection.getConnection();
              Statement stmt = conn.createStatement()) {
             stmt.execute(createTableSQL);
+            addKeysetIndex(stmt);
+            widenTimestamp(stmt);
+            stmt.execute(createStatsSQL);
+            int backfilled = stmt.executeUpdate(backfillSQL);
+            if (backfilled > 0) {
+                logger.info("Backfilled win counts for " + backfilled + " games");
+            }
             logger.info("Vote history table initialized successfully");
             return true;
         } catch (SQLException e) {
@@ -55,29 +86,101 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
 
     @Override
     public boolean saveSession(VoteHistory history) {
+        return saveSessions(List.of(history)) != null;
+    }
+
+    @Override
+    public List<VoteHistory> saveSessions(List<VoteHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
         String sql = """
             INSERT INTO vote_history (session_id, timestamp, winning_game_id, winning_game_name, 
                                      total_votes, player_count, vote_details)
             VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE session_id = session_id
+            """;
+        String statsSql = """
+            INSERT INTO game_win_stats (game_id, win_count) VALUES (?, ?)
+            ON DUPLICATE KEY UPDATE win_count = win_count + VALUES(win_count)
             """;
 
-        try (Connection conn = connection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, history.getSessionId().toString());
-            stmt.setTimestamp(2, Timestamp.from(history.getTimestamp()));
-            stmt.setString(3, history.getWinningGameId());
-            stmt.setString(4, history.getWinningGameName());
-            stmt.setInt(5, history.getTotalVotes());
-            stmt.setInt(6, history.getPlayerCount());
-            stmt.setString(7, gson.toJson(history.getVoteDetails()));
-
-            stmt.executeUpdate();
-            return true;
+        try (Connection conn = connection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // Sessions already stored (replays) are skipped and not counted again
+                List<VoteHistory> inserted = withoutExisting(conn, histories);
+                if (!inserted.isEmpty()) {
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        for (VoteHistory history : inserted) {
+                            stmt.setString(1, history.getSessionId().toString());
+                            stmt.setTimestamp(2, Timestamp.from(history.getTimestamp()));
+                            stmt.setString(3, history.getWinningGameId());
+                            stmt.setString(4, history.getWinningGameName());
+                            stmt.setInt(5, history.getTotalVotes());
+                            stmt.setInt(6, history.getPlayerCount());
+                            stmt.setString(7, gson.toJson(history.getVoteDetails()));
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                    try (PreparedStatement statsStmt = conn.prepareStatement(statsSql)) {
+                        for (Map.Entry<String, Integer> entry : countWins(inserted).entrySet()) {
+                            statsStmt.setString(1, entry.getKey());
+                            statsStmt.setInt(2, entry.getValue());
+                            statsStmt.addBatch();
+                        }
+                        statsStmt.executeBatch();
+                    }
+                }
+
+                conn.commit();
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             logger.severe("Failed to save vote history: " + e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * Drop sessions that are already stored, and duplicates within the batch.
+     */
+    private List<VoteHistory> withoutExisting(Connection conn, List<VoteHistory> histories) throws SQLException {
+        String placeholders = String.join(", ", Collections.nCopies(histories.size(), "?"));
+        Set<String> existing = new HashSet<>();
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT session_id FROM vote_history WHERE session_id IN (" + placeholders + ")")) {
+            for (int i = 0; i < histories.size(); i++) {
+                stmt.setString(i + 1, histories.get(i).getSessionId().toString());
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(rs.getString(1));
+                }
+            }
         }
+
+        List<VoteHistory> result = new ArrayList<>();
+        for (VoteHistory history : histories) {
+            if (existing.add(history.getSessionId().toString())) {
+                result.add(history);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Integer> countWins(List<VoteHistory> histories) {
+        Map<String, Integer> wins = new HashMap<>();
+        for (VoteHistory history : histories) {
+            wins.merge(history.getWinningGameId(), 1, Integer::sum);
+        }
+        return wins;
     }
 
     @Override
@@ -86,7 +189,7 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
             SELECT session_id, timestamp, winning_game_id, winning_game_name, 
                    total_votes, player_count, vote_details
             FROM vote_history
-            ORDER BY timestamp DESC
+            ORDER BY timestamp DESC, session_id DESC
             LIMIT ? OFFSET ?
             """;
 
@@ -104,12 +207,88 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve session history: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session history", e);
         }
 
         return results;
     }
 
+    /**
+     * Add the keyset pagination index to tables created before it existed.
+     */
+    private void addKeysetIndex(Statement stmt) throws SQLException {
+        try {
+            stmt.execute("CREATE INDEX idx_timestamp_session ON vote_history (timestamp DESC, session_id DESC)");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != 1061) {  // ER_DUP_KEYNAME: already there
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Store milliseconds in tables created with whole-second timestamps,
+     * so sessions within the same second keep their order.
+     */
+    private void widenTimestamp(Statement stmt) throws SQLException {
+        try (ResultSet rs = stmt.executeQuery("""
+                SELECT DATETIME_PRECISION FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'vote_history' AND COLUMN_NAME = 'timestamp'
+                """)) {
+            if (!rs.next() || rs.getInt(1) >= 3) {
+                return;
+            }
+        }
+        stmt.execute("ALTER TABLE vote_history MODIFY timestamp TIMESTAMP(3) NOT NULL");
+        logger.info("Widened vote_history.timestamp to millisecond precision");
+    }
+
+    @Override
+    public HistoryPage getSessionHistoryPage(String cursor, int pageSize) {
+        HistoryCursor position = HistoryCursor.require(cursor);
+        int size = Math.max(1, pageSize);
+        String sql = position == null ? """
+            SELECT session_id, timestamp, winning_game_id, winning_game_name, 
+                   total_votes, player_count, vote_details
+            FROM vote_history
+            ORDER BY timestamp DESC, session_id DESC
+            LIMIT ?
+            """ : """
+            SELECT session_id, timestamp, winning_game_id, winning_game_name, 
+                   total_votes, player_count, vote_details
+            FROM vote_history
+            WHERE timestamp < ? OR (timestamp = ? AND session_id < ?)
+            ORDER BY timestamp DESC, session_id DESC
+            LIMIT ?
+            """;
+
+        List<VoteHistory> results = new ArrayList<>();
+
+        try (Connection conn = connection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (position != null) {
+                Timestamp timestamp = Timestamp.from(position.getTimestamp());
+                stmt.setTimestamp(index++, timestamp);
+                stmt.setTimestamp(index++, timestamp);
+                stmt.setString(index++, position.getSessionId().toString());
+            }
+            // One extra row tells whether a next page exists
+            stmt.setInt(index, size + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapResultSetToHistory(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new VoteHistoryException("Failed to retrieve session history", e);
+        }
+
+        return HistoryPage.of(results, size, position != null ? position.getPage() : 0);
+    }
+
     @Override
     public VoteHistory getSession(UUID sessionId) {
         String sql = """
@@ -130,7 +309,7 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve session: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session", e);
         }
 
         return null;
@@ -139,9 +318,8 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
     @Override
     public Map<String, Integer> getTopWinningGames(int limit) {
         String sql = """
-            SELECT winning_game_id, COUNT(*) as win_count
-            FROM vote_history
-            GROUP BY winning_game_id
+            SELECT game_id, win_count
+            FROM game_win_stats
             ORDER BY win_count DESC
             LIMIT ?
             """;
@@ -155,11 +333,11 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    results.put(rs.getString("winning_game_id"), rs.getInt("win_count"));
+                    results.put(rs.getString("game_id"), rs.getInt("win_count"));
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve top winning games: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve top winning games", e);
         }
 
         return results;
@@ -177,7 +355,7 @@ public class MySQLVoteHistoryRepository implements VoteHistoryRepository {
                 return rs.getInt("total");
             }
         } catch (SQLException e) {
-            logger.severe("Failed to count sessions: " + e.getMessage());
+            throw new VoteHistoryException("Failed to count sessions", e);
         }
 
         return 0;
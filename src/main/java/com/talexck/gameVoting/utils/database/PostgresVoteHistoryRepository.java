@@ -3,6 +3,9 @@ package com.talexck.gameVoting.utils.database;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 import com.talexck.gameVoting.api.database.DatabaseConnection;
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryException;
 import com.talexck.gameVoting.api.database.VoteHistoryRepository;
 import com.talexck.gameVoting.voting.VoteHistory;
 
@@ -13,6 +16,11 @@ import java.util.logging.Logger;
 
 /**
  * PostgreSQL implementation of VoteHistoryRepository.
+ * Win counts per game are kept in game_win_stats, updated in the same
+ * transaction as every insert, so the top games are read from an index
+ * instead of grouping the whole history.
+ * Sessions are saved in batches; IDs already stored are skipped, so retried
+ * batches are neither duplicated nor counted twice.
  */
 public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
 
@@ -40,12 +48,33 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
             );
             
             CREATE INDEX IF NOT EXISTS idx_vote_history_timestamp ON vote_history(timestamp DESC);
+            CREATE INDEX IF NOT EXISTS idx_vote_history_timestamp_session ON vote_history(timestamp DESC, session_id DESC);
             CREATE INDEX IF NOT EXISTS idx_vote_history_winning_game ON vote_history(winning_game_id);
+            
+            CREATE TABLE IF NOT EXISTS game_win_stats (
+                game_id VARCHAR(255) PRIMARY KEY,
+                win_count BIGINT NOT NULL
+            );
+            
+            CREATE INDEX IF NOT EXISTS idx_game_win_stats_count ON game_win_stats(win_count DESC);
+            """;
+
+        // Fill the aggregate once from existing history; DO NOTHING lets lobbies starting together race safely
+        String backfillSQL = """
+            INSERT INTO game_win_stats (game_id, win_count)
+            SELECT winning_game_id, COUNT(*) FROM vote_history
+            WHERE NOT EXISTS (SELECT 1 FROM game_win_stats)
+            GROUP BY winning_game_id
+            ON CONFLICT (game_id) DO NOTHING
             """;
 
         try (Connection conn = connection.getConnection();
              Statement stmt = conn.createStatement()) {
             stmt.execute(createTableSQL);
+            int backfilled = stmt.executeUpdate(backfillSQL);
+            if (backfilled > 0) {
+                logger.info("Backfilled win counts for " + backfilled + " games");
+            }
             logger.info("Vote history table initialized successfully");
             return true;
         } catch (SQLException e) {
@@ -56,29 +85,99 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
 
     @Override
     public boolean saveSession(VoteHistory history) {
+        return saveSessions(List.of(history)) != null;
+    }
+
+    @Override
+    public List<VoteHistory> saveSessions(List<VoteHistory> histories) {
+        if (histories.isEmpty()) {
+            return List.of();
+        }
         String sql = """
             INSERT INTO vote_history (session_id, timestamp, winning_game_id, winning_game_name, 
                                      total_votes, player_count, vote_details)
             VALUES (?, ?, ?, ?, ?, ?, ?::jsonb)
+            ON CONFLICT (session_id) DO NOTHING
+            """;
+        String statsSql = """
+            INSERT INTO game_win_stats (game_id, win_count) VALUES (?, ?)
+            ON CONFLICT (game_id) DO UPDATE SET win_count = game_win_stats.win_count + EXCLUDED.win_count
             """;
 
-        try (Connection conn = connection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setObject(1, history.getSessionId());
-            stmt.setTimestamp(2, Timestamp.from(history.getTimestamp()));
-            stmt.setString(3, history.getWinningGameId());
-            stmt.setString(4, history.getWinningGameName());
-            stmt.setInt(5, history.getTotalVotes());
-            stmt.setInt(6, history.getPlayerCount());
-            stmt.setString(7, gson.toJson(history.getVoteDetails()));
-
-            stmt.executeUpdate();
-            return true;
+        try (Connection conn = connection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                // Sessions already stored (replays) are skipped and not counted again
+                List<VoteHistory> inserted = withoutExisting(conn, histories);
+                if (!inserted.isEmpty()) {
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        for (VoteHistory history : inserted) {
+                            stmt.setObject(1, history.getSessionId());
+                            stmt.setTimestamp(2, Timestamp.from(history.getTimestamp()));
+                            stmt.setString(3, history.getWinningGameId());
+                            stmt.setString(4, history.getWinningGameName());
+                            stmt.setInt(5, history.getTotalVotes());
+                            stmt.setInt(6, history.getPlayerCount());
+                            stmt.setString(7, gson.toJson(history.getVoteDetails()));
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                    try (PreparedStatement statsStmt = conn.prepareStatement(statsSql)) {
+                        for (Map.Entry<String, Integer> entry : countWins(inserted).entrySet()) {
+                            statsStmt.setString(1, entry.getKey());
+                            statsStmt.setInt(2, entry.getValue());
+                            statsStmt.addBatch();
+                        }
+                        statsStmt.executeBatch();
+                    }
+                }
+
+                conn.commit();
+                return inserted;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
         } catch (SQLException e) {
             logger.severe("Failed to save vote history: " + e.getMessage());
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * Drop sessions that are already stored, and duplicates within the batch.
+     */
+    private List<VoteHistory> withoutExisting(Connection conn, List<VoteHistory> histories) throws SQLException {
+        Set<UUID> existing = new HashSet<>();
+        try (PreparedStatement stmt = conn.prepareStatement(
+                "SELECT session_id FROM vote_history WHERE session_id = ANY(?)")) {
+            stmt.setArray(1, conn.createArrayOf("uuid",
+                histories.stream().map(VoteHistory::getSessionId).toArray()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add((UUID) rs.getObject(1));
+                }
+            }
+        }
+
+        List<VoteHistory> result = new ArrayList<>();
+        for (VoteHistory history : histories) {
+            if (existing.add(history.getSessionId())) {
+                result.add(history);
+            }
         }
+        return result;
+    }
+
+    private static Map<String, Integer> countWins(List<VoteHistory> histories) {
+        Map<String, Integer> wins = new HashMap<>();
+        for (VoteHistory history : histories) {
+            wins.merge(history.getWinningGameId(), 1, Integer::sum);
+        }
+        return wins;
     }
 
     @Override
@@ -87,7 +186,7 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
             SELECT session_id, timestamp, winning_game_id, winning_game_name, 
                    total_votes, player_count, vote_details
             FROM vote_history
-            ORDER BY timestamp DESC
+            ORDER BY timestamp DESC, session_id DESC
             LIMIT ? OFFSET ?
             """;
 
@@ -105,12 +204,56 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve session history: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session history", e);
         }
 
         return results;
     }
 
+    @Override
+    public HistoryPage getSessionHistoryPage(String cursor, int pageSize) {
+        HistoryCursor position = HistoryCursor.require(cursor);
+        int size = Math.max(1, pageSize);
+        String sql = position == null ? """
+            SELECT session_id, timestamp, winning_game_id, winning_game_name, 
+                   total_votes, player_count, vote_details
+            FROM vote_history
+            ORDER BY timestamp DESC, session_id DESC
+            LIMIT ?
+            """ : """
+            SELECT session_id, timestamp, winning_game_id, winning_game_name, 
+                   total_votes, player_count, vote_details
+            FROM vote_history
+            WHERE (timestamp, session_id) < (?, ?)
+            ORDER BY timestamp DESC, session_id DESC
+            LIMIT ?
+            """;
+
+        List<VoteHistory> results = new ArrayList<>();
+
+        try (Connection conn = connection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            if (position != null) {
+                stmt.setTimestamp(index++, Timestamp.from(position.getTimestamp()));
+                stmt.setObject(index++, position.getSessionId());
+            }
+            // One extra row tells whether a next page exists
+            stmt.setInt(index, size + 1);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapResultSetToHistory(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new VoteHistoryException("Failed to retrieve session history", e);
+        }
+
+        return HistoryPage.of(results, size, position != null ? position.getPage() : 0);
+    }
+
     @Override
     public VoteHistory getSession(UUID sessionId) {
         String sql = """
@@ -131,7 +274,7 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve session: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve session", e);
         }
 
         return null;
@@ -140,9 +283,8 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
     @Override
     public Map<String, Integer> getTopWinningGames(int limit) {
         String sql = """
-            SELECT winning_game_id, COUNT(*) as win_count
-            FROM vote_history
-            GROUP BY winning_game_id
+            SELECT game_id, win_count
+            FROM game_win_stats
             ORDER BY win_count DESC
             LIMIT ?
             """;
@@ -156,11 +298,11 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
 
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    results.put(rs.getString("winning_game_id"), rs.getInt("win_count"));
+                    results.put(rs.getString("game_id"), rs.getInt("win_count"));
                 }
             }
         } catch (SQLException e) {
-            logger.severe("Failed to retrieve top winning games: " + e.getMessage());
+            throw new VoteHistoryException("Failed to retrieve top winning games", e);
         }
 
         return results;
@@ -178,7 +320,7 @@ public class PostgresVoteHistoryRepository implements VoteHistoryRepository {
                 return rs.getInt("total");
             }
         } catch (SQLException e) {
-            logger.severe("Failed to count sessions: " + e.getMessage());
+            throw new VoteHistoryException("Failed to count sessions", e);
         }
 
         return 0;
@@ -0,0 +1,386 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.talexck.gameVoting.api.database.VoteHistoryRepository;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Write-behind queue for finished voting sessions.
+ *
+ * submit() only enqueues; a single writer thread saves the queue in batches
+ * with VoteHistoryRepository.saveSessions() (one JDBC batch or insertMany per
+ * batch) every flush interval, or as soon as a batch is full.
+ *
+ * When a batch fails, or the queue is full, sessions are appended to a local
+ * spool file (one JSON object per line) and the writer stops trying the
+ * database until the next replay, which saves the spooled sessions again.
+ * saveSessions() skips session IDs that are already stored, so a session
+ * spooled after a partially failed save is never stored twice.
+ *
+ * shutdown() flushes the queue with a bounded wait and spools what is left.
+ */
+public class VoteHistoryWriter {
+    private static final int DEFAULT_QUEUE_SIZE = 1000;
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 1000L;
+    private static final long DEFAULT_REPLAY_INTERVAL_SECONDS = 30L;
+
+    private final VoteHistoryRepository repository;
+    private final Consumer<List<VoteHistory>> onSaved;
+    private final Logger logger;
+    private final Path spoolFile;
+    private final BlockingQueue<VoteHistory> queue;
+    private final int batchSize;
+    private final long replayIntervalMillis;
+    private final ScheduledExecutorService thread;
+    private final AtomicBoolean flushScheduled;
+    private final List<VoteHistory> inFlight;  // Batch being saved, spooled if shutdown times out
+    private volatile boolean stopped;
+    private long nextReplayAt;  // Writer thread only; the database is not tried before this time after a failure
+    private volatile boolean spooled;  // Whether the spool file may hold sessions
+
+    /**
+     * Create a writer and start its thread.
+     *
+     * @param repository The repository to save to
+     * @param onSaved Called on the writer thread with sessions newly stored
+     * @param logger Logger for failures
+     * @param spoolFile File holding sessions that could not be saved
+     * @param queueSize Maximum number of queued sessions
+     * @param batchSize Maximum number of sessions per batch
+     * @param flushIntervalMillis Milliseconds between flushes
+     * @param replayIntervalSeconds Seconds between attempts to replay the spool file
+     */
+    public VoteHistoryWriter(VoteHistoryRepository repository, Consumer<List<VoteHistory>> onSaved, Logger logger,
+                             Path spoolFile, int queueSize, int batchSize, long flushIntervalMillis,
+                             long replayIntervalSeconds) {
+        this.repository = repository;
+        this.onSaved = onSaved;
+        this.logger = logger;
+        this.spoolFile = spoolFile;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        this.batchSize = Math.max(1, batchSize);
+        this.replayIntervalMillis = Math.max(1, replayIntervalSeconds) * 1000L;
+        this.flushScheduled = new AtomicBoolean();
+        this.inFlight = new ArrayList<>();
+        this.spooled = Files.exists(spoolFile);
+        this.thread = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread writer = new Thread(runnable, "GameVoting-DB-Writer");
+            writer.setDaemon(true);
+            return writer;
+        });
+        long interval = Math.max(10, flushIntervalMillis);
+        thread.scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create a writer from the database.write-behind config section values.
+     * The spool file is history-spool.jsonl in the plugin data folder.
+     *
+     * @param plugin Plugin instance
+     * @param repository The repository to save to
+     * @param onSaved Called on the writer thread with sessions newly stored
+     * @return The writer
+     */
+    public static VoteHistoryWriter fromConfig(Plugin plugin, VoteHistoryRepository repository,
+                                               Consumer<List<VoteHistory>> onSaved) {
+        return new VoteHistoryWriter(repository, onSaved, plugin.getLogger(),
+                plugin.getDataFolder().toPath().resolve("history-spool.jsonl"),
+                plugin.getConfig().getInt("database.write-behind.queue-size", DEFAULT_QUEUE_SIZE),
+                plugin.getConfig().getInt("database.write-behind.batch-size", DEFAULT_BATCH_SIZE),
+                plugin.getConfig().getLong("database.write-behind.flush-interval-ms", DEFAULT_FLUSH_INTERVAL_MS),
+                plugin.getConfig().getLong("database.write-behind.replay-interval-seconds",
+                        DEFAULT_REPLAY_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Queue a session to be saved. Never blocks.
+     * If the queue is full or the writer is shut down, the session is spooled instead.
+     *
+     * @param history The vote history record to save
+     */
+    public void submit(VoteHistory history) {
+        if (stopped || !queue.offer(history)) {
+            logger.warning("Vote history queue is " + (stopped ? "closed" : "full")
+                    + " - spooling session " + history.getSessionId());
+            spool(List.of(history));
+            return;
+        }
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            // A full batch is waiting; don't wait for the interval
+            try {
+                thread.execute(this::flushSafely);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Get the number of sessions waiting to be saved, not counting the spool file.
+     *
+     * @return The queue size
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Flush the queue and stop the writer thread.
+     * Sessions not saved within the timeout are spooled for the next start.
+     *
+     * @param timeoutSeconds Maximum seconds to wait for the flush
+     */
+    public void shutdown(long timeoutSeconds) {
+        stopped = true;
+        try {
+            thread.execute(this::flushSafely);
+        } catch (RejectedExecutionException ignored) {
+            // Already shut down
+        }
+        thread.shutdown();  // Cancels the periodic flush; the final flush above still runs
+        boolean finished;
+        try {
+            finished = thread.awaitTermination(Math.max(0, timeoutSeconds), TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finished = false;
+        }
+        List<VoteHistory> remaining = new ArrayList<>();
+        if (!finished) {
+            thread.shutdownNow();
+            synchronized (inFlight) {
+                // The in-flight batch may still commit; saving it again later is a no-op
+                remaining.addAll(inFlight);
+            }
+        }
+        queue.drainTo(remaining);  // Also catches sessions submitted during the final flush
+        if (!remaining.isEmpty()) {
+            logger.warning("Vote history flush did not finish - spooling " + remaining.size() + " session(s)");
+            spool(remaining);
+        }
+    }
+
+    private void flushSafely() {
+        flushScheduled.set(false);
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.severe("Vote history writer failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Replay the spool file if due, then save the queue in batches.
+     */
+    private void flush() {
+        long now = System.currentTimeMillis();
+        if (spooled && now >= nextReplayAt) {
+            replay();
+        }
+
+        List<VoteHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (System.currentTimeMillis() < nextReplayAt) {
+                // The database failed recently; keep the order by spooling behind the failed batch
+                spool(batch);
+            } else {
+                save(batch);
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Save a batch, spooling it if the database fails.
+     */
+    private void save(List<VoteHistory> batch) {
+        synchronized (inFlight) {
+            inFlight.addAll(batch);
+        }
+        long start = System.nanoTime();
+        List<VoteHistory> inserted = repository.saveSessions(batch);
+        synchronized (inFlight) {
+            inFlight.clear();
+        }
+
+        if (inserted == null) {
+            logger.warning("Failed to save " + batch.size() + " vote result(s) - spooling until the database is back");
+            spool(batch);
+            nextReplayAt = System.currentTimeMillis() + replayIntervalMillis;
+            return;
+        }
+        DebugTrace.trace("database", () -> String.format("Saved %d/%d session(s) in %.1f ms",
+                inserted.size(), batch.size(), (System.nanoTime() - start) / 1_000_000.0));
+        if (!inserted.isEmpty()) {
+            onSaved.accept(inserted);
+        }
+    }
+
+    /**
+     * Save the spooled sessions. Stops at the first failed batch and keeps the
+     * rest of the file for the next replay.
+     */
+    private void replay() {
+        List<String> lines = readSpool();
+        List<VoteHistory> pending = new ArrayList<>();
+        List<Integer> lineOf = new ArrayList<>();  // Line of each pending session
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) {
+                continue;
+            }
+            try {
+                pending.add(fromJson(JsonParser.parseString(lines.get(i)).getAsJsonObject()));
+                lineOf.add(i);
+            } catch (RuntimeException e) {
+                // Torn line from a crash
+                logger.warning("Skipping unreadable spooled vote result: " + e.getMessage());
+            }
+        }
+
+        int saved = 0;
+        while (saved < pending.size()) {
+            List<VoteHistory> batch = pending.subList(saved, Math.min(saved + batchSize, pending.size()));
+            List<VoteHistory> inserted = repository.saveSessions(batch);
+            if (inserted == null) {
+                nextReplayAt = System.currentTimeMillis() + replayIntervalMillis;
+                break;
+            }
+            if (!inserted.isEmpty()) {
+                onSaved.accept(inserted);
+            }
+            saved += batch.size();
+        }
+
+        if (saved > 0) {
+            logger.info("Replayed " + saved + " spooled vote result(s)");
+        }
+        int consumed = saved < pending.size() ? lineOf.get(saved) : lines.size();
+        if (consumed > 0) {
+            truncateSpool(consumed);
+        }
+    }
+
+    /**
+     * Append sessions to the spool file and force them to disk.
+     */
+    private synchronized void spool(List<VoteHistory> histories) {
+        try (BufferedWriter writer = Files.newBufferedWriter(spoolFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            if (hasTornLine()) {
+                // End the line cut off by a crash, or the next session would be glued onto it
+                writer.newLine();
+            }
+            for (VoteHistory history : histories) {
+                writer.write(toJson(history).toString());
+                writer.newLine();
+            }
+            spooled = true;
+        } catch (IOException e) {
+            logger.severe("Failed to spool " + histories.size() + " vote result(s) - they are lost: " + e.getMessage());
+        }
+    }
+
+    private boolean hasTornLine() throws IOException {
+        try (FileChannel channel = FileChannel.open(spoolFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return false;
+            }
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            return last.get(0) != '\n';
+        }
+    }
+
+    private synchronized List<String> readSpool() {
+        try {
+            if (Files.exists(spoolFile)) {
+                return Files.readAllLines(spoolFile, StandardCharsets.UTF_8);
+            }
+            spooled = false;
+        } catch (IOException e) {
+            logger.severe("Failed to read vote history spool: " + e.getMessage());
+        }
+        return List.of();
+    }
+
+    /**
+     * Drop the first lines of the spool file.
+     * The file is only ever appended to, so lines spooled since it was read are kept.
+     */
+    private synchronized void truncateSpool(int lineCount) {
+        try {
+            List<String> lines = Files.readAllLines(spoolFile, StandardCharsets.UTF_8);
+            List<String> remaining = lines.subList(Math.min(lineCount, lines.size()), lines.size());
+            if (remaining.isEmpty()) {
+                Files.deleteIfExists(spoolFile);
+                spooled = false;
+                return;
+            }
+            Path temp = spoolFile.resolveSibling(spoolFile.getFileName() + ".tmp");
+            Files.write(temp, remaining, StandardCharsets.UTF_8);
+            Files.move(temp, spoolFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Keeping the whole file is safe: replaying saved sessions is a no-op
+            logger.warning("Failed to rewrite vote history spool: " + e.getMessage());
+        }
+    }
+
+    static JsonObject toJson(VoteHistory history) {
+        JsonObject json = new JsonObject();
+        json.addProperty("session_id", history.getSessionId().toString());
+        json.addProperty("timestamp", history.getTimestamp().toString());
+        json.addProperty("winning_game_id", history.getWinningGameId());
+        json.addProperty("winning_game_name", history.getWinningGameName());
+        json.addProperty("total_votes", history.getTotalVotes());
+        json.addProperty("player_count", history.getPlayerCount());
+        JsonObject details = new JsonObject();
+        history.getVoteDetails().forEach(details::addProperty);
+        json.add("vote_details", details);
+        return json;
+    }
+
+    static VoteHistory fromJson(JsonObject json) {
+        Map<String, Integer> details = new LinkedHashMap<>();
+        json.getAsJsonObject("vote_details").entrySet()
+                .forEach(entry -> details.put(entry.getKey(), entry.getValue().getAsInt()));
+        return new VoteHistory.Builder()
+                .sessionId(UUID.fromString(json.get("session_id").getAsString()))
+                .timestamp(Instant.parse(json.get("timestamp").getAsString()))
+                .winningGameId(json.get("winning_game_id").getAsString())
+                .winningGameName(json.get("winning_game_name").getAsString())
+                .totalVotes(json.get("total_votes").getAsInt())
+                .playerCount(json.get("player_count").getAsInt())
+                .voteDetails(details)
+                .build();
+    }
+}
@@ -0,0 +1,216 @@
+package com.talexck.gameVoting.utils.debug;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Debug tracing for the display and messaging utilities.
+ *
+ * The debug flag is read from config.yml once (on enable and on /vote reload)
+ * and kept in a static field, so a disabled trace() call is a single field
+ * read and the message supplier is never evaluated. Enabled traces go into a
+ * fixed-size in-memory ring buffer that admins dump with /vote debug; the
+ * oldest events are overwritten. Echoing to the console is optional and
+ * limited to a number of lines per second, the rest only counted.
+ *
+ * Thread-safe.
+ *
+ * Usage:
+ * <pre>
+ * DebugTrace.trace("bossbar", () -> "Removed boss bar from " + player.getName());
+ * </pre>
+ */
+public final class DebugTrace {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int DEFAULT_CONSOLE_LINES_PER_SECOND = 10;
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private static volatile boolean enabled;
+
+    private static final Object lock = new Object();
+    private static Event[] events = new Event[DEFAULT_CAPACITY];
+    private static int next;  // Slot of the next event
+    private static long recorded;  // Events recorded since the last clear
+
+    private static Logger console;  // Null unless console echo is on
+    private static int consoleLinesPerSecond;
+    private static long consoleWindow;  // Current second of the console budget
+    private static int consoleLines;
+    private static int consoleSuppressed;
+
+    private DebugTrace() {
+    }
+
+    /**
+     * Read the debug settings from the config.
+     * Resizing the buffer clears it.
+     *
+     * @param config The plugin config
+     * @param logger Logger for the optional console echo
+     */
+    public static void configure(FileConfiguration config, Logger logger) {
+        int capacity = Math.max(16, config.getInt("debug-trace.buffer-size", DEFAULT_CAPACITY));
+        synchronized (lock) {
+            if (events.length != capacity) {
+                events = new Event[capacity];
+                next = 0;
+                recorded = 0;
+            }
+            console = config.getBoolean("debug-trace.console", false) ? logger : null;
+            consoleLinesPerSecond = Math.max(1, config.getInt("debug-trace.console-lines-per-second",
+                    DEFAULT_CONSOLE_LINES_PER_SECOND));
+        }
+        enabled = config.getBoolean("debug", false);
+    }
+
+    /**
+     * Turn tracing on or off until the next configure().
+     *
+     * @param value true to record traces
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Check if tracing is on.
+     * Only needed to skip work beyond building the message.
+     *
+     * @return true if debug mode is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Record an event if tracing is on.
+     *
+     * @param category Short source name (e.g. "bossbar")
+     * @param message Builds the event text; not called when tracing is off
+     */
+    public static void trace(String category, Supplier<String> message) {
+        if (enabled) {
+            record(category, message.get());
+        }
+    }
+
+    private static void record(String category, String text) {
+        long now = System.currentTimeMillis();
+        Event event = new Event(now, Thread.currentThread().getName(), category, text);
+        Logger echo;
+        int suppressed = 0;
+        synchronized (lock) {
+            events[next] = event;
+            next = (next + 1) % events.length;
+            recorded++;
+
+            echo = console;
+            if (echo != null) {
+                long second = now / 1000;
+                if (second != consoleWindow) {
+                    suppressed = consoleSuppressed;
+                    consoleWindow = second;
+                    consoleLines = 0;
+                    consoleSuppressed = 0;
+                }
+                if (consoleLines < consoleLinesPerSecond) {
+                    consoleLines++;
+                } else {
+                    consoleSuppressed++;
+                    echo = null;
+                }
+            }
+        }
+
+        if (echo != null) {
+            if (suppressed > 0) {
+                echo.info("[DEBUG] " + suppressed + " trace(s) not shown, see /vote debug");
+            }
+            echo.info("[DEBUG] [" + category + "] " + text);
+        }
+    }
+
+    /**
+     * Get the most recent events, oldest first.
+     *
+     * @param limit Maximum number of events
+     * @return Formatted events ("HH:mm:ss.SSS [category] text")
+     */
+    public static List<String> dump(int limit) {
+        List<Event> snapshot = new ArrayList<>();
+        synchronized (lock) {
+            int count = (int) Math.min(Math.min(limit, recorded), events.length);
+            for (int i = count; i > 0; i--) {
+                snapshot.add(events[Math.floorMod(next - i, events.length)]);
+            }
+        }
+
+        List<String> lines = new ArrayList<>(snapshot.size());
+        for (Event event : snapshot) {
+            lines.add(event.format());
+        }
+        return lines;
+    }
+
+    /**
+     * Get the number of events recorded since the last clear, including overwritten ones.
+     *
+     * @return Recorded event count
+     */
+    public static long getRecordedCount() {
+        synchronized (lock) {
+            return recorded;
+        }
+    }
+
+    /**
+     * Get the number of events the buffer holds.
+     *
+     * @return Buffer capacity
+     */
+    public static int getCapacity() {
+        synchronized (lock) {
+            return events.length;
+        }
+    }
+
+    /**
+     * Remove all recorded events.
+     */
+    public static void clear() {
+        synchronized (lock) {
+            Arrays.fill(events, null);
+            next = 0;
+            recorded = 0;
+        }
+    }
+
+    private static final class Event {
+        private final long time;
+        private final String thread;
+        private final String category;
+        private final String text;
+
+        private Event(long time, String thread, String category, String text) {
+            this.time = time;
+            this.thread = thread;
+            this.category = category;
+            this.text = text;
+        }
+
+        private String format() {
+            LocalTime local = LocalTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+            String source = "Server thread".equals(thread) ? category : category + "@" + thread;
+            return TIME_FORMAT.format(local) + " [" + source + "] " + text;
+        }
+    }
+}
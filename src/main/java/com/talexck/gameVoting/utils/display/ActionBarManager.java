@@ -0,0 +1,362 @@
+package com.talexck.gameVoting.utils.display;
+
+import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import com.talexck.gameVoting.utils.language.LanguageManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Singleton manager for per-player action bar channels.
+ *
+ * Countdowns, vote feedback and item hints all want the action bar. Each one
+ * writes to its own channel with a priority and an expiry instead of sending
+ * packets directly. Once per tick the manager picks every player's effective
+ * message (highest priority, latest write on ties) and sends a packet only
+ * when it changed, or when a long-lived message would otherwise fade on the
+ * client. When the last message expires while still on screen, the bar is
+ * cleared.
+ *
+ * Packets per player are capped at actionbar.max-packets-per-second. A message
+ * held back by the cap is not dropped: the latest effective message is sent as
+ * soon as the player's window allows.
+ *
+ * Main thread only. Messages are flushed by the task started with start();
+ * without it, tick() has to be called manually (e.g. in unit tests).
+ */
+public class ActionBarManager {
+    public static final String FEEDBACK_CHANNEL = "feedback";
+
+    private static final int DEFAULT_MAX_PACKETS_PER_SECOND = 4;
+    private static final int CLIENT_DISPLAY_TICKS = 60;  // How long the client shows one action bar packet
+    private static final int REFRESH_TICKS = 40;  // Resend before the client starts fading
+
+    private static ActionBarManager instance;
+
+    private final Map<UUID, PlayerBar> bars;
+    private long currentTick;
+    private long sequence;
+    private int maxPacketsPerSecond;
+    private long packetsSent;
+    private long packetsDeferred;
+    private BukkitTask task;
+
+    /**
+     * Action bar priorities, lowest first.
+     */
+    public enum Priority {
+        /** Plain messages sent through ActionBarUtil */
+        NORMAL,
+        /** Running countdowns, updated every second */
+        COUNTDOWN,
+        /** Direct replies to a player's click, shown over countdowns */
+        FEEDBACK,
+        /** Messages that must not be hidden, e.g. "teleporting now" */
+        ALERT
+    }
+
+    private ActionBarManager() {
+        this.bars = new HashMap<>();
+        this.maxPacketsPerSecond = DEFAULT_MAX_PACKETS_PER_SECOND;
+    }
+
+    /**
+     * Get the singleton instance of ActionBarManager.
+     *
+     * @return The ActionBarManager instance
+     */
+    public static ActionBarManager getInstance() {
+        if (instance == null) {
+            instance = new ActionBarManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Start flushing every tick, if not already started.
+     * Reads actionbar.max-packets-per-second from the plugin config.
+     *
+     * @param plugin Plugin instance for scheduling
+     */
+    public void start(Plugin plugin) {
+        setMaxPacketsPerSecond(plugin.getConfig().getInt("actionbar.max-packets-per-second",
+                DEFAULT_MAX_PACKETS_PER_SECOND));
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop flushing. Channels are kept and resume on the next start.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Set the cap on action bar packets per player per second.
+     * Applies to players whose first message comes after the change.
+     *
+     * @param maxPacketsPerSecond Packets per second, at least 1
+     */
+    public void setMaxPacketsPerSecond(int maxPacketsPerSecond) {
+        this.maxPacketsPerSecond = Math.max(1, maxPacketsPerSecond);
+    }
+
+    /**
+     * Show a message on one of a player's channels, replacing the channel's previous message.
+     *
+     * @param player The player
+     * @param channel The channel ID
+     * @param message The message
+     * @param priority The priority against other channels
+     * @param durationTicks How long the message stays, in ticks
+     */
+    public void show(Player player, String channel, Component message, Priority priority, int durationTicks) {
+        if (player == null || channel == null || message == null || priority == null) {
+            return;
+        }
+
+        PlayerBar bar = bars.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerBar(player, maxPacketsPerSecond));
+        bar.entries.put(channel, new Entry(message, priority, currentTick + Math.max(1, durationTicks), ++sequence));
+    }
+
+    /**
+     * Show a message on a channel of a group of players, each in their own language.
+     * The message is rendered once per language the players see.
+     *
+     * @param players The players
+     * @param channel The channel ID
+     * @param render Renders the message for a language code
+     * @param priority The priority against other channels
+     * @param durationTicks How long the message stays, in ticks
+     */
+    public void showTranslated(Collection<? extends Player> players, String channel, Function<String, String> render,
+                               Priority priority, int durationTicks) {
+        if (players == null || players.isEmpty() || render == null) {
+            return;
+        }
+
+        LanguageManager languageManager = LanguageManager.getInstance();
+        Map<String, Component> rendered = new HashMap<>(4);
+        for (Player player : players) {
+            String language = languageManager != null ? languageManager.getLanguage(player) : null;
+            Component component = rendered.get(language);
+            if (component == null) {
+                String message = render.apply(language);
+                component = message == null || message.isEmpty() ? Component.empty() : ColorUtil.colorize(message);
+                rendered.put(language, component);
+            }
+            if (component != Component.empty()) {
+                show(player, channel, component, priority, durationTicks);
+            }
+        }
+    }
+
+    /**
+     * Remove a player's message on a channel.
+     *
+     * @param player The player
+     * @param channel The channel ID
+     */
+    public void clear(Player player, String channel) {
+        if (player == null) {
+            return;
+        }
+        PlayerBar bar = bars.get(player.getUniqueId());
+        if (bar != null) {
+            bar.entries.remove(channel);
+        }
+    }
+
+    /**
+     * Remove the message on a channel for a group of players.
+     *
+     * @param players The players
+     * @param channel The channel ID
+     */
+    public void clear(Collection<? extends Player> players, String channel) {
+        if (players == null) {
+            return;
+        }
+        for (Player player : players) {
+            clear(player, channel);
+        }
+    }
+
+    /**
+     * Forget all channels of a player, e.g. when they leave.
+     *
+     * @param player The player
+     */
+    public void removePlayer(Player player) {
+        if (player != null) {
+            bars.remove(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Get the message a player should currently see.
+     *
+     * @param player The player
+     * @return The effective message, or null if none
+     */
+    public Component getMessage(Player player) {
+        PlayerBar bar = player != null ? bars.get(player.getUniqueId()) : null;
+        if (bar == null) {
+            return null;
+        }
+        Entry top = bar.effective(currentTick);
+        return top != null ? top.message : null;
+    }
+
+    /**
+     * Get the number of action bar packets sent so far.
+     *
+     * @return Packets sent
+     */
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    /**
+     * Get how often a changed message had to wait for a player's rate window.
+     *
+     * @return Deferred flushes
+     */
+    public long getPacketsDeferred() {
+        return packetsDeferred;
+    }
+
+    /**
+     * Advance one tick and send the changed effective messages.
+     */
+    void tick() {
+        currentTick++;
+        for (Iterator<PlayerBar> it = bars.values().iterator(); it.hasNext(); ) {
+            PlayerBar bar = it.next();
+            if (!bar.player.isOnline()) {
+                it.remove();
+                continue;
+            }
+
+            Entry top = bar.effective(currentTick);
+            if (top == null) {
+                if (bar.sent != null) {
+                    // Clear an expired message the client still shows
+                    if (currentTick - bar.sentTick < CLIENT_DISPLAY_TICKS) {
+                        if (!send(bar, Component.empty())) {
+                            continue;
+                        }
+                    }
+                    bar.sent = null;
+                }
+                if (bar.entries.isEmpty()) {
+                    it.remove();
+                }
+                continue;
+            }
+
+            boolean changed = !top.message.equals(bar.sent);
+            boolean fading = currentTick - bar.sentTick >= REFRESH_TICKS
+                    && top.expiresAt > bar.sentTick + CLIENT_DISPLAY_TICKS;
+            if (changed || fading) {
+                send(bar, top.message);
+            }
+        }
+    }
+
+    private boolean send(PlayerBar bar, Component message) {
+        // Sliding one-second window over the player's last packets
+        if (bar.sendTicks[bar.sendIndex] > currentTick - 20) {
+            packetsDeferred++;
+            return false;
+        }
+        bar.sendTicks[bar.sendIndex] = currentTick;
+        bar.sendIndex = (bar.sendIndex + 1) % bar.sendTicks.length;
+
+        bar.player.sendActionBar(message);
+        bar.sent = message == Component.empty() ? null : message;
+        bar.sentTick = currentTick;
+        packetsSent++;
+
+        DebugTrace.trace("actionbar", () -> String.format("Sent action bar to %s: %s",
+                bar.player.getName(), ColorUtil.serialize(message)));
+        return true;
+    }
+
+    /**
+     * Remove all channels and stop flushing.
+     * Should be called on plugin disable.
+     */
+    public void shutdown() {
+        stop();
+        bars.clear();
+    }
+
+
+    /**
+     * A player's channels and send history.
+     */
+    private static final class PlayerBar {
+        private final Player player;
+        private final Map<String, Entry> entries;
+        private final long[] sendTicks;  // Ticks of the last packets, oldest at sendIndex
+        private int sendIndex;
+        private Component sent;  // Message on the client, null if none
+        private long sentTick;
+
+        private PlayerBar(Player player, int maxPacketsPerSecond) {
+            this.player = player;
+            this.entries = new HashMap<>(4);
+            this.sendTicks = new long[maxPacketsPerSecond];
+            Arrays.fill(sendTicks, Long.MIN_VALUE / 2);
+            this.sentTick = Long.MIN_VALUE / 2;
+        }
+
+        /**
+         * Drop expired entries and get the one to show.
+         */
+        private Entry effective(long tick) {
+            Entry top = null;
+            for (Iterator<Entry> it = entries.values().iterator(); it.hasNext(); ) {
+                Entry entry = it.next();
+                if (entry.expiresAt <= tick) {
+                    it.remove();
+                } else if (top == null || entry.priority.compareTo(top.priority) > 0
+                        || (entry.priority == top.priority && entry.sequence > top.sequence)) {
+                    top = entry;
+                }
+            }
+            return top;
+        }
+    }
+
+    private static final class Entry {
+        private final Component message;
+        private final Priority priority;
+        private final long expiresAt;
+        private final long sequence;
+
+        private Entry(Component message, Priority priority, long expiresAt, long sequence) {
+            this.message = message;
+            this.priority = priority;
+            this.expiresAt = expiresAt;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.talexck.gameVoting.utils.display;
 
-import com.talexck.gameVoting.GameVoting;
 import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 
@@ -9,12 +9,18 @@ import org.bukkit.entity.Player;
  * Utility class for sending action bar messages to players.
  * Action bars appear above the player's hotbar.
  *
+ * Messages go to the player's "message" channel of ActionBarManager, so they
+ * are deduplicated, rate limited and yield to countdowns and feedback of
+ * higher priority. Use ActionBarManager directly for other channels.
+ *
  * Supports:
  * - Colored messages (& codes and MiniMessage format)
  * - Simple one-line text display
  * - Optional debug logging
  */
 public class ActionBarUtil {
+    private static final String CHANNEL = "message";
+    private static final int DURATION_TICKS = 60;
 
     /**
      * Send an action bar message to a player.
@@ -29,14 +35,10 @@ public class ActionBarUtil {
         }
 
         Component component = ColorUtil.colorize(message);
-        player.sendActionBar(component);
+        ActionBarManager.getInstance().show(player, CHANNEL, component, ActionBarManager.Priority.NORMAL, DURATION_TICKS);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Sent action bar to %s: %s",
-                            player.getName(), ColorUtil.stripColors(message))
-            );
-        }
+        DebugTrace.trace("actionbar", () -> String.format("Queued action bar for %s: %s",
+                player.getName(), ColorUtil.stripColors(message)));
     }
 
     /**
@@ -51,22 +53,19 @@ public class ActionBarUtil {
         }
 
         Component component = ColorUtil.colorize(message);
+        ActionBarManager manager = ActionBarManager.getInstance();
         for (Player player : players) {
             if (player != null) {
-                player.sendActionBar(component);
+                manager.show(player, CHANNEL, component, ActionBarManager.Priority.NORMAL, DURATION_TICKS);
             }
         }
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Sent action bar to %d players: %s",
-                            players.length, ColorUtil.stripColors(message))
-            );
-        }
+        DebugTrace.trace("actionbar", () -> String.format("Queued action bar for %d players: %s",
+                players.length, ColorUtil.stripColors(message)));
     }
 
     /**
-     * Clear the action bar for a player by sending an empty message.
+     * Clear the action bar message sent with sendActionBar.
      *
      * @param player The player to clear the action bar for
      */
@@ -75,25 +74,9 @@ public class ActionBarUtil {
             return;
         }
 
-        player.sendActionBar(Component.empty());
+        ActionBarManager.getInstance().clear(player, CHANNEL);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Cleared action bar for %s", player.getName())
-            );
-        }
+        DebugTrace.trace("actionbar", () -> String.format("Cleared action bar for %s", player.getName()));
     }
 
-    /**
-     * Check if debug logging is enabled in the config.
-     *
-     * @return true if debug mode is enabled
-     */
-    private static boolean isDebugEnabled() {
-        try {
-            return GameVoting.getInstance().getConfig().getBoolean("debug", false);
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
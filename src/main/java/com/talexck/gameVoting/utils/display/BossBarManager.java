@@ -1,14 +1,20 @@
 package com.talexck.gameVoting.utils.display;
 
-import com.talexck.gameVoting.GameVoting;
 import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import com.talexck.gameVoting.utils.timer.TimerService;
+import com.talexck.gameVoting.utils.timer.TimingWheel;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * Features:
  * - Per-player boss bar tracking
+ * - Shared channel bars: one boss bar per channel, updated in place for all viewers
  * - Timed boss bars with automatic removal
  * - Thread-safe operations
  * - Auto-cleanup on player disconnect
@@ -29,12 +36,15 @@ public class BossBarManager {
 
     // Map of player UUID to their active boss bar
     private final Map<UUID, BossBar> activeBars;
-    // Map of player UUID to scheduled removal task for timed boss bars
-    private final Map<UUID, BukkitTask> scheduledTasks;
+    // Map of player UUID to scheduled removal timer for timed boss bars
+    private final Map<UUID, TimingWheel.Timeout> scheduledTasks;
+    // Map of channel ID to its shared boss bar
+    private final Map<String, Channel> channels;
 
     private BossBarManager() {
         this.activeBars = new ConcurrentHashMap<>();
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.channels = new ConcurrentHashMap<>();
     }
 
     /**
@@ -78,12 +88,8 @@ public class BossBarManager {
         player.showBossBar(bossBar);
         activeBars.put(player.getUniqueId(), bossBar);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Showed boss bar to %s: %s (%.0f%%)",
-                            player.getName(), ColorUtil.stripColors(text), progress * 100)
-            );
-        }
+        DebugTrace.trace("bossbar", () -> String.format("Showed boss bar to %s: %s (%.0f%%)",
+                player.getName(), ColorUtil.stripColors(text), progress * 100));
     }
 
     /**
@@ -102,21 +108,17 @@ public class BossBarManager {
         // Show boss bar with full progress
         showBar(player, text, color, 1.0f);
 
-        // Schedule automatic removal
-        BukkitTask task = Bukkit.getScheduler().runTaskLater(
-                GameVoting.getInstance(),
-                () -> removeBar(player),
-                durationSeconds * 20L // Convert seconds to ticks
+        // Schedule automatic removal (stays until removed if the timer wheel is full)
+        TimingWheel.Timeout timeout = TimerService.getInstance().schedule(
+                durationSeconds * 20L, // Convert seconds to ticks
+                () -> removeBar(player)
         );
-
-        scheduledTasks.put(player.getUniqueId(), task);
-
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Showed timed boss bar to %s for %d seconds",
-                            player.getName(), durationSeconds)
-            );
+        if (timeout != null) {
+            scheduledTasks.put(player.getUniqueId(), timeout);
         }
+
+        DebugTrace.trace("bossbar", () -> String.format("Showed timed boss bar to %s for %d seconds",
+                player.getName(), durationSeconds));
     }
 
     /**
@@ -144,12 +146,8 @@ public class BossBarManager {
         }
         bossBar.progress(Math.max(0.0f, Math.min(1.0f, progress)));
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Updated boss bar for %s: %.0f%%",
-                            player.getName(), progress * 100)
-            );
-        }
+        DebugTrace.trace("bossbar", () -> String.format("Updated boss bar for %s: %.0f%%",
+                player.getName(), progress * 100));
     }
 
     /**
@@ -198,10 +196,10 @@ public class BossBarManager {
 
         UUID uuid = player.getUniqueId();
 
-        // Cancel any scheduled removal task
-        BukkitTask task = scheduledTasks.remove(uuid);
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
+        // Cancel any scheduled removal timer
+        TimingWheel.Timeout timeout = scheduledTasks.remove(uuid);
+        if (timeout != null) {
+            timeout.cancel();
         }
 
         // Hide and remove boss bar
@@ -209,14 +207,159 @@ public class BossBarManager {
         if (bossBar != null) {
             player.hideBossBar(bossBar);
 
-            if (isDebugEnabled()) {
-                GameVoting.getInstance().getLogger().info(
-                        String.format("[DEBUG] Removed boss bar from %s", player.getName())
-                );
+            DebugTrace.trace("bossbar", () -> String.format("Removed boss bar from %s", player.getName()));
+        }
+    }
+
+    /**
+     * Show a shared channel bar to exactly the given players.
+     * The channel's boss bar is created once and then mutated in place: the title
+     * is only re-parsed when the text changes, and only players who join or leave
+     * the audience are sent show/hide packets.
+     *
+     * @param channel The channel ID
+     * @param players The players who should see the bar
+     * @param text The boss bar text (supports & codes and MiniMessage)
+     * @param color The boss bar color
+     * @param progress The progress (0.0 to 1.0)
+     */
+    public void showChannel(String channel, Collection<? extends Player> players, String text,
+                            BossBar.Color color, float progress) {
+        if (channel == null || players == null || text == null) {
+            return;
+        }
+
+        float clamped = Math.max(0.0f, Math.min(1.0f, progress)); // Clamp between 0 and 1
+        Channel shared = channels.get(channel);
+        if (shared == null) {
+            shared = new Channel(BossBar.bossBar(ColorUtil.colorize(text), clamped, color, BossBar.Overlay.PROGRESS), text);
+            channels.put(channel, shared);
+
+            DebugTrace.trace("bossbar", () -> String.format("Created boss bar channel %s: %s",
+                    channel, ColorUtil.stripColors(text)));
+        } else {
+            BossBar bossBar = shared.bar;
+            if (!text.equals(shared.text)) {
+                bossBar.name(ColorUtil.colorize(text));
+                shared.text = text;
+            }
+            if (bossBar.color() != color) {
+                bossBar.color(color);
+            }
+            if (bossBar.progress() != clamped) {
+                bossBar.progress(clamped);
+            }
+        }
+
+        // Sync the audience: show to new players, hide from players no longer listed
+        Set<UUID> audience = new HashSet<>();
+        for (Player player : players) {
+            UUID uuid = player.getUniqueId();
+            audience.add(uuid);
+            if (shared.viewers.add(uuid)) {
+                player.showBossBar(shared.bar);
+            }
+        }
+        if (shared.viewers.size() > audience.size()) {
+            for (Iterator<UUID> it = shared.viewers.iterator(); it.hasNext(); ) {
+                UUID uuid = it.next();
+                if (!audience.contains(uuid)) {
+                    it.remove();
+                    hideChannelBar(uuid, shared.bar);
+                }
             }
         }
     }
 
+    /**
+     * Remove a channel and all channels below it ("channel:...") from their viewers.
+     *
+     * @param channel The parent channel ID
+     */
+    public void removeChannelGroup(String channel) {
+        if (channel == null) {
+            return;
+        }
+
+        String prefix = channel + ":";
+        removeChannel(channel);
+        for (String id : new ArrayList<>(channels.keySet())) {
+            if (id.startsWith(prefix)) {
+                removeChannel(id);
+            }
+        }
+    }
+
+    /**
+     * Remove a channel bar from all of its viewers.
+     *
+     * @param channel The channel ID
+     */
+    public void removeChannel(String channel) {
+        if (channel == null) {
+            return;
+        }
+
+        Channel shared = channels.remove(channel);
+        if (shared != null) {
+            for (UUID uuid : shared.viewers) {
+                hideChannelBar(uuid, shared.bar);
+            }
+            shared.viewers.clear();
+        }
+    }
+
+    /**
+     * Remove a player from the audience of every channel.
+     * Called when the player disconnects.
+     *
+     * @param player The player
+     */
+    public void removeFromChannels(Player player) {
+        if (player == null) {
+            return;
+        }
+
+        for (Channel shared : channels.values()) {
+            if (shared.viewers.remove(player.getUniqueId())) {
+                player.hideBossBar(shared.bar);
+            }
+        }
+    }
+
+    /**
+     * Check if a player is in a channel's audience.
+     *
+     * @param player The player to check
+     * @param channel The channel ID
+     * @return true if the player sees the channel bar
+     */
+    public boolean isViewing(Player player, String channel) {
+        if (player == null || channel == null) {
+            return false;
+        }
+        Channel shared = channels.get(channel);
+        return shared != null && shared.viewers.contains(player.getUniqueId());
+    }
+
+    /**
+     * Get the shared boss bar of a channel.
+     *
+     * @param channel The channel ID
+     * @return The boss bar, or null if the channel is not shown
+     */
+    public BossBar getChannelBar(String channel) {
+        Channel shared = channel == null ? null : channels.get(channel);
+        return shared == null ? null : shared.bar;
+    }
+
+    private void hideChannelBar(UUID uuid, BossBar bossBar) {
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) {
+            player.hideBossBar(bossBar);
+        }
+    }
+
     /**
      * Check if a player has an active boss bar.
      *
@@ -232,12 +375,8 @@ public class BossBarManager {
      * Called on plugin disable.
      */
     public void shutdown() {
-        // Cancel all scheduled tasks
-        scheduledTasks.values().forEach(task -> {
-            if (!task.isCancelled()) {
-                task.cancel();
-            }
-        });
+        // Cancel all scheduled removals
+        scheduledTasks.values().forEach(TimingWheel.Timeout::cancel);
         scheduledTasks.clear();
 
         // Remove all boss bars
@@ -249,21 +388,27 @@ public class BossBarManager {
         }
         activeBars.clear();
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info("[DEBUG] BossBarManager shutdown complete");
+        // Remove all channel bars
+        for (String channel : channels.keySet()) {
+            removeChannel(channel);
         }
+
+        DebugTrace.trace("bossbar", () -> "BossBarManager shutdown complete");
     }
 
+
     /**
-     * Check if debug logging is enabled in the config.
-     *
-     * @return true if debug mode is enabled
+     * Shared boss bar of a channel with its audience.
      */
-    private boolean isDebugEnabled() {
-        try {
-            return GameVoting.getInstance().getConfig().getBoolean("debug", false);
-        } catch (Exception e) {
-            return false;
+    private static final class Channel {
+        private final BossBar bar;
+        private final Set<UUID> viewers;
+        private String text;  // Last text the bar name was built from
+
+        private Channel(BossBar bar, String text) {
+            this.bar = bar;
+            this.viewers = new HashSet<>();
+            this.text = text;
         }
     }
 }
@@ -1,7 +1,7 @@
 package com.talexck.gameVoting.utils.display;
 
-import com.talexck.gameVoting.GameVoting;
 import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
 import org.bukkit.entity.Player;
@@ -72,14 +72,10 @@ public class TitleUtil {
 
         player.showTitle(titleObject);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Sent title to %s: '%s' | '%s'",
-                            player.getName(),
-                            ColorUtil.stripColors(title != null ? title : ""),
-                            ColorUtil.stripColors(subtitle != null ? subtitle : ""))
-            );
-        }
+        DebugTrace.trace("title", () -> String.format("Sent title to %s: '%s' | '%s'",
+                player.getName(),
+                ColorUtil.stripColors(title != null ? title : ""),
+                ColorUtil.stripColors(subtitle != null ? subtitle : "")));
     }
 
     /**
@@ -133,23 +129,7 @@ public class TitleUtil {
 
         player.clearTitle();
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Cleared title for %s", player.getName())
-            );
-        }
+        DebugTrace.trace("title", () -> String.format("Cleared title for %s", player.getName()));
     }
 
-    /**
-     * Check if debug logging is enabled in the config.
-     *
-     * @return true if debug mode is enabled
-     */
-    private static boolean isDebugEnabled() {
-        try {
-            return GameVoting.getInstance().getConfig().getBoolean("debug", false);
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
@@ -4,6 +4,7 @@ import com.talexck.gameVoting.api.hologram.HologramProvider;
 import com.talexck.gameVoting.utils.ColorUtil;
 import eu.decentsoftware.holograms.api.DHAPI;
 import eu.decentsoftware.holograms.api.holograms.Hologram;
+import eu.decentsoftware.holograms.api.holograms.HologramPage;
 import org.bukkit.Location;
 
 import java.util.List;
@@ -11,7 +12,11 @@ import java.util.stream.Collectors;
 
 /**
  * DecentHolograms implementation of the HologramProvider interface.
- * Creates persistent holograms that are saved to DecentHolograms' configuration.
+ * Creates persistent holograms that are saved to DecentHolograms' configuration,
+ * or transient ones that only live in memory.
+ *
+ * Updates rewrite only the lines whose text changed, and only persistent
+ * holograms are saved to disk afterwards.
  */
 public class DecentHologramsProvider implements HologramProvider {
 
@@ -28,14 +33,14 @@ public class DecentHologramsProvider implements HologramProvider {
     }
 
     /**
-     * Colorize all lines using ColorUtil and convert Components to strings.
+     * Colorize all lines using ColorUtil's cached legacy rendering.
      *
      * @param lines The lines to colorize
      * @return List of colorized strings
      */
     private List<String> colorizeLines(List<String> lines) {
         return lines.stream()
-                .map(line -> ColorUtil.serialize(ColorUtil.colorize(line)))
+                .map(ColorUtil::colorizeLegacy)
                 .collect(Collectors.toList());
     }
 
@@ -72,6 +77,29 @@ public class DecentHologramsProvider implements HologramProvider {
         }
     }
 
+    @Override
+    public boolean createTransientHologram(String id, Location location, List<String> lines) {
+        if (id == null || location == null || lines == null || lines.isEmpty()) {
+            return false;
+        }
+
+        try {
+            String namespacedId = getNamespacedId(id);
+
+            // Delete existing hologram if present (also removes a persisted copy)
+            if (exists(id)) {
+                deleteHologram(id);
+            }
+
+            // Create without saving to DecentHolograms' config
+            Hologram hologram = DHAPI.createHologram(namespacedId, location, false, colorizeLines(lines));
+            return hologram != null;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
     @Override
     public boolean updateLines(String id, List<String> lines) {
         if (id == null || lines == null || lines.isEmpty()) {
@@ -89,11 +117,31 @@ public class DecentHologramsProvider implements HologramProvider {
             // Colorize lines
             List<String> colorizedLines = colorizeLines(lines);
 
-            // Update hologram lines
-            DHAPI.setHologramLines(hologram, colorizedLines);
+            HologramPage page = hologram.getPage(0);
+            if (page == null) {
+                DHAPI.setHologramLines(hologram, colorizedLines);
+            } else {
+                // Rewrite changed lines only, then add or remove lines at the end
+                int current = page.size();
+                int common = Math.min(current, colorizedLines.size());
+                for (int i = 0; i < common; i++) {
+                    String line = colorizedLines.get(i);
+                    if (!line.equals(page.getLine(i).getContent())) {
+                        DHAPI.setHologramLine(hologram, i, line);
+                    }
+                }
+                for (int i = common; i < colorizedLines.size(); i++) {
+                    DHAPI.addHologramLine(hologram, colorizedLines.get(i));
+                }
+                for (int i = current - 1; i >= colorizedLines.size(); i--) {
+                    DHAPI.removeHologramLine(hologram, i);
+                }
+            }
 
-            // Save changes to config
-            hologram.save();
+            // Only persistent holograms are saved to config
+            if (hologram.isSaveToFile()) {
+                hologram.save();
+            }
             return true;
         } catch (Exception e) {
             e.printStackTrace();
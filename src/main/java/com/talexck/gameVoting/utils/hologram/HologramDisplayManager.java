@@ -1,49 +1,105 @@
 package com.talexck.gameVoting.utils.hologram;
 
 import com.talexck.gameVoting.GameVoting;
-import com.talexck.gameVoting.api.database.VoteHistoryRepository;
 import com.talexck.gameVoting.config.GameConfig;
 import com.talexck.gameVoting.config.GamesConfigManager;
 import com.talexck.gameVoting.utils.database.DatabaseManager;
 import com.talexck.gameVoting.voting.VotingSession;
-import org.bukkit.Bukkit;
+import com.talexck.gameVoting.voting.VotingSessionRegistry;
 import org.bukkit.Location;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Manager for hologram display content based on voting state.
  * Updates hologram text dynamically as voting progresses.
+ *
+ * The last rendered lines and location of every hologram are remembered:
+ * unchanged holograms are skipped, changed ones are updated in place in one
+ * batch, and only new or moved holograms are (re)created. Display holograms
+ * are transient and never saved to the hologram plugin's configuration.
+ *
+ * Content is rendered separately from placement: each state's lines are
+ * rendered once per update and pushed to every location showing that state.
+ * Lines that only depend on the games config and the vote history are kept
+ * across updates, keyed by state and history cache version, until the next
+ * reload. The top games are read from the vote history cache without any I/O;
+ * when the cache changes, the holograms are redrawn.
  */
 public class HologramDisplayManager {
     private final GameVoting plugin;
     private final HologramManager hologramManager;
     private final GamesConfigManager gamesManager;
+    private final Map<String, List<String>> renderedLines;  // Hologram ID -> lines on display
+    private final Map<String, Location> placedLocations;  // Hologram ID -> location it was created at
+    private final Map<String, List<String>> contentCache;  // State (and data version) -> lines
     
     public enum DisplayState {
         NOT_VOTING,         // Show historical top 10 wins
         PRE_VOTING_READY,   // Show waiting for players to ready up
         VOTING_ACTIVE,      // Show current game list
         VOTE_ENDED,         // Show vote results with winner highlighted
-        GAME_STARTED        // Reset to NOT_VOTING after teleport
+        GAME_STARTED;       // Reset to NOT_VOTING after teleport
+
+        /**
+         * Get the display state for a voting session.
+         *
+         * @param session The voting session
+         * @return The matching display state
+         */
+        public static DisplayState of(VotingSession session) {
+            if (session.isPreVotingReady()) {
+                return PRE_VOTING_READY;
+            } else if (session.isActive()) {
+                return VOTING_ACTIVE;
+            } else if (session.isReadyPhase()) {
+                return VOTE_ENDED;
+            }
+            return NOT_VOTING;
+        }
     }
 
     public HologramDisplayManager(GameVoting plugin) {
         this.plugin = plugin;
         this.hologramManager = HologramManager.getInstance();
         this.gamesManager = plugin.getGamesManager();
+        this.renderedLines = new HashMap<>();
+        this.placedLocations = new HashMap<>();
+        this.contentCache = new HashMap<>();
+
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        if (dbManager != null && dbManager.getVoteHistoryCache() != null) {
+            dbManager.getVoteHistoryCache().addChangeListener(() -> {
+                if (plugin.getHologramConfigManager() != null) {
+                    updateAllHolograms(plugin.getHologramConfigManager().getAllLocations());
+                }
+            });
+        }
     }
 
     /**
-     * Update all holograms to display content for the given state.
+     * Drop all cached hologram content, e.g. after the games or language files were reloaded.
+     */
+    public void invalidateContent() {
+        contentCache.clear();
+    }
+
+    /**
+     * Update all holograms to display the state of their world's voting room.
      *
-     * @param state The display state
      * @param locations List of hologram locations to update
      */
-    public void updateAllHolograms(DisplayState state, List<HologramLocation> locations) {
+    public void updateAllHolograms(List<HologramLocation> locations) {
+        VotingSessionRegistry registry = VotingSessionRegistry.getInstance();
+        Map<String, List<String>> updates = new LinkedHashMap<>();
+        Set<String> current = new HashSet<>();
+        Map<String, List<String>> cycleContent = new HashMap<>();  // Session-dependent lines, this update only
         for (int i = 0; i < locations.size(); i++) {
             HologramLocation hologramLoc = locations.get(i);
             Location bukkitLoc = hologramLoc.toBukkitLocation();
@@ -54,21 +110,101 @@ public class HologramDisplayManager {
             }
 
             String hologramId = "gamevoting_" + i;
-            List<String> lines = generateLines(state);
-            
-            // Remove old hologram and create new one
-            hologramManager.deleteHologram(hologramId);
-            hologramManager.createHologram(hologramId, bukkitLoc, lines);
+            current.add(hologramId);
+            VotingSession session = registry.getSessionForWorld(hologramLoc.getWorldName());
+            List<String> lines = getLines(DisplayState.of(session), session, cycleContent);
+
+            if (!bukkitLoc.equals(placedLocations.get(hologramId)) || !hologramManager.exists(hologramId)) {
+                // New or moved; also replaces a copy persisted by older versions
+                hologramManager.deleteHologram(hologramId);
+                if (hologramManager.createTransientHologram(hologramId, bukkitLoc, lines)) {
+                    placedLocations.put(hologramId, bukkitLoc);
+                    renderedLines.put(hologramId, lines);
+                } else {
+                    forget(hologramId);
+                }
+            } else if (!lines.equals(renderedLines.get(hologramId))) {
+                updates.put(hologramId, lines);
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            Set<String> updated = hologramManager.updateAll(updates);
+            for (Map.Entry<String, List<String>> entry : updates.entrySet()) {
+                if (updated.contains(entry.getKey())) {
+                    renderedLines.put(entry.getKey(), entry.getValue());
+                } else {
+                    // Recreated on the next update
+                    forget(entry.getKey());
+                }
+            }
+        }
+
+        // Holograms whose location was removed from the config
+        for (String hologramId : new ArrayList<>(placedLocations.keySet())) {
+            if (!current.contains(hologramId)) {
+                hologramManager.deleteHologram(hologramId);
+                forget(hologramId);
+            }
         }
     }
 
+    private void forget(String hologramId) {
+        renderedLines.remove(hologramId);
+        placedLocations.remove(hologramId);
+    }
+
+    /**
+     * Get the lines for a state, rendering them only if not cached.
+     *
+     * @param state The display state
+     * @param session The voting session of the hologram's room
+     * @param cycleContent Lines rendered for session-dependent states during this update
+     * @return List of text lines for hologram
+     */
+    private List<String> getLines(DisplayState state, VotingSession session, Map<String, List<String>> cycleContent) {
+        switch (state) {
+            case PRE_VOTING_READY:
+            case VOTE_ENDED:
+                // Depend on the room's session, shared by holograms in the same room
+                return cycleContent.computeIfAbsent(state + ":" + session.getRoomId(),
+                        key -> generateLines(state, session));
+            case VOTING_ACTIVE:
+                return contentCache.computeIfAbsent(state.name(), key -> generateLines(state, session));
+            default:
+                // NOT_VOTING and GAME_STARTED both show the top games
+                String prefix = DisplayState.NOT_VOTING + ":";
+                String key = prefix + getHistoryVersion();
+                List<String> lines = contentCache.get(key);
+                if (lines == null) {
+                    // Drop lines of older versions
+                    contentCache.keySet().removeIf(k -> k.startsWith(prefix));
+                    lines = generateLines(DisplayState.NOT_VOTING, session);
+                    contentCache.put(key, lines);
+                }
+                return lines;
+        }
+    }
+
+    /**
+     * Get the version of the cached vote history, 0 without a database.
+     *
+     * @return The history version
+     */
+    private long getHistoryVersion() {
+        DatabaseManager dbManager = DatabaseManager.getInstance();
+        return dbManager != null && dbManager.getVoteHistoryCache() != null
+                ? dbManager.getVoteHistoryCache().getVersion() : 0;
+    }
+
     /**
      * Generate hologram lines based on display state.
      *
      * @param state The display state
+     * @param session The voting session of the hologram's room
      * @return List of text lines for hologram
      */
-    private List<String> generateLines(DisplayState state) {
+    private List<String> generateLines(DisplayState state, VotingSession session) {
         List<String> lines = new ArrayList<>();
 
         switch (state) {
@@ -76,13 +212,13 @@ public class HologramDisplayManager {
                 lines.addAll(generateHistoricalTopGames());
                 break;
             case PRE_VOTING_READY:
-                lines.addAll(generatePreVotingReady());
+                lines.addAll(generatePreVotingReady(session));
                 break;
             case VOTING_ACTIVE:
                 lines.addAll(generateVotingGameList());
                 break;
             case VOTE_ENDED:
-                lines.addAll(generateVoteResults());
+                lines.addAll(generateVoteResults(session));
                 break;
             case GAME_STARTED:
                 lines.addAll(generateHistoricalTopGames());
@@ -108,11 +244,15 @@ public class HologramDisplayManager {
         lines.add("");
 
         DatabaseManager dbManager = DatabaseManager.getInstance();
-        if (dbManager != null && dbManager.hasVoteHistoryRepository()) {
-            VoteHistoryRepository repository = dbManager.getVoteHistoryRepository();
-            Map<String, Integer> topGames = repository.getTopWinningGames(10);
-
-            if (topGames.isEmpty()) {
+        if (dbManager != null && dbManager.getVoteHistoryCache() != null) {
+            var cache = dbManager.getVoteHistoryCache();
+            Map<String, Integer> topGames = cache.peekTopWinningGames(10);
+
+            if (topGames == null) {
+                // Retried in the background; a failure bumps the version, so this is redrawn
+                lines.add(langManager.getMessage(cache.isUnavailable()
+                        ? "hologram.history_unavailable" : "hologram.loading_history"));
+            } else if (topGames.isEmpty()) {
                 lines.add(langManager.getMessage("hologram.no_history"));
             } else {
                 int rank = 1;
@@ -141,9 +281,10 @@ public class HologramDisplayManager {
     /**
      * Generate hologram lines for pre-voting ready phase.
      *
+     * @param session The voting session of the hologram's room
      * @return List of text lines
      */
-    private List<String> generatePreVotingReady() {
+    private List<String> generatePreVotingReady(VotingSession session) {
         List<String> lines = new ArrayList<>();
 
         var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
@@ -153,9 +294,8 @@ public class HologramDisplayManager {
         lines.add(langManager.getMessage("hologram.waiting_to_start_title"));
         lines.add("");
 
-        VotingSession session = VotingSession.getInstance();
         int readyCount = session.getPreVotingReadyCount();
-        int totalPlayers = Bukkit.getOnlinePlayers().size();
+        int totalPlayers = session.getPlayers().size();
 
         Map<String, String> placeholders = new HashMap<>();
         placeholders.put("ready", String.valueOf(readyCount));
@@ -198,9 +338,10 @@ public class HologramDisplayManager {
     /**
      * Generate hologram lines for vote results with winner highlighted.
      *
+     * @param session The voting session of the hologram's room
      * @return List of text lines
      */
-    private List<String> generateVoteResults() {
+    private List<String> generateVoteResults(VotingSession session) {
         List<String> lines = new ArrayList<>();
 
         var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
@@ -210,21 +351,19 @@ public class HologramDisplayManager {
         lines.add(langManager.getMessage("hologram.vote_results_title"));
         lines.add("");
 
-        VotingSession session = VotingSession.getInstance();
-        Map<String, Integer> voteCounts = session.getVoteCounts();
+        // Results are ranked by the session's tally strategy and do not change during the ready phase
+        Map<String, Integer> results = session.getResults();
         String winnerId = session.getWinner();
 
-        if (voteCounts.isEmpty()) {
+        if (results.isEmpty()) {
             lines.add(langManager.getMessage("hologram.no_votes"));
         } else {
             int rank = 1;
-            int maxDisplay = 10; // Show top 10 only
 
-            for (Map.Entry<String, Integer> entry : voteCounts.entrySet()) {
-                if (rank > maxDisplay) {
-                    break; // Stop after top 10
+            for (Map.Entry<String, Integer> entry : results.entrySet()) {
+                if (rank > 10) {
+                    break; // Show top 10 only
                 }
-
                 String gameId = entry.getKey();
                 int votes = entry.getValue();
 
@@ -277,5 +416,11 @@ public class HologramDisplayManager {
             String hologramId = "gamevoting_" + i;
             hologramManager.deleteHologram(hologramId);
         }
+        for (String hologramId : placedLocations.keySet()) {
+            hologramManager.deleteHologram(hologramId);
+        }
+        renderedLines.clear();
+        placedLocations.clear();
+        contentCache.clear();
     }
 }
@@ -2,11 +2,15 @@ package com.talexck.gameVoting.utils.hologram;
 
 import com.talexck.gameVoting.GameVoting;
 import com.talexck.gameVoting.api.hologram.HologramProvider;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Singleton manager for holograms.
@@ -107,16 +111,57 @@ public class HologramManager {
 
         boolean result = provider.createHologram(id, location, lines);
 
-        if (result && isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Created hologram '%s' at %s with %d lines",
-                            id, formatLocation(location), lines.size())
-            );
+        if (result) {
+            DebugTrace.trace("hologram", () -> String.format("Created hologram '%s' at %s with %d lines",
+                    id, formatLocation(location), lines.size()));
         }
 
         return result;
     }
 
+    /**
+     * Create a hologram that is not saved to disk.
+     * For content that is regenerated from the voting state.
+     *
+     * @param id The unique identifier for the hologram
+     * @param location The location where the hologram should appear
+     * @param lines The lines of text to display
+     * @return true if the hologram was created successfully
+     */
+    public boolean createTransientHologram(String id, Location location, List<String> lines) {
+        if (provider == null) {
+            return false;
+        }
+
+        boolean result = provider.createTransientHologram(id, location, lines);
+
+        if (result) {
+            DebugTrace.trace("hologram", () -> String.format("Created transient hologram '%s' at %s with %d lines",
+                    id, formatLocation(location), lines.size()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Update the lines of several holograms at once.
+     *
+     * @param updates Map of hologram ID to its new lines
+     * @return The IDs of the holograms that were updated successfully
+     */
+    public Set<String> updateAll(Map<String, List<String>> updates) {
+        if (provider == null || updates.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> updated = provider.updateAll(updates);
+
+        DebugTrace.trace("hologram", () -> String.format("Updated %d of %d holograms",
+                updated.size(), updates.size()));
+
+        return updated;
+    }
+
     /**
      * Update the lines of an existing hologram.
      *
@@ -142,10 +187,9 @@ public class HologramManager {
 
         boolean result = provider.updateLines(id, lines);
 
-        if (result && isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Updated hologram '%s' with %d lines", id, lines.size())
-            );
+        if (result) {
+            DebugTrace.trace("hologram", () -> String.format("Updated hologram '%s' with %d lines",
+                    id, lines.size()));
         }
 
         return result;
@@ -164,10 +208,8 @@ public class HologramManager {
 
         boolean result = provider.deleteHologram(id);
 
-        if (result && isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Deleted hologram '%s'", id)
-            );
+        if (result) {
+            DebugTrace.trace("hologram", () -> String.format("Deleted hologram '%s'", id));
         }
 
         return result;
@@ -191,8 +233,8 @@ public class HologramManager {
      * unless explicitly requested. To clean up all holograms, call deleteAll() first.
      */
     public void shutdown() {
-        if (isDebugEnabled() && provider != null) {
-            GameVoting.getInstance().getLogger().info("[DEBUG] HologramManager shutdown complete");
+        if (provider != null) {
+            DebugTrace.trace("hologram", () -> "HologramManager shutdown complete");
         }
         // Do not delete holograms on shutdown - they are persistent
         // If cleanup is needed, call deleteAll() explicitly before shutdown
@@ -211,10 +253,8 @@ public class HologramManager {
 
         int deleted = provider.deleteAll();
 
-        if (deleted > 0 && isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Deleted %d holograms", deleted)
-            );
+        if (deleted > 0) {
+            DebugTrace.trace("hologram", () -> String.format("Deleted %d holograms", deleted));
         }
 
         return deleted;
@@ -244,16 +284,4 @@ public class HologramManager {
                 location.getX(), location.getY(), location.getZ());
     }
 
-    /**
-     * Check if debug logging is enabled in the config.
-     *
-     * @return true if debug mode is enabled
-     */
-    private boolean isDebugEnabled() {
-        try {
-            return GameVoting.getInstance().getConfig().getBoolean("debug", false);
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
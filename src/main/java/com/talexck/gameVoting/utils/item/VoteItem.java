@@ -41,12 +41,12 @@ public class VoteItem {
         ItemMeta meta = item.getItemMeta();
 
         if (meta != null) {
-            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.insufficient_players_name")));
+            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.insufficient_players_name")));
             meta.setLore(Arrays.asList(
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.insufficient_players_lore_1")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.insufficient_players_lore_2")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.insufficient_players_lore_3")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.insufficient_players_lore_4"))
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.insufficient_players_lore_1")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.insufficient_players_lore_2")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.insufficient_players_lore_3")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.insufficient_players_lore_4"))
             ));
 
             // Add glowing effect
@@ -74,11 +74,11 @@ public class VoteItem {
         ItemMeta meta = item.getItemMeta();
 
         if (meta != null) {
-            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.start_voting_name")));
+            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.start_voting_name")));
             meta.setLore(Arrays.asList(
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.start_voting_lore_1")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.start_voting_lore_2")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.start_voting_lore_3"))
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.start_voting_lore_1")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.start_voting_lore_2")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.start_voting_lore_3"))
             ));
 
             // Add glowing effect
@@ -110,11 +110,11 @@ public class VoteItem {
             item = new ItemStack(Material.GRAY_DYE);
             meta = item.getItemMeta();
             if (meta != null) {
-                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_start_name")));
+                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_start_name")));
                 meta.setLore(Arrays.asList(
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_start_lore_1")),
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_start_lore_2")),
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_start_lore_3"))
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_start_lore_1")),
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_start_lore_2")),
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_start_lore_3"))
                 ));
                 meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
                 meta.getPersistentDataContainer().set(VOTE_ITEM_KEY, PersistentDataType.STRING, "start_voting");
@@ -140,11 +140,11 @@ public class VoteItem {
         ItemMeta meta = item.getItemMeta();
 
         if (meta != null) {
-            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.voting_item_name")));
+            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.voting_item_name")));
             meta.setLore(Arrays.asList(
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.voting_item_lore_1")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.voting_item_lore_2")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.voting_item_lore_3"))
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.voting_item_lore_1")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.voting_item_lore_2")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.voting_item_lore_3"))
             ));
 
             // Add glowing effect
@@ -172,11 +172,11 @@ public class VoteItem {
         ItemMeta meta = item.getItemMeta();
 
         if (meta != null) {
-            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.ready_item_name")));
+            meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.ready_item_name")));
             meta.setLore(Arrays.asList(
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.ready_item_lore_1")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.ready_item_lore_2")),
-                ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.ready_item_lore_3"))
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.ready_item_lore_1")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.ready_item_lore_2")),
+                ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.ready_item_lore_3"))
             ));
 
             // Add glowing effect
@@ -207,11 +207,11 @@ public class VoteItem {
             item = new ItemStack(Material.LIME_DYE);
             meta = item.getItemMeta();
             if (meta != null) {
-                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_name")));
+                meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_name")));
                 meta.setLore(Arrays.asList(
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_lore_1")),
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_lore_2")),
-                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage("item.already_ready_lore_3"))
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_lore_1")),
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_lore_2")),
+                    ChatColor.translateAlternateColorCodes('&', langManager.getMessage(player, "item.already_ready_lore_3"))
                 ));
                 meta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
                 meta.getPersistentDataContainer().set(VOTE_ITEM_KEY, PersistentDataType.STRING, "ready");
@@ -226,6 +226,33 @@ public class VoteItem {
         player.getInventory().setItem(VOTE_ITEM_SLOT, item);
     }
 
+    /**
+     * Re-render the vote item a player holds in their current language.
+     *
+     * @param player The player whose item to refresh
+     */
+    public static void refreshLanguage(Player player) {
+        ItemStack current = player.getInventory().getItem(VOTE_ITEM_SLOT);
+        String type = getVoteItemType(current);
+        if (type == null) {
+            return;
+        }
+        switch (type) {
+            case "insufficient_players":
+                giveInsufficientPlayersItem(player);
+                break;
+            case "start_voting":
+                updateStartVotingItem(player, current.getType() == Material.GRAY_DYE);
+                break;
+            case "vote":
+                giveVotingItem(player);
+                break;
+            case "ready":
+                updateReadyItem(player, current.getType() == Material.LIME_DYE);
+                break;
+        }
+    }
+
     /**
      * Remove the vote item from a player.
      *
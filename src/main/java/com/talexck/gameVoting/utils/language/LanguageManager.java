@@ -1,7 +1,9 @@
 package com.talexck.gameVoting.utils.language;
 
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
 import java.io.File;
@@ -9,12 +11,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 /**
  * Manager for multi-language support.
  * Loads and provides translations from language files.
+ *
+ * Every message is compiled into a MessageTemplate when its language file is
+ * loaded, so lookups are a map get and filling placeholders is a single pass.
+ *
+ * With language-per-player enabled, each player sees the language they chose
+ * with /vote language, or else the one matching their client locale, or else
+ * the configured language. The resolved language is cached per online player,
+ * so a per-player lookup costs one extra map get.
  */
 public class LanguageManager {
     private static LanguageManager instance;
@@ -22,16 +36,28 @@ public class LanguageManager {
     private final Plugin plugin;
     private final Logger logger;
     private final Map<String, FileConfiguration> languages;
+    private final Map<String, Map<String, MessageTemplate>> templates;  // Language -> key -> template
+    private final Map<String, MessageTemplate> missingKeys;  // Templates of unknown keys (the key itself)
+    private final Map<UUID, String> playerLanguages;  // Resolved language per online player
+    private final Map<UUID, String> preferences;  // Languages chosen with /vote language
+    private final AtomicReference<Map<UUID, String>> pendingSave;  // Preferences not written yet, null when saved
     private String currentLanguage;
-    private FileConfiguration currentConfig;
+    private Map<String, MessageTemplate> currentTemplates;
+    private boolean perPlayer;
 
     private static final String[] SUPPORTED_LANGUAGES = {"en-US", "zh-CN", "en-UK"};
     private static final String DEFAULT_LANGUAGE = "en-US";
+    private static final String PREFERENCES_FILE = "language-preferences.yml";
 
     private LanguageManager(Plugin plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.languages = new HashMap<>();
+        this.templates = new HashMap<>();
+        this.missingKeys = new ConcurrentHashMap<>();
+        this.playerLanguages = new ConcurrentHashMap<>();
+        this.preferences = new ConcurrentHashMap<>();
+        this.pendingSave = new AtomicReference<>();
         this.currentLanguage = DEFAULT_LANGUAGE;
     }
 
@@ -87,6 +113,7 @@ public class LanguageManager {
             if (langFile.exists()) {
                 FileConfiguration config = YamlConfiguration.loadConfiguration(langFile);
                 languages.put(lang, config);
+                templates.put(lang, compile(config));
                 logger.info("Loaded language: " + lang);
             }
         }
@@ -98,6 +125,83 @@ public class LanguageManager {
         String configuredLang = plugin.getConfig().getString("language", DEFAULT_LANGUAGE);
         logger.info("Loading language from config: " + configuredLang);
         setLanguage(configuredLang);
+
+        perPlayer = plugin.getConfig().getBoolean("language-per-player", true);
+        loadPreferences();
+    }
+
+    /**
+     * Load the languages players chose with /vote language.
+     */
+    private void loadPreferences() {
+        // Read back what was chosen since the last save, not the file before it
+        flushPreferences();
+        preferences.clear();
+        File file = new File(plugin.getDataFolder(), PREFERENCES_FILE);
+        if (!file.exists()) {
+            return;
+        }
+        FileConfiguration config = YamlConfiguration.loadConfiguration(file);
+        for (String key : config.getKeys(false)) {
+            String language = config.getString(key);
+            try {
+                if (language != null && languages.containsKey(language)) {
+                    preferences.put(UUID.fromString(key), language);
+                }
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid UUID in " + PREFERENCES_FILE + ": " + key);
+            }
+        }
+    }
+
+    /**
+     * Save the languages players chose with /vote language off the server thread.
+     * Changes made before a queued save runs are written with it.
+     */
+    private void savePreferences() {
+        if (pendingSave.getAndSet(new HashMap<>(preferences)) == null) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, this::flushPreferences);
+        }
+    }
+
+    /**
+     * Write preferences that are waiting to be saved, on the calling thread.
+     * Called on disable, so the last changes are not lost with the queued save.
+     */
+    public synchronized void flushPreferences() {
+        Map<UUID, String> pending = pendingSave.getAndSet(null);
+        if (pending == null) {
+            return;
+        }
+        YamlConfiguration config = new YamlConfiguration();
+        for (Map.Entry<UUID, String> entry : pending.entrySet()) {
+            config.set(entry.getKey().toString(), entry.getValue());
+        }
+        try {
+            config.save(new File(plugin.getDataFolder(), PREFERENCES_FILE));
+        } catch (IOException e) {
+            logger.severe("Failed to save " + PREFERENCES_FILE + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compile every message of a language file.
+     *
+     * @param config The language file
+     * @return Map of message key to template
+     */
+    private static Map<String, MessageTemplate> compile(FileConfiguration config) {
+        Map<String, MessageTemplate> compiled = new HashMap<>();
+        for (String key : config.getKeys(true)) {
+            if (config.isConfigurationSection(key)) {
+                continue;
+            }
+            String message = config.getString(key);
+            if (message != null) {
+                compiled.put(key, MessageTemplate.compile(message));
+            }
+        }
+        return compiled;
     }
 
     /**
@@ -107,9 +211,12 @@ public class LanguageManager {
      * @return true if language was set successfully
      */
     public boolean setLanguage(String language) {
+        // Players without a matching locale resolved to the old language
+        playerLanguages.clear();
+
         if (languages.containsKey(language)) {
             this.currentLanguage = language;
-            this.currentConfig = languages.get(language);
+            this.currentTemplates = templates.get(language);
             logger.info("Language set to: " + language);
             return true;
         }
@@ -118,7 +225,7 @@ public class LanguageManager {
         for (String key : languages.keySet()) {
             if (key.equalsIgnoreCase(language)) {
                 this.currentLanguage = key;
-                this.currentConfig = languages.get(key);
+                this.currentTemplates = templates.get(key);
                 logger.info("Language set to: " + key + " (matched from " + language + ")");
                 return true;
             }
@@ -126,7 +233,7 @@ public class LanguageManager {
         
         logger.warning("Language not found: " + language + ", using default: " + DEFAULT_LANGUAGE);
         this.currentLanguage = DEFAULT_LANGUAGE;
-        this.currentConfig = languages.get(DEFAULT_LANGUAGE);
+        this.currentTemplates = templates.get(DEFAULT_LANGUAGE);
         return false;
     }
 
@@ -137,20 +244,52 @@ public class LanguageManager {
      * @return Translated message, or key if not found
      */
     public String getMessage(String key) {
-        if (currentConfig == null) {
-            return key;
+        return getTemplate(key).getSource();
+    }
+
+    /**
+     * Get the compiled template of a message.
+     * Falls back to the default language, then to the key itself.
+     *
+     * @param key Message key (e.g., "voting.not_active")
+     * @return The message template
+     */
+    public MessageTemplate getTemplate(String key) {
+        return lookup(currentTemplates, key);
+    }
+
+    /**
+     * Get the compiled template of a message in a specific language.
+     * Falls back to the default language, then to the key itself.
+     *
+     * @param language Language code, or null for the current language
+     * @param key Message key
+     * @return The message template
+     */
+    public MessageTemplate getTemplate(String language, String key) {
+        Map<String, MessageTemplate> selected = null;
+        if (language != null && !language.equals(currentLanguage)) {
+            selected = templates.get(language);
         }
+        return lookup(selected != null ? selected : currentTemplates, key);
+    }
 
-        String message = currentConfig.getString(key);
-        if (message == null) {
-            // Fallback to default language
-            FileConfiguration defaultConfig = languages.get(DEFAULT_LANGUAGE);
-            if (defaultConfig != null) {
-                message = defaultConfig.getString(key);
+    private MessageTemplate lookup(Map<String, MessageTemplate> current, String key) {
+        MessageTemplate template = null;
+        if (current != null) {
+            template = current.get(key);
+            if (template == null) {
+                // Fallback to default language
+                Map<String, MessageTemplate> defaults = templates.get(DEFAULT_LANGUAGE);
+                if (defaults != null) {
+                    template = defaults.get(key);
+                }
             }
         }
-
-        return message != null ? message : key;
+        if (template == null) {
+            template = missingKeys.computeIfAbsent(key, MessageTemplate::compile);
+        }
+        return template;
     }
 
     /**
@@ -161,15 +300,7 @@ public class LanguageManager {
      * @return Translated message with placeholders replaced
      */
     public String getMessage(String key, Map<String, String> placeholders) {
-        String message = getMessage(key);
-        
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-        }
-        
-        return message;
+        return getTemplate(key).format(placeholders);
     }
 
     /**
@@ -180,10 +311,216 @@ public class LanguageManager {
      * @param placeholderValue Placeholder value
      * @return Translated message with placeholder replaced
      */
-    public String getMessage(String key, String placeholderKey, String placeholderValue) {
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put(placeholderKey, placeholderValue);
-        return getMessage(key, placeholders);
+    public String getMessage(String key, String placeholderKey, Object placeholderValue) {
+        return getTemplate(key).format(placeholderKey, placeholderValue);
+    }
+
+    /**
+     * Get a translated message with two placeholders.
+     *
+     * @param key Message key
+     * @param firstKey First placeholder key (without braces)
+     * @param firstValue First placeholder value
+     * @param secondKey Second placeholder key (without braces)
+     * @param secondValue Second placeholder value
+     * @return Translated message with placeholders replaced
+     */
+    public String getMessage(String key, String firstKey, Object firstValue, String secondKey, Object secondValue) {
+        return getTemplate(key).format(firstKey, firstValue, secondKey, secondValue);
+    }
+
+    /**
+     * Get a translated message in a player's language.
+     *
+     * @param player The player, or null for the current language
+     * @param key Message key
+     * @return Translated message, or key if not found
+     */
+    public String getMessage(Player player, String key) {
+        return getTemplate(getLanguage(player), key).getSource();
+    }
+
+    /**
+     * Get a translated message in a player's language with placeholder replacements.
+     *
+     * @param player The player, or null for the current language
+     * @param key Message key
+     * @param placeholders Map of placeholder keys to values
+     * @return Translated message with placeholders replaced
+     */
+    public String getMessage(Player player, String key, Map<String, String> placeholders) {
+        return getTemplate(getLanguage(player), key).format(placeholders);
+    }
+
+    /**
+     * Get a translated message in a player's language with single placeholder.
+     *
+     * @param player The player, or null for the current language
+     * @param key Message key
+     * @param placeholderKey Placeholder key (without braces)
+     * @param placeholderValue Placeholder value
+     * @return Translated message with placeholder replaced
+     */
+    public String getMessage(Player player, String key, String placeholderKey, Object placeholderValue) {
+        return getTemplate(getLanguage(player), key).format(placeholderKey, placeholderValue);
+    }
+
+    /**
+     * Get a translated message in a player's language with two placeholders.
+     *
+     * @param player The player, or null for the current language
+     * @param key Message key
+     * @param firstKey First placeholder key (without braces)
+     * @param firstValue First placeholder value
+     * @param secondKey Second placeholder key (without braces)
+     * @param secondValue Second placeholder value
+     * @return Translated message with placeholders replaced
+     */
+    public String getMessage(Player player, String key, String firstKey, Object firstValue,
+                             String secondKey, Object secondValue) {
+        return getTemplate(getLanguage(player), key).format(firstKey, firstValue, secondKey, secondValue);
+    }
+
+    /**
+     * Get the language a player sees.
+     * Their stored preference, else the language matching their client locale,
+     * else the current language.
+     *
+     * @param player The player, or null for the current language
+     * @return Language code
+     */
+    public String getLanguage(Player player) {
+        if (player == null || !perPlayer) {
+            return currentLanguage;
+        }
+        UUID uuid = player.getUniqueId();
+        String cached = playerLanguages.get(uuid);
+        if (cached != null) {
+            return cached;
+        }
+        String language = resolve(uuid, player.locale().toLanguageTag());
+        if (player.isOnline()) {
+            playerLanguages.put(uuid, language);
+        }
+        return language;
+    }
+
+    private String resolve(UUID uuid, String locale) {
+        String language = preferences.get(uuid);
+        if (language == null) {
+            language = matchLanguage(locale);
+        }
+        return language != null ? language : currentLanguage;
+    }
+
+    /**
+     * Match a client locale to a loaded language.
+     * Accepts Minecraft locales ("zh_cn") and language tags ("zh-CN"). Without an
+     * exact match, a locale of the same base language is used: the current
+     * language if it is one, else the first supported one.
+     *
+     * @param locale The locale
+     * @return Language code, or null if no language matches
+     */
+    public String matchLanguage(String locale) {
+        if (locale == null || locale.isEmpty()) {
+            return null;
+        }
+        String tag = locale.replace('_', '-');
+        if ("en-GB".equalsIgnoreCase(tag)) {
+            tag = "en-UK";
+        }
+        for (String language : languages.keySet()) {
+            if (language.equalsIgnoreCase(tag)) {
+                return language;
+            }
+        }
+
+        int separator = tag.indexOf('-');
+        String base = (separator < 0 ? tag : tag.substring(0, separator)).toLowerCase(Locale.ROOT) + "-";
+        if (currentLanguage.toLowerCase(Locale.ROOT).startsWith(base)) {
+            return currentLanguage;
+        }
+        for (String language : SUPPORTED_LANGUAGES) {
+            if (languages.containsKey(language) && language.toLowerCase(Locale.ROOT).startsWith(base)) {
+                return language;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Update a player's language after their client locale changed.
+     *
+     * @param player The player
+     * @param locale The new client locale, as a language tag or Minecraft locale
+     * @return true if the player's language changed
+     */
+    public boolean updateLocale(Player player, String locale) {
+        if (!perPlayer) {
+            return false;
+        }
+        UUID uuid = player.getUniqueId();
+        String language = resolve(uuid, locale);
+        String previous = playerLanguages.put(uuid, language);
+        return previous != null && !previous.equals(language);
+    }
+
+    /**
+     * Store the language a player chose.
+     *
+     * @param player The player
+     * @param language Language code, or null to follow the client locale again
+     * @return The language code that was stored, or null if cleared or not found
+     */
+    public String setPreference(Player player, String language) {
+        UUID uuid = player.getUniqueId();
+        String matched = null;
+        if (language == null) {
+            preferences.remove(uuid);
+        } else {
+            for (String key : languages.keySet()) {
+                if (key.equalsIgnoreCase(language)) {
+                    matched = key;
+                    break;
+                }
+            }
+            if (matched == null) {
+                return null;
+            }
+            preferences.put(uuid, matched);
+        }
+        playerLanguages.remove(uuid);
+        savePreferences();
+        return matched;
+    }
+
+    /**
+     * Get the language a player chose with /vote language.
+     *
+     * @param uuid The player's UUID
+     * @return Language code, or null if the player follows their client locale
+     */
+    public String getPreference(UUID uuid) {
+        return preferences.get(uuid);
+    }
+
+    /**
+     * Forget the cached language of a player who left.
+     *
+     * @param uuid The player's UUID
+     */
+    public void forgetPlayer(UUID uuid) {
+        playerLanguages.remove(uuid);
+    }
+
+    /**
+     * Check if players see their own language.
+     *
+     * @return true if language-per-player is enabled
+     */
+    public boolean isPerPlayer() {
+        return perPlayer;
     }
 
     /**
@@ -209,6 +546,9 @@ public class LanguageManager {
      */
     public void reload() {
         languages.clear();
+        templates.clear();
+        missingKeys.clear();
+        playerLanguages.clear();
         loadLanguages();
     }
 }
@@ -0,0 +1,191 @@
+package com.talexck.gameVoting.utils.language;
+
+import com.talexck.gameVoting.utils.ColorUtil;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A translated message compiled into literal segments and {placeholder} slots.
+ *
+ * Filling a template is a single pass over the segments into one StringBuilder:
+ * no per-placeholder String.replace and no placeholder map for the common
+ * one and two placeholder cases. Values are inserted as-is, so a value that
+ * itself contains "{name}" is never expanded again. Placeholders without a
+ * value stay in the output unchanged.
+ *
+ * Templates without placeholders also keep their parsed Component.
+ *
+ * Instances are immutable and shared by all threads.
+ */
+public final class MessageTemplate {
+    private final String source;
+    private final String[] literals;  // literals.length == slots.length + 1
+    private final String[] slots;     // Placeholder names, in order of appearance
+    private final int literalLength;
+    private volatile Component component;  // Parsed on first use, placeholder-free templates only
+
+    private MessageTemplate(String source, String[] literals, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a message into a template.
+     * Placeholders are {name} where the name consists of letters, digits, '_' or '-'.
+     *
+     * @param source The raw message
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int literalStart = 0;
+        int open = source.indexOf('{');
+        while (open >= 0) {
+            int close = source.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close > open + 1 && isName(source, open + 1, close)) {
+                literals.add(source.substring(literalStart, open));
+                slots.add(source.substring(open + 1, close));
+                literalStart = close + 1;
+                open = source.indexOf('{', literalStart);
+            } else {
+                open = source.indexOf('{', open + 1);
+            }
+        }
+        literals.add(source.substring(literalStart));
+        return new MessageTemplate(source, literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    private static boolean isName(String source, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the raw message the template was compiled from.
+     *
+     * @return The message with placeholders unfilled
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Check if the template has any placeholder slots.
+     *
+     * @return true if there are placeholders
+     */
+    public boolean hasPlaceholders() {
+        return slots.length > 0;
+    }
+
+    /**
+     * Get the parsed Component of the raw message.
+     * Parsed once for templates without placeholders.
+     *
+     * @return The colorized message
+     */
+    public Component toComponent() {
+        if (slots.length > 0) {
+            return ColorUtil.colorize(source);
+        }
+        Component parsed = component;
+        if (parsed == null) {
+            parsed = ColorUtil.colorize(source);
+            component = parsed;
+        }
+        return parsed;
+    }
+
+    /**
+     * Fill one placeholder.
+     *
+     * @param name Placeholder name (without braces)
+     * @param value Placeholder value
+     * @return The filled message
+     */
+    public String format(String name, Object value) {
+        if (slots.length == 0) {
+            return source;
+        }
+        String text = String.valueOf(value);
+        StringBuilder builder = new StringBuilder(literalLength + text.length() * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            appendSlot(builder, slots[i], slots[i].equals(name) ? text : null);
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Fill two placeholders.
+     *
+     * @param name1 First placeholder name
+     * @param value1 First placeholder value
+     * @param name2 Second placeholder name
+     * @param value2 Second placeholder value
+     * @return The filled message
+     */
+    public String format(String name1, Object value1, String name2, Object value2) {
+        if (slots.length == 0) {
+            return source;
+        }
+        String text1 = String.valueOf(value1);
+        String text2 = String.valueOf(value2);
+        StringBuilder builder = new StringBuilder(literalLength + (text1.length() + text2.length()) * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            String slot = slots[i];
+            appendSlot(builder, slot, slot.equals(name1) ? text1 : slot.equals(name2) ? text2 : null);
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Fill placeholders from a map.
+     *
+     * @param placeholders Map of placeholder names to values, may be null
+     * @return The filled message
+     */
+    public String format(Map<String, String> placeholders) {
+        if (slots.length == 0 || placeholders == null || placeholders.isEmpty()) {
+            return source;
+        }
+        StringBuilder builder = new StringBuilder(literalLength + 16 * slots.length);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            appendSlot(builder, slots[i], placeholders.get(slots[i]));
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+
+    private static void appendSlot(StringBuilder builder, String slot, String value) {
+        if (value != null) {
+            builder.append(value);
+        } else {
+            builder.append('{').append(slot).append('}');  // Unfilled placeholders are kept
+        }
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
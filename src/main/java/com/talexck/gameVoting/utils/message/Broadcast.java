@@ -0,0 +1,182 @@
+package com.talexck.gameVoting.utils.message;
+
+import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.language.LanguageManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder for multi-line broadcasts.
+ * Collects lines, renders them into a single Component joined with newlines
+ * and sends it as one chat message per player. Translated lines are rendered
+ * once per language the recipients see, not once per player.
+ *
+ * Usage:
+ * <pre>
+ * Broadcast.to(session.getPlayers())
+ *     .translated("general.separator")
+ *     .blank()
+ *     .translated("voting.total_votes", "count", voters)
+ *     .queue();
+ * </pre>
+ *
+ * send() delivers immediately. queue() hands the lines to BroadcastQueue,
+ * which merges everything queued during the same tick into one message per player.
+ */
+public final class Broadcast {
+    private final List<? extends Player> players;
+    private final List<Line> lines;
+
+    private Broadcast(Collection<? extends Player> players) {
+        // Copy, room player collections are live views
+        this.players = players == null ? List.of() : new ArrayList<>(players);
+        this.lines = new ArrayList<>();
+    }
+
+    /**
+     * Start a broadcast to a group of players.
+     *
+     * @param players The players to send the message to
+     * @return A new broadcast builder
+     */
+    public static Broadcast to(Collection<? extends Player> players) {
+        return new Broadcast(players);
+    }
+
+    /**
+     * Start a broadcast to all online players.
+     *
+     * @return A new broadcast builder
+     */
+    public static Broadcast toAll() {
+        return new Broadcast(Bukkit.getOnlinePlayers());
+    }
+
+    /**
+     * Add a line. Null lines are skipped.
+     *
+     * @param message The line (supports & codes and MiniMessage format)
+     * @return This builder
+     */
+    public Broadcast line(String message) {
+        if (message != null) {
+            lines.add(language -> message);
+        }
+        return this;
+    }
+
+    /**
+     * Add an empty line.
+     *
+     * @return This builder
+     */
+    public Broadcast blank() {
+        lines.add(language -> "");
+        return this;
+    }
+
+    /**
+     * Add a translated line.
+     *
+     * @param key The translation key
+     * @return This builder
+     */
+    public Broadcast translated(String key) {
+        lines.add(language -> LanguageManager.getInstance().getTemplate(language, key).getSource());
+        return this;
+    }
+
+    /**
+     * Add a translated line with placeholders.
+     *
+     * @param key The translation key
+     * @param placeholders Map of placeholder keys to values
+     * @return This builder
+     */
+    public Broadcast translated(String key, Map<String, String> placeholders) {
+        lines.add(language -> LanguageManager.getInstance().getTemplate(language, key).format(placeholders));
+        return this;
+    }
+
+    /**
+     * Add a translated line with one placeholder.
+     *
+     * @param key The translation key
+     * @param placeholderKey Placeholder key (without braces)
+     * @param placeholderValue Placeholder value
+     * @return This builder
+     */
+    public Broadcast translated(String key, String placeholderKey, Object placeholderValue) {
+        lines.add(language -> LanguageManager.getInstance().getTemplate(language, key)
+                .format(placeholderKey, placeholderValue));
+        return this;
+    }
+
+    /**
+     * Send the lines now, as one chat message per player.
+     */
+    public void send() {
+        if (lines.isEmpty() || players.isEmpty()) {
+            return;
+        }
+        Map<String, Component> rendered = new HashMap<>(4);
+        for (Player player : players) {
+            player.sendMessage(rendered.computeIfAbsent(languageOf(player), language -> render(lines, language)));
+        }
+    }
+
+    /**
+     * Send the lines with everything else queued in this tick.
+     */
+    public void queue() {
+        if (lines.isEmpty() || players.isEmpty()) {
+            return;
+        }
+        BroadcastQueue.getInstance().enqueue(players, lines);
+    }
+
+    /**
+     * Render lines into one Component joined with newlines.
+     *
+     * @param lines The lines
+     * @param language Language code, or null for the current language
+     * @return The rendered message
+     */
+    static Component render(List<Line> lines, String language) {
+        if (lines.size() == 1) {
+            return ColorUtil.colorize(lines.get(0).render(language));
+        }
+        List<Component> components = new ArrayList<>(lines.size());
+        for (Line line : lines) {
+            components.add(ColorUtil.colorize(line.render(language)));
+        }
+        return Component.join(JoinConfiguration.newlines(), components);
+    }
+
+    /**
+     * Get the language a player sees.
+     *
+     * @param player The player
+     * @return Language code, or null without a LanguageManager
+     */
+    static String languageOf(Player player) {
+        LanguageManager languageManager = LanguageManager.getInstance();
+        return languageManager != null ? languageManager.getLanguage(player) : null;
+    }
+
+    /**
+     * A line of a broadcast, rendered per language.
+     */
+    @FunctionalInterface
+    interface Line {
+        String render(String language);
+    }
+}
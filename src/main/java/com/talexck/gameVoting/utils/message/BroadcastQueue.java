@@ -0,0 +1,143 @@
+package com.talexck.gameVoting.utils.message;
+
+import com.talexck.gameVoting.GameVoting;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Singleton queue that merges broadcasts issued during the same tick.
+ *
+ * Broadcasts queued in one tick are flushed together on the next tick: each
+ * batch is rendered once per language, and every player gets a single chat
+ * message holding the batches addressed to them, in queue order. Players who
+ * see the same language and received the same batches share one rendered
+ * Component.
+ *
+ * Main thread only. Without a running plugin (e.g. in unit tests) batches are
+ * flushed immediately.
+ */
+public class BroadcastQueue {
+    private static BroadcastQueue instance;
+
+    private final List<Batch> batches;
+    private boolean flushScheduled;
+
+    private BroadcastQueue() {
+        this.batches = new ArrayList<>();
+    }
+
+    /**
+     * Get the singleton instance of BroadcastQueue.
+     *
+     * @return The BroadcastQueue instance
+     */
+    public static BroadcastQueue getInstance() {
+        if (instance == null) {
+            instance = new BroadcastQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Queue lines for a group of players.
+     *
+     * @param players The players to send the lines to
+     * @param lines The lines
+     */
+    void enqueue(List<? extends Player> players, List<Broadcast.Line> lines) {
+        batches.add(new Batch(players, lines));
+        if (flushScheduled) {
+            return;
+        }
+
+        GameVoting plugin = GameVoting.getInstance();
+        if (plugin == null || !plugin.isEnabled()) {
+            flush();
+            return;
+        }
+        flushScheduled = true;
+        Bukkit.getScheduler().runTask(plugin, this::flush);
+    }
+
+    /**
+     * Send all queued batches now.
+     */
+    public void flush() {
+        flushScheduled = false;
+        if (batches.isEmpty()) {
+            return;
+        }
+        List<Batch> pending = new ArrayList<>(batches);
+        batches.clear();
+
+        // Which batches each player receives, in queue order
+        Map<Player, BitSet> received = new LinkedHashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            for (Player player : pending.get(i).players) {
+                received.computeIfAbsent(player, p -> new BitSet()).set(i);
+            }
+        }
+
+        // Language -> batches received -> merged message
+        Map<String, Map<BitSet, Component>> rendered = new HashMap<>(4);
+        int distinct = 0;
+        for (Map.Entry<Player, BitSet> entry : received.entrySet()) {
+            Player player = entry.getKey();
+            if (!player.isOnline()) {
+                continue;
+            }
+            String language = Broadcast.languageOf(player);
+            Map<BitSet, Component> messages = rendered.computeIfAbsent(language, l -> new HashMap<>());
+            Component message = messages.get(entry.getValue());
+            if (message == null) {
+                message = merge(pending, entry.getValue(), language);
+                messages.put(entry.getValue(), message);
+                distinct++;
+            }
+            player.sendMessage(message);
+        }
+
+        int messages = distinct;
+        DebugTrace.trace("broadcast", () -> String.format(
+                "Flushed %d broadcast(s) as %d distinct message(s) in %d language(s) to %d player(s)",
+                pending.size(), messages, rendered.size(), received.size()));
+    }
+
+    private static Component merge(List<Batch> pending, BitSet set, String language) {
+        if (set.cardinality() == 1) {
+            return pending.get(set.nextSetBit(0)).render(language);
+        }
+        List<Component> components = new ArrayList<>(set.cardinality());
+        for (int i = set.nextSetBit(0); i >= 0; i = set.nextSetBit(i + 1)) {
+            components.add(pending.get(i).render(language));
+        }
+        return Component.join(JoinConfiguration.newlines(), components);
+    }
+
+
+    private static final class Batch {
+        private final List<? extends Player> players;
+        private final List<Broadcast.Line> lines;
+        private final Map<String, Component> rendered;  // Language -> rendered lines
+
+        private Batch(List<? extends Player> players, List<Broadcast.Line> lines) {
+            this.players = players;
+            this.lines = lines;
+            this.rendered = new HashMap<>(4);
+        }
+
+        private Component render(String language) {
+            return rendered.computeIfAbsent(language, l -> Broadcast.render(lines, l));
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.talexck.gameVoting.utils.message;
 
-import com.talexck.gameVoting.GameVoting;
 import com.talexck.gameVoting.utils.ColorUtil;
+import com.talexck.gameVoting.utils.debug.DebugTrace;
 import com.talexck.gameVoting.utils.language.LanguageManager;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -18,6 +20,9 @@ import java.util.Map;
  * - Single and multiple line messages
  * - Broadcasting to all players
  * - Permission-based broadcasting
+ * - Broadcasting to a group of players (e.g. a voting room)
+ * - Multi-line broadcasts as one message per player (see Broadcast)
+ * - Translated messages in each player's language, rendered once per language
  * - Optional debug logging
  */
 public class MessageUtil {
@@ -36,12 +41,8 @@ public class MessageUtil {
         Component component = ColorUtil.colorize(message);
         player.sendMessage(component);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Sent message to %s: %s",
-                            player.getName(), ColorUtil.stripColors(message))
-            );
-        }
+        DebugTrace.trace("message", () -> String.format("Sent message to %s: %s",
+                player.getName(), ColorUtil.stripColors(message)));
     }
 
     /**
@@ -73,12 +74,8 @@ public class MessageUtil {
         Component component = ColorUtil.colorize(message);
         Bukkit.getServer().sendMessage(component);
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Broadcast message: %s",
-                            ColorUtil.stripColors(message))
-            );
-        }
+        DebugTrace.trace("message", () -> String.format("Broadcast message: %s",
+                ColorUtil.stripColors(message)));
     }
 
     /**
@@ -102,12 +99,29 @@ public class MessageUtil {
             }
         }
 
-        if (isDebugEnabled()) {
-            GameVoting.getInstance().getLogger().info(
-                    String.format("[DEBUG] Broadcast message to %d players with permission '%s': %s",
-                            recipients, permission, ColorUtil.stripColors(message))
-            );
+        int sent = recipients;
+        DebugTrace.trace("message", () -> String.format("Broadcast message to %d players with permission '%s': %s",
+                sent, permission, ColorUtil.stripColors(message)));
+    }
+
+    /**
+     * Broadcast a colored message to a group of players.
+     *
+     * @param players The players to send the message to
+     * @param message The message to broadcast
+     */
+    public static void broadcast(Collection<? extends Player> players, String message) {
+        if (players == null || message == null || message.isEmpty()) {
+            return;
+        }
+
+        Component component = ColorUtil.colorize(message);
+        for (Player player : players) {
+            player.sendMessage(component);
         }
+
+        DebugTrace.trace("message", () -> String.format("Broadcast message to %d players: %s",
+                players.size(), ColorUtil.stripColors(message)));
     }
 
     /**
@@ -127,25 +141,25 @@ public class MessageUtil {
     }
 
     /**
-     * Send a translated message to a player.
+     * Send a translated message to a player, in the player's language.
      *
      * @param player The player to send the message to
      * @param key The translation key (e.g., "voting.not_active")
      */
     public static void sendTranslated(Player player, String key) {
-        String message = LanguageManager.getInstance().getMessage(key);
+        String message = LanguageManager.getInstance().getMessage(player, key);
         sendMessage(player, message);
     }
 
     /**
-     * Send a translated message to a player with placeholders.
+     * Send a translated message to a player with placeholders, in the player's language.
      *
      * @param player The player to send the message to
      * @param key The translation key
      * @param placeholders Map of placeholder keys to values
      */
     public static void sendTranslated(Player player, String key, Map<String, String> placeholders) {
-        String message = LanguageManager.getInstance().getMessage(key, placeholders);
+        String message = LanguageManager.getInstance().getMessage(player, key, placeholders);
         sendMessage(player, message);
     }
 
@@ -155,8 +169,7 @@ public class MessageUtil {
      * @param key The translation key
      */
     public static void broadcastTranslated(String key) {
-        String message = LanguageManager.getInstance().getMessage(key);
-        broadcast(message);
+        broadcastTranslated(key, (Map<String, String>) null);
     }
 
     /**
@@ -166,20 +179,51 @@ public class MessageUtil {
      * @param placeholders Map of placeholder keys to values
      */
     public static void broadcastTranslated(String key, Map<String, String> placeholders) {
-        String message = LanguageManager.getInstance().getMessage(key, placeholders);
-        broadcast(message);
+        broadcastTranslated(Bukkit.getOnlinePlayers(), key, placeholders);
+        Bukkit.getConsoleSender().sendMessage(
+                ColorUtil.colorize(LanguageManager.getInstance().getMessage(key, placeholders)));
     }
 
     /**
-     * Check if debug logging is enabled in the config.
+     * Broadcast a translated message to a group of players.
      *
-     * @return true if debug mode is enabled
+     * @param players The players to send the message to
+     * @param key The translation key
      */
-    private static boolean isDebugEnabled() {
-        try {
-            return GameVoting.getInstance().getConfig().getBoolean("debug", false);
-        } catch (Exception e) {
-            return false;
+    public static void broadcastTranslated(Collection<? extends Player> players, String key) {
+        broadcastTranslated(players, key, null);
+    }
+
+    /**
+     * Broadcast a translated message to a group of players with placeholders.
+     * The message is rendered once per language the players see.
+     *
+     * @param players The players to send the message to
+     * @param key The translation key
+     * @param placeholders Map of placeholder keys to values
+     */
+    public static void broadcastTranslated(Collection<? extends Player> players, String key, Map<String, String> placeholders) {
+        if (players == null || players.isEmpty()) {
+            return;
         }
+
+        LanguageManager languageManager = LanguageManager.getInstance();
+        Map<String, Component> rendered = new HashMap<>(4);
+        for (Player player : players) {
+            String language = languageManager.getLanguage(player);
+            Component component = rendered.get(language);
+            if (component == null) {
+                String message = languageManager.getTemplate(language, key).format(placeholders);
+                component = message.isEmpty() ? Component.empty() : ColorUtil.colorize(message);
+                rendered.put(language, component);
+            }
+            if (component != Component.empty()) {
+                player.sendMessage(component);
+            }
+        }
+
+        DebugTrace.trace("message", () -> String.format("Broadcast '%s' to %d players in %d language(s)",
+                key, players.size(), rendered.size()));
     }
+
 }
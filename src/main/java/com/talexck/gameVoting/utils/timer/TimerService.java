@@ -0,0 +1,82 @@
+package com.talexck.gameVoting.utils.timer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Singleton service for short per-player timeouts (invites, cooldowns, timed boss bars).
+ *
+ * All timers share one timing wheel advanced by a single scheduler task, so a
+ * timeout costs one small object instead of a BukkitTask, and expired timers
+ * are run in bulk once per tick. The wheel holds at most MAX_PENDING timers;
+ * when it is full schedule() returns null and the caller falls back to its
+ * own lazy check.
+ *
+ * Main thread only.
+ */
+public class TimerService {
+    public static final int MAX_PENDING = 65_536;
+
+    private static TimerService instance;
+
+    private final TimingWheel wheel;
+    private BukkitTask task;
+
+    private TimerService() {
+        this.wheel = new TimingWheel(MAX_PENDING);
+    }
+
+    /**
+     * Get the singleton instance of TimerService.
+     *
+     * @return The TimerService instance
+     */
+    public static TimerService getInstance() {
+        if (instance == null) {
+            instance = new TimerService();
+        }
+        return instance;
+    }
+
+    /**
+     * Start advancing the wheel every tick, if not already started.
+     *
+     * @param plugin Plugin instance for scheduling
+     */
+    public void start(Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, wheel::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop advancing the wheel. Pending timers are kept and resume on the next start.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Schedule a task.
+     *
+     * @param delayTicks Ticks until the task runs
+     * @param runnable The task to run
+     * @return Handle to cancel the timer, or null if too many timers are pending
+     */
+    public TimingWheel.Timeout schedule(long delayTicks, Runnable runnable) {
+        return wheel.schedule(delayTicks, runnable);
+    }
+
+    /**
+     * Get the number of pending timers.
+     *
+     * @return Pending timer count
+     */
+    public int getPendingCount() {
+        return wheel.size();
+    }
+}
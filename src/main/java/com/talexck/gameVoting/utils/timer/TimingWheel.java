@@ -0,0 +1,228 @@
+package com.talexck.gameVoting.utils.timer;
+
+/**
+ * Hierarchical hashed timing wheel counting in server ticks.
+ *
+ * Four levels of 64 slots each cover delays of up to 2^24 ticks (about 9.7 days);
+ * longer delays are clamped. A timer sits in the slot of the lowest level whose
+ * range covers its deadline and moves one level down each time that level wraps,
+ * so scheduling and cancelling are O(1) and every timer is touched at most four
+ * times before it fires, no matter how many other timers are pending.
+ *
+ * The number of pending timers is capped; schedule() returns null when the cap
+ * is reached, so callers must handle a missing timeout.
+ *
+ * Not thread-safe, use from one thread (the main thread for TimerService).
+ */
+public class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final Timeout[][] wheel;  // [level][slot] -> head of a doubly linked list
+    private final int capacity;
+    private int size;
+    private long tick;
+
+    /**
+     * Create an empty timing wheel.
+     *
+     * @param capacity Maximum number of pending timers
+     */
+    public TimingWheel(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.wheel = new Timeout[LEVELS][SLOTS];
+        this.capacity = capacity;
+    }
+
+    /**
+     * Schedule a task.
+     *
+     * @param delayTicks Ticks until the task runs (at least 1, at most MAX_DELAY)
+     * @param task The task to run
+     * @return Handle to cancel the timer, or null if the wheel is full
+     */
+    public Timeout schedule(long delayTicks, Runnable task) {
+        if (size >= capacity) {
+            return null;
+        }
+        long delay = Math.max(1L, Math.min(MAX_DELAY, delayTicks));
+        Timeout timeout = new Timeout(this, tick + delay, task);
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Advance the wheel by one tick and run every timer due at the new tick.
+     * Timers scheduled by those tasks run on a later tick.
+     *
+     * @return Number of timers that fired
+     */
+    public int tick() {
+        tick++;
+
+        // Move the next block of each wrapped level one level down
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (level * SLOT_BITS)) - 1)) != 0) {
+                break;
+            }
+            cascade(level, (int) (tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+        }
+
+        // Pop one timer at a time, so tasks can cancel timers due in the same tick.
+        // Timers scheduled by tasks never land in this slot (delays of 64+ ticks start on level 1)
+        int slot = (int) tick & SLOT_MASK;
+        int fired = 0;
+        RuntimeException failure = null;
+        Timeout due;
+        while ((due = wheel[0][slot]) != null) {
+            wheel[0][slot] = due.next;
+            if (due.next != null) {
+                due.next.prev = null;
+            }
+            due.unlink();
+            size--;
+            fired++;
+            try {
+                due.task.run();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return fired;
+    }
+
+    /**
+     * Get the number of pending timers.
+     *
+     * @return Pending timer count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the maximum number of pending timers.
+     *
+     * @return Timer capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Get the number of ticks the wheel has advanced.
+     *
+     * @return Current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    private void insert(Timeout timeout) {
+        long delta = timeout.deadline - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+        int slot = (int) (timeout.deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+
+        Timeout head = wheel[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        wheel[level][slot] = timeout;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout timeout = wheel[level][slot];
+        wheel[level][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            insert(timeout);  // Deadline is now within the lower levels' range
+            timeout = next;
+        }
+    }
+
+    /**
+     * Handle of a scheduled timer.
+     */
+    public static final class Timeout {
+        private TimingWheel owner;  // Null once fired or cancelled
+        private final long deadline;
+        private final Runnable task;
+        private int level;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(TimingWheel owner, long deadline, Runnable task) {
+            this.owner = owner;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Cancel the timer without running it.
+         *
+         * @return true if the timer was still pending
+         */
+        public boolean cancel() {
+            TimingWheel wheel = owner;
+            if (wheel == null) {
+                return false;
+            }
+            if (prev != null) {
+                prev.next = next;
+            } else if (wheel.wheel[level][slot] == this) {
+                wheel.wheel[level][slot] = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            unlink();
+            wheel.size--;
+            return true;
+        }
+
+        /**
+         * Check if the timer has neither fired nor been cancelled.
+         *
+         * @return true if pending
+         */
+        public boolean isPending() {
+            return owner != null;
+        }
+
+        /**
+         * Get the tick at which the timer fires.
+         *
+         * @return Deadline tick of the owning wheel
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        private void unlink() {
+            owner = null;
+            prev = null;
+            next = null;
+        }
+    }
+}
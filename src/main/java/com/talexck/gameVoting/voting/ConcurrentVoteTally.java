@@ -0,0 +1,538 @@
+package com.talexck.gameVoting.voting;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free vote tally that accepts votes from any thread.
+ *
+ * Uses the same packed ballot layout as IndexedVoteTally, but every ballot is an
+ * AtomicLong updated with compare-and-set, so votes from different players never
+ * contend and repeated toggles by one player are linearized on their own ballot.
+ * Per-game counts live in an AtomicIntegerArray and totals in LongAdders.
+ *
+ * In-flight votes are tracked per stripe (chosen by player), each stripe on its
+ * own cache line, so voters do not share a counter. Readers that need a
+ * consistent view (standings, leader, rank, all counts) get an immutable
+ * snapshot, copied seqlock-style while no stripe has a vote in flight and
+ * cached until the next vote. If votes never pause long enough, the reader
+ * recounts from the ballots instead; each ballot is read atomically, so the
+ * counts, total and voters still agree. Readers never hold votes back.
+ *
+ * reset() and clear() must only be called while no votes are being recorded
+ * (i.e. when the session is inactive).
+ */
+public class ConcurrentVoteTally implements VoteTally {
+    private static final int SLOT_BITS = 16;
+    private static final long SLOT_MASK = 0xFFFFL;
+    private static final int MAX_SLOTS = Long.SIZE / SLOT_BITS;
+    private static final int SPARE_GAMES = 64;  // Room for games voted for but not in the catalog
+    private static final int SNAPSHOT_ATTEMPTS = 64;
+    private static final int STRIPE_STRIDE = 16;  // Longs per stripe: 128 bytes, so stripes never share a cache line
+    private static final int STARTED = 0;
+    private static final int COMPLETED = 1;
+
+    private final int maxVotes;
+    private final Map<UUID, AtomicLong> ballots;
+    private final LongAdder voterCount;
+    private final LongAdder totalVotes;
+
+    // Per-stripe started/completed vote counters, used to detect in-flight votes while taking a snapshot
+    private final int stripeMask;
+    private final AtomicLongArray writes;
+    private final ThreadLocal<long[]> startedBuffer;  // Per reader, so snapshots do not allocate
+
+    private volatile Catalog catalog;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Create an empty tally.
+     *
+     * @param maxVotes Maximum number of votes per player (1-4)
+     */
+    public ConcurrentVoteTally(int maxVotes) {
+        if (maxVotes < 1 || maxVotes > MAX_SLOTS) {
+            throw new IllegalArgumentException("maxVotes must be between 1 and " + MAX_SLOTS);
+        }
+        this.maxVotes = maxVotes;
+        this.ballots = new ConcurrentHashMap<>();
+        this.voterCount = new LongAdder();
+        this.totalVotes = new LongAdder();
+        int stripes = Integer.highestOneBit(Math.max(1, Math.min(64, Runtime.getRuntime().availableProcessors() * 2)) * 2 - 1);
+        this.stripeMask = stripes - 1;
+        this.writes = new AtomicLongArray(stripes * STRIPE_STRIDE);
+        this.startedBuffer = ThreadLocal.withInitial(() -> new long[stripes]);
+        this.catalog = new Catalog(SPARE_GAMES);
+    }
+
+    @Override
+    public void reset(List<String> gameIds) {
+        Catalog fresh = new Catalog(gameIds.size() + SPARE_GAMES);
+        for (String gameId : gameIds) {
+            fresh.register(gameId);
+        }
+        catalog = fresh;
+        clearVoters();
+    }
+
+    @Override
+    public void clear() {
+        Catalog current = catalog;
+        for (int i = 0; i < current.counts.length(); i++) {
+            current.counts.set(i, 0);
+        }
+        clearVoters();
+    }
+
+    @Override
+    public VoteResult toggle(UUID playerId, String gameId) {
+        Catalog current = catalog;
+        int game = current.register(gameId);
+        long encoded = game + 1L;
+        AtomicLong ballot = ballots.computeIfAbsent(playerId, k -> new AtomicLong());
+
+        int stripe = beginWrite(playerId);
+        try {
+            while (true) {
+                long before = ballot.get();
+
+                int existing = findSlot(before, encoded);
+                if (existing >= 0) {
+                    // Remove vote, shifting later votes down so slots stay in vote order
+                    long after = removeSlot(before, existing);
+                    if (!ballot.compareAndSet(before, after)) {
+                        continue;
+                    }
+                    current.counts.decrementAndGet(game);
+                    totalVotes.decrement();
+                    if (after == 0) {
+                        voterCount.decrement();
+                    }
+                    return VoteResult.REMOVED;
+                }
+
+                int free = ballotSize(before);
+                if (free >= maxVotes) {
+                    return VoteResult.LIMIT_REACHED;
+                }
+
+                // Add vote after the existing ones (ballots are compact)
+                long after = before | (encoded << (free * SLOT_BITS));
+                if (!ballot.compareAndSet(before, after)) {
+                    continue;
+                }
+                current.counts.incrementAndGet(game);
+                totalVotes.increment();
+                if (before == 0) {
+                    voterCount.increment();
+                }
+                return VoteResult.ADDED;
+            }
+        } finally {
+            writes.incrementAndGet(stripe + COMPLETED);
+        }
+    }
+
+    @Override
+    public boolean hasVotedFor(UUID playerId, String gameId) {
+        Integer game = catalog.index.get(gameId);
+        return game != null && findSlot(ballotOf(playerId), game + 1L) >= 0;
+    }
+
+    @Override
+    public int getBallotSize(UUID playerId) {
+        return ballotSize(ballotOf(playerId));
+    }
+
+    @Override
+    public boolean hasVoted(UUID playerId) {
+        return ballotOf(playerId) != 0;
+    }
+
+    @Override
+    public Set<String> getBallot(UUID playerId) {
+        Catalog current = catalog;
+        long ballot = ballotOf(playerId);
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            int encoded = (int) ((ballot >>> (i * SLOT_BITS)) & SLOT_MASK);
+            if (encoded != 0) {
+                result.add(current.ids.get(encoded - 1));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getCount(String gameId) {
+        Catalog current = catalog;
+        Integer game = current.index.get(gameId);
+        return game == null ? 0 : current.counts.get(game);
+    }
+
+    @Override
+    public Map<String, Integer> getCounts() {
+        Snapshot current = snapshot();
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < current.gameIds.length; i++) {
+            if (current.counts[i] > 0) {
+                result.put(current.gameIds[i], current.counts[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getLeader() {
+        List<String> leaders = snapshot().standings;
+        return leaders.isEmpty() ? null : leaders.get(0);
+    }
+
+    @Override
+    public int getRank(String gameId) {
+        Snapshot current = snapshot();
+        for (int i = 0; i < current.gameIds.length; i++) {
+            if (current.gameIds[i].equals(gameId)) {
+                return current.ranks[i];
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public List<String> getStandings(int limit) {
+        List<String> standings = snapshot().standings;
+        return standings.subList(0, Math.max(0, Math.min(limit, standings.size())));
+    }
+
+    @Override
+    public VoteSnapshot toSnapshot(long version) {
+        Snapshot current = snapshot();
+        LinkedHashMap<String, Integer> standings = new LinkedHashMap<>();
+        int total = 0;
+        for (int game : current.standingOrder) {
+            standings.put(current.gameIds[game], current.counts[game]);
+            total += current.counts[game];
+        }
+        return VoteSnapshot.of(version, standings, current.voterCount, total);
+    }
+
+    @Override
+    public int getVoterCount() {
+        return (int) voterCount.sum();
+    }
+
+    @Override
+    public int getTotalVotes() {
+        return (int) totalVotes.sum();
+    }
+
+    @Override
+    public int getGameCount() {
+        return catalog.size.get();
+    }
+
+    @Override
+    public long getVersion() {
+        // Completed writes only: a vote still in flight bumps the version when it lands
+        long completed = 0;
+        for (int stripe = 0; stripe < writes.length(); stripe += STRIPE_STRIDE) {
+            completed += writes.get(stripe + COMPLETED);
+        }
+        return completed;
+    }
+
+    @Override
+    public String getGameId(int index) {
+        Catalog current = catalog;
+        return index >= 0 && index < current.size.get() ? current.ids.get(index) : null;
+    }
+
+    @Override
+    public int copyBallots(long[] target) {
+        int count = 0;
+        for (AtomicLong ballot : ballots.values()) {
+            long value = ballot.get();
+            if (value != 0) {
+                if (count < target.length) {
+                    target[count] = value;
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get a consistent snapshot of all counts.
+     * Retries while votes are in flight; if writers never pause, the counts are
+     * rebuilt from the ballots instead.
+     *
+     * @return The current snapshot
+     */
+    private Snapshot snapshot() {
+        long[] started = startedBuffer.get();
+        for (int attempt = 0; attempt < SNAPSHOT_ATTEMPTS; attempt++) {
+            Snapshot fresh = tryCopy(started);
+            if (fresh != null) {
+                return fresh;
+            }
+            Thread.onSpinWait();
+        }
+        return countBallots();
+    }
+
+    /**
+     * Build a snapshot from the ballots, without waiting for writers.
+     * Not cached: without a quiet moment there is no version to cache it under.
+     *
+     * @return The snapshot
+     */
+    private Snapshot countBallots() {
+        Catalog current = catalog;
+        int[] counts = new int[current.ids.length()];
+        int voters = 0;
+        for (AtomicLong ballot : ballots.values()) {
+            long value = ballot.get();
+            if (value == 0) {
+                continue;
+            }
+            voters++;
+            for (int i = 0; i < MAX_SLOTS; i++) {
+                int encoded = (int) ((value >>> (i * SLOT_BITS)) & SLOT_MASK);
+                // A ballot left over from before a reset may name a game past this catalog
+                if (encoded != 0 && encoded <= counts.length) {
+                    counts[encoded - 1]++;
+                }
+            }
+        }
+
+        // Games are registered before they appear on a ballot, so this covers every index counted
+        int games = current.size.get();
+        String[] gameIds = new String[games];
+        for (int i = 0; i < games; i++) {
+            gameIds[i] = current.ids.get(i);
+        }
+        return new Snapshot(-1, gameIds, Arrays.copyOf(counts, games), voters);
+    }
+
+    /**
+     * Copy all counts if no vote is in flight before or during the copy.
+     *
+     * @param started Buffer for the started counter of each stripe
+     * @return The snapshot, or null if a vote was in flight
+     */
+    private Snapshot tryCopy(long[] started) {
+        long version = 0;
+        for (int i = 0; i < started.length; i++) {
+            started[i] = writes.get(i * STRIPE_STRIDE + STARTED);
+            version += started[i];
+        }
+        for (int i = 0; i < started.length; i++) {
+            if (writes.get(i * STRIPE_STRIDE + COMPLETED) != started[i]) {
+                return null;
+            }
+        }
+
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version == version) {
+            return cached;
+        }
+
+        Catalog current = catalog;
+        int games = current.size.get();
+        String[] gameIds = new String[games];
+        int[] counts = new int[games];
+        for (int i = 0; i < games; i++) {
+            gameIds[i] = current.ids.get(i);
+            counts[i] = current.counts.get(i);
+        }
+        int voters = (int) voterCount.sum();
+
+        // Discard the copy if a vote started while it was being taken
+        for (int i = 0; i < started.length; i++) {
+            if (writes.get(i * STRIPE_STRIDE + STARTED) != started[i]) {
+                return null;
+            }
+        }
+
+        Snapshot fresh = new Snapshot(version, gameIds, counts, voters);
+        snapshot = fresh;
+        return fresh;
+    }
+
+    /**
+     * Mark a vote as in flight on the player's stripe.
+     *
+     * @param playerId The voting player
+     * @return Index of the stripe's counters
+     */
+    private int beginWrite(UUID playerId) {
+        int hash = playerId.hashCode();
+        int stripe = ((hash ^ (hash >>> 16)) & stripeMask) * STRIPE_STRIDE;
+        writes.incrementAndGet(stripe + STARTED);
+        return stripe;
+    }
+
+    private long ballotOf(UUID playerId) {
+        AtomicLong ballot = ballots.get(playerId);
+        return ballot == null ? 0L : ballot.get();
+    }
+
+    private void clearVoters() {
+        ballots.clear();
+        voterCount.reset();
+        totalVotes.reset();
+        snapshot = null;
+        // Invalidate any snapshot version taken before the reset
+        writes.incrementAndGet(STARTED);
+        writes.incrementAndGet(COMPLETED);
+    }
+
+    /**
+     * Find the slot holding a value in a packed ballot.
+     *
+     * @param ballot The packed ballot
+     * @param encoded The slot value to look for (0 finds a free slot)
+     * @return Slot index, or -1 if not found
+     */
+    private static int findSlot(long ballot, long encoded) {
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            if (((ballot >>> (i * SLOT_BITS)) & SLOT_MASK) == encoded) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove a slot from a packed ballot and shift the following slots down.
+     *
+     * @param ballot The packed ballot
+     * @param slot The slot to remove
+     * @return The compacted ballot
+     */
+    private static long removeSlot(long ballot, int slot) {
+        int shift = slot * SLOT_BITS;
+        long below = ballot & ((1L << shift) - 1);
+        // Shifting a long by 64 is a no-op in Java, so the last slot has nothing above it
+        long above = slot == MAX_SLOTS - 1 ? 0L : (ballot >>> (shift + SLOT_BITS)) << shift;
+        return below | above;
+    }
+
+    private static int ballotSize(long ballot) {
+        int size = 0;
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            if (((ballot >>> (i * SLOT_BITS)) & SLOT_MASK) != 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Game index and per-game counters for one session.
+     * Replaced as a whole on reset so in-flight votes never index a resized array.
+     */
+    private static final class Catalog {
+        private final Map<String, Integer> index;
+        private final AtomicReferenceArray<String> ids;
+        private final AtomicIntegerArray counts;
+        private final AtomicInteger size;
+
+        private Catalog(int capacity) {
+            int bounded = (int) Math.min(capacity, SLOT_MASK - 1);
+            this.index = new ConcurrentHashMap<>();
+            this.ids = new AtomicReferenceArray<>(bounded);
+            this.counts = new AtomicIntegerArray(bounded);
+            this.size = new AtomicInteger();
+        }
+
+        private int register(String gameId) {
+            Integer existing = index.get(gameId);
+            if (existing != null) {
+                return existing;
+            }
+            // Games outside the catalog are rare, so their first registration may lock
+            synchronized (this) {
+                existing = index.get(gameId);
+                if (existing != null) {
+                    return existing;
+                }
+                int next = size.get();
+                if (next >= ids.length()) {
+                    throw new IllegalStateException("Too many games in tally: " + next);
+                }
+                ids.set(next, gameId);
+                size.set(next + 1);
+                index.put(gameId, next);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Immutable view of all counts at one point in time, with precomputed standings.
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final String[] gameIds;
+        private final int[] counts;
+        private final int[] ranks;
+        private final List<String> standings;
+        private final int[] standingOrder;  // Indexes of the games in standings
+        private final int voterCount;
+
+        private Snapshot(long version, String[] gameIds, int[] counts, int voterCount) {
+            this.version = version;
+            this.gameIds = gameIds;
+            this.counts = counts;
+            this.voterCount = voterCount;
+            this.ranks = new int[gameIds.length];
+
+            // Insertion sort by count (descending); catalogs are small
+            int[] order = new int[gameIds.length];
+            for (int i = 0; i < order.length; i++) {
+                int game = i;
+                int j = i - 1;
+                while (j >= 0 && counts[order[j]] < counts[game]) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = game;
+            }
+
+            int voted = 0;
+            for (int i = 0; i < order.length; i++) {
+                int game = order[i];
+                if (counts[game] == 0) {
+                    break;
+                }
+                boolean tied = i > 0 && counts[order[i - 1]] == counts[game];
+                ranks[game] = tied ? ranks[order[i - 1]] : i + 1;
+                voted++;
+            }
+
+            String[] leaders = new String[voted];
+            for (int i = 0; i < voted; i++) {
+                leaders[i] = gameIds[order[i]];
+            }
+            this.standings = Collections.unmodifiableList(Arrays.asList(leaders));
+            this.standingOrder = Arrays.copyOf(order, voted);
+        }
+    }
+}
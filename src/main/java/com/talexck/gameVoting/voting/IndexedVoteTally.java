@@ -0,0 +1,455 @@
+package com.talexck.gameVoting.voting;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Primitive-indexed vote tally used by the voting session on the main thread.
+ *
+ * Every game gets a dense int index when the tally is reset, per-game counts
+ * are kept in an int array and each voter's ballot is packed into a single long
+ * (one 16-bit slot per vote). Voters are stored in an open-addressing table keyed
+ * by the two UUID halves, so casting, toggling and querying votes are O(1) and
+ * do not allocate once a voter has been seen.
+ *
+ * The tally also keeps games ranked by vote count. Games are held in an order
+ * array sorted by count (descending) together with the start position of every
+ * count bucket; since each vote moves a count by exactly one, a vote only swaps
+ * the game with the edge of its bucket, so standings are updated in O(1) and
+ * read without sorting or copying.
+ *
+ * Not thread-safe: all calls are expected on the server main thread.
+ * See ConcurrentVoteTally for off-main-thread vote ingestion.
+ */
+public class IndexedVoteTally implements VoteTally {
+    private static final int SLOT_BITS = 16;
+    private static final long SLOT_MASK = 0xFFFFL;
+    private static final int MAX_SLOTS = Long.SIZE / SLOT_BITS;
+    private static final int MAX_GAMES = (int) SLOT_MASK - 1;
+    private static final int INITIAL_VOTER_CAPACITY = 256;
+
+    private final int maxVotes;
+
+    // Game index: game ID <-> dense index
+    private final Map<String, Integer> gameIndex;
+    private String[] gameIds;
+    private int[] counts;
+    private int gameCount;
+
+    // Standings: order[rank] = game, position[game] = rank,
+    // bucketStart[c] = number of games with more than c votes
+    private int[] order;
+    private int[] position;
+    private int[] bucketStart;
+
+    // Voter table: open addressing with linear probing, never shrinks until clear()
+    private long[] voterMost;
+    private long[] voterLeast;
+    private long[] ballots;
+    private boolean[] occupied;
+    private int voterSlots;
+
+    private int voterCount;  // Voters with at least one vote
+    private int totalVotes;  // Sum of all votes
+    private long version;  // Bumped on every change
+
+    /**
+     * Create an empty tally.
+     *
+     * @param maxVotes Maximum number of votes per player (1-4)
+     */
+    public IndexedVoteTally(int maxVotes) {
+        if (maxVotes < 1 || maxVotes > MAX_SLOTS) {
+            throw new IllegalArgumentException("maxVotes must be between 1 and " + MAX_SLOTS);
+        }
+        this.maxVotes = maxVotes;
+        this.gameIndex = new HashMap<>();
+        this.gameIds = new String[16];
+        this.counts = new int[16];
+        this.order = new int[16];
+        this.position = new int[16];
+        this.bucketStart = new int[16];
+        allocateVoters(INITIAL_VOTER_CAPACITY);
+    }
+
+    @Override
+    public void reset(List<String> catalog) {
+        gameIndex.clear();
+        gameCount = 0;
+        Arrays.fill(gameIds, null);
+        Arrays.fill(counts, 0);
+        Arrays.fill(bucketStart, 0);
+        for (String gameId : catalog) {
+            register(gameId);
+        }
+        clearVoters();
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0, gameCount, 0);
+        Arrays.fill(bucketStart, 0);
+        clearVoters();
+    }
+
+    @Override
+    public VoteResult toggle(UUID playerId, String gameId) {
+        int game = register(gameId);
+        int slot = findOrInsert(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        long ballot = ballots[slot];
+        long encoded = game + 1L;
+
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            int shift = i * SLOT_BITS;
+            if (((ballot >>> shift) & SLOT_MASK) == encoded) {
+                // Remove vote, shifting later votes down so slots stay in vote order
+                ballot = removeSlot(ballot, i);
+                ballots[slot] = ballot;
+                decrement(game);
+                version++;
+                totalVotes--;
+                if (ballot == 0) {
+                    voterCount--;
+                }
+                return VoteResult.REMOVED;
+            }
+        }
+
+        if (ballotSize(ballot) >= maxVotes) {
+            return VoteResult.LIMIT_REACHED;
+        }
+
+        // Add vote after the existing ones (ballots are compact)
+        if (ballot == 0) {
+            voterCount++;
+        }
+        ballots[slot] = ballot | (encoded << (ballotSize(ballot) * SLOT_BITS));
+        increment(game);
+        version++;
+        totalVotes++;
+        return VoteResult.ADDED;
+    }
+
+    @Override
+    public boolean hasVotedFor(UUID playerId, String gameId) {
+        Integer game = gameIndex.get(gameId);
+        if (game == null) {
+            return false;
+        }
+        long ballot = ballotOf(playerId);
+        long encoded = game + 1L;
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            if (((ballot >>> (i * SLOT_BITS)) & SLOT_MASK) == encoded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getBallotSize(UUID playerId) {
+        return ballotSize(ballotOf(playerId));
+    }
+
+    @Override
+    public boolean hasVoted(UUID playerId) {
+        return ballotOf(playerId) != 0;
+    }
+
+    @Override
+    public Set<String> getBallot(UUID playerId) {
+        long ballot = ballotOf(playerId);
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            int encoded = (int) ((ballot >>> (i * SLOT_BITS)) & SLOT_MASK);
+            if (encoded != 0) {
+                result.add(gameIds[encoded - 1]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getCount(String gameId) {
+        Integer game = gameIndex.get(gameId);
+        return game == null ? 0 : counts[game];
+    }
+
+    @Override
+    public Map<String, Integer> getCounts() {
+        Map<String, Integer> result = new HashMap<>();
+        for (int i = 0; i < gameCount; i++) {
+            if (counts[i] > 0) {
+                result.put(gameIds[i], counts[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getLeader() {
+        if (gameCount == 0 || counts[order[0]] == 0) {
+            return null;
+        }
+        return gameIds[order[0]];
+    }
+
+    @Override
+    public int getRank(String gameId) {
+        Integer game = gameIndex.get(gameId);
+        if (game == null || counts[game] == 0) {
+            return 0;
+        }
+        return bucketStart[counts[game]] + 1;
+    }
+
+    @Override
+    public List<String> getStandings(int limit) {
+        return new AbstractList<>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+                }
+                return gameIds[order[index]];
+            }
+
+            @Override
+            public int size() {
+                // bucketStart[0] is the number of games with at least one vote
+                return Math.max(0, Math.min(limit, bucketStart[0]));
+            }
+        };
+    }
+
+    @Override
+    public VoteSnapshot toSnapshot(long version) {
+        // Single-threaded, so reading field by field is already consistent
+        LinkedHashMap<String, Integer> standings = new LinkedHashMap<>();
+        for (int i = 0; i < bucketStart[0]; i++) {
+            standings.put(gameIds[order[i]], counts[order[i]]);
+        }
+        return VoteSnapshot.of(version, standings, voterCount, totalVotes);
+    }
+
+    @Override
+    public int getVoterCount() {
+        return voterCount;
+    }
+
+    @Override
+    public int getTotalVotes() {
+        return totalVotes;
+    }
+
+    @Override
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getGameId(int index) {
+        return index >= 0 && index < gameCount ? gameIds[index] : null;
+    }
+
+    @Override
+    public int copyBallots(long[] target) {
+        int count = 0;
+        for (int i = 0; i < occupied.length; i++) {
+            if (occupied[i] && ballots[i] != 0) {
+                if (count < target.length) {
+                    target[count] = ballots[i];
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the dense index of a game, registering it if unknown.
+     *
+     * @param gameId The game ID
+     * @return The game index
+     */
+    private int register(String gameId) {
+        Integer existing = gameIndex.get(gameId);
+        if (existing != null) {
+            return existing;
+        }
+        if (gameCount >= MAX_GAMES) {
+            throw new IllegalStateException("Too many games in tally: " + gameCount);
+        }
+        if (gameCount == gameIds.length) {
+            int capacity = gameIds.length * 2;
+            gameIds = Arrays.copyOf(gameIds, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            order = Arrays.copyOf(order, capacity);
+            position = Arrays.copyOf(position, capacity);
+        }
+        int index = gameCount++;
+        gameIds[index] = gameId;
+        counts[index] = 0;
+        // New games have no votes, so they join the end of the standings
+        order[index] = index;
+        position[index] = index;
+        gameIndex.put(gameId, index);
+        return index;
+    }
+
+    /**
+     * Add one vote to a game and move it to the front of its count bucket.
+     *
+     * @param game The game index
+     */
+    private void increment(int game) {
+        int count = counts[game];
+        if (count + 1 >= bucketStart.length) {
+            bucketStart = Arrays.copyOf(bucketStart, bucketStart.length * 2);
+        }
+        // Swap with the first game of the bucket, which then shrinks by one
+        swap(game, order[bucketStart[count]]);
+        bucketStart[count]++;
+        counts[game] = count + 1;
+    }
+
+    /**
+     * Remove one vote from a game and move it to the back of its count bucket.
+     *
+     * @param game The game index
+     */
+    private void decrement(int game) {
+        int count = counts[game];
+        // Swap with the last game of the bucket, which is then handed to the bucket below
+        swap(game, order[bucketStart[count - 1] - 1]);
+        bucketStart[count - 1]--;
+        counts[game] = count - 1;
+    }
+
+    private void swap(int gameA, int gameB) {
+        int posA = position[gameA];
+        int posB = position[gameB];
+        order[posA] = gameB;
+        order[posB] = gameA;
+        position[gameA] = posB;
+        position[gameB] = posA;
+    }
+
+    /**
+     * Remove a slot from a packed ballot and shift the following slots down.
+     *
+     * @param ballot The packed ballot
+     * @param slot The slot to remove
+     * @return The compacted ballot
+     */
+    private static long removeSlot(long ballot, int slot) {
+        int shift = slot * SLOT_BITS;
+        long below = ballot & ((1L << shift) - 1);
+        // Shifting a long by 64 is a no-op in Java, so the last slot has nothing above it
+        long above = slot == MAX_SLOTS - 1 ? 0L : (ballot >>> (shift + SLOT_BITS)) << shift;
+        return below | above;
+    }
+
+    private static int ballotSize(long ballot) {
+        int size = 0;
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            if (((ballot >>> (i * SLOT_BITS)) & SLOT_MASK) != 0) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private long ballotOf(UUID playerId) {
+        int slot = find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        return slot < 0 ? 0L : ballots[slot];
+    }
+
+    private static int hash(long most, long least) {
+        long h = most ^ least;
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return (int) h;
+    }
+
+    private int find(long most, long least) {
+        int mask = occupied.length - 1;
+        int slot = hash(most, least) & mask;
+        while (occupied[slot]) {
+            if (voterMost[slot] == most && voterLeast[slot] == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findOrInsert(long most, long least) {
+        int mask = occupied.length - 1;
+        int slot = hash(most, least) & mask;
+        while (occupied[slot]) {
+            if (voterMost[slot] == most && voterLeast[slot] == least) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        // Keep load factor at or below 0.5
+        if ((voterSlots + 1) * 2 > occupied.length) {
+            grow();
+            return findOrInsert(most, least);
+        }
+
+        occupied[slot] = true;
+        voterMost[slot] = most;
+        voterLeast[slot] = least;
+        ballots[slot] = 0L;
+        voterSlots++;
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldMost = voterMost;
+        long[] oldLeast = voterLeast;
+        long[] oldBallots = ballots;
+        boolean[] oldOccupied = occupied;
+
+        allocateVoters(oldOccupied.length * 2);
+        for (int i = 0; i < oldOccupied.length; i++) {
+            if (oldOccupied[i]) {
+                int slot = findOrInsert(oldMost[i], oldLeast[i]);
+                ballots[slot] = oldBallots[i];
+            }
+        }
+    }
+
+    private void allocateVoters(int capacity) {
+        voterMost = new long[capacity];
+        voterLeast = new long[capacity];
+        ballots = new long[capacity];
+        occupied = new boolean[capacity];
+        voterSlots = 0;
+    }
+
+    private void clearVoters() {
+        version++;
+        Arrays.fill(occupied, false);
+        Arrays.fill(ballots, 0L);
+        voterSlots = 0;
+        voterCount = 0;
+        totalVotes = 0;
+    }
+}
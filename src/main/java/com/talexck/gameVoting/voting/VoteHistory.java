@@ -1,12 +1,16 @@
 package com.talexck.gameVoting.voting;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Model class representing a historical voting session.
  * Used for database storage and retrieval of voting history.
+ *
+ * Timestamps are kept to the millisecond, the finest precision every backend
+ * stores, so a session reads back exactly as it was saved.
  */
 public class VoteHistory {
     private final UUID sessionId;
@@ -21,7 +25,7 @@ public class VoteHistory {
                       String winningGameName, int totalVotes, int playerCount, 
                       Map<String, Integer> voteDetails) {
         this.sessionId = sessionId;
-        this.timestamp = timestamp;
+        this.timestamp = timestamp != null ? timestamp.truncatedTo(ChronoUnit.MILLIS) : null;
         this.winningGameId = winningGameId;
         this.winningGameName = winningGameName;
         this.totalVotes = totalVotes;
@@ -0,0 +1,127 @@
+package com.talexck.gameVoting.voting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of a voting session's counts and standings.
+ *
+ * Sessions publish a new snapshot at most once per tick and only when votes
+ * changed, so every reader in the same tick shares one instance. Readers that
+ * cache rendered output can keep the version they rendered and skip work while
+ * getVersion() still returns it.
+ */
+public final class VoteSnapshot {
+    static final VoteSnapshot EMPTY = new VoteSnapshot(0L, Collections.emptyList(), Collections.emptyMap(), 0, 0);
+
+    private final long version;
+    private final List<String> standings;
+    private final Map<String, Integer> counts;
+    private final int voterCount;
+    private final int totalVotes;
+
+    private VoteSnapshot(long version, List<String> standings, Map<String, Integer> counts,
+                         int voterCount, int totalVotes) {
+        this.version = version;
+        this.standings = standings;
+        this.counts = counts;
+        this.voterCount = voterCount;
+        this.totalVotes = totalVotes;
+    }
+
+    /**
+     * Create a snapshot from a consistent copy of a tally's state.
+     * Called by VoteTally.toSnapshot() implementations.
+     *
+     * @param version Version to assign to the snapshot
+     * @param counts Non-zero vote counts, in standings order
+     * @param voterCount Unique voter count
+     * @param totalVotes Total vote count
+     * @return The new snapshot
+     */
+    static VoteSnapshot of(long version, LinkedHashMap<String, Integer> counts, int voterCount, int totalVotes) {
+        return new VoteSnapshot(version,
+            Collections.unmodifiableList(new ArrayList<>(counts.keySet())),
+            Collections.unmodifiableMap(counts),
+            voterCount,
+            totalVotes);
+    }
+
+    /**
+     * Get the snapshot version. Versions only grow within a session.
+     *
+     * @return The version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Check if this snapshot differs from one rendered earlier.
+     *
+     * @param version Version of the earlier snapshot
+     * @return true if this snapshot is newer
+     */
+    public boolean isNewerThan(long version) {
+        return this.version > version;
+    }
+
+    /**
+     * Get the games with votes, ordered by vote count (descending).
+     *
+     * @param limit Maximum number of games to return
+     * @return Read-only list of top games
+     */
+    public List<String> getStandings(int limit) {
+        return limit >= standings.size() ? standings : standings.subList(0, Math.max(0, limit));
+    }
+
+    /**
+     * Get the non-zero vote counts, ordered by vote count (descending).
+     *
+     * @return Read-only map of game ID to vote count
+     */
+    public Map<String, Integer> getCounts() {
+        return counts;
+    }
+
+    /**
+     * Get the vote count of a game.
+     *
+     * @param gameId The game ID
+     * @return The vote count, 0 if the game has no votes
+     */
+    public int getCount(String gameId) {
+        return counts.getOrDefault(gameId, 0);
+    }
+
+    /**
+     * Get the game with the most votes.
+     *
+     * @return The leading game ID, or null if no votes
+     */
+    public String getLeader() {
+        return standings.isEmpty() ? null : standings.get(0);
+    }
+
+    /**
+     * Get the number of players with at least one vote.
+     *
+     * @return Unique voter count
+     */
+    public int getVoterCount() {
+        return voterCount;
+    }
+
+    /**
+     * Get the sum of all votes cast.
+     *
+     * @return Total vote count
+     */
+    public int getTotalVotes() {
+        return totalVotes;
+    }
+}
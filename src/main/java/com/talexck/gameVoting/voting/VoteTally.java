@@ -0,0 +1,173 @@
+package com.talexck.gameVoting.voting;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Interface for vote tallies backing a voting session.
+ * Holds per-game vote counts, per-player ballots and the current standings.
+ *
+ * Implementations:
+ * - IndexedVoteTally (single-threaded, main thread only)
+ * - ConcurrentVoteTally (lock-free, votes may be recorded from any thread)
+ */
+public interface VoteTally {
+
+    /**
+     * Clear all votes and assign dense indexes to the given games.
+     * Games that are voted for later but not listed here are indexed on first use.
+     *
+     * @param catalog Game IDs in display order
+     */
+    void reset(List<String> catalog);
+
+    /**
+     * Clear all votes, keeping the current game index.
+     */
+    void clear();
+
+    /**
+     * Toggle a player's vote for a game.
+     *
+     * @param playerId The voting player
+     * @param gameId The game being voted for
+     * @return ADDED, REMOVED or LIMIT_REACHED
+     */
+    VoteResult toggle(UUID playerId, String gameId);
+
+    /**
+     * Check if a player has voted for a game.
+     *
+     * @param playerId The player
+     * @param gameId The game ID
+     * @return true if the player's ballot contains the game
+     */
+    boolean hasVotedFor(UUID playerId, String gameId);
+
+    /**
+     * Get the number of votes a player has cast.
+     *
+     * @param playerId The player
+     * @return Number of votes on the player's ballot
+     */
+    int getBallotSize(UUID playerId);
+
+    /**
+     * Check if a player has at least one vote on their ballot.
+     *
+     * @param playerId The player
+     * @return true if the player has voted
+     */
+    boolean hasVoted(UUID playerId);
+
+    /**
+     * Get the game IDs on a player's ballot.
+     * Allocates a new set; intended for display code, not hot paths.
+     *
+     * @param playerId The player
+     * @return Set of game IDs, empty if the player has not voted
+     */
+    Set<String> getBallot(UUID playerId);
+
+    /**
+     * Get the vote count for a game.
+     *
+     * @param gameId The game ID
+     * @return The vote count, 0 if the game is unknown
+     */
+    int getCount(String gameId);
+
+    /**
+     * Get all non-zero vote counts.
+     *
+     * @return New map of game ID to vote count
+     */
+    Map<String, Integer> getCounts();
+
+    /**
+     * Get the game with the most votes.
+     *
+     * @return The leading game ID, or null if no votes have been cast
+     */
+    String getLeader();
+
+    /**
+     * Get the rank of a game in the current standings.
+     * Tied games share the same rank (1, 2, 2, 4, ...).
+     *
+     * @param gameId The game ID
+     * @return 1-based rank, or 0 if the game has no votes or is unknown
+     */
+    int getRank(String gameId);
+
+    /**
+     * Get the games that have votes, ordered by vote count (descending).
+     * The returned list is read-only and may be a live view backed by the tally;
+     * copy it if a stable result is needed beyond the current tick.
+     *
+     * @param limit Maximum number of games to include
+     * @return Top games by vote count
+     */
+    List<String> getStandings(int limit);
+
+    /**
+     * Copy the standings, counts and totals into an immutable snapshot.
+     * All values come from one consistent view of the tally, so the counts
+     * always agree with the standings order and the totals, even while votes
+     * are recorded concurrently.
+     *
+     * @param version Version to assign to the snapshot
+     * @return The new snapshot
+     */
+    VoteSnapshot toSnapshot(long version);
+
+    /**
+     * Get the number of players with at least one vote.
+     *
+     * @return Unique voter count
+     */
+    int getVoterCount();
+
+    /**
+     * Get the sum of all votes cast.
+     *
+     * @return Total vote count
+     */
+    int getTotalVotes();
+
+    /**
+     * Get the number of indexed games.
+     *
+     * @return Game count
+     */
+    int getGameCount();
+
+    /**
+     * Get the change version of the tally.
+     * The version grows whenever votes change or the tally is reset, so readers
+     * can compare it with a previous value to tell if anything changed.
+     *
+     * @return Current version
+     */
+    long getVersion();
+
+    /**
+     * Get the game ID for a dense game index.
+     *
+     * @param index The game index
+     * @return The game ID, or null if the index is not assigned
+     */
+    String getGameId(int index);
+
+    /**
+     * Copy the packed ballot of every voter into a buffer.
+     * A ballot holds one 16-bit slot per vote in the order the votes were cast;
+     * a slot holds the game index + 1, and unused slots are 0.
+     *
+     * @param target Buffer to fill; ballots beyond its length are counted but not copied
+     * @return Number of non-empty ballots (retry with a larger buffer if above target.length)
+     */
+    int copyBallots(long[] target);
+}
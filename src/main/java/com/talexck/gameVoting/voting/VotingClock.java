@@ -0,0 +1,241 @@
+package com.talexck.gameVoting.voting;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single scheduler task driving every voting phase deadline.
+ *
+ * Each session can have one countdown per phase. Once per tick the clock
+ * publishes vote snapshots of active sessions and fires expired countdowns;
+ * once per second of a countdown it asks the countdown to render a frame.
+ * Everything runs in one task on the main thread, in a fixed order, so phase
+ * transitions never race each other.
+ *
+ * Countdowns scheduled or cancelled from inside a callback take effect from
+ * the next tick.
+ */
+public class VotingClock {
+    private static final int TICKS_PER_SECOND = 20;
+
+    private static VotingClock instance;
+
+    /**
+     * Phases with a deadline. Each session has at most one countdown per phase.
+     */
+    public enum Phase {
+        VOTING,           // Voting ends automatically
+        START_COUNTDOWN,  // All players ready, game starts
+        TELEPORT          // Players are sent to the game server
+    }
+
+    /**
+     * Callbacks of a scheduled countdown.
+     */
+    public interface Countdown {
+        /**
+         * Render one frame. Called when the countdown starts and then once per second.
+         *
+         * @param remainingSeconds Seconds until the countdown expires (at least 1)
+         */
+        default void onSecond(int remainingSeconds) {
+        }
+
+        /**
+         * Called once when the countdown expires.
+         */
+        void onExpire();
+    }
+
+    private final List<Entry> entries;
+    private final List<Entry> pending;  // Scheduled during a tick, merged after it
+    private BukkitTask task;
+    private long tick;
+    private boolean ticking;
+
+    private VotingClock() {
+        this.entries = new ArrayList<>();
+        this.pending = new ArrayList<>();
+    }
+
+    /**
+     * Get the singleton instance of the voting clock.
+     *
+     * @return The voting clock
+     */
+    public static VotingClock getInstance() {
+        if (instance == null) {
+            instance = new VotingClock();
+        }
+        return instance;
+    }
+
+    /**
+     * Start the clock task if it is not running.
+     *
+     * @param plugin Plugin instance for scheduling
+     */
+    public void start(Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stop the clock task and drop all countdowns without firing them.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        entries.clear();
+        pending.clear();
+    }
+
+    /**
+     * Check if the clock task is running.
+     *
+     * @return true if running
+     */
+    public boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Schedule a countdown, replacing the session's countdown for the same phase.
+     * The first frame is rendered on the next tick.
+     *
+     * @param session The voting session
+     * @param phase The phase
+     * @param ticks Ticks until the countdown expires
+     * @param countdown Frame and expiry callbacks
+     */
+    public void schedule(VotingSession session, Phase phase, long ticks, Countdown countdown) {
+        cancel(session, phase);
+        Entry entry = new Entry(session, phase, tick + 1, tick + 1 + Math.max(0L, ticks), countdown);
+        if (ticking) {
+            pending.add(entry);
+        } else {
+            entries.add(entry);
+        }
+    }
+
+    /**
+     * Cancel the session's countdown for a phase without firing it.
+     *
+     * @param session The voting session
+     * @param phase The phase
+     * @return true if a countdown was cancelled
+     */
+    public boolean cancel(VotingSession session, Phase phase) {
+        Entry entry = find(session, phase);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        if (!ticking) {
+            entries.remove(entry);
+            pending.remove(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Check if the session has a countdown for a phase.
+     *
+     * @param session The voting session
+     * @param phase The phase
+     * @return true if a countdown is scheduled
+     */
+    public boolean isScheduled(VotingSession session, Phase phase) {
+        return find(session, phase) != null;
+    }
+
+    /**
+     * Get the seconds until the session's countdown for a phase expires.
+     *
+     * @param session The voting session
+     * @param phase The phase
+     * @return Remaining seconds (rounded up), or 0 if not scheduled
+     */
+    public int getRemainingSeconds(VotingSession session, Phase phase) {
+        Entry entry = find(session, phase);
+        return entry == null ? 0 : entry.remainingSeconds(Math.max(tick, entry.startTick));
+    }
+
+    private Entry find(VotingSession session, Phase phase) {
+        for (Entry entry : entries) {
+            if (!entry.cancelled && entry.session == session && entry.phase == phase) {
+                return entry;
+            }
+        }
+        for (Entry entry : pending) {
+            if (!entry.cancelled && entry.session == session && entry.phase == phase) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private void tick() {
+        tick++;
+        ticking = true;
+        try {
+            // Snapshots first, so frames rendered this tick read fresh counts
+            for (VotingSession session : VotingSessionRegistry.getInstance().getSessions()) {
+                if (session.isActive()) {
+                    session.publishSnapshot();
+                }
+            }
+
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                if (entry.cancelled || tick < entry.startTick) {
+                    continue;
+                }
+                if (tick >= entry.deadlineTick) {
+                    entry.cancelled = true;
+                    entry.countdown.onExpire();
+                } else if ((tick - entry.startTick) % TICKS_PER_SECOND == 0) {
+                    entry.countdown.onSecond(entry.remainingSeconds(tick));
+                }
+            }
+        } finally {
+            ticking = false;
+            entries.removeIf(entry -> entry.cancelled);
+            for (Entry entry : pending) {
+                if (!entry.cancelled) {
+                    entries.add(entry);
+                }
+            }
+            pending.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final VotingSession session;
+        private final Phase phase;
+        private final long startTick;
+        private final long deadlineTick;
+        private final Countdown countdown;
+        private boolean cancelled;
+
+        private Entry(VotingSession session, Phase phase, long startTick, long deadlineTick, Countdown countdown) {
+            this.session = session;
+            this.phase = phase;
+            this.startTick = startTick;
+            this.deadlineTick = deadlineTick;
+            this.countdown = countdown;
+        }
+
+        private int remainingSeconds(long now) {
+            long ticksLeft = Math.max(0L, deadlineTick - now);
+            return (int) ((ticksLeft + TICKS_PER_SECOND - 1) / TICKS_PER_SECOND);
+        }
+    }
+}
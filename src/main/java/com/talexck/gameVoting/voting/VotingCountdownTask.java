@@ -3,38 +3,45 @@ package com.talexck.gameVoting.voting;
 import com.talexck.gameVoting.utils.display.BossBarManager;
 import com.talexck.gameVoting.utils.language.LanguageManager;
 import net.kyori.adventure.bossbar.BossBar;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * Task that displays countdown timer via boss bar during voting session.
- * Updates every second with remaining time and progress bar.
+ * Voting countdown driven by VotingClock.
+ * Shows the remaining time on the room's shared boss bar channels every second
+ * and ends the vote when it expires. The room has one channel per language its
+ * players see, so each title is rendered once per language.
  */
-public class VotingCountdownTask extends BukkitRunnable {
+public class VotingCountdownTask implements VotingClock.Countdown {
     private final VotingSession session;
     private final int totalSeconds;
+    private final Runnable onEnd;
+    private final Set<String> languages;  // Languages with a channel
 
-    public VotingCountdownTask(VotingSession session, int durationMinutes) {
+    public VotingCountdownTask(VotingSession session, int durationMinutes, Runnable onEnd) {
         this.session = session;
         this.totalSeconds = durationMinutes * 60;
+        this.onEnd = onEnd;
+        this.languages = new HashSet<>();
     }
 
     @Override
-    public void run() {
-        if (!session.isActive()) {
-            cleanup();
-            cancel();
-            return;
+    public void onExpire() {
+        cleanup();
+        if (session.isActive()) {
+            onEnd.run();
         }
+    }
 
-        int remaining = session.getRemainingSeconds();
-        if (remaining <= 0) {
-            cleanup();
-            cancel();
+    @Override
+    public void onSecond(int remaining) {
+        if (!session.isActive()) {
             return;
         }
 
@@ -54,16 +61,30 @@ public class VotingCountdownTask extends BukkitRunnable {
         // Format time display
         String timeStr = formatTime(remaining);
 
-        // Get translated title with placeholder
-        Map<String, String> placeholders = new HashMap<>();
-        placeholders.put("time", timeStr);
-        String title = LanguageManager.getInstance().getMessage("voting.countdown_bossbar", placeholders);
+        // Group the room's players by language
+        LanguageManager languageManager = LanguageManager.getInstance();
+        Map<String, List<Player>> audiences = new HashMap<>(4);
+        for (Player player : session.getPlayers()) {
+            audiences.computeIfAbsent(languageManager.getLanguage(player), l -> new ArrayList<>()).add(player);
+        }
+
+        // One shared bar per language, updated in place
+        BossBarManager bossBarManager = BossBarManager.getInstance();
+        for (Map.Entry<String, List<Player>> entry : audiences.entrySet()) {
+            String title = languageManager.getTemplate(entry.getKey(), "voting.countdown_bossbar")
+                .format("time", timeStr);
+            bossBarManager.showChannel(session.getBossBarChannel(entry.getKey()), entry.getValue(),
+                title, color, progress);
+        }
 
-        // Update boss bar for all online players
-        BossBarManager manager = BossBarManager.getInstance();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            manager.showBar(player, title, color, progress);
+        // Drop channels of languages nobody in the room sees anymore
+        for (String language : languages) {
+            if (!audiences.containsKey(language)) {
+                bossBarManager.removeChannel(session.getBossBarChannel(language));
+            }
         }
+        languages.clear();
+        languages.addAll(audiences.keySet());
     }
 
     /**
@@ -83,12 +104,10 @@ public class VotingCountdownTask extends BukkitRunnable {
     }
 
     /**
-     * Clean up boss bars for all players.
+     * Remove the room's countdown bars from all players.
      */
     private void cleanup() {
-        BossBarManager manager = BossBarManager.getInstance();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            manager.removeBar(player);
-        }
+        BossBarManager.getInstance().removeChannelGroup(session.getBossBarChannel());
+        languages.clear();
     }
 }
@@ -1,37 +1,47 @@
 package com.talexck.gameVoting.voting;
 
 import com.talexck.gameVoting.config.GameConfig;
+import com.talexck.gameVoting.voting.journal.JournalState;
+import com.talexck.gameVoting.voting.journal.VoteJournal;
+import com.talexck.gameVoting.voting.strategy.ApprovalStrategy;
+import com.talexck.gameVoting.voting.strategy.TallyStrategy;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
 /**
- * Manages the current voting session state.
- * Singleton pattern to ensure only one voting session exists.
+ * Manages the voting session state of one room.
+ * Sessions are owned by VotingSessionRegistry; each room has its own timers,
+ * ready phase and teleport target.
  * Supports multi-voting (1-3 votes per player) with countdown display.
+ * How ballots decide the winner is up to the session's TallyStrategy
+ * (approval by default).
  */
 public class VotingSession {
-    private static VotingSession instance;
-    private static final int MAX_VOTES = 3;  // Maximum 3 votes per player
-
-    private boolean active;
-    private final Map<UUID, Set<String>> playerVotes; // UUID -> Set of game IDs
-    private final Map<String, Integer> voteCounts; // game ID -> vote count
-    private BukkitTask timerTask;
-    private BukkitTask countdownTask;
+    private static final int DEFAULT_MAX_VOTES = 3;  // Approval voting with up to 3 votes per player
+
+    private final String roomId;
+    private final Map<UUID, Player> members;  // Players routed to this room
+    private volatile boolean active;
+    private volatile VoteTally tally; // Per-game counts and per-player ballots
+    private TallyStrategy strategy;  // Turns ballots into results when voting ends
+    private Map<String, Integer> results;  // Results of the last evaluation, null while voting
+
+    // Evaluation buffers, reused across sessions
+    private long[] ballotBuffer;
+    private int[] rankingBuffer;
+    private int[] scoreBuffer;
     private Runnable onEndCallback;
     private long startTime;
     private int durationMinutes;
 
     // Ready system state
-    private boolean readyPhase;  // True when voting ended, waiting for players to ready up
+    private volatile boolean readyPhase;  // True when voting ended, waiting for players to ready up
     private final Set<UUID> readyPlayers;  // Players who are ready
     private UUID voteStarter;  // Player who started the vote (can force start)
 
-    // Countdown state (10 second countdown when all players ready)
-    private BukkitTask countdownToStartTask;  // Task for 10-second countdown
+    // Countdown state (10 second countdown when all players ready, driven by VotingClock)
     private int countdownSeconds;  // Current countdown time
     private boolean countdownActive;  // Is countdown currently running
     
@@ -39,41 +49,169 @@ public class VotingSession {
     private String currentGameService;  // CloudNet service name of running game
     
     // Pre-voting ready phase (before voting starts)
-    private boolean preVotingReady;  // True when waiting for players to trigger voting
+    private volatile boolean preVotingReady;  // True when waiting for players to trigger voting
     private final Set<UUID> preVotingReadyPlayers;  // Players who marked ready to start voting
     private int requiredPlayers = 6;  // Minimum players required to start voting
     private int pendingVotingDuration = 3;  // Duration to use when voting actually starts
 
-    private VotingSession() {
+    // Players to teleport once the game server is up (kept after the session is cleared)
+    private Set<UUID> teleportPlayers;
+
+    // Crash recovery journal (null when journaling is disabled)
+    private volatile VoteJournal journal;
+
+    // Published vote snapshot, rebuilt at most once per tick while voting is active
+    private volatile VoteSnapshot snapshot;
+    private VoteTally snapshotSource;  // Tally and tally version the snapshot was copied from
+    private long snapshotSourceVersion;
+
+    VotingSession(String roomId) {
+        this.roomId = roomId;
+        this.members = new LinkedHashMap<>();
         this.active = false;
-        this.playerVotes = new HashMap<>();
-        this.voteCounts = new HashMap<>();
-        this.timerTask = null;
-        this.countdownTask = null;
+        this.strategy = new ApprovalStrategy(DEFAULT_MAX_VOTES);
+        this.tally = new IndexedVoteTally(strategy.getMaxVotes());
+        this.results = null;
+        this.ballotBuffer = new long[64];
+        this.rankingBuffer = new int[16];
+        this.scoreBuffer = new int[16];
         this.onEndCallback = null;
         this.startTime = 0;
         this.durationMinutes = 0;
         this.readyPhase = false;
         this.readyPlayers = new HashSet<>();
         this.voteStarter = null;
-        this.countdownToStartTask = null;
         this.countdownSeconds = 10;
         this.countdownActive = false;
         this.currentGameService = null;
         this.preVotingReady = false;
         this.preVotingReadyPlayers = new HashSet<>();
+        this.teleportPlayers = new HashSet<>();
+        this.snapshot = VoteSnapshot.EMPTY;
     }
 
     /**
-     * Get the singleton instance of the voting session.
+     * Get the voting session of the default room.
+     * Use VotingSessionRegistry to look up the session of a specific player or room.
      *
-     * @return The voting session instance
+     * @return The default room's voting session
      */
     public static VotingSession getInstance() {
-        if (instance == null) {
-            instance = new VotingSession();
+        return VotingSessionRegistry.getInstance().getDefaultSession();
+    }
+
+    /**
+     * Get the ID of the room this session belongs to.
+     *
+     * @return The room ID
+     */
+    public String getRoomId() {
+        return roomId;
+    }
+
+    /**
+     * Get the BossBarManager channel of this room's voting countdown bar.
+     * Each language has its own channel below this one (see getBossBarChannel(String)).
+     *
+     * @return The channel ID
+     */
+    public String getBossBarChannel() {
+        return "voting:" + roomId;
+    }
+
+    /**
+     * Get the ActionBarManager channel of this room's start countdown.
+     *
+     * @return The channel ID
+     */
+    public String getActionBarChannel() {
+        return "countdown:" + roomId;
+    }
+
+    /**
+     * Get the BossBarManager channel of this room's voting countdown bar in one language.
+     *
+     * @param language Language code
+     * @return The channel ID
+     */
+    public String getBossBarChannel(String language) {
+        return getBossBarChannel() + ":" + language;
+    }
+
+    /**
+     * Get the players in this session's room.
+     * Without room configuration every online player belongs to the default room.
+     *
+     * @return Read-only collection of players
+     */
+    public Collection<? extends Player> getPlayers() {
+        if (!VotingSessionRegistry.getInstance().hasRooms()) {
+            return Bukkit.getOnlinePlayers();
         }
-        return instance;
+        return Collections.unmodifiableCollection(members.values());
+    }
+
+    void addMember(Player player) {
+        members.put(player.getUniqueId(), player);
+    }
+
+    void removeMember(UUID playerId) {
+        members.remove(playerId);
+    }
+
+    void clearMembers() {
+        members.clear();
+    }
+
+    void setJournal(VoteJournal journal) {
+        this.journal = journal;
+    }
+
+    VoteJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Restore an in-progress session replayed from the journal.
+     * Votes are applied to the tally directly, so nothing is journaled twice.
+     * A vote whose time ran out while the server was down ends on the next tick.
+     *
+     * @param state The replayed session state
+     * @param plugin Plugin instance for scheduling
+     * @param callback Callback to execute when voting ends
+     */
+    public void restore(JournalState state, org.bukkit.plugin.Plugin plugin, Runnable callback) {
+        if (state.isPreVotingReady()) {
+            preVotingReady = true;
+            preVotingReadyPlayers.addAll(state.getPreVotingReadyPlayers());
+        }
+        if (!state.isActive() && !state.isReadyPhase()) {
+            return;
+        }
+
+        tally.reset(resolveGameCatalog());
+        for (JournalState.VoteToggle toggle : state.getToggles()) {
+            tally.toggle(toggle.getPlayerId(), toggle.getGameId());
+        }
+        voteStarter = state.getVoteStarter();
+        startTime = state.getStartTime();
+        durationMinutes = state.getDurationMinutes();
+
+        if (state.isReadyPhase()) {
+            readyPhase = true;
+            readyPlayers.addAll(state.getReadyPlayers());
+            results = evaluate();
+            publishSnapshot();
+            return;
+        }
+
+        active = true;
+        onEndCallback = callback;
+        if (durationMinutes > 0) {
+            long ticks = Math.max(1L, getRemainingSeconds() * 20L);
+            scheduleVotingEnd(plugin, ticks);
+        }
+        VotingClock.getInstance().start(plugin);
     }
 
     /**
@@ -86,33 +224,35 @@ public class VotingSession {
      */
     public void startVoting(int durationMinutes, org.bukkit.plugin.Plugin plugin, Runnable callback) {
         active = true;
-        playerVotes.clear();
-        voteCounts.clear();
+        results = null;
+        tally.reset(resolveGameCatalog());
         this.onEndCallback = callback;
         this.startTime = System.currentTimeMillis();
         this.durationMinutes = durationMinutes;
-
-        // Cancel existing timers if any
-        if (timerTask != null) {
-            timerTask.cancel();
-        }
-        if (countdownTask != null) {
-            countdownTask.cancel();
+        if (journal != null) {
+            journal.votingStarted(startTime, durationMinutes);
         }
 
-        // Schedule automatic end
+        // Schedule automatic end, replacing any running voting countdown
         long ticks = durationMinutes * 60L * 20L; // Convert minutes to ticks
-        timerTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (active) {
+        scheduleVotingEnd(plugin, ticks);
+    }
+
+    /**
+     * Schedule the end of voting and its boss bar countdown on the voting clock.
+     *
+     * @param plugin Plugin instance for scheduling
+     * @param ticks Ticks until voting ends
+     */
+    private void scheduleVotingEnd(org.bukkit.plugin.Plugin plugin, long ticks) {
+        VotingClock clock = VotingClock.getInstance();
+        clock.start(plugin);
+        clock.schedule(this, VotingClock.Phase.VOTING, ticks,
+            new VotingCountdownTask(this, durationMinutes, () -> {
                 if (onEndCallback != null) {
                     onEndCallback.run();
                 }
-            }
-        }, ticks);
-
-        // Start countdown display task (runs every second)
-        VotingCountdownTask countdownDisplay = new VotingCountdownTask(this, durationMinutes);
-        countdownTask = countdownDisplay.runTaskTimer(plugin, 0L, 20L);
+            }));
     }
 
     /**
@@ -121,44 +261,72 @@ public class VotingSession {
      */
     public void startVoting() {
         active = true;
-        playerVotes.clear();
-        voteCounts.clear();
+        results = null;
+        tally.reset(resolveGameCatalog());
         this.startTime = System.currentTimeMillis();
         this.durationMinutes = 0;
+        if (journal != null) {
+            journal.votingStarted(startTime, 0);
+        }
     }
 
     /**
-     * Stop the current voting session.
+     * Stop the current voting session and evaluate the ballots with the session's strategy.
      *
-     * @return Map of game IDs to vote counts, sorted by count (descending)
+     * @return Map of game IDs to strategy scores, best first
      */
     public Map<String, Integer> stopVoting() {
         active = false;
+        if (journal != null) {
+            journal.votingStopped();
+        }
+
+        // Cancel the voting countdown if running
+        VotingClock.getInstance().cancel(this, VotingClock.Phase.VOTING);
+        publishSnapshot();
 
-        // Cancel timers if running
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
+        // Clean up the countdown boss bar
+        com.talexck.gameVoting.utils.display.BossBarManager.getInstance().removeChannelGroup(getBossBarChannel());
+
+        results = evaluate();
+        return new LinkedHashMap<>(results);
+    }
+
+    /**
+     * Get the results of the ended vote.
+     *
+     * @return Read-only map of game IDs to strategy scores (best first), empty while voting
+     */
+    public Map<String, Integer> getResults() {
+        Map<String, Integer> current = results;
+        return current != null ? current : Collections.emptyMap();
+    }
+
+    /**
+     * Rank the current ballots with the session's strategy.
+     * Ballots are copied into a reused buffer and evaluated over primitive arrays.
+     *
+     * @return Read-only map of game IDs to scores, best first
+     */
+    private Map<String, Integer> evaluate() {
+        int ballotCount = tally.copyBallots(ballotBuffer);
+        while (ballotCount > ballotBuffer.length) {
+            ballotBuffer = new long[ballotCount * 2];
+            ballotCount = tally.copyBallots(ballotBuffer);
         }
-        if (countdownTask != null) {
-            countdownTask.cancel();
-            countdownTask = null;
+        int gameCount = tally.getGameCount();
+        if (rankingBuffer.length < gameCount) {
+            rankingBuffer = new int[gameCount * 2];
+            scoreBuffer = new int[gameCount * 2];
         }
 
-        // Clean up boss bars
-        com.talexck.gameVoting.utils.display.BossBarManager manager =
-            com.talexck.gameVoting.utils.display.BossBarManager.getInstance();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            manager.removeBar(player);
+        int ranked = strategy.evaluate(ballotBuffer, Math.min(ballotCount, ballotBuffer.length), gameCount,
+            rankingBuffer, scoreBuffer);
+        Map<String, Integer> evaluated = new LinkedHashMap<>();
+        for (int i = 0; i < ranked; i++) {
+            evaluated.put(tally.getGameId(rankingBuffer[i]), scoreBuffer[i]);
         }
-
-        // Create sorted map of results
-        Map<String, Integer> results = new LinkedHashMap<>();
-        voteCounts.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .forEachOrdered(e -> results.put(e.getKey(), e.getValue()));
-
-        return results;
+        return Collections.unmodifiableMap(evaluated);
     }
 
     /**
@@ -176,57 +344,139 @@ public class VotingSession {
     }
 
     /**
-     * Get the winning game ID (most votes).
+     * Get the winning game ID.
+     * After voting ends this is the strategy's winner; while voting it is the game with most votes.
      *
-     * @return The game ID with most votes, or null if no votes
+     * @return The winning game ID, or null if no votes
      */
     public String getWinner() {
-        return voteCounts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
+        Map<String, Integer> current = results;
+        if (current != null) {
+            return current.isEmpty() ? null : current.keySet().iterator().next();
+        }
+        return tally.getLeader();
+    }
+
+    /**
+     * Get the games with votes, ordered by vote count (descending).
+     * Returns a live read-only view; copy it if it must outlive the current tick.
+     *
+     * @param limit Maximum number of games to return
+     * @return Top games by vote count
+     */
+    public List<String> getStandings(int limit) {
+        return tally.getStandings(limit);
+    }
+
+    /**
+     * Get the current rank of a game. Tied games share a rank.
+     *
+     * @param gameId The game ID
+     * @return 1-based rank, or 0 if the game has no votes
+     */
+    public int getRank(String gameId) {
+        return tally.getRank(gameId);
     }
 
     /**
      * Record or remove a vote for a game (toggle behavior).
-     * Players can vote for up to 3 games.
+     * Players can vote for up to getMaxVotes() games.
      *
      * @param player The player voting
      * @param game The game being voted for
      * @return The result of the vote operation
      */
     public VoteResult vote(Player player, GameConfig game) {
+        return vote(player.getUniqueId(), game.getId());
+    }
+
+    /**
+     * Record or remove a vote by player and game ID (toggle behavior).
+     * Safe to call off the main thread when concurrent ingest is enabled.
+     *
+     * @param playerId The voting player's UUID
+     * @param gameId The game ID being voted for
+     * @return The result of the vote operation
+     */
+    public VoteResult vote(UUID playerId, String gameId) {
         if (!active) {
             return VoteResult.SESSION_INACTIVE;
         }
 
-        UUID playerId = player.getUniqueId();
-        String gameId = game.getId();
+        VoteResult result = tally.toggle(playerId, gameId);
+        if (result != VoteResult.LIMIT_REACHED && journal != null) {
+            journal.voteToggled(playerId, gameId);
+        }
+        return result;
+    }
 
-        Set<String> votes = playerVotes.computeIfAbsent(playerId, k -> new HashSet<>());
+    /**
+     * Switch between the main-thread tally and the lock-free concurrent tally.
+     * Only takes effect while no voting session is active.
+     *
+     * @param concurrent true to accept votes from any thread
+     * @return true if the tally was switched (or already matched)
+     */
+    public boolean setConcurrentIngest(boolean concurrent) {
+        if (concurrent == isConcurrentIngest()) {
+            return true;
+        }
+        if (active) {
+            return false;
+        }
+        tally = createTally(concurrent);
+        return true;
+    }
 
-        // Toggle vote (remove if already voted, add if not)
-        if (votes.contains(gameId)) {
-            // Remove vote
-            votes.remove(gameId);
-            if (votes.isEmpty()) {
-                playerVotes.remove(playerId);
-            }
-            voteCounts.put(gameId, voteCounts.getOrDefault(gameId, 1) - 1);
-            if (voteCounts.get(gameId) <= 0) {
-                voteCounts.remove(gameId);
-            }
-            return VoteResult.REMOVED;
-        } else {
-            // Check vote limit
-            if (votes.size() >= MAX_VOTES) {
-                return VoteResult.LIMIT_REACHED;
-            }
-            // Add vote
-            votes.add(gameId);
-            voteCounts.put(gameId, voteCounts.getOrDefault(gameId, 0) + 1);
-            return VoteResult.ADDED;
+    /**
+     * Set the strategy that decides the winner.
+     * Only takes effect while no voting session is active, since the vote limit may change.
+     *
+     * @param strategy The tally strategy
+     * @return true if the strategy was set
+     */
+    public boolean setStrategy(TallyStrategy strategy) {
+        if (active) {
+            return false;
+        }
+        boolean limitChanged = strategy.getMaxVotes() != this.strategy.getMaxVotes();
+        this.strategy = strategy;
+        if (limitChanged) {
+            tally = createTally(isConcurrentIngest());
         }
+        return true;
+    }
+
+    /**
+     * Get the strategy that decides the winner.
+     *
+     * @return The tally strategy
+     */
+    public TallyStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Get the maximum number of votes per player.
+     *
+     * @return Votes per player
+     */
+    public int getMaxVotes() {
+        return strategy.getMaxVotes();
+    }
+
+    private VoteTally createTally(boolean concurrent) {
+        int maxVotes = strategy.getMaxVotes();
+        return concurrent ? new ConcurrentVoteTally(maxVotes) : new IndexedVoteTally(maxVotes);
+    }
+
+    /**
+     * Check if votes may be recorded from any thread.
+     *
+     * @return true if the concurrent tally is in use
+     */
+    public boolean isConcurrentIngest() {
+        return tally instanceof ConcurrentVoteTally;
     }
 
     /**
@@ -237,8 +487,7 @@ public class VotingSession {
      * @return true if the player has voted for this game
      */
     public boolean hasVotedFor(Player player, String gameId) {
-        Set<String> votes = playerVotes.get(player.getUniqueId());
-        return votes != null && votes.contains(gameId);
+        return tally.hasVotedFor(player.getUniqueId(), gameId);
     }
 
     /**
@@ -248,8 +497,7 @@ public class VotingSession {
      * @return The number of votes (0-3)
      */
     public int getPlayerVoteCount(Player player) {
-        Set<String> votes = playerVotes.get(player.getUniqueId());
-        return votes == null ? 0 : votes.size();
+        return tally.getBallotSize(player.getUniqueId());
     }
 
     /**
@@ -259,8 +507,7 @@ public class VotingSession {
      * @return Set of game IDs, empty if no votes
      */
     public Set<String> getPlayerVotes(Player player) {
-        Set<String> votes = playerVotes.get(player.getUniqueId());
-        return votes == null ? new HashSet<>() : new HashSet<>(votes);
+        return tally.getBallot(player.getUniqueId());
     }
 
     /**
@@ -270,7 +517,7 @@ public class VotingSession {
      * @return true if the player can cast more votes
      */
     public boolean canVote(Player player) {
-        return getPlayerVoteCount(player) < MAX_VOTES;
+        return getPlayerVoteCount(player) < getMaxVotes();
     }
 
     /**
@@ -280,7 +527,7 @@ public class VotingSession {
      * @return true if the player has voted
      */
     public boolean hasVoted(Player player) {
-        return playerVotes.containsKey(player.getUniqueId());
+        return tally.hasVoted(player.getUniqueId());
     }
 
     /**
@@ -293,8 +540,8 @@ public class VotingSession {
      */
     @Deprecated
     public String getPlayerVote(Player player) {
-        Set<String> votes = playerVotes.get(player.getUniqueId());
-        if (votes == null || votes.isEmpty()) {
+        Set<String> votes = tally.getBallot(player.getUniqueId());
+        if (votes.isEmpty()) {
             return null;
         }
         return votes.iterator().next();
@@ -307,7 +554,7 @@ public class VotingSession {
      * @return The vote count
      */
     public int getVoteCount(String gameId) {
-        return voteCounts.getOrDefault(gameId, 0);
+        return tally.getCount(gameId);
     }
 
     /**
@@ -316,7 +563,7 @@ public class VotingSession {
      * @return Map of game IDs to vote counts
      */
     public Map<String, Integer> getVoteCounts() {
-        return new HashMap<>(voteCounts);
+        return tally.getCounts();
     }
 
     /**
@@ -334,7 +581,7 @@ public class VotingSession {
      * @return The total number of players who voted
      */
     public int getTotalVotes() {
-        return playerVotes.size();
+        return tally.getVoterCount();
     }
 
     /**
@@ -343,7 +590,7 @@ public class VotingSession {
      * @return The sum of all votes
      */
     public int getTotalVoteCount() {
-        return voteCounts.values().stream().mapToInt(Integer::intValue).sum();
+        return tally.getTotalVotes();
     }
 
     /**
@@ -351,24 +598,68 @@ public class VotingSession {
      */
     public void clear() {
         active = false;
-        playerVotes.clear();
-        voteCounts.clear();
+        results = null;
+        tally.clear();
         readyPhase = false;
         readyPlayers.clear();
         voteStarter = null;
-        if (timerTask != null) {
-            timerTask.cancel();
-            timerTask = null;
-        }
-        if (countdownTask != null) {
-            countdownTask.cancel();
-            countdownTask = null;
-        }
-        // Stop countdown task
+        // Teleport countdown is left running, it outlives the session
+        VotingClock.getInstance().cancel(this, VotingClock.Phase.VOTING);
         stopCountdown();
+        publishSnapshot();
         currentGameService = null;
         preVotingReady = false;
         preVotingReadyPlayers.clear();
+        // Session is over, nothing left to recover
+        if (journal != null) {
+            journal.compact();
+        }
+    }
+
+    /**
+     * Get the latest published vote snapshot.
+     * While voting is active the voting clock republishes it once per tick when
+     * votes changed, so it may trail the tally by up to one tick; otherwise it is
+     * brought up to date on read.
+     *
+     * @return The shared, immutable snapshot
+     */
+    public VoteSnapshot getSnapshot() {
+        if (!active || !VotingClock.getInstance().isRunning()) {
+            publishSnapshot();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Publish a new snapshot if the tally changed since the last one.
+     */
+    synchronized void publishSnapshot() {
+        VoteTally source = tally;
+        long sourceVersion = source.getVersion();  // Read before copying, so a concurrent vote triggers the next publish
+        if (source == snapshotSource && sourceVersion == snapshotSourceVersion) {
+            return;
+        }
+        snapshot = source.toSnapshot(snapshot.getVersion() + 1);
+        snapshotSource = source;
+        snapshotSourceVersion = sourceVersion;
+    }
+
+    /**
+     * Get the IDs of all configured games so the tally can index them up front.
+     *
+     * @return Game IDs in configuration order, empty if the plugin is not loaded
+     */
+    private List<String> resolveGameCatalog() {
+        com.talexck.gameVoting.GameVoting plugin = com.talexck.gameVoting.GameVoting.getInstance();
+        if (plugin == null || plugin.getGamesManager() == null) {
+            return Collections.emptyList();
+        }
+        List<String> catalog = new ArrayList<>();
+        for (GameConfig game : plugin.getGamesManager().getGames()) {
+            catalog.add(game.getId());
+        }
+        return catalog;
     }
 
     // === Ready System Methods ===
@@ -379,6 +670,9 @@ public class VotingSession {
     public void startReadyPhase() {
         this.readyPhase = true;
         this.readyPlayers.clear();
+        if (journal != null) {
+            journal.readyPhaseStarted();
+        }
     }
 
     /**
@@ -400,7 +694,11 @@ public class VotingSession {
         if (!readyPhase) {
             return false;
         }
-        return readyPlayers.add(playerId);
+        boolean added = readyPlayers.add(playerId);
+        if (added && journal != null) {
+            journal.playerReady(playerId, true);
+        }
+        return added;
     }
 
     /**
@@ -431,7 +729,7 @@ public class VotingSession {
         if (!readyPhase) {
             return false;
         }
-        int onlineCount = Bukkit.getOnlinePlayers().size();
+        int onlineCount = getPlayers().size();
         return onlineCount > 0 && readyPlayers.size() >= onlineCount;
     }
 
@@ -445,7 +743,11 @@ public class VotingSession {
         if (!readyPhase) {
             return false;
         }
-        return readyPlayers.remove(playerId);
+        boolean removed = readyPlayers.remove(playerId);
+        if (removed && journal != null) {
+            journal.playerReady(playerId, false);
+        }
+        return removed;
     }
 
     /**
@@ -480,29 +782,29 @@ public class VotingSession {
         countdownSeconds = 10;
         countdownActive = true;
 
-        // Create countdown task (runs every second)
-        countdownToStartTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (countdownSeconds <= 0) {
-                // Countdown finished
+        VotingClock clock = VotingClock.getInstance();
+        clock.start(plugin);
+        clock.schedule(this, VotingClock.Phase.START_COUNTDOWN, countdownSeconds * 20L, new VotingClock.Countdown() {
+            @Override
+            public void onSecond(int remainingSeconds) {
+                countdownSeconds = remainingSeconds;
+
+                // Render once per language, then display action bar to all players in the room
+                var languageManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
+                com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().showTranslated(getPlayers(),
+                    getActionBarChannel(), language ->
+                        languageManager.getTemplate(language, "game.countdown_actionbar").format("seconds", remainingSeconds),
+                    com.talexck.gameVoting.utils.display.ActionBarManager.Priority.COUNTDOWN, 30);
+            }
+
+            @Override
+            public void onExpire() {
                 stopCountdown();
-                countdownActive = false;
                 if (onComplete != null) {
                     onComplete.run();
                 }
-                return;
-            }
-
-            // Display action bar to all online players
-            var langManager = com.talexck.gameVoting.utils.language.LanguageManager.getInstance();
-            java.util.Map<String, String> placeholders = new java.util.HashMap<>();
-            placeholders.put("seconds", String.valueOf(countdownSeconds));
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                com.talexck.gameVoting.utils.display.ActionBarUtil.sendActionBar(player,
-                    langManager.getMessage("game.countdown_actionbar", placeholders));
             }
-
-            countdownSeconds--;
-        }, 0L, 20L);  // Run immediately, then every 20 ticks (1 second)
+        });
     }
 
     /**
@@ -510,17 +812,12 @@ public class VotingSession {
      * Called when a player unreadies during countdown.
      */
     public void stopCountdown() {
-        if (countdownToStartTask != null) {
-            countdownToStartTask.cancel();
-            countdownToStartTask = null;
-        }
+        VotingClock.getInstance().cancel(this, VotingClock.Phase.START_COUNTDOWN);
         countdownActive = false;
         countdownSeconds = 10;
 
-        // Clear action bars for all players
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            com.talexck.gameVoting.utils.display.ActionBarUtil.clearActionBar(player);
-        }
+        // Clear the countdown action bar for all players
+        com.talexck.gameVoting.utils.display.ActionBarManager.getInstance().clear(getPlayers(), getActionBarChannel());
     }
 
     /**
@@ -530,6 +827,9 @@ public class VotingSession {
      */
     public void setVoteStarter(UUID playerId) {
         this.voteStarter = playerId;
+        if (journal != null) {
+            journal.voteStarter(playerId);
+        }
     }
 
     /**
@@ -577,6 +877,24 @@ public class VotingSession {
     public boolean hasCurrentGame() {
         return currentGameService != null && !currentGameService.isEmpty();
     }
+
+    /**
+     * Set the players to teleport to the game server.
+     *
+     * @param playerIds UUIDs of players who voted
+     */
+    public void setTeleportPlayers(Set<UUID> playerIds) {
+        this.teleportPlayers = new HashSet<>(playerIds);
+    }
+
+    /**
+     * Get the players to teleport to the game server.
+     *
+     * @return UUIDs of players who voted in the last session
+     */
+    public Set<UUID> getTeleportPlayers() {
+        return teleportPlayers;
+    }
     
     // === Pre-Voting Ready Phase Methods ===
     
@@ -586,6 +904,9 @@ public class VotingSession {
     public void startPreVotingReady() {
         this.preVotingReady = true;
         this.preVotingReadyPlayers.clear();
+        if (journal != null) {
+            journal.preVotingStarted();
+        }
     }
     
     /**
@@ -607,7 +928,11 @@ public class VotingSession {
         if (!preVotingReady) {
             return false;
         }
-        return preVotingReadyPlayers.add(playerId);
+        boolean added = preVotingReadyPlayers.add(playerId);
+        if (added && journal != null) {
+            journal.preVotingReady(playerId, true);
+        }
+        return added;
     }
     
     /**
@@ -638,7 +963,7 @@ public class VotingSession {
         if (!preVotingReady) {
             return false;
         }
-        int onlineCount = Bukkit.getOnlinePlayers().size();
+        int onlineCount = getPlayers().size();
         return onlineCount >= requiredPlayers && preVotingReadyPlayers.size() >= onlineCount;
     }
     
@@ -652,7 +977,11 @@ public class VotingSession {
         if (!preVotingReady) {
             return false;
         }
-        return preVotingReadyPlayers.remove(playerId);
+        boolean removed = preVotingReadyPlayers.remove(playerId);
+        if (removed && journal != null) {
+            journal.preVotingReady(playerId, false);
+        }
+        return removed;
     }
     
     /**
@@ -661,6 +990,9 @@ public class VotingSession {
     public void endPreVotingReady() {
         this.preVotingReady = false;
         this.preVotingReadyPlayers.clear();
+        if (journal != null) {
+            journal.preVotingEnded();
+        }
     }
     
     /**
@@ -0,0 +1,320 @@
+package com.talexck.gameVoting.voting;
+
+import com.talexck.gameVoting.voting.journal.JournalState;
+import com.talexck.gameVoting.voting.journal.VoteJournal;
+import com.talexck.gameVoting.voting.strategy.TallyStrategies;
+import com.talexck.gameVoting.voting.strategy.TallyStrategy;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of voting sessions, one per room.
+ * A room groups one or more worlds (configured under "rooms" in config.yml);
+ * worlds that are not mapped share the default room, so a server without
+ * room configuration behaves like a single global session.
+ *
+ * Players are routed to their room's session through a UUID lookup that is
+ * kept up to date on join, world change and quit.
+ *
+ * When journaling is enabled, every session writes its events to
+ * journal/<room>.journal so an in-progress vote survives a crash or reload.
+ */
+public class VotingSessionRegistry {
+    public static final String DEFAULT_ROOM = "default";
+
+    private static VotingSessionRegistry instance;
+
+    private final Map<String, VotingSession> sessions;  // Room ID -> session
+    private final Map<String, String> worldRooms;  // World name -> room ID
+    private final Map<UUID, VotingSession> playerSessions;  // Player -> routed session
+    private boolean concurrentIngest;  // Applied to every session, including rooms created later
+    private String defaultStrategy;  // Tally strategy for rooms without their own
+    private final Map<String, String> roomStrategies;  // Room ID -> tally strategy name
+    private File journalDirectory;  // Null when journaling is disabled
+    private Logger logger;
+
+    private VotingSessionRegistry() {
+        this.sessions = new LinkedHashMap<>();
+        this.worldRooms = new HashMap<>();
+        this.playerSessions = new HashMap<>();
+        this.defaultStrategy = TallyStrategies.APPROVAL;
+        this.roomStrategies = new HashMap<>();
+        this.sessions.put(DEFAULT_ROOM, new VotingSession(DEFAULT_ROOM));
+    }
+
+    /**
+     * Get the singleton instance of the session registry.
+     *
+     * @return The session registry
+     */
+    public static VotingSessionRegistry getInstance() {
+        if (instance == null) {
+            instance = new VotingSessionRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Load the world to room mapping and re-route online players.
+     *
+     * @param rooms The "rooms" config section (world name -> room ID), may be null
+     */
+    public void load(ConfigurationSection rooms) {
+        worldRooms.clear();
+        if (rooms != null) {
+            for (String world : rooms.getKeys(false)) {
+                String room = rooms.getString(world);
+                if (room != null && !room.isEmpty()) {
+                    worldRooms.put(world, room);
+                }
+            }
+        }
+
+        playerSessions.clear();
+        for (VotingSession session : sessions.values()) {
+            session.clearMembers();
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            route(player);
+        }
+    }
+
+    /**
+     * Switch every session between the main-thread and the concurrent tally.
+     * Sessions with an active vote keep their tally until they are idle and this is called again.
+     *
+     * @param concurrent true to accept votes from any thread
+     */
+    public void setConcurrentIngest(boolean concurrent) {
+        this.concurrentIngest = concurrent;
+        for (VotingSession session : sessions.values()) {
+            session.setConcurrentIngest(concurrent);
+        }
+    }
+
+    /**
+     * Open a journal for every configured room and replay what was left from the last run.
+     * Call after load() so configured rooms are known. Rooms created later get a journal too.
+     *
+     * @param directory Directory holding the journal files
+     * @param logger Logger for journal errors
+     * @return Replayed state of sessions that were in progress, by session
+     */
+    public Map<VotingSession, JournalState> openJournals(File directory, Logger logger) {
+        this.logger = logger;
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            logger.warning("Failed to create vote journal directory: " + directory);
+            return Collections.emptyMap();
+        }
+
+        // Known rooms: the default room, configured rooms and any room created so far
+        Set<String> roomIds = new LinkedHashSet<>(sessions.keySet());
+        roomIds.addAll(worldRooms.values());
+        for (String roomId : roomIds) {
+            getSession(roomId);
+        }
+        this.journalDirectory = directory;
+
+        Map<VotingSession, JournalState> recovered = new LinkedHashMap<>();
+        for (VotingSession session : sessions.values()) {
+            if (session.getJournal() != null) {
+                continue;
+            }
+            JournalState state = new JournalState();
+            openJournal(session, state);
+            if (state.isInProgress()) {
+                recovered.put(session, state);
+            }
+        }
+        return recovered;
+    }
+
+    /**
+     * Close all journals, forcing them to disk.
+     * Journals keep their records, so the next start can recover in-progress sessions.
+     */
+    public void closeJournals() {
+        for (VotingSession session : sessions.values()) {
+            VoteJournal journal = session.getJournal();
+            if (journal == null) {
+                continue;
+            }
+            session.setJournal(null);
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Failed to close vote journal of room " + session.getRoomId(), e);
+            }
+        }
+        journalDirectory = null;
+    }
+
+    private void openJournal(VotingSession session, JournalState state) {
+        String fileName = session.getRoomId().replaceAll("[^A-Za-z0-9_-]", "_") + ".journal";
+        try {
+            session.setJournal(VoteJournal.open(new File(journalDirectory, fileName).toPath(), state, logger));
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Failed to open vote journal of room " + session.getRoomId(), e);
+        }
+    }
+
+    /**
+     * Select the tally strategy of every room.
+     * Sessions with an active vote keep their strategy until they are idle and this is called again.
+     *
+     * @param defaultStrategy Strategy name for rooms without their own
+     * @param strategies The "voting.room-strategies" config section (room ID -> strategy name), may be null
+     * @param logger Logger for unknown strategy names
+     */
+    public void loadStrategies(String defaultStrategy, ConfigurationSection strategies, Logger logger) {
+        this.defaultStrategy = validStrategy(defaultStrategy, "default", logger);
+        roomStrategies.clear();
+        if (strategies != null) {
+            for (String roomId : strategies.getKeys(false)) {
+                roomStrategies.put(roomId, validStrategy(strategies.getString(roomId), roomId, logger));
+            }
+        }
+        for (VotingSession session : sessions.values()) {
+            applyStrategy(session);
+        }
+    }
+
+    private String validStrategy(String name, String roomId, Logger logger) {
+        if (TallyStrategies.create(name) == null) {
+            logger.warning("Unknown tally strategy '" + name + "' for room " + roomId
+                + ", using approval (available: " + TallyStrategies.names() + ")");
+            return TallyStrategies.APPROVAL;
+        }
+        return name;
+    }
+
+    private void applyStrategy(VotingSession session) {
+        TallyStrategy strategy = TallyStrategies.create(roomStrategies.getOrDefault(session.getRoomId(), defaultStrategy));
+        if (!session.getStrategy().getName().equals(strategy.getName())) {
+            session.setStrategy(strategy);
+        }
+    }
+
+    /**
+     * Check if any world is mapped to a room other than the default one.
+     *
+     * @return true if more than one room can exist
+     */
+    public boolean hasRooms() {
+        return !worldRooms.isEmpty();
+    }
+
+    /**
+     * Get the session of the default room.
+     *
+     * @return The default session
+     */
+    public VotingSession getDefaultSession() {
+        return sessions.get(DEFAULT_ROOM);
+    }
+
+    /**
+     * Get the session for a room, creating it if needed.
+     *
+     * @param roomId The room ID
+     * @return The room's session
+     */
+    public VotingSession getSession(String roomId) {
+        return sessions.computeIfAbsent(roomId, id -> {
+            VotingSession session = new VotingSession(id);
+            session.setConcurrentIngest(concurrentIngest);
+            applyStrategy(session);
+            if (journalDirectory != null) {
+                openJournal(session, new JournalState());
+            }
+            return session;
+        });
+    }
+
+    /**
+     * Get the session a player is routed to.
+     *
+     * @param player The player
+     * @return The player's room session
+     */
+    public VotingSession getSession(Player player) {
+        VotingSession session = playerSessions.get(player.getUniqueId());
+        return session != null ? session : getSession(getRoomId(player.getWorld()));
+    }
+
+    /**
+     * Get the session for a world.
+     *
+     * @param worldName The world name
+     * @return The world's room session
+     */
+    public VotingSession getSessionForWorld(String worldName) {
+        return getSession(worldRooms.getOrDefault(worldName, DEFAULT_ROOM));
+    }
+
+    /**
+     * Get the room ID a world belongs to.
+     *
+     * @param world The world (may be null)
+     * @return The room ID
+     */
+    public String getRoomId(World world) {
+        if (world == null) {
+            return DEFAULT_ROOM;
+        }
+        return worldRooms.getOrDefault(world.getName(), DEFAULT_ROOM);
+    }
+
+    /**
+     * Get all sessions that have been created.
+     *
+     * @return Read-only collection of sessions
+     */
+    public Collection<VotingSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Route a player to the room of their current world.
+     * Called on join and world change.
+     *
+     * @param player The player
+     * @return The session the player is now routed to
+     */
+    public VotingSession route(Player player) {
+        VotingSession target = getSession(getRoomId(player.getWorld()));
+        VotingSession previous = playerSessions.put(player.getUniqueId(), target);
+        if (previous != null && previous != target) {
+            previous.removeMember(player.getUniqueId());
+        }
+        target.addMember(player);
+        return target;
+    }
+
+    /**
+     * Stop routing a player (on quit).
+     *
+     * @param player The player
+     */
+    public void remove(Player player) {
+        VotingSession previous = playerSessions.remove(player.getUniqueId());
+        if (previous != null) {
+            previous.removeMember(player.getUniqueId());
+        }
+    }
+}
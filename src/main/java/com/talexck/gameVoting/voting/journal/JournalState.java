@@ -0,0 +1,152 @@
+package com.talexck.gameVoting.voting.journal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Session state rebuilt from a vote journal.
+ * Vote toggles are kept in journal order, so replaying them on an empty tally
+ * reproduces the exact ballots (including multi-vote order).
+ */
+public class JournalState {
+    private boolean preVotingReady;
+    private final Set<UUID> preVotingReadyPlayers;
+    private boolean active;
+    private long startTime;
+    private int durationMinutes;
+    private UUID voteStarter;
+    private final List<VoteToggle> toggles;
+    private boolean readyPhase;
+    private final Set<UUID> readyPlayers;
+
+    public JournalState() {
+        this.preVotingReadyPlayers = new LinkedHashSet<>();
+        this.toggles = new ArrayList<>();
+        this.readyPlayers = new LinkedHashSet<>();
+    }
+
+    void preVotingStarted() {
+        preVotingReady = true;
+        preVotingReadyPlayers.clear();
+    }
+
+    void preVotingEnded() {
+        preVotingReady = false;
+        preVotingReadyPlayers.clear();
+    }
+
+    void preVotingReady(UUID playerId, boolean ready) {
+        if (ready) {
+            preVotingReadyPlayers.add(playerId);
+        } else {
+            preVotingReadyPlayers.remove(playerId);
+        }
+    }
+
+    void votingStarted(long startTime, int durationMinutes) {
+        // Starting a vote ends pre-voting and any previous round
+        preVotingEnded();
+        this.active = true;
+        this.startTime = startTime;
+        this.durationMinutes = durationMinutes;
+        this.toggles.clear();
+        this.readyPhase = false;
+        this.readyPlayers.clear();
+    }
+
+    void voteStarter(UUID playerId) {
+        this.voteStarter = playerId;
+    }
+
+    void voteToggled(UUID playerId, String gameId) {
+        toggles.add(new VoteToggle(playerId, gameId));
+    }
+
+    void votingStopped() {
+        active = false;
+    }
+
+    void readyPhaseStarted() {
+        active = false;
+        readyPhase = true;
+        readyPlayers.clear();
+    }
+
+    void playerReady(UUID playerId, boolean ready) {
+        if (ready) {
+            readyPlayers.add(playerId);
+        } else {
+            readyPlayers.remove(playerId);
+        }
+    }
+
+    /**
+     * Check if the journal holds a session worth restoring.
+     *
+     * @return true if pre-voting, voting or the ready phase was in progress
+     */
+    public boolean isInProgress() {
+        return preVotingReady || active || readyPhase;
+    }
+
+    public boolean isPreVotingReady() {
+        return preVotingReady;
+    }
+
+    public Set<UUID> getPreVotingReadyPlayers() {
+        return Collections.unmodifiableSet(preVotingReadyPlayers);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    public UUID getVoteStarter() {
+        return voteStarter;
+    }
+
+    public List<VoteToggle> getToggles() {
+        return Collections.unmodifiableList(toggles);
+    }
+
+    public boolean isReadyPhase() {
+        return readyPhase;
+    }
+
+    public Set<UUID> getReadyPlayers() {
+        return Collections.unmodifiableSet(readyPlayers);
+    }
+
+    /**
+     * A single journaled vote toggle.
+     */
+    public static final class VoteToggle {
+        private final UUID playerId;
+        private final String gameId;
+
+        VoteToggle(UUID playerId, String gameId) {
+            this.playerId = playerId;
+            this.gameId = gameId;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public String getGameId() {
+            return gameId;
+        }
+    }
+}
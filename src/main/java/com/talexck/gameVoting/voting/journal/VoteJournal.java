@@ -0,0 +1,361 @@
+package com.talexck.gameVoting.voting.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of voting session events, backed by a memory-mapped file.
+ *
+ * Appends only copy bytes into the mapped region; the OS writes dirty pages back
+ * on its own, so a process crash loses nothing and the hot path never calls fsync.
+ * The file is only forced to disk on close.
+ *
+ * File layout:
+ * - Header: magic (int), generation (int)
+ * - Records: length (int), generation (int), crc32 (int), type (byte), payload
+ *   (length counts the type byte and payload)
+ *
+ * Replay stops at the first record that is empty, belongs to an older generation
+ * or fails its checksum (a torn write). Compaction bumps the generation, which
+ * discards every existing record without rewriting the file.
+ *
+ * If the file cannot be grown, journaling is disabled for the rest of the
+ * session rather than failing the vote that triggered it.
+ *
+ * All methods are thread-safe.
+ */
+public class VoteJournal implements AutoCloseable {
+    private static final int MAGIC = 0x47564A31;  // "GVJ1"
+    private static final int HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private static final int INITIAL_CAPACITY = 256 * 1024;
+
+    // Record types
+    static final byte VOTING_STARTED = 1;
+    static final byte VOTE_TOGGLED = 2;
+    static final byte VOTING_STOPPED = 3;
+    static final byte READY_PHASE_STARTED = 4;
+    static final byte PLAYER_READY = 5;
+    static final byte PLAYER_UNREADY = 6;
+    static final byte PRE_VOTING_STARTED = 7;
+    static final byte PRE_VOTING_ENDED = 8;
+    static final byte PRE_VOTING_READY = 9;
+    static final byte PRE_VOTING_UNREADY = 10;
+    static final byte VOTE_STARTER = 11;
+
+    private final FileChannel channel;
+    private final Logger logger;
+    private final CRC32 crc;
+    private static final int MAX_STRING_BYTES = 0xFFFF;  // Length prefix is an unsigned short
+
+    private ByteBuffer scratch;  // Payload staging buffer, reused for every append and grown for long game IDs
+    private MappedByteBuffer buffer;
+    private int generation;
+    private boolean disabled;  // Set once the file could not grow; appends are dropped from then on
+
+    private VoteJournal(FileChannel channel, MappedByteBuffer buffer, int generation, Logger logger) {
+        this.channel = channel;
+        this.logger = logger;
+        this.buffer = buffer;
+        this.generation = generation;
+        this.crc = new CRC32();
+        this.scratch = ByteBuffer.allocate(512);
+    }
+
+    /**
+     * Open a journal file, creating it if needed, and replay its records.
+     * New records are appended after the last valid record.
+     *
+     * @param file The journal file
+     * @param state Receives the replayed session state
+     * @return The open journal
+     * @throws IOException If the file cannot be mapped
+     */
+    public static VoteJournal open(Path file, JournalState state) throws IOException {
+        return open(file, state, Logger.getLogger(VoteJournal.class.getName()));
+    }
+
+    /**
+     * Open a journal file, creating it if needed, and replay its records.
+     * New records are appended after the last valid record.
+     *
+     * @param file The journal file
+     * @param state Receives the replayed session state
+     * @param logger Logger for append failures
+     * @return The open journal
+     * @throws IOException If the file cannot be mapped
+     */
+    public static VoteJournal open(Path file, JournalState state, Logger logger) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(channel.size(), INITIAL_CAPACITY);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        int generation;
+        if (buffer.getInt(0) != MAGIC) {
+            // New or foreign file: start fresh
+            generation = 1;
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, generation);
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.position(HEADER_SIZE);
+        } else {
+            generation = buffer.getInt(4);
+            buffer.position(replay(buffer, generation, state));
+        }
+        return new VoteJournal(channel, buffer, generation, logger);
+    }
+
+    /**
+     * Replay valid records of the current generation.
+     *
+     * @return Position after the last valid record
+     */
+    private static int replay(MappedByteBuffer buffer, int generation, JournalState state) {
+        CRC32 crc = new CRC32();
+        int position = HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.capacity()
+                    || buffer.getInt(position + 4) != generation) {
+                break;
+            }
+
+            ByteBuffer record = buffer.duplicate();
+            record.limit(position + RECORD_HEADER_SIZE + length).position(position + RECORD_HEADER_SIZE);
+            crc.reset();
+            crc.update(record.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + 8)) {
+                break;  // Torn write from a crash
+            }
+
+            apply(record.get(), record, state);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private static void apply(byte type, ByteBuffer payload, JournalState state) {
+        switch (type) {
+            case VOTING_STARTED:
+                state.votingStarted(payload.getLong(), payload.getInt());
+                break;
+            case VOTE_TOGGLED:
+                state.voteToggled(readUuid(payload), readString(payload));
+                break;
+            case VOTING_STOPPED:
+                state.votingStopped();
+                break;
+            case READY_PHASE_STARTED:
+                state.readyPhaseStarted();
+                break;
+            case PLAYER_READY:
+                state.playerReady(readUuid(payload), true);
+                break;
+            case PLAYER_UNREADY:
+                state.playerReady(readUuid(payload), false);
+                break;
+            case PRE_VOTING_STARTED:
+                state.preVotingStarted();
+                break;
+            case PRE_VOTING_ENDED:
+                state.preVotingEnded();
+                break;
+            case PRE_VOTING_READY:
+                state.preVotingReady(readUuid(payload), true);
+                break;
+            case PRE_VOTING_UNREADY:
+                state.preVotingReady(readUuid(payload), false);
+                break;
+            case VOTE_STARTER:
+                state.voteStarter(readUuid(payload));
+                break;
+            default:
+                break;
+        }
+    }
+
+    public synchronized void votingStarted(long startTime, int durationMinutes) {
+        scratch.clear();
+        scratch.putLong(startTime).putInt(durationMinutes);
+        append(VOTING_STARTED);
+    }
+
+    /**
+     * Journal a vote toggle.
+     *
+     * @param playerId The voting player's UUID
+     * @param gameId The game ID
+     * @return false if the game ID is too long to journal (over 65535 UTF-8 bytes)
+     */
+    public synchronized boolean voteToggled(UUID playerId, String gameId) {
+        byte[] bytes = gameId.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            return false;
+        }
+        ensureScratch(16 + 2 + bytes.length);
+        scratch.clear();
+        writeUuid(playerId);
+        scratch.putShort((short) bytes.length).put(bytes);
+        append(VOTE_TOGGLED);
+        return true;
+    }
+
+    public synchronized void votingStopped() {
+        scratch.clear();
+        append(VOTING_STOPPED);
+    }
+
+    public synchronized void readyPhaseStarted() {
+        scratch.clear();
+        append(READY_PHASE_STARTED);
+    }
+
+    public synchronized void playerReady(UUID playerId, boolean ready) {
+        scratch.clear();
+        writeUuid(playerId);
+        append(ready ? PLAYER_READY : PLAYER_UNREADY);
+    }
+
+    public synchronized void preVotingStarted() {
+        scratch.clear();
+        append(PRE_VOTING_STARTED);
+    }
+
+    public synchronized void preVotingEnded() {
+        scratch.clear();
+        append(PRE_VOTING_ENDED);
+    }
+
+    public synchronized void preVotingReady(UUID playerId, boolean ready) {
+        scratch.clear();
+        writeUuid(playerId);
+        append(ready ? PRE_VOTING_READY : PRE_VOTING_UNREADY);
+    }
+
+    public synchronized void voteStarter(UUID playerId) {
+        scratch.clear();
+        if (playerId != null) {
+            writeUuid(playerId);
+            append(VOTE_STARTER);
+        }
+    }
+
+    /**
+     * Discard all records (called when a session ends).
+     * Shrinks the file back to its initial size if it had grown.
+     */
+    public synchronized void compact() {
+        if (disabled) {
+            return;
+        }
+        generation++;
+        try {
+            if (buffer.capacity() > INITIAL_CAPACITY) {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_CAPACITY);
+                channel.truncate(INITIAL_CAPACITY);
+            }
+        } catch (IOException e) {
+            // Keep using the larger mapping; the generation bump already discarded the records
+        }
+        buffer.putInt(4, generation);
+        buffer.putInt(HEADER_SIZE, 0);
+        buffer.position(HEADER_SIZE);
+    }
+
+    /**
+     * Force the journal to disk and close it.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Copy the staged payload into the mapped file as one record.
+     */
+    private void append(byte type) {
+        if (disabled) {
+            return;
+        }
+        scratch.flip();
+        int length = 1 + scratch.remaining();
+        int position = buffer.position();
+        if (position + RECORD_HEADER_SIZE + length + 4 > buffer.capacity()) {
+            try {
+                grow(position + RECORD_HEADER_SIZE + length + 4);
+            } catch (IllegalStateException e) {
+                disable(e);
+                return;
+            }
+        }
+
+        crc.reset();
+        crc.update(type);
+        crc.update(scratch.duplicate());
+
+        buffer.position(position + RECORD_HEADER_SIZE);
+        buffer.put(type).put(scratch);
+        // Terminate before publishing the length, so replay never reads past this record
+        buffer.putInt(buffer.position(), 0);
+        buffer.putInt(position + 4, generation);
+        buffer.putInt(position + 8, (int) crc.getValue());
+        buffer.putInt(position, length);
+    }
+
+    private void grow(int required) {
+        long capacity = buffer.capacity();
+        while (capacity < required) {
+            capacity *= 2;
+        }
+        try {
+            int position = buffer.position();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.position(position);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to grow vote journal", e);
+        }
+    }
+
+    /**
+     * Stop journaling for this session after a failed append.
+     * The records so far are discarded too, so a restart does not recover a session with votes missing.
+     */
+    private void disable(IllegalStateException cause) {
+        disabled = true;
+        generation++;
+        buffer.putInt(4, generation);
+        buffer.putInt(HEADER_SIZE, 0);
+        logger.log(Level.WARNING, "Vote journal disabled for this session", cause);
+    }
+
+    private void ensureScratch(int required) {
+        if (scratch.capacity() < required) {
+            scratch = ByteBuffer.allocate(Math.max(required, scratch.capacity() * 2));
+        }
+    }
+
+    private void writeUuid(UUID playerId) {
+        scratch.putLong(playerId.getMostSignificantBits()).putLong(playerId.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(ByteBuffer payload) {
+        return new UUID(payload.getLong(), payload.getLong());
+    }
+
+    private static String readString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort() & 0xFFFF];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
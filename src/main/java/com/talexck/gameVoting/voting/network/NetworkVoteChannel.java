@@ -0,0 +1,141 @@
+package com.talexck.gameVoting.voting.network;
+
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.EventManager;
+import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CloudNet channel transport for network voting.
+ * Sends round start, shard and service messages to all services and
+ * dispatches received messages to a handler.
+ *
+ * Handlers are called on CloudNet's network threads, not the server thread.
+ */
+public class NetworkVoteChannel {
+    public static final String CHANNEL = "gamevoting:voting";
+
+    private static final String MESSAGE_START = "start";
+    private static final String MESSAGE_SHARD = "shard";
+    private static final String MESSAGE_SERVICE = "service";
+
+    private final String localNode;
+    private final Handler handler;
+    private final EventManager eventManager;
+
+    /**
+     * Receiver for network voting messages.
+     */
+    public interface Handler {
+        void onStart(String node, String round, int durationMinutes);
+
+        void onShard(String node, String round, long version, Map<String, Integer> counts);
+
+        void onService(String node, String round, String gameId, String serviceName);
+    }
+
+    public NetworkVoteChannel(String localNode, Handler handler) {
+        this.localNode = localNode;
+        this.handler = handler;
+        this.eventManager = InjectionLayer.ext().instance(EventManager.class);
+    }
+
+    /**
+     * Start listening for channel messages.
+     */
+    public void register() {
+        eventManager.registerListener(this);
+    }
+
+    /**
+     * Stop listening for channel messages.
+     */
+    public void unregister() {
+        eventManager.unregisterListener(this);
+    }
+
+    /**
+     * Announce a new voting round.
+     */
+    public void sendStart(String round, int durationMinutes) {
+        send(MESSAGE_START, DataBuf.empty()
+            .writeString(localNode)
+            .writeString(round)
+            .writeInt(durationMinutes));
+    }
+
+    /**
+     * Publish the local shard.
+     */
+    public void sendShard(String round, ShardedVoteCounter.Shard shard) {
+        DataBuf.Mutable buffer = DataBuf.empty()
+            .writeString(localNode)
+            .writeString(round)
+            .writeLong(shard.getVersion())
+            .writeInt(shard.getCounts().size());
+        for (Map.Entry<String, Integer> entry : shard.getCounts().entrySet()) {
+            buffer.writeString(entry.getKey()).writeInt(entry.getValue());
+        }
+        send(MESSAGE_SHARD, buffer);
+    }
+
+    /**
+     * Announce the service provisioned for the winning game.
+     */
+    public void sendService(String round, String gameId, String serviceName) {
+        send(MESSAGE_SERVICE, DataBuf.empty()
+            .writeString(localNode)
+            .writeString(round)
+            .writeString(gameId)
+            .writeString(serviceName));
+    }
+
+    @EventListener
+    public void handleChannelMessage(ChannelMessageReceiveEvent event) {
+        if (!CHANNEL.equals(event.channel())) {
+            return;
+        }
+
+        DataBuf content = event.content();
+        String node = content.readString();
+        if (localNode.equals(node)) {
+            return;  // Our own broadcast
+        }
+        String round = content.readString();
+
+        switch (event.message()) {
+            case MESSAGE_START:
+                handler.onStart(node, round, content.readInt());
+                break;
+            case MESSAGE_SHARD:
+                long version = content.readLong();
+                int size = content.readInt();
+                Map<String, Integer> counts = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    counts.put(content.readString(), content.readInt());
+                }
+                handler.onShard(node, round, version, counts);
+                break;
+            case MESSAGE_SERVICE:
+                handler.onService(node, round, content.readString(), content.readString());
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void send(String message, DataBuf buffer) {
+        ChannelMessage.builder()
+            .channel(CHANNEL)
+            .message(message)
+            .buffer(buffer)
+            .targetAll()
+            .build()
+            .send();
+    }
+}
@@ -0,0 +1,362 @@
+package com.talexck.gameVoting.voting.network;
+
+import com.talexck.gameVoting.GameVoting;
+import com.talexck.gameVoting.api.cloudnet.CloudNetAPI;
+import com.talexck.gameVoting.commands.VoteCommand;
+import com.talexck.gameVoting.voting.VoteSnapshot;
+import com.talexck.gameVoting.voting.VotingSession;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Coordinates one voting round across all lobby services.
+ *
+ * Each lobby keeps voting on its own VotingSession and publishes its counts as a
+ * shard over CloudNet channels; every lobby merges the shards it receives, so all
+ * of them converge to the same network-wide standings. When voting ends, the
+ * coordinator (lowest node ID in the round) provisions the winning game's service
+ * and announces it, and every lobby teleports its players to that service.
+ *
+ * Lobbies may disagree on the coordinator or the winner, e.g. when a shard was
+ * lost. A lobby only takes an announced service for the game it found to win,
+ * and provisions the game itself if none arrives within service-timeout-ticks,
+ * so players are never left waiting.
+ *
+ * Only initialized when voting.network.enabled is true.
+ */
+public class NetworkVotingManager implements NetworkVoteChannel.Handler {
+    private static NetworkVotingManager instance;
+    private static final int HEARTBEAT_CYCLES = 5;  // Re-send the local shard every 5 syncs even if unchanged
+
+    private final GameVoting plugin;
+    private final ShardedVoteCounter counter;
+    private final NetworkVoteChannel channel;
+    private final long syncTicks;
+    private final long settleTicks;
+    private final long serviceTimeoutTicks;
+    private final Map<String, String> services;  // Announced service per game ID, for the current round
+
+    private BukkitTask syncTask;
+    private int cyclesSinceSend;
+    private volatile boolean roundOpen;  // True while local voting is running for the round
+    private String serviceGame;  // Game the callback waits for
+    private Consumer<String> serviceCallback;  // Waiting for the provisioned service
+    private BukkitTask serviceTimeout;  // Provisions locally if no service is announced
+
+    private NetworkVotingManager(GameVoting plugin, String nodeId, long syncTicks, long settleTicks,
+                                 long serviceTimeoutTicks) {
+        this.plugin = plugin;
+        this.counter = new ShardedVoteCounter(nodeId);
+        this.channel = new NetworkVoteChannel(nodeId, this);
+        this.syncTicks = syncTicks;
+        this.settleTicks = settleTicks;
+        this.serviceTimeoutTicks = serviceTimeoutTicks;
+        this.services = new HashMap<>();
+    }
+
+    /**
+     * Initialize network voting from the plugin configuration.
+     * Does nothing if network voting is disabled.
+     *
+     * @param plugin Plugin instance
+     */
+    public static void initialize(GameVoting plugin) {
+        if (instance != null) {
+            return;
+        }
+        ConfigurationSection config = plugin.getConfig().getConfigurationSection("voting.network");
+        if (config == null || !config.getBoolean("enabled", false)) {
+            return;
+        }
+
+        String nodeId = config.getString("node-id", "");
+        if (nodeId == null || nodeId.isEmpty()) {
+            nodeId = currentServiceName(plugin);
+        }
+
+        instance = new NetworkVotingManager(plugin, nodeId,
+            Math.max(1L, config.getLong("sync-interval-ticks", 20L)),
+            Math.max(0L, config.getLong("settle-ticks", 60L)),
+            Math.max(1L, config.getLong("service-timeout-ticks", 200L)));
+        instance.channel.register();
+        plugin.getLogger().info("Network voting enabled (node: " + nodeId + ")");
+    }
+
+    /**
+     * Get the CloudNet service name of this lobby, the default node ID.
+     * The coordinator is the lowest node ID, so it must not change between restarts.
+     *
+     * @param plugin Plugin instance
+     * @return The service name, or a random ID if CloudNet is not available
+     */
+    private static String currentServiceName(GameVoting plugin) {
+        try {
+            String name = CloudNetAPI.getInstance().getCurrentServiceName();
+            if (name != null && !name.isEmpty()) {
+                return name;
+            }
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Could not read the CloudNet service name: " + e.getMessage());
+        }
+        plugin.getLogger().warning("Using a random network voting node ID - set voting.network.node-id "
+            + "so the coordinator stays the same across restarts");
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * Get the NetworkVotingManager instance.
+     *
+     * @return NetworkVotingManager instance, or null if network voting is disabled
+     */
+    public static NetworkVotingManager getInstance() {
+        return instance;
+    }
+
+    /**
+     * Shut down network voting.
+     */
+    public static void shutdown() {
+        if (instance != null) {
+            instance.leaveRound();
+            instance.channel.unregister();
+            instance = null;
+        }
+    }
+
+    /**
+     * Start a new round for a locally started voting session and invite the other lobbies.
+     * Does nothing if this lobby already joined a round started elsewhere.
+     *
+     * @param durationMinutes Voting duration in minutes
+     */
+    public void announceStart(int durationMinutes) {
+        if (roundOpen) {
+            return;
+        }
+        // Older rounds sort first, so concurrent starts resolve to the same round
+        String round = String.format("%013d-%s", System.currentTimeMillis(), counter.getLocalNode());
+        openRound(round);
+        channel.sendStart(round, durationMinutes);
+    }
+
+    /**
+     * Close the local side of the round and publish the final local counts.
+     * Shards from other lobbies are still merged until the round is left.
+     *
+     * @param localResults Final local vote counts
+     */
+    public void closeRound(Map<String, Integer> localResults) {
+        roundOpen = false;
+        counter.updateLocal(localResults);
+        publishShard();
+    }
+
+    /**
+     * Leave the current round without waiting for a service.
+     */
+    public void leaveRound() {
+        roundOpen = false;
+        counter.reset(null);
+        clearService();
+        if (syncTask != null) {
+            syncTask.cancel();
+            syncTask = null;
+        }
+    }
+
+    /**
+     * Check if this lobby takes part in a network round.
+     *
+     * @return true if a round is open or waiting for its service
+     */
+    public boolean hasRound() {
+        return counter.getRound() != null;
+    }
+
+    /**
+     * Get network-wide results, sorted by count (descending).
+     *
+     * @return Ordered map of game ID to vote count
+     */
+    public Map<String, Integer> getResults() {
+        return counter.getResults();
+    }
+
+    /**
+     * Get the network-wide winning game.
+     *
+     * @return The game ID with most votes, or null if no votes
+     */
+    public String getWinner() {
+        return counter.getLeader();
+    }
+
+    /**
+     * Check if this lobby provisions the winning service for the round.
+     *
+     * @return true if this node is the coordinator
+     */
+    public boolean isCoordinator() {
+        return counter.isCoordinator();
+    }
+
+    /**
+     * Get how long to wait after local voting ends for remote shards to arrive.
+     *
+     * @return Delay in ticks
+     */
+    public long getSettleTicks() {
+        return settleTicks;
+    }
+
+    /**
+     * Announce the service provisioned for the winning game (coordinator only).
+     *
+     * @param gameId The winning game ID
+     * @param serviceName The provisioned CloudNet service name
+     */
+    public void announceService(String gameId, String serviceName) {
+        channel.sendService(counter.getRound(), gameId, serviceName);
+        services.put(gameId, serviceName);
+        dispatchService();
+    }
+
+    /**
+     * Run a callback on the main thread once a service for the winning game is announced.
+     * If none is announced within the service timeout, the fallback runs instead.
+     * Leaves the round after either runs; leaving the round earlier drops both.
+     *
+     * @param gameId The game this lobby found to win
+     * @param callback Receives the provisioned service name
+     * @param fallback Provisions the game locally
+     */
+    public void whenServiceReady(String gameId, Consumer<String> callback, Runnable fallback) {
+        if (serviceTimeout != null) {
+            serviceTimeout.cancel();
+        }
+        this.serviceGame = gameId;
+        this.serviceCallback = callback;
+        this.serviceTimeout = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            serviceTimeout = null;
+            plugin.getLogger().warning("No service announced for " + gameId + " within "
+                + serviceTimeoutTicks + " ticks - provisioning it locally");
+            leaveRound();
+            fallback.run();
+        }, serviceTimeoutTicks);
+        dispatchService();
+    }
+
+    @Override
+    public void onStart(String node, String round, int durationMinutes) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            VotingSession session = VotingSession.getInstance();
+            String current = counter.getRound();
+
+            if (roundOpen) {
+                // Two lobbies started at once: everyone settles on the older round
+                if (current != null && round.compareTo(current) < 0) {
+                    openRound(round);
+                }
+                return;
+            }
+            if (session.isActive() || session.isReadyPhase()) {
+                return;
+            }
+
+            VoteCommand voteCommand = plugin.getVoteCommand();
+            if (voteCommand == null) {
+                return;
+            }
+            openRound(round);
+            voteCommand.actuallyStartVoting(durationMinutes);
+        });
+    }
+
+    @Override
+    public void onShard(String node, String round, long version, Map<String, Integer> counts) {
+        // Merging is thread-safe, no need to hop to the main thread
+        counter.merge(round, node, version, counts);
+    }
+
+    @Override
+    public void onService(String node, String round, String gameId, String serviceName) {
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!round.equals(counter.getRound())) {
+                return;
+            }
+            // Kept per game: only a service for the game that won here is used
+            services.put(gameId, serviceName);
+            if (serviceGame != null && !serviceGame.equals(gameId)) {
+                // The coordinator saw different standings; wait for a matching service or provision locally
+                plugin.getLogger().warning("Ignoring service " + serviceName + " from " + node + " for "
+                    + gameId + " - the winner here is " + serviceGame);
+                return;
+            }
+            dispatchService();
+        });
+    }
+
+    private void openRound(String round) {
+        counter.reset(round);
+        roundOpen = true;
+        clearService();
+        cyclesSinceSend = 0;
+        if (syncTask == null) {
+            syncTask = Bukkit.getScheduler().runTaskTimer(plugin, this::sync, syncTicks, syncTicks);
+        }
+    }
+
+    /**
+     * Publish local counts when they change, and periodically as a heartbeat
+     * so lobbies that missed a message still converge.
+     */
+    private void sync() {
+        if (!hasRound()) {
+            return;
+        }
+        VotingSession session = VotingSession.getInstance();
+        VoteSnapshot snapshot = session.getSnapshot();
+        boolean changed = false;
+        // The counter forgets what it copied when the round changes, so a switch re-copies the votes
+        if (roundOpen && session.isActive() && counter.isBehind(snapshot.getVersion())) {
+            changed = counter.updateLocal(snapshot.getVersion(), snapshot.getCounts()) != null;
+        }
+        if (changed || ++cyclesSinceSend >= HEARTBEAT_CYCLES) {
+            publishShard();
+        }
+    }
+
+    private void publishShard() {
+        String round = counter.getRound();
+        if (round != null) {
+            channel.sendShard(round, counter.getLocalShard());
+            cyclesSinceSend = 0;
+        }
+    }
+
+    private void dispatchService() {
+        String name = serviceGame != null ? services.get(serviceGame) : null;
+        if (name == null || serviceCallback == null) {
+            return;
+        }
+        Consumer<String> callback = serviceCallback;
+        leaveRound();
+        callback.accept(name);
+    }
+
+    private void clearService() {
+        services.clear();
+        serviceGame = null;
+        serviceCallback = null;
+        if (serviceTimeout != null) {
+            serviceTimeout.cancel();
+            serviceTimeout = null;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.talexck.gameVoting.voting.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conflict-free vote counter replicated across lobby services.
+ *
+ * Every node owns one shard: its local per-game counts plus a version that only
+ * the owner increments. Replicas merge shards by keeping the higher version per
+ * node, which is commutative, associative and idempotent, so nodes converge to the
+ * same totals regardless of message order, duplication or loss (as long as shards
+ * keep being re-sent). Network totals are the sum of all shards.
+ *
+ * Shards belong to a round; messages from other rounds are ignored.
+ * All methods are thread-safe.
+ */
+public class ShardedVoteCounter {
+    private final String localNode;
+    private final Map<String, Shard> shards;
+    private volatile String round;
+    private volatile long sourceVersion;  // Version of the local data last copied into the shard, this round
+
+    /**
+     * Create a counter for this node.
+     *
+     * @param localNode Unique ID of the local node
+     */
+    public ShardedVoteCounter(String localNode) {
+        this.localNode = localNode;
+        this.shards = new ConcurrentHashMap<>();
+        this.round = null;
+        this.sourceVersion = -1;
+    }
+
+    /**
+     * Drop all shards and start collecting for a new round.
+     * The local node joins with an empty shard.
+     *
+     * @param round The round ID, or null to leave the current round
+     */
+    public synchronized void reset(String round) {
+        this.round = round;
+        sourceVersion = -1;
+        shards.clear();
+        if (round != null) {
+            shards.put(localNode, new Shard(0, Collections.emptyMap()));
+        }
+    }
+
+    /**
+     * Replace the local shard with the node's current counts.
+     *
+     * @param counts Local vote counts by game ID
+     * @return The new local shard, or null if nothing changed or not in a round
+     */
+    public synchronized Shard updateLocal(Map<String, Integer> counts) {
+        if (round == null) {
+            return null;
+        }
+        Shard current = getLocalShard();
+        Map<String, Integer> filtered = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > 0) {
+                filtered.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (current.counts.equals(filtered)) {
+            return null;
+        }
+        Shard updated = new Shard(current.version + 1, filtered);
+        shards.put(localNode, updated);
+        return updated;
+    }
+
+    /**
+     * Replace the local shard with the node's counts at a given version of the local data.
+     * After a reset, the next version is copied again even if it was copied for an earlier round.
+     *
+     * @param sourceVersion Version of the local data the counts come from
+     * @param counts Local vote counts by game ID
+     * @return The new local shard, or null if nothing changed or not in a round
+     */
+    public synchronized Shard updateLocal(long sourceVersion, Map<String, Integer> counts) {
+        if (round == null) {
+            return null;
+        }
+        this.sourceVersion = Math.max(this.sourceVersion, sourceVersion);
+        return updateLocal(counts);
+    }
+
+    /**
+     * Check if the local data has changed since it was last copied into this round's shard.
+     *
+     * @param sourceVersion Current version of the local data
+     * @return true if updateLocal() should be called with it
+     */
+    public boolean isBehind(long sourceVersion) {
+        return round != null && sourceVersion > this.sourceVersion;
+    }
+
+    /**
+     * Merge a shard received from another node.
+     *
+     * @param round The round the shard belongs to
+     * @param node The node that owns the shard
+     * @param version The shard version
+     * @param counts The node's vote counts by game ID
+     * @return true if the shard was newer than the known one
+     */
+    public synchronized boolean merge(String round, String node, long version, Map<String, Integer> counts) {
+        if (!round.equals(this.round) || localNode.equals(node)) {
+            return false;
+        }
+        Shard incoming = new Shard(version, counts);
+        Shard merged = shards.merge(node, incoming, (known, received) ->
+            received.version > known.version ? received : known);
+        return merged == incoming;
+    }
+
+    /**
+     * Get the network-wide vote counts.
+     *
+     * @return New map of game ID to summed vote count
+     */
+    public Map<String, Integer> getCounts() {
+        Map<String, Integer> totals = new HashMap<>();
+        for (Shard shard : shards.values()) {
+            for (Map.Entry<String, Integer> entry : shard.counts.entrySet()) {
+                totals.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Get network-wide results ordered by vote count (descending).
+     * Ties are broken by game ID so every node produces the same order.
+     *
+     * @return Ordered map of game ID to vote count
+     */
+    public Map<String, Integer> getResults() {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(getCounts().entrySet());
+        entries.sort((a, b) -> {
+            int byCount = Integer.compare(b.getValue(), a.getValue());
+            return byCount != 0 ? byCount : a.getKey().compareTo(b.getKey());
+        });
+        Map<String, Integer> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : entries) {
+            results.put(entry.getKey(), entry.getValue());
+        }
+        return results;
+    }
+
+    /**
+     * Get the network-wide leading game.
+     *
+     * @return The game ID with most votes, or null if no votes
+     */
+    public String getLeader() {
+        Map<String, Integer> results = getResults();
+        return results.isEmpty() ? null : results.keySet().iterator().next();
+    }
+
+    /**
+     * Get the coordinator for the current round.
+     * The node with the lowest ID wins, so every node with the same shards agrees.
+     *
+     * @return The coordinator node ID, or null if not in a round
+     */
+    public String getCoordinator() {
+        String coordinator = null;
+        for (String node : shards.keySet()) {
+            if (coordinator == null || node.compareTo(coordinator) < 0) {
+                coordinator = node;
+            }
+        }
+        return coordinator;
+    }
+
+    /**
+     * Check if the local node coordinates the current round.
+     *
+     * @return true if this node is the coordinator
+     */
+    public boolean isCoordinator() {
+        return localNode.equals(getCoordinator());
+    }
+
+    /**
+     * Get all nodes that have a shard in the current round.
+     *
+     * @return Set of node IDs
+     */
+    public Set<String> getNodes() {
+        return Collections.unmodifiableSet(shards.keySet());
+    }
+
+    /**
+     * Get the local node's shard.
+     *
+     * @return The local shard (empty if not in a round)
+     */
+    public Shard getLocalShard() {
+        Shard shard = shards.get(localNode);
+        return shard != null ? shard : new Shard(0, Collections.emptyMap());
+    }
+
+    /**
+     * Get the current round ID.
+     *
+     * @return The round ID, or null if not in a round
+     */
+    public String getRound() {
+        return round;
+    }
+
+    /**
+     * Get the local node ID.
+     *
+     * @return The local node ID
+     */
+    public String getLocalNode() {
+        return localNode;
+    }
+
+    /**
+     * One node's versioned vote counts.
+     */
+    public static final class Shard {
+        private final long version;
+        private final Map<String, Integer> counts;
+
+        private Shard(long version, Map<String, Integer> counts) {
+            this.version = version;
+            this.counts = Collections.unmodifiableMap(new HashMap<>(counts));
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public Map<String, Integer> getCounts() {
+            return counts;
+        }
+    }
+}
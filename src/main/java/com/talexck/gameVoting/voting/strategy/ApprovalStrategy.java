@@ -0,0 +1,54 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Approval voting: players vote for several games and every vote counts once.
+ * This is the original GameVoting behavior (up to 3 votes per player).
+ */
+public class ApprovalStrategy implements TallyStrategy {
+    private final int maxVotes;
+    private int[] totals = new int[16];
+
+    /**
+     * Create an approval strategy.
+     *
+     * @param maxVotes Maximum votes per player (1-4)
+     */
+    public ApprovalStrategy(int maxVotes) {
+        if (maxVotes < 1 || maxVotes > TallyStrategies.MAX_SLOTS) {
+            throw new IllegalArgumentException("maxVotes must be between 1 and " + TallyStrategies.MAX_SLOTS);
+        }
+        this.maxVotes = maxVotes;
+    }
+
+    @Override
+    public String getName() {
+        return TallyStrategies.APPROVAL;
+    }
+
+    @Override
+    public int getMaxVotes() {
+        return maxVotes;
+    }
+
+    @Override
+    public int evaluate(long[] ballots, int ballotCount, int gameCount, int[] ranking, int[] scores) {
+        totals = TallyStrategies.ensureCapacity(totals, gameCount);
+        Arrays.fill(totals, 0, gameCount, 0);
+
+        for (int i = 0; i < ballotCount; i++) {
+            long ballot = ballots[i];
+            for (int slot = 0; slot < TallyStrategies.MAX_SLOTS; slot++) {
+                int game = TallyStrategies.gameAt(ballot, slot);
+                if (game < 0) {
+                    break;  // Ballots are compact
+                }
+                if (game < gameCount) {
+                    totals[game]++;
+                }
+            }
+        }
+        return TallyStrategies.rankByScore(totals, gameCount, ranking, scores);
+    }
+}
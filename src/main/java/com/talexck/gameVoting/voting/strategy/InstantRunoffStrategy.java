@@ -0,0 +1,147 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Instant-runoff (ranked choice) voting.
+ *
+ * A player's votes are their preferences in the order they were cast. Each round
+ * counts every ballot for its highest preference still in the race; a game with
+ * a majority of those ballots wins, otherwise the game with fewest votes is
+ * eliminated and its ballots move on to their next preference.
+ *
+ * Ranking: the remaining games ordered by their final-round votes, followed by
+ * the eliminated games in reverse elimination order. Each score is the game's
+ * vote count in the last round it took part in.
+ */
+public class InstantRunoffStrategy implements TallyStrategy {
+    private final int maxVotes;
+
+    // Working buffers, indexed by game
+    private int[] roundVotes = new int[16];
+    private boolean[] inRace = new boolean[16];
+
+    /**
+     * Create an instant-runoff strategy.
+     *
+     * @param maxVotes Maximum preferences per player (1-4)
+     */
+    public InstantRunoffStrategy(int maxVotes) {
+        if (maxVotes < 1 || maxVotes > TallyStrategies.MAX_SLOTS) {
+            throw new IllegalArgumentException("maxVotes must be between 1 and " + TallyStrategies.MAX_SLOTS);
+        }
+        this.maxVotes = maxVotes;
+    }
+
+    @Override
+    public String getName() {
+        return TallyStrategies.INSTANT_RUNOFF;
+    }
+
+    @Override
+    public int getMaxVotes() {
+        return maxVotes;
+    }
+
+    @Override
+    public int evaluate(long[] ballots, int ballotCount, int gameCount, int[] ranking, int[] scores) {
+        ensureCapacity(gameCount);
+        Arrays.fill(inRace, 0, gameCount, false);
+
+        // Only games that appear on some ballot enter the race
+        int remaining = 0;
+        for (int i = 0; i < ballotCount; i++) {
+            long ballot = ballots[i];
+            for (int slot = 0; slot < TallyStrategies.MAX_SLOTS; slot++) {
+                int game = TallyStrategies.gameAt(ballot, slot);
+                if (game < 0) {
+                    break;  // Ballots are compact
+                }
+                if (game < gameCount && !inRace[game]) {
+                    inRace[game] = true;
+                    remaining++;
+                }
+            }
+        }
+        int ranked = remaining;
+
+        while (remaining > 0) {
+            int activeBallots = countRound(ballots, ballotCount, gameCount);
+
+            int leader = -1;
+            int loser = -1;
+            for (int game = 0; game < gameCount; game++) {
+                if (!inRace[game]) {
+                    continue;
+                }
+                int votes = roundVotes[game];
+                if (leader < 0 || votes > roundVotes[leader]) {
+                    leader = game;
+                }
+                // Ties eliminate the game listed last, mirroring the leader tie-break
+                if (loser < 0 || votes <= roundVotes[loser]) {
+                    loser = game;
+                }
+            }
+
+            if (remaining == 1 || roundVotes[leader] * 2 > activeBallots) {
+                // Decided: rank the games still in the race by this round's votes
+                for (int game = 0; game < gameCount; game++) {
+                    if (!inRace[game]) {
+                        roundVotes[game] = 0;
+                    }
+                }
+                int placed = TallyStrategies.rankByScore(roundVotes, gameCount, ranking, scores);
+                // Games still in the race without votes this round follow in index order
+                for (int game = 0; game < gameCount && placed < remaining; game++) {
+                    if (inRace[game] && roundVotes[game] == 0) {
+                        ranking[placed] = game;
+                        scores[placed] = 0;
+                        placed++;
+                    }
+                }
+                break;
+            }
+
+            // Eliminated games fill the ranking from the back
+            inRace[loser] = false;
+            remaining--;
+            ranking[remaining] = loser;
+            scores[remaining] = roundVotes[loser];
+        }
+        return ranked;
+    }
+
+    /**
+     * Count each ballot for its highest preference still in the race.
+     *
+     * @return Number of ballots that still count (not exhausted)
+     */
+    private int countRound(long[] ballots, int ballotCount, int gameCount) {
+        Arrays.fill(roundVotes, 0, gameCount, 0);
+        int active = 0;
+        for (int i = 0; i < ballotCount; i++) {
+            long ballot = ballots[i];
+            for (int slot = 0; slot < TallyStrategies.MAX_SLOTS; slot++) {
+                int game = TallyStrategies.gameAt(ballot, slot);
+                if (game < 0) {
+                    break;  // Exhausted
+                }
+                if (game < gameCount && inRace[game]) {
+                    roundVotes[game]++;
+                    active++;
+                    break;
+                }
+            }
+        }
+        return active;
+    }
+
+    private void ensureCapacity(int gameCount) {
+        if (roundVotes.length < gameCount) {
+            int capacity = Math.max(gameCount, roundVotes.length * 2);
+            roundVotes = new int[capacity];
+            inRace = new boolean[capacity];
+        }
+    }
+}
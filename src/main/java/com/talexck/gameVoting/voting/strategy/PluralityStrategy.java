@@ -0,0 +1,34 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Plurality voting: each player has one vote and the game with most votes wins.
+ */
+public class PluralityStrategy implements TallyStrategy {
+    private int[] totals = new int[16];
+
+    @Override
+    public String getName() {
+        return TallyStrategies.PLURALITY;
+    }
+
+    @Override
+    public int getMaxVotes() {
+        return 1;
+    }
+
+    @Override
+    public int evaluate(long[] ballots, int ballotCount, int gameCount, int[] ranking, int[] scores) {
+        totals = TallyStrategies.ensureCapacity(totals, gameCount);
+        Arrays.fill(totals, 0, gameCount, 0);
+
+        for (int i = 0; i < ballotCount; i++) {
+            int game = TallyStrategies.gameAt(ballots[i], 0);
+            if (game >= 0 && game < gameCount) {
+                totals[game]++;
+            }
+        }
+        return TallyStrategies.rankByScore(totals, gameCount, ranking, scores);
+    }
+}
@@ -0,0 +1,106 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Factory and shared helpers for tally strategies.
+ */
+public final class TallyStrategies {
+    public static final String PLURALITY = "plurality";
+    public static final String APPROVAL = "approval";
+    public static final String INSTANT_RUNOFF = "instant-runoff";
+
+    static final int SLOT_BITS = 16;
+    static final long SLOT_MASK = 0xFFFFL;
+    static final int MAX_SLOTS = Long.SIZE / SLOT_BITS;
+
+    private TallyStrategies() {
+    }
+
+    /**
+     * Create a new strategy instance by config name.
+     *
+     * @param name Strategy name (case-insensitive; "irv" and "ranked" are accepted for instant-runoff)
+     * @return A new strategy, or null if the name is unknown
+     */
+    public static TallyStrategy create(String name) {
+        if (name == null) {
+            return null;
+        }
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case PLURALITY:
+                return new PluralityStrategy();
+            case APPROVAL:
+                return new ApprovalStrategy(3);
+            case INSTANT_RUNOFF:
+            case "irv":
+            case "ranked":
+                return new InstantRunoffStrategy(3);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Get the names of the built-in strategies.
+     *
+     * @return Strategy names
+     */
+    public static List<String> names() {
+        return List.of(PLURALITY, APPROVAL, INSTANT_RUNOFF);
+    }
+
+    /**
+     * Write every game with a non-zero score into the ranking, ordered by score
+     * (descending) and then by game index, so ties resolve in configuration order.
+     * Insertion sort: game counts are small and it needs no extra memory.
+     *
+     * @param totals Score per game index
+     * @param gameCount Number of games
+     * @param ranking Receives game indexes
+     * @param scores Receives scores aligned with ranking
+     * @return Number of ranked games
+     */
+    static int rankByScore(int[] totals, int gameCount, int[] ranking, int[] scores) {
+        int ranked = 0;
+        for (int game = 0; game < gameCount; game++) {
+            int score = totals[game];
+            if (score == 0) {
+                continue;
+            }
+            int i = ranked++;
+            // Games are visited in index order, so equal scores keep index order
+            while (i > 0 && scores[i - 1] < score) {
+                ranking[i] = ranking[i - 1];
+                scores[i] = scores[i - 1];
+                i--;
+            }
+            ranking[i] = game;
+            scores[i] = score;
+        }
+        return ranked;
+    }
+
+    /**
+     * Get the game index stored in a ballot slot.
+     *
+     * @param ballot The packed ballot
+     * @param slot The slot (0 = first preference)
+     * @return Game index, or -1 if the slot is empty
+     */
+    static int gameAt(long ballot, int slot) {
+        return (int) ((ballot >>> (slot * SLOT_BITS)) & SLOT_MASK) - 1;
+    }
+
+    /**
+     * Grow a buffer to hold at least the given number of entries.
+     *
+     * @param buffer Current buffer
+     * @param size Required size
+     * @return The buffer, or a larger copy
+     */
+    static int[] ensureCapacity(int[] buffer, int size) {
+        return buffer.length >= size ? buffer : new int[Math.max(size, buffer.length * 2)];
+    }
+}
@@ -0,0 +1,46 @@
+package com.talexck.gameVoting.voting.strategy;
+
+/**
+ * Interface for the rules that turn ballots into a ranking of games.
+ *
+ * Strategies work on packed ballots as stored by VoteTally: one long per voter,
+ * one 16-bit slot per vote in the order the votes were cast (first slot is the
+ * first preference), each slot holding the game index + 1, 0 for unused slots.
+ *
+ * Implementations keep their working buffers between evaluations, so evaluating
+ * does not allocate once the buffers fit the game count. Instances are not
+ * thread-safe; each session owns its own instance.
+ *
+ * Implementations:
+ * - PluralityStrategy (one vote per player)
+ * - ApprovalStrategy (every vote counts once)
+ * - InstantRunoffStrategy (ranked choice, lowest game eliminated each round)
+ */
+public interface TallyStrategy {
+
+    /**
+     * Get the strategy name used in config.yml.
+     *
+     * @return The strategy name
+     */
+    String getName();
+
+    /**
+     * Get the maximum number of votes a player may cast.
+     *
+     * @return Votes per ballot (1-4)
+     */
+    int getMaxVotes();
+
+    /**
+     * Rank the games on the given ballots.
+     *
+     * @param ballots Packed ballots
+     * @param ballotCount Number of ballots to read from the buffer
+     * @param gameCount Number of indexed games (slot values are at most gameCount)
+     * @param ranking Receives game indexes, winner first; length must be at least gameCount
+     * @param scores Receives the score of each ranked game, aligned with ranking
+     * @return Number of ranked games (games that received at least one vote)
+     */
+    int evaluate(long[] ballots, int ballotCount, int gameCount, int[] ranking, int[] scores);
+}
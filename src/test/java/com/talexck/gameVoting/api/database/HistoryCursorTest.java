@@ -0,0 +1,72 @@
+package com.talexck.gameVoting.api.database;
+
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.junit.jupiter.api.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HistoryCursor and HistoryPage classes.
+ */
+class HistoryCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through the token")
+    void testEncodeDecode() {
+        VoteHistory last = history(Instant.ofEpochSecond(1_700_000_000L, 123_456_000L));
+        HistoryCursor cursor = HistoryCursor.decode(HistoryCursor.after(last, 7).encode());
+
+        assertNotNull(cursor);
+        assertEquals(last.getTimestamp(), cursor.getTimestamp());
+        assertEquals(last.getSessionId(), cursor.getSessionId());
+        assertEquals(7, cursor.getPage());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid tokens")
+    void testInvalid() {
+        assertNull(HistoryCursor.decode("2"));
+        assertNull(HistoryCursor.decode("not a token!"));
+        assertNull(HistoryCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> HistoryCursor.require("garbage"));
+        assertNull(HistoryCursor.require(null));
+    }
+
+    @Test
+    @DisplayName("Should only link a next page when an extra record was fetched")
+    void testPage() {
+        List<VoteHistory> fetched = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            fetched.add(history(Instant.ofEpochSecond(1_700_000_000L - i)));
+        }
+
+        HistoryPage full = HistoryPage.of(fetched, 2, 0);
+        assertEquals(2, full.getRecords().size());
+        assertTrue(full.hasNext());
+        HistoryCursor next = HistoryCursor.decode(full.getNextCursor());
+        assertEquals(fetched.get(1).getSessionId(), next.getSessionId());
+        assertEquals(1, next.getPage());
+
+        HistoryPage last = HistoryPage.of(fetched, 3, 4);
+        assertFalse(last.hasNext());
+        assertEquals(4, last.getPage());
+    }
+
+    private static VoteHistory history(Instant timestamp) {
+        return new VoteHistory.Builder()
+            .sessionId(UUID.randomUUID())
+            .timestamp(timestamp)
+            .winningGameId("skywars")
+            .winningGameName("SkyWars")
+            .totalVotes(1)
+            .playerCount(1)
+            .voteDetails(Map.of("skywars", 1))
+            .build();
+    }
+}
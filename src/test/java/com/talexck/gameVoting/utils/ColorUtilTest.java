@@ -0,0 +1,69 @@
+package com.talexck.gameVoting.utils;
+
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColorUtil class.
+ */
+class ColorUtilTest {
+
+    @BeforeEach
+    void setUp() {
+        ColorUtil.clearCache();
+    }
+
+    @Test
+    @DisplayName("Should share one parsed Component per source string")
+    void testColorizeCached() {
+        ColorUtil.CacheStats before = ColorUtil.getCacheStats();
+        Component first = ColorUtil.colorize("&aGreen &c&lRed Bold");
+        Component second = ColorUtil.colorize("&aGreen &c&lRed Bold");
+        ColorUtil.CacheStats after = ColorUtil.getCacheStats();
+
+        assertSame(first, second, "Repeated text should reuse the cached Component");
+        assertEquals(1, after.getMisses() - before.getMisses());
+        assertEquals(1, after.getHits() - before.getHits());
+        assertEquals(1, after.getSize());
+    }
+
+    @Test
+    @DisplayName("Should cache legacy serialization")
+    void testColorizeLegacy() {
+        String legacy = ColorUtil.colorizeLegacy("&eVotes: 3");
+        assertEquals(ColorUtil.serialize(ColorUtil.colorize("&eVotes: 3")), legacy);
+        assertSame(legacy, ColorUtil.colorizeLegacy("&eVotes: 3"));
+        assertEquals("", ColorUtil.colorizeLegacy(null));
+    }
+
+    @Test
+    @DisplayName("Should stay within the cache bound")
+    void testCacheBounded() {
+        for (int i = 0; i < 20_000; i++) {
+            ColorUtil.colorize("&7Line number " + i + " with some padding text");
+        }
+        ColorUtil.CacheStats stats = ColorUtil.getCacheStats();
+        assertTrue(stats.getEvictions() > 0, "Old entries should be evicted");
+        assertTrue(stats.getWeight() <= 256 * 1024, "Cache weight should stay bounded");
+        assertTrue(stats.getSize() < 20_000);
+    }
+
+    @Test
+    @DisplayName("Should strip all color markup in one pass")
+    void testStripColors() {
+        assertEquals("Green Red Bold", ColorUtil.stripColors("&aGreen §c§lRed Bold"));
+        assertEquals("Hex Gradient", ColorUtil.stripColors("<#FF5555>Hex <gradient:#FF0000:#0000FF>Gradient</gradient>"));
+        assertEquals("bold", ColorUtil.stripColors("<bold>bold</bold>"));
+        assertEquals("plain text", ColorUtil.stripColors("plain text"));
+        assertNull(ColorUtil.stripColors(null));
+    }
+
+    @Test
+    @DisplayName("Should return empty Component for empty input")
+    void testEmptyInput() {
+        assertEquals(Component.empty(), ColorUtil.colorize(""));
+        assertEquals(Component.empty(), ColorUtil.colorize(null));
+    }
+}
@@ -0,0 +1,294 @@
+package com.talexck.gameVoting.utils.database;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.talexck.gameVoting.api.database.AsyncVoteHistoryRepository;
+import com.talexck.gameVoting.api.database.DatabaseConnection;
+import com.talexck.gameVoting.api.database.HistoryCursor;
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CachingVoteHistoryRepository class.
+ * The database is an in-memory fake that counts its queries.
+ */
+class CachingVoteHistoryRepositoryTest {
+    private static ServerMock server;
+    private static Plugin plugin;
+    private DatabaseExecutor executor;
+    private FakeRepository database;
+    private CachingVoteHistoryRepository cache;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = new DatabaseExecutor(plugin, 1, 8);
+        database = new FakeRepository();
+        database.wins.put("skywars", 3);
+        database.wins.put("bedwars", 1);
+        cache = new CachingVoteHistoryRepository(database, executor, plugin.getLogger(), 5, 300);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown(1);
+    }
+
+    @Test
+    @DisplayName("Should not have data before the warm-up completes")
+    void testWarmUp() {
+        assertEquals(0, cache.getVersion());
+        cache.refresh();
+        assertEquals(Map.of("skywars", 3, "bedwars", 1), cache.peekTopWinningGames(10));
+        assertEquals(1, cache.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should update the cache on save without querying")
+    void testWriteThrough() throws Exception {
+        cache.refresh();
+        int queries = database.queries;
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(cache.saveSession(history("bedwars")).get());
+        }
+
+        assertEquals(List.of("bedwars", "skywars"), new ArrayList<>(cache.peekTopWinningGames(10).keySet()));
+        assertEquals(4, cache.peekTopWinningGames(10).get("bedwars"));
+        assertEquals(3, cache.getTotalSessions().get());
+        assertEquals(2, cache.getSessionHistory(0, 2).get().size());
+        assertEquals(1, cache.getSessionHistory(1, 2).get().size());
+
+        HistoryPage first = cache.getSessionHistoryPage(null, 2).get();
+        assertTrue(first.hasNext());
+        HistoryPage second = cache.getSessionHistoryPage(first.getNextCursor(), 2).get();
+        assertEquals(1, second.getRecords().size());
+        assertEquals(1, second.getPage());
+        assertFalse(second.hasNext());
+        assertEquals(queries, database.queries, "Cached reads should not reach the database");
+    }
+
+    @Test
+    @DisplayName("Should notify listeners on the main thread")
+    void testListener() throws Exception {
+        cache.refresh();
+        int[] calls = {0};
+        cache.addChangeListener(() -> calls[0]++);
+
+        cache.saveSession(history("skywars")).get();
+        assertEquals(0, calls[0]);
+        server.getScheduler().performOneTick();
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @DisplayName("Should report a failed warm-up and recover on the next refresh")
+    void testFailedWarmUp() {
+        database.down = true;
+        int[] calls = {0};
+        cache.addChangeListener(() -> calls[0]++);
+
+        cache.refresh();
+        assertNull(cache.peekTopWinningGames(10));
+        assertTrue(cache.isUnavailable());
+        assertTrue(cache.getVersion() > 0, "Readers must see the failure as a change");
+        server.getScheduler().performOneTick();
+        assertEquals(1, calls[0]);
+
+        long failedVersion = cache.getVersion();
+        database.down = false;
+        cache.refresh();
+        assertFalse(cache.isUnavailable());
+        assertEquals(Map.of("skywars", 3, "bedwars", 1), cache.peekTopWinningGames(10));
+        assertNotEquals(failedVersion, cache.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep serving the old data when the database goes down")
+    void testDatabaseOutage() throws Exception {
+        cache.refresh();
+        long version = cache.getVersion();
+
+        // Real repository on an unreachable database, as the periodic refresh would meet it
+        database.outage = new ExecutorVoteHistoryRepository(
+            new MySQLVoteHistoryRepository(new UnreachableDatabase(), plugin.getLogger()), executor);
+        database.down = true;
+        cache.refresh();
+        awaitExecutor();
+
+        assertEquals(Map.of("skywars", 3, "bedwars", 1), cache.peekTopWinningGames(10));
+        assertEquals(version, cache.getVersion(), "A failed load must not replace the data");
+        assertFalse(cache.isUnavailable());
+    }
+
+    @Test
+    @DisplayName("Should page sessions of the same instant in the database's order")
+    void testSameTimestamp() throws Exception {
+        cache.refresh();
+        Instant instant = Instant.ofEpochSecond(1_700_000_000L, 123_456_789L);
+        List<VoteHistory> saved = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            VoteHistory history = history("bedwars", instant);
+            saved.add(history);
+            cache.saveSession(history).get();
+        }
+
+        // Newest first by (timestamp, session_id), with the ID compared as text like SQL does
+        List<UUID> expected = saved.stream()
+            .map(VoteHistory::getSessionId)
+            .sorted(Comparator.comparing(UUID::toString).reversed())
+            .toList();
+        List<UUID> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            HistoryPage page = cache.getSessionHistoryPage(cursor, 1).get();
+            page.getRecords().forEach(history -> paged.add(history.getSessionId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, paged);
+        assertEquals(Instant.ofEpochSecond(1_700_000_000L, 123_000_000L), saved.get(0).getTimestamp(),
+            "Timestamps should be stored at millisecond precision");
+    }
+
+    private void awaitExecutor() throws Exception {
+        // One I/O thread: once this runs, the earlier queries and their callbacks are done
+        executor.submit("barrier", () -> null).get();
+    }
+
+    private static VoteHistory history(String winner) {
+        return history(winner, Instant.now());
+    }
+
+    private static VoteHistory history(String winner, Instant timestamp) {
+        return new VoteHistory.Builder()
+            .sessionId(UUID.randomUUID())
+            .timestamp(timestamp)
+            .winningGameId(winner)
+            .winningGameName(winner)
+            .totalVotes(1)
+            .playerCount(1)
+            .voteDetails(Map.of(winner, 1))
+            .build();
+    }
+
+    /**
+     * Synchronous in-memory repository.
+     */
+    private static final class FakeRepository implements AsyncVoteHistoryRepository {
+        private final Map<String, Integer> wins = new LinkedHashMap<>();
+        private final List<VoteHistory> sessions = new ArrayList<>();
+        private int queries;
+        private volatile boolean down;
+        private AsyncVoteHistoryRepository outage;  // Serves reads while down, if set
+
+        @Override
+        public CompletableFuture<Boolean> saveSession(VoteHistory history) {
+            sessions.add(0, history);
+            wins.merge(history.getWinningGameId(), 1, Integer::sum);
+            return CompletableFuture.completedFuture(true);
+        }
+
+        @Override
+        public CompletableFuture<List<VoteHistory>> getSessionHistory(int page, int pageSize) {
+            queries++;
+            int from = Math.min(page * pageSize, sessions.size());
+            return CompletableFuture.completedFuture(
+                new ArrayList<>(sessions.subList(from, Math.min(from + pageSize, sessions.size()))));
+        }
+
+        @Override
+        public CompletableFuture<HistoryPage> getSessionHistoryPage(String cursor, int pageSize) {
+            queries++;
+            if (down && outage != null) {
+                return outage.getSessionHistoryPage(cursor, pageSize);
+            }
+            HistoryCursor position = HistoryCursor.require(cursor);
+            int from = 0;
+            if (position != null) {
+                while (from < sessions.size() && !sessions.get(from).getSessionId().equals(position.getSessionId())) {
+                    from++;
+                }
+                from++;
+            }
+            from = Math.min(from, sessions.size());
+            return CompletableFuture.completedFuture(HistoryPage.of(
+                new ArrayList<>(sessions.subList(from, Math.min(from + pageSize + 1, sessions.size()))),
+                pageSize, position != null ? position.getPage() : 0));
+        }
+
+        @Override
+        public CompletableFuture<VoteHistory> getSession(UUID sessionId) {
+            queries++;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Map<String, Integer>> getTopWinningGames(int limit) {
+            queries++;
+            if (down) {
+                return outage != null ? outage.getTopWinningGames(limit)
+                    : CompletableFuture.failedFuture(new IllegalStateException("Database down"));
+            }
+            return CompletableFuture.completedFuture(new LinkedHashMap<>(wins));
+        }
+
+        @Override
+        public CompletableFuture<Integer> getTotalSessions() {
+            queries++;
+            if (down && outage != null) {
+                return outage.getTotalSessions();
+            }
+            return CompletableFuture.completedFuture(sessions.size());
+        }
+    }
+
+    /**
+     * Connection to a database that is down.
+     */
+    private static final class UnreachableDatabase implements DatabaseConnection {
+        @Override
+        public boolean initialize() {
+            return false;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            throw new SQLException("Connection refused");
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isActive() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.talexck.gameVoting.utils.database;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DatabaseExecutor class.
+ */
+class DatabaseExecutorTest {
+    private static ServerMock server;
+    private static Plugin plugin;
+    private DatabaseExecutor executor;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        executor = new DatabaseExecutor(plugin, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown(1);
+    }
+
+    @Test
+    @DisplayName("Should reject work when the queue is full")
+    void testBackpressure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> running = executor.submit("running", () -> {
+            release.await();
+            return 1;
+        });
+        CompletableFuture<Integer> queued = executor.submit("queued", () -> 2);
+        CompletableFuture<Integer> rejected = executor.submit("rejected", () -> 3);
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, error.getCause());
+
+        release.countDown();
+        assertEquals(1, running.get(1, TimeUnit.SECONDS));
+        assertEquals(2, queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should deliver results on the main thread")
+    void testWhenMain() throws Exception {
+        CompletableFuture<String> future = executor.submit("query", () -> "result");
+        future.get(1, TimeUnit.SECONDS);
+
+        AtomicReference<String> received = new AtomicReference<>();
+        executor.whenMain(future, (result, error) -> received.set(result));
+        assertNull(received.get(), "Callback should wait for the next tick");
+
+        server.getScheduler().performOneTick();
+        assertEquals("result", received.get());
+    }
+}
@@ -0,0 +1,147 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EmbeddedVoteHistoryRepository class.
+ */
+class EmbeddedVoteHistoryRepositoryTest {
+    private static final Logger LOGGER = Logger.getLogger("EmbeddedVoteHistoryRepositoryTest");
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Should keep saved sessions across restarts")
+    void testReload() {
+        EmbeddedVoteHistoryRepository repository = open(0);
+        VoteHistory first = history("skywars", 0);
+        assertTrue(repository.saveSession(first));
+        assertTrue(repository.saveSession(history("bedwars", 1)));
+        assertTrue(repository.saveSession(history("skywars", 2)));
+        repository.close();
+
+        repository = open(0);
+        assertEquals(3, repository.getTotalSessions());
+        assertEquals(Map.of("skywars", 2, "bedwars", 1), repository.getTopWinningGames(10));
+        VoteHistory loaded = repository.getSession(first.getSessionId());
+        assertEquals(first.getTimestamp(), loaded.getTimestamp());
+        assertEquals(first.getVoteDetails(), loaded.getVoteDetails());
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should skip sessions that are already stored")
+    void testIdempotent() {
+        EmbeddedVoteHistoryRepository repository = open(0);
+        VoteHistory history = history("skywars", 0);
+
+        assertEquals(1, repository.saveSessions(List.of(history, history)).size());
+        assertTrue(repository.saveSessions(List.of(history)).isEmpty());
+        assertEquals(1, repository.getTotalSessions());
+        assertEquals(Map.of("skywars", 1), repository.getTopWinningGames(10));
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should page newest first by offset and by cursor")
+    void testPages() {
+        EmbeddedVoteHistoryRepository repository = open(0);
+        List<VoteHistory> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(0, history("skywars", i));
+        }
+        repository.saveSessions(saved);
+
+        assertEquals(saved.subList(2, 4), repository.getSessionHistory(1, 2));
+
+        List<VoteHistory> paged = new ArrayList<>();
+        HistoryPage page = repository.getSessionHistoryPage(null, 2);
+        paged.addAll(page.getRecords());
+        while (page.hasNext()) {
+            page = repository.getSessionHistoryPage(page.getNextCursor(), 2);
+            paged.addAll(page.getRecords());
+        }
+        assertEquals(saved, paged);
+        assertEquals(2, page.getPage());
+        assertThrows(IllegalArgumentException.class, () -> repository.getSessionHistoryPage("not a cursor", 2));
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest sessions when compacting but keep counting their wins")
+    void testCompaction() {
+        EmbeddedVoteHistoryRepository repository = open(4);
+        for (int i = 0; i < 6; i++) {
+            repository.saveSession(history(i < 3 ? "bedwars" : "skywars", i));
+        }
+
+        assertEquals(4, repository.getSessionHistory(0, 10).size());
+        assertEquals(6, repository.getTotalSessions());
+        assertEquals(Map.of("skywars", 3, "bedwars", 3), repository.getTopWinningGames(10));
+        repository.close();
+
+        repository = open(4);
+        assertEquals(4, repository.getSessionHistory(0, 10).size());
+        assertEquals(6, repository.getTotalSessions());
+        assertEquals(Map.of("skywars", 3, "bedwars", 3), repository.getTopWinningGames(10));
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should cut off a torn record and keep appending")
+    void testTornTail() throws Exception {
+        EmbeddedVoteHistoryRepository repository = open(0);
+        repository.saveSession(history("skywars", 0));
+        repository.close();
+        Files.write(file(), new byte[] {0, 0, 0, 40, 1, 2}, StandardOpenOption.APPEND);
+
+        repository = open(0);
+        assertEquals(1, repository.getTotalSessions());
+        assertTrue(repository.saveSession(history("bedwars", 1)));
+        repository.close();
+
+        repository = open(0);
+        assertEquals(2, repository.getTotalSessions());
+        repository.close();
+    }
+
+    private EmbeddedVoteHistoryRepository open(int maxSessions) {
+        EmbeddedVoteHistoryRepository repository = new EmbeddedVoteHistoryRepository(file(), LOGGER, maxSessions);
+        assertTrue(repository.initialize());
+        return repository;
+    }
+
+    private Path file() {
+        return folder.resolve("history.log");
+    }
+
+    private static VoteHistory history(String winner, int minute) {
+        return new VoteHistory.Builder()
+            .sessionId(UUID.randomUUID())
+            .timestamp(START.plusSeconds(minute * 60L).plusNanos(123_456))
+            .winningGameId(winner)
+            .winningGameName(winner)
+            .totalVotes(3)
+            .playerCount(4)
+            .voteDetails(Map.of(winner, 2, "other", 1))
+            .build();
+    }
+}
@@ -0,0 +1,263 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.DatabaseConnection;
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the game_win_stats path of MySQLVoteHistoryRepository.
+ * The database is a JDBC fake that records statements and batch rows.
+ */
+class MySQLVoteHistoryRepositoryTest {
+    private static final Logger LOGGER = Logger.getLogger("MySQLVoteHistoryRepositoryTest");
+
+    private RecordingDatabase database;
+    private MySQLVoteHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new RecordingDatabase();
+        repository = new MySQLVoteHistoryRepository(database, LOGGER);
+    }
+
+    @Test
+    @DisplayName("Should backfill win counts without failing when another node did it first")
+    void testBackfill() {
+        assertTrue(repository.initialize());
+        String backfill = database.statements.stream()
+            .filter(sql -> sql.contains("game_win_stats") && sql.contains("SELECT winning_game_id"))
+            .findFirst().orElseThrow();
+        assertTrue(backfill.contains("INSERT IGNORE"), "Concurrent backfills must not hit the primary key");
+    }
+
+    @Test
+    @DisplayName("Should widen whole-second timestamps of existing tables to milliseconds")
+    void testTimestampPrecision() {
+        assertTrue(repository.initialize());
+        assertTrue(database.statements.stream().anyMatch(sql -> sql.contains("timestamp TIMESTAMP(3) NOT NULL")));
+        assertTrue(database.statements.stream().noneMatch(sql -> sql.startsWith("ALTER TABLE")));
+
+        database.statements.clear();
+        database.timestampPrecision = 0;
+        assertTrue(repository.initialize());
+        assertTrue(database.statements.contains("ALTER TABLE vote_history MODIFY timestamp TIMESTAMP(3) NOT NULL"));
+    }
+
+    @Test
+    @DisplayName("Should count each new session once per winning game")
+    void testStatsBatch() {
+        VoteHistory first = history("skywars");
+        VoteHistory second = history("skywars");
+        VoteHistory stored = history("bedwars");
+        database.existing.add(stored.getSessionId().toString());
+
+        List<VoteHistory> inserted = repository.saveSessions(List.of(first, second, stored, first));
+
+        assertEquals(List.of(first, second), inserted);
+        assertEquals(2, database.batchRows("INSERT INTO vote_history").size());
+        List<List<Object>> stats = database.batchRows("INSERT INTO game_win_stats");
+        assertEquals(List.of(List.of("skywars", 2)), stats);
+        assertEquals(1, database.commits);
+    }
+
+    @Test
+    @DisplayName("Should not touch the counts when every session is stored already")
+    void testReplayedBatch() {
+        VoteHistory stored = history("skywars");
+        database.existing.add(stored.getSessionId().toString());
+
+        assertEquals(List.of(), repository.saveSessions(List.of(stored)));
+        assertTrue(database.batchRows("INSERT INTO game_win_stats").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should roll back and report failure when the counts cannot be written")
+    void testRollback() {
+        database.failing = "INSERT INTO game_win_stats";
+
+        assertNull(repository.saveSessions(List.of(history("skywars"))));
+        assertEquals(0, database.commits);
+        assertEquals(1, database.rollbacks);
+    }
+
+    private static VoteHistory history(String winner) {
+        return new VoteHistory.Builder()
+            .sessionId(UUID.randomUUID())
+            .timestamp(Instant.now())
+            .winningGameId(winner)
+            .winningGameName(winner)
+            .totalVotes(1)
+            .playerCount(1)
+            .voteDetails(Map.of(winner, 1))
+            .build();
+    }
+
+    /**
+     * Records SQL and batch parameters; SELECTs of session IDs return the existing set,
+     * other queries return the timestamp column's precision.
+     */
+    private static final class RecordingDatabase implements DatabaseConnection {
+        private final List<String> statements = new ArrayList<>();
+        private final Map<String, List<List<Object>>> batches = new HashMap<>();
+        private final Set<String> existing = new HashSet<>();
+        private String failing;
+        private int timestampPrecision = 3;
+        private int commits;
+        private int rollbacks;
+
+        private List<List<Object>> batchRows(String prefix) {
+            List<List<Object>> rows = new ArrayList<>();
+            batches.forEach((sql, recorded) -> {
+                if (sql.trim().startsWith(prefix)) {
+                    rows.addAll(recorded);
+                }
+            });
+            return rows;
+        }
+
+        @Override
+        public boolean initialize() {
+            return true;
+        }
+
+        @Override
+        public Connection getConnection() {
+            return proxy(Connection.class, (method, args) -> {
+                switch (method) {
+                    case "createStatement":
+                        return statement();
+                    case "prepareStatement":
+                        return prepared((String) args[0]);
+                    case "commit":
+                        commits++;
+                        return null;
+                    case "rollback":
+                        rollbacks++;
+                        return null;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        private Statement statement() {
+            return proxy(Statement.class, (method, args) -> {
+                if (method.equals("execute") || method.equals("executeUpdate")) {
+                    statements.add((String) args[0]);
+                    return method.equals("execute") ? Boolean.FALSE : Integer.valueOf(0);
+                }
+                if (method.equals("executeQuery")) {
+                    statements.add((String) args[0]);
+                    return resultSet(List.of(String.valueOf(timestampPrecision)).iterator());
+                }
+                return null;
+            });
+        }
+
+        private PreparedStatement prepared(String sql) {
+            Map<Integer, Object> row = new HashMap<>();
+            List<List<Object>> rows = batches.computeIfAbsent(sql, k -> new ArrayList<>());
+            return proxy(PreparedStatement.class, (method, args) -> {
+                switch (method) {
+                    case "setString":
+                    case "setInt":
+                    case "setObject":
+                    case "setTimestamp":
+                        row.put((Integer) args[0], args[1]);
+                        return null;
+                    case "addBatch":
+                        List<Object> values = new ArrayList<>();
+                        for (int i = 1; i <= row.size(); i++) {
+                            values.add(row.get(i));
+                        }
+                        rows.add(values);
+                        row.clear();
+                        return null;
+                    case "executeBatch":
+                        if (failing != null && sql.trim().startsWith(failing)) {
+                            throw new SQLException("Simulated failure");
+                        }
+                        return new int[rows.size()];
+                    case "executeQuery":
+                        List<String> found = new ArrayList<>();
+                        for (Object value : row.values()) {
+                            if (existing.contains(value)) {
+                                found.add((String) value);
+                            }
+                        }
+                        return resultSet(found.iterator());
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        private ResultSet resultSet(Iterator<String> values) {
+            String[] current = new String[1];
+            return proxy(ResultSet.class, (method, args) -> {
+                switch (method) {
+                    case "next":
+                        current[0] = values.hasNext() ? values.next() : null;
+                        return current[0] != null;
+                    case "getString":
+                        return current[0];
+                    case "getInt":
+                        return Integer.valueOf(current[0]);
+                    default:
+                        return null;
+                }
+            });
+        }
+    }
+
+    private interface Handler {
+        Object handle(String method, Object[] args) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (instance, method, args) -> {
+                if (method.getName().equals("close")) {
+                    return null;
+                }
+                Object result = handler.handle(method.getName(), args);
+                if (result == null && method.getReturnType() == boolean.class) {
+                    return false;
+                }
+                if (result == null && method.getReturnType() == int.class) {
+                    return 0;
+                }
+                return result;
+            }));
+    }
+}
@@ -0,0 +1,179 @@
+package com.talexck.gameVoting.utils.database;
+
+import com.talexck.gameVoting.api.database.HistoryPage;
+import com.talexck.gameVoting.api.database.VoteHistoryRepository;
+import com.talexck.gameVoting.voting.VoteHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VoteHistoryWriter class.
+ * The database is an in-memory fake that can be switched off.
+ */
+class VoteHistoryWriterTest {
+    private static final Logger LOGGER = Logger.getLogger("VoteHistoryWriterTest");
+
+    @TempDir
+    Path folder;
+
+    @Test
+    @DisplayName("Should save queued sessions in batches on shutdown")
+    void testBatches() {
+        FakeRepository database = new FakeRepository();
+        List<VoteHistory> saved = new CopyOnWriteArrayList<>();
+        VoteHistoryWriter writer = writer(database, saved);
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(history());
+        }
+        writer.shutdown(5);
+
+        assertEquals(5, database.sessions.size());
+        assertEquals(5, saved.size());
+        assertTrue(database.batches.stream().allMatch(size -> size <= 2), "Batches should not exceed the batch size");
+        assertFalse(Files.exists(spoolFile()));
+    }
+
+    @Test
+    @DisplayName("Should spool while the database is down and replay once it is back")
+    void testSpoolAndReplay() {
+        FakeRepository database = new FakeRepository();
+        database.down = true;
+        VoteHistoryWriter writer = writer(database, new ArrayList<>());
+
+        VoteHistory first = history();
+        writer.submit(first);
+        writer.submit(history());
+        writer.submit(history());
+        writer.shutdown(5);
+        assertTrue(database.sessions.isEmpty());
+        assertTrue(Files.exists(spoolFile()));
+
+        // The first session made it in before the outage
+        database.down = false;
+        database.sessions.put(first.getSessionId(), first);
+
+        List<VoteHistory> saved = new CopyOnWriteArrayList<>();
+        writer(database, saved).shutdown(5);
+
+        assertEquals(3, database.sessions.size());
+        assertEquals(2, saved.size(), "Sessions already stored should not be reported again");
+        assertFalse(Files.exists(spoolFile()));
+    }
+
+    @Test
+    @DisplayName("Should not glue new sessions onto a line torn by a crash")
+    void testTornSpoolLine() throws Exception {
+        VoteHistory spooled = history();
+        String line = VoteHistoryWriter.toJson(spooled).toString();
+        Files.writeString(spoolFile(), line + System.lineSeparator() + line.substring(0, line.length() / 2));
+
+        FakeRepository database = new FakeRepository();
+        database.down = true;
+        VoteHistory queued = history();
+        VoteHistoryWriter writer = writer(database, new ArrayList<>());
+        writer.submit(queued);
+        writer.shutdown(5);
+
+        database.down = false;
+        writer(database, new ArrayList<>()).shutdown(5);
+
+        assertEquals(2, database.sessions.size());
+        assertTrue(database.sessions.containsKey(spooled.getSessionId()));
+        assertTrue(database.sessions.containsKey(queued.getSessionId()), "The session after the torn line must survive");
+        assertFalse(Files.exists(spoolFile()));
+    }
+
+    private VoteHistoryWriter writer(FakeRepository database, List<VoteHistory> saved) {
+        return new VoteHistoryWriter(database, saved::addAll, LOGGER, spoolFile(), 100, 2, 10, 60);
+    }
+
+    private Path spoolFile() {
+        return folder.resolve("history-spool.jsonl");
+    }
+
+    private static VoteHistory history() {
+        return new VoteHistory.Builder()
+            .sessionId(UUID.randomUUID())
+            .timestamp(Instant.now())
+            .winningGameId("skywars")
+            .winningGameName("SkyWars")
+            .totalVotes(2)
+            .playerCount(3)
+            .voteDetails(Map.of("skywars", 2))
+            .build();
+    }
+
+    /**
+     * In-memory repository; only the batch save is used.
+     */
+    private static final class FakeRepository implements VoteHistoryRepository {
+        private final Map<UUID, VoteHistory> sessions = new LinkedHashMap<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private volatile boolean down;
+
+        @Override
+        public boolean saveSession(VoteHistory history) {
+            return saveSessions(List.of(history)) != null;
+        }
+
+        @Override
+        public synchronized List<VoteHistory> saveSessions(List<VoteHistory> histories) {
+            if (down) {
+                return null;
+            }
+            batches.add(histories.size());
+            List<VoteHistory> inserted = new ArrayList<>();
+            for (VoteHistory history : histories) {
+                if (sessions.putIfAbsent(history.getSessionId(), history) == null) {
+                    inserted.add(history);
+                }
+            }
+            return inserted;
+        }
+
+        @Override
+        public List<VoteHistory> getSessionHistory(int page, int pageSize) {
+            return List.of();
+        }
+
+        @Override
+        public HistoryPage getSessionHistoryPage(String cursor, int pageSize) {
+            return HistoryPage.of(List.of(), pageSize, 0);
+        }
+
+        @Override
+        public VoteHistory getSession(UUID sessionId) {
+            return sessions.get(sessionId);
+        }
+
+        @Override
+        public Map<String, Integer> getTopWinningGames(int limit) {
+            return Map.of();
+        }
+
+        @Override
+        public int getTotalSessions() {
+            return sessions.size();
+        }
+
+        @Override
+        public boolean initialize() {
+            return true;
+        }
+    }
+}
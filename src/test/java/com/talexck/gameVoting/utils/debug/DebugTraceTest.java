@@ -0,0 +1,68 @@
+package com.talexck.gameVoting.utils.debug;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DebugTrace class.
+ */
+class DebugTraceTest {
+
+    @BeforeEach
+    void setUp() {
+        DebugTrace.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DebugTrace.setEnabled(false);
+        DebugTrace.clear();
+    }
+
+    @Test
+    @DisplayName("Should not build messages while disabled")
+    void testDisabledIsLazy() {
+        DebugTrace.setEnabled(false);
+        DebugTrace.trace("test", () -> {
+            fail("Supplier should not be called while tracing is off");
+            return "";
+        });
+        assertEquals(0, DebugTrace.getRecordedCount());
+        assertTrue(DebugTrace.dump(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should dump the most recent events, oldest first")
+    void testDumpOrder() {
+        DebugTrace.setEnabled(true);
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            DebugTrace.trace("test", () -> "event " + n);
+        }
+
+        List<String> events = DebugTrace.dump(3);
+        assertEquals(3, events.size());
+        assertTrue(events.get(0).endsWith("event 2"));
+        assertTrue(events.get(2).endsWith("event 4"));
+        assertTrue(events.get(2).contains("[test"));
+    }
+
+    @Test
+    @DisplayName("Should overwrite the oldest events when full")
+    void testRingBuffer() {
+        DebugTrace.setEnabled(true);
+        int capacity = DebugTrace.getCapacity();
+        for (int i = 0; i < capacity + 10; i++) {
+            int n = i;
+            DebugTrace.trace("test", () -> "event " + n);
+        }
+
+        List<String> events = DebugTrace.dump(Integer.MAX_VALUE);
+        assertEquals(capacity, events.size());
+        assertTrue(events.get(0).endsWith("event 10"));
+        assertEquals(capacity + 10, DebugTrace.getRecordedCount());
+    }
+}
@@ -0,0 +1,87 @@
+package com.talexck.gameVoting.utils.display;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ActionBarManager class.
+ * The flush task is not started; tests advance the manager with tick().
+ */
+class ActionBarManagerTest {
+    private static ServerMock server;
+    private ActionBarManager manager;
+    private PlayerMock player;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        manager = ActionBarManager.getInstance();
+        manager.setMaxPacketsPerSecond(4);
+        player = server.addPlayer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.removePlayer(player);
+    }
+
+    @Test
+    @DisplayName("Should send identical text only once")
+    void testDeduplicate() {
+        long before = manager.getPacketsSent();
+        for (int i = 0; i < 10; i++) {
+            manager.show(player, "countdown", Component.text("5"), ActionBarManager.Priority.COUNTDOWN, 30);
+            manager.tick();
+        }
+        assertEquals(1, manager.getPacketsSent() - before);
+    }
+
+    @Test
+    @DisplayName("Should show the highest priority channel until it expires")
+    void testPriorityAndExpiry() {
+        manager.show(player, "countdown", Component.text("10"), ActionBarManager.Priority.COUNTDOWN, 100);
+        manager.show(player, "feedback", Component.text("Voted"), ActionBarManager.Priority.FEEDBACK, 5);
+        manager.tick();
+        assertEquals(Component.text("Voted"), manager.getMessage(player));
+
+        for (int i = 0; i < 5; i++) {
+            manager.tick();
+        }
+        assertEquals(Component.text("10"), manager.getMessage(player), "Countdown should return after feedback expires");
+
+        manager.clear(player, "countdown");
+        assertNull(manager.getMessage(player));
+    }
+
+    @Test
+    @DisplayName("Should cap packets per second and send the latest text")
+    void testRateLimit() {
+        long before = manager.getPacketsSent();
+        for (int i = 0; i < 10; i++) {
+            manager.show(player, "countdown", Component.text("Frame " + i), ActionBarManager.Priority.COUNTDOWN, 100);
+            manager.tick();
+        }
+        assertEquals(4, manager.getPacketsSent() - before, "Only 4 packets should fit in one second");
+
+        // The window reopens after a second; only the latest frame is sent
+        for (int i = 0; i < 20; i++) {
+            manager.tick();
+        }
+        assertEquals(5, manager.getPacketsSent() - before);
+        assertEquals(Component.text("Frame 9"), manager.getMessage(player));
+    }
+}
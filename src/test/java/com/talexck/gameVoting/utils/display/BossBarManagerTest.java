@@ -40,6 +40,7 @@ class BossBarManagerTest {
         // Clean up any existing boss bars
         manager.removeBar(player1);
         manager.removeBar(player2);
+        manager.removeChannel("test");
     }
 
     @Test
@@ -221,4 +222,42 @@ class BossBarManagerTest {
             manager.removeBar(null);
         }, "Update methods should handle null player gracefully");
     }
+
+    @Test
+    @DisplayName("Should share one channel bar and update it in place")
+    void testChannelUpdatesInPlace() {
+        java.util.List<PlayerMock> both = java.util.List.of(player1, player2);
+        manager.showChannel("test", both, "Time: 10s", BossBar.Color.GREEN, 1.0f);
+        BossBar bar = manager.getChannelBar("test");
+        assertNotNull(bar);
+        assertTrue(manager.isViewing(player1, "test"));
+        assertTrue(manager.isViewing(player2, "test"));
+
+        net.kyori.adventure.text.Component name = bar.name();
+        manager.showChannel("test", both, "Time: 10s", BossBar.Color.RED, 0.5f);
+        assertSame(bar, manager.getChannelBar("test"), "Channel should keep its boss bar");
+        assertSame(name, bar.name(), "Unchanged text should not rebuild the title");
+        assertEquals(BossBar.Color.RED, bar.color());
+        assertEquals(0.5f, bar.progress(), 0.0001f);
+
+        manager.showChannel("test", both, "Time: 9s", BossBar.Color.RED, 0.4f);
+        assertNotSame(name, bar.name(), "Changed text should rebuild the title");
+    }
+
+    @Test
+    @DisplayName("Should sync channel audience and remove channel")
+    void testChannelAudience() {
+        manager.showChannel("test", java.util.List.of(player1, player2), "Test", BossBar.Color.GREEN, 1.0f);
+        manager.showChannel("test", java.util.List.of(player1), "Test", BossBar.Color.GREEN, 1.0f);
+        assertTrue(manager.isViewing(player1, "test"));
+        assertFalse(manager.isViewing(player2, "test"), "Players no longer listed should stop viewing");
+
+        manager.removeFromChannels(player1);
+        assertFalse(manager.isViewing(player1, "test"));
+
+        manager.showChannel("test", java.util.List.of(player2), "Test", BossBar.Color.GREEN, 1.0f);
+        manager.removeChannel("test");
+        assertNull(manager.getChannelBar("test"));
+        assertFalse(manager.isViewing(player2, "test"));
+    }
 }
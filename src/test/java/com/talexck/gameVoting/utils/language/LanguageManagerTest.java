@@ -0,0 +1,128 @@
+package com.talexck.gameVoting.utils.language;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import com.talexck.gameVoting.utils.message.MessageUtil;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LanguageManager class.
+ * Uses the bundled language files and the default language (en-US).
+ */
+class LanguageManagerTest {
+    private static ServerMock server;
+    private static Plugin plugin;
+    private static LanguageManager languageManager;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+        languageManager = LanguageManager.initialize(plugin);
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Should match client locales exactly")
+    void testExactMatch() {
+        assertEquals("zh-CN", languageManager.matchLanguage("zh_cn"));
+        assertEquals("zh-CN", languageManager.matchLanguage("zh-CN"));
+        assertEquals("en-UK", languageManager.matchLanguage("en_gb"));
+        assertEquals("en-US", languageManager.matchLanguage("EN_US"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a language of the same base language")
+    void testLanguageOnlyMatch() {
+        assertEquals("zh-CN", languageManager.matchLanguage("zh_tw"));
+        assertEquals("zh-CN", languageManager.matchLanguage("zh"));
+        // The current language wins among the English ones
+        assertEquals("en-US", languageManager.matchLanguage("en_au"));
+    }
+
+    @Test
+    @DisplayName("Should not match unknown locales")
+    void testNoMatch() {
+        assertNull(languageManager.matchLanguage("fr_fr"));
+        assertNull(languageManager.matchLanguage(""));
+        assertNull(languageManager.matchLanguage(null));
+    }
+
+    @Test
+    @DisplayName("Should prefer the chosen language over the client locale until reset to auto")
+    void testPreference() {
+        PlayerMock player = server.addPlayer();
+
+        languageManager.updateLocale(player, "zh_cn");
+        assertEquals("zh-CN", languageManager.getLanguage(player));
+
+        assertEquals("en-UK", languageManager.setPreference(player, "en-uk"));
+        assertEquals("en-UK", languageManager.getLanguage(player));
+        assertFalse(languageManager.updateLocale(player, "zh_cn"), "The preference should outrank the client");
+        assertEquals("en-UK", languageManager.getLanguage(player));
+
+        // auto
+        assertNull(languageManager.setPreference(player, null));
+        assertNull(languageManager.getPreference(player.getUniqueId()));
+        languageManager.updateLocale(player, "zh_cn");
+        assertEquals("zh-CN", languageManager.getLanguage(player));
+    }
+
+    @Test
+    @DisplayName("Should write preferences when flushed")
+    void testSavePreferences() {
+        PlayerMock player = server.addPlayer();
+        languageManager.setPreference(player, "zh-CN");
+
+        // The save is queued on an async task; flushing writes it now
+        languageManager.flushPreferences();
+        File file = new File(plugin.getDataFolder(), "language-preferences.yml");
+        assertEquals("zh-CN", YamlConfiguration.loadConfiguration(file).getString(player.getUniqueId().toString()));
+    }
+
+    @Test
+    @DisplayName("Should use the current language for unknown client locales")
+    void testClientLocaleFallback() {
+        PlayerMock player = server.addPlayer();
+
+        languageManager.updateLocale(player, "fr_fr");
+        assertEquals(languageManager.getCurrentLanguage(), languageManager.getLanguage(player));
+        assertNull(languageManager.setPreference(player, "fr-FR"), "Unknown languages cannot be chosen");
+    }
+
+    @Test
+    @DisplayName("Should send each player the message in their own language")
+    void testFanOut() {
+        PlayerMock chinese = server.addPlayer();
+        PlayerMock american = server.addPlayer();
+        PlayerMock british = server.addPlayer();
+        languageManager.updateLocale(chinese, "zh_cn");
+        languageManager.updateLocale(american, "en_us");
+        languageManager.setPreference(british, "en-UK");
+
+        MessageUtil.broadcastTranslated(List.of(chinese, american, british), "voting.winner",
+            Map.of("game", "SkyWars"));
+
+        String chineseMessage = chinese.nextMessage();
+        assertTrue(chineseMessage.contains("获胜游戏") && chineseMessage.contains("SkyWars"), chineseMessage);
+        String americanMessage = american.nextMessage();
+        assertTrue(americanMessage.contains("Winning game") && americanMessage.contains("SkyWars"), americanMessage);
+        assertNotNull(british.nextMessage());
+        for (PlayerMock player : List.of(chinese, american, british)) {
+            assertNull(player.nextMessage(), "Each player should get one message");
+        }
+    }
+}
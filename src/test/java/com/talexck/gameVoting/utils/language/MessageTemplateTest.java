@@ -0,0 +1,55 @@
+package com.talexck.gameVoting.utils.language;
+
+import org.junit.jupiter.api.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MessageTemplate class.
+ */
+class MessageTemplateTest {
+
+    @Test
+    @DisplayName("Should fill one and two placeholders")
+    void testFormat() {
+        MessageTemplate template = MessageTemplate.compile("&e{game} &7starts in &c{time}s");
+        assertTrue(template.hasPlaceholders());
+        assertEquals("&eSkyWars &7starts in &c{time}s", template.format("game", "SkyWars"));
+        assertEquals("&eSkyWars &7starts in &c5s", template.format("game", "SkyWars", "time", 5));
+        assertEquals("&eSkyWars &7starts in &c5s", template.format("time", 5, "game", "SkyWars"));
+    }
+
+    @Test
+    @DisplayName("Should match the map API of the old replace loop")
+    void testFormatMap() {
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("player", "Steve");
+        placeholders.put("count", "3");
+        placeholders.put("unused", "x");
+
+        MessageTemplate template = MessageTemplate.compile("{player} has {count} votes, {player}! {missing}");
+        assertEquals("Steve has 3 votes, Steve! {missing}", template.format(placeholders));
+        assertEquals(template.getSource(), template.format(null));
+    }
+
+    @Test
+    @DisplayName("Should keep text that is not a placeholder")
+    void testLiteralBraces() {
+        MessageTemplate template = MessageTemplate.compile("{} {a b} {open {name} close}");
+        assertEquals("{} {a b} {open X close}", template.format("name", "X"));
+
+        MessageTemplate plain = MessageTemplate.compile("&aNo placeholders");
+        assertFalse(plain.hasPlaceholders());
+        assertSame(plain.getSource(), plain.format("name", "X"));
+    }
+
+    @Test
+    @DisplayName("Should not expand placeholders inside values")
+    void testValuesNotExpanded() {
+        MessageTemplate template = MessageTemplate.compile("{player}: {message}");
+        assertEquals("{message}: hi", template.format("player", "{message}", "message", "hi"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.talexck.gameVoting.utils.message;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Broadcast and BroadcastQueue classes.
+ */
+class BroadcastTest {
+    private static ServerMock server;
+    private PlayerMock player1;
+    private PlayerMock player2;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        player1 = server.addPlayer("Player1");
+        player2 = server.addPlayer("Player2");
+    }
+
+    @Test
+    @DisplayName("Should send all lines as one message per player")
+    void testSendOneMessage() {
+        Broadcast.to(List.of(player1, player2))
+            .line("&aFirst")
+            .blank()
+            .line("&cSecond")
+            .send();
+
+        for (PlayerMock player : List.of(player1, player2)) {
+            String message = player.nextMessage();
+            assertNotNull(message);
+            assertEquals(3, message.split("\n", -1).length, "Lines should be joined with newlines");
+            assertNull(player.nextMessage(), "Only one chat message should be sent");
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver queued broadcasts without a running plugin")
+    void testQueueWithoutPlugin() {
+        Broadcast.to(List.of(player1, player2)).line("Shared").queue();
+        assertEquals("Shared", player1.nextMessage());
+        assertEquals("Shared", player2.nextMessage());
+        assertNull(player1.nextMessage());
+    }
+
+    @Test
+    @DisplayName("Should skip empty broadcasts")
+    void testEmptyBroadcast() {
+        Broadcast.to(List.of(player1)).send();
+        Broadcast.to(List.of()).line("Nobody").queue();
+        assertNull(player1.nextMessage());
+    }
+}
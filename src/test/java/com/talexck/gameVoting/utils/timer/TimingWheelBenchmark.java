@@ -0,0 +1,73 @@
+package com.talexck.gameVoting.utils.timer;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Micro-benchmark for the timing wheel with 1k, 10k and 100k pending timers.
+ * Not picked up by the default test run; run it with
+ * mvn test -Dtest=TimingWheelBenchmark
+ *
+ * Each round schedules and cancels one timer, advances the wheel by one tick
+ * and replaces the timers that fired, over delays spread like invites and
+ * cooldowns (1 tick to 10 minutes). More pending timers means more of them
+ * fire per tick, so the cost is reported per timer operation (schedule,
+ * cancel or fire); it should not depend on how many timers are pending.
+ */
+class TimingWheelBenchmark {
+    private static final int WARMUP = 200_000;
+    private static final int ROUNDS = 1_000_000;
+    private static final long MAX_DELAY = 12_000;
+
+    @Test
+    @DisplayName("Benchmark schedule, cancel and tick at increasing pending counts")
+    void benchmarkPendingCounts() {
+        double small = run(1_000);
+        double medium = run(10_000);
+        double large = run(100_000);
+
+        // Generous bound: JIT and cache effects, but no linear growth
+        assertTrue(medium < small * 4 + 50, "10k pending timers should cost about the same as 1k");
+        assertTrue(large < small * 8 + 100, "100k pending timers should cost about the same as 1k");
+    }
+
+    private double run(int pending) {
+        TimingWheel wheel = new TimingWheel(pending * 2);
+        Random random = new Random(42);
+        long[] fired = {0};
+        Runnable task = () -> fired[0]++;
+
+        // Keep the pending count steady: every fired timer is replaced by the refill below
+        for (int i = 0; i < pending; i++) {
+            wheel.schedule(1 + random.nextInt((int) MAX_DELAY), task);
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            round(wheel, random, task, pending);
+        }
+        long firedBefore = fired[0];
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            round(wheel, random, task, pending);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Per round: schedule + cancel, then one fire + one schedule per fired timer
+        long firedDuring = fired[0] - firedBefore;
+        long operations = 2L * ROUNDS + 2L * firedDuring;
+        double nanos = (double) elapsed / operations;
+        System.out.printf("%d pending: %.1f ns per timer operation (%d fired)%n", pending, nanos, firedDuring);
+        return nanos;
+    }
+
+    private static void round(TimingWheel wheel, Random random, Runnable task, int pending) {
+        wheel.schedule(1 + random.nextInt((int) MAX_DELAY), task).cancel();
+        wheel.tick();
+        while (wheel.size() < pending) {
+            wheel.schedule(1 + random.nextInt((int) MAX_DELAY), task);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.talexck.gameVoting.utils.timer;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel class.
+ */
+class TimingWheelTest {
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new TimingWheel(20_000);
+    }
+
+    @Test
+    @DisplayName("Should fire a timer on its deadline tick")
+    void testFireOnDeadline() {
+        int[] fired = {0};
+        TimingWheel.Timeout timeout = wheel.schedule(3, () -> fired[0]++);
+        assertEquals(3, timeout.getDeadline());
+
+        wheel.tick();
+        wheel.tick();
+        assertEquals(0, fired[0]);
+        assertEquals(1, wheel.tick());
+        assertEquals(1, fired[0]);
+        assertFalse(timeout.isPending());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should not fire cancelled timers")
+    void testCancel() {
+        int[] fired = {0};
+        TimingWheel.Timeout first = wheel.schedule(5, () -> fired[0]++);
+        TimingWheel.Timeout second = wheel.schedule(5, () -> fired[0] += 10);
+        TimingWheel.Timeout far = wheel.schedule(5000, () -> fired[0] += 100);
+
+        assertTrue(first.cancel());
+        assertFalse(first.cancel());
+        assertTrue(far.cancel());
+        assertEquals(1, wheel.size());
+
+        for (int i = 0; i < 6000; i++) {
+            wheel.tick();
+        }
+        assertEquals(10, fired[0]);
+        assertFalse(second.cancel());
+    }
+
+    @Test
+    @DisplayName("Should let a task cancel a timer due in the same tick")
+    void testCancelDuringTick() {
+        // Each timer cancels the other, so exactly one of them fires
+        int[] fired = {0};
+        TimingWheel.Timeout[] timers = new TimingWheel.Timeout[2];
+        timers[0] = wheel.schedule(2, () -> {
+            fired[0]++;
+            timers[1].cancel();
+        });
+        timers[1] = wheel.schedule(2, () -> {
+            fired[0]++;
+            timers[0].cancel();
+        });
+
+        wheel.tick();
+        assertEquals(1, wheel.tick());
+        assertEquals(1, fired[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Should reject timers beyond capacity")
+    void testCapacity() {
+        TimingWheel small = new TimingWheel(2);
+        assertNotNull(small.schedule(10, () -> { }));
+        TimingWheel.Timeout second = small.schedule(10, () -> { });
+        assertNotNull(second);
+        assertNull(small.schedule(10, () -> { }));
+
+        second.cancel();
+        assertNotNull(small.schedule(10, () -> { }));
+    }
+
+    @Test
+    @DisplayName("Should clamp delays to the wheel range")
+    void testClampDelay() {
+        assertEquals(1, wheel.schedule(0, () -> { }).getDeadline());
+        assertEquals(TimingWheel.MAX_DELAY, wheel.schedule(Long.MAX_VALUE, () -> { }).getDeadline());
+    }
+
+    @Test
+    @DisplayName("Should fire 10k timers exactly on their deadlines across all levels")
+    void testManyTimers() {
+        Random random = new Random(7);
+        List<long[]> firedAt = new ArrayList<>();
+        int cancelled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long delay = 1 + random.nextInt(300_000);  // Up to level 3
+            long[] record = {delay, -1};
+            firedAt.add(record);
+            TimingWheel.Timeout timeout = wheel.schedule(delay, () -> record[1] = wheel.getTick());
+            if (i % 10 == 0) {
+                timeout.cancel();
+                record[0] = -1;
+                cancelled++;
+            }
+        }
+        assertEquals(10_000 - cancelled, wheel.size());
+
+        int fired = 0;
+        while (wheel.size() > 0) {
+            fired += wheel.tick();
+        }
+        assertEquals(10_000 - cancelled, fired);
+        for (long[] record : firedAt) {
+            assertEquals(record[0], record[1]);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.talexck.gameVoting.voting;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConcurrentVoteTally class.
+ */
+class ConcurrentVoteTallyTest {
+    private VoteTally tally;
+
+    @BeforeEach
+    void setUp() {
+        tally = new ConcurrentVoteTally(3);
+        tally.reset(List.of("game1", "game2", "game3", "game4"));
+    }
+
+    @Test
+    @DisplayName("Should enforce the vote limit per player")
+    void testVoteLimit() {
+        UUID player = UUID.randomUUID();
+        assertEquals(VoteResult.ADDED, tally.toggle(player, "game1"));
+        assertEquals(VoteResult.ADDED, tally.toggle(player, "game2"));
+        assertEquals(VoteResult.ADDED, tally.toggle(player, "game3"));
+        assertEquals(VoteResult.LIMIT_REACHED, tally.toggle(player, "game4"));
+        assertEquals(VoteResult.REMOVED, tally.toggle(player, "game2"));
+        assertEquals(2, tally.getTotalVotes());
+        assertEquals(Set.of("game1", "game3"), tally.getBallot(player));
+    }
+
+    @Test
+    @DisplayName("Should keep counts consistent under concurrent votes")
+    void testConcurrentToggles() throws Exception {
+        UUID[] players = new UUID[100];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = UUID.randomUUID();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        tally.toggle(players[random.nextInt(players.length)], "game" + (1 + random.nextInt(4)));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int ballotTotal = 0;
+        int voters = 0;
+        for (UUID player : players) {
+            ballotTotal += tally.getBallotSize(player);
+            voters += tally.hasVoted(player) ? 1 : 0;
+        }
+        int countTotal = tally.getCounts().values().stream().mapToInt(Integer::intValue).sum();
+
+        assertEquals(ballotTotal, tally.getTotalVotes(), "Total should match ballots");
+        assertEquals(ballotTotal, countTotal, "Per-game counts should match ballots");
+        assertEquals(voters, tally.getVoterCount(), "Voter count should match non-empty ballots");
+        assertEquals(1, tally.getRank(tally.getLeader()), "Leader should rank first");
+
+        VoteSnapshot snapshot = tally.toSnapshot(1);
+        assertEquals(ballotTotal, snapshot.getTotalVotes());
+        assertEquals(voters, snapshot.getVoterCount());
+        assertEquals(snapshot.getStandings(4), List.copyOf(snapshot.getCounts().keySet()));
+    }
+
+    @Test
+    @DisplayName("Should always return standings to readers under steady votes")
+    void testSnapshotUnderLoad() throws Exception {
+        // A vote that stays, so the standings are never legitimately empty
+        tally.toggle(UUID.randomUUID(), "game1");
+        UUID[] players = new UUID[50];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = UUID.randomUUID();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 3; t++) {
+                Random random = new Random(t);
+                futures.add(executor.submit(() -> {
+                    while (running.get()) {
+                        tally.toggle(players[random.nextInt(players.length)], "game" + (2 + random.nextInt(3)));
+                    }
+                }));
+            }
+            for (int i = 0; i < 20000; i++) {
+                assertNotNull(tally.getLeader(), "Leader should never be missing");
+                assertFalse(tally.getStandings(4).isEmpty(), "Standings should never be empty");
+
+                // Counts must agree with their own order and total
+                VoteSnapshot snapshot = tally.toSnapshot(i);
+                int previous = Integer.MAX_VALUE;
+                int sum = 0;
+                for (int count : snapshot.getCounts().values()) {
+                    assertTrue(count > 0 && count <= previous, "Counts should follow the standings order");
+                    previous = count;
+                    sum += count;
+                }
+                assertEquals(sum, snapshot.getTotalVotes());
+                assertTrue(snapshot.getVoterCount() <= sum, "Every voter should have a counted vote");
+            }
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.talexck.gameVoting.voting;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IndexedVoteTally class.
+ */
+class IndexedVoteTallyTest {
+    private VoteTally tally;
+    private UUID player1;
+    private UUID player2;
+
+    @BeforeEach
+    void setUp() {
+        tally = new IndexedVoteTally(3);
+        tally.reset(List.of("game1", "game2", "game3", "game4"));
+        player1 = UUID.randomUUID();
+        player2 = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should index configured games up front")
+    void testCatalogIndexed() {
+        assertEquals(4, tally.getGameCount(), "All catalog games should be indexed");
+        assertEquals(0, tally.getCount("game1"), "Indexed games should start at 0 votes");
+    }
+
+    @Test
+    @DisplayName("Should toggle votes and keep counts in sync")
+    void testToggle() {
+        assertEquals(VoteResult.ADDED, tally.toggle(player1, "game1"));
+        assertTrue(tally.hasVotedFor(player1, "game1"));
+        assertEquals(1, tally.getCount("game1"));
+        assertEquals(1, tally.getVoterCount());
+
+        assertEquals(VoteResult.REMOVED, tally.toggle(player1, "game1"));
+        assertFalse(tally.hasVotedFor(player1, "game1"));
+        assertFalse(tally.hasVoted(player1), "Empty ballot should not count as voted");
+        assertEquals(0, tally.getCount("game1"));
+        assertEquals(0, tally.getVoterCount());
+        assertEquals(0, tally.getTotalVotes());
+    }
+
+    @Test
+    @DisplayName("Should enforce the per-player vote limit")
+    void testLimit() {
+        tally.toggle(player1, "game1");
+        tally.toggle(player1, "game2");
+        tally.toggle(player1, "game3");
+
+        assertEquals(VoteResult.LIMIT_REACHED, tally.toggle(player1, "game4"));
+        assertEquals(3, tally.getBallotSize(player1));
+
+        // Freeing a slot allows another vote
+        tally.toggle(player1, "game2");
+        assertEquals(VoteResult.ADDED, tally.toggle(player1, "game4"));
+        assertEquals(Map.of("game1", 1, "game3", 1, "game4", 1), tally.getCounts());
+    }
+
+    @Test
+    @DisplayName("Should index games that were not in the catalog on first vote")
+    void testLazyRegistration() {
+        assertEquals(VoteResult.ADDED, tally.toggle(player1, "late_game"));
+        assertEquals(1, tally.getCount("late_game"));
+        assertEquals(5, tally.getGameCount());
+    }
+
+    @Test
+    @DisplayName("Should keep ballots correct after the voter table grows")
+    void testManyVoters() {
+        int voters = 5000;
+        UUID[] ids = new UUID[voters];
+        for (int i = 0; i < voters; i++) {
+            ids[i] = UUID.randomUUID();
+            tally.toggle(ids[i], "game" + (1 + i % 4));
+        }
+
+        assertEquals(voters, tally.getVoterCount());
+        assertEquals(voters, tally.getTotalVotes());
+        for (int i = 0; i < voters; i++) {
+            assertTrue(tally.hasVotedFor(ids[i], "game" + (1 + i % 4)));
+        }
+        assertFalse(tally.hasVoted(player2), "Unknown players should have no ballot");
+    }
+
+    @Test
+    @DisplayName("Should keep standings ordered by vote count")
+    void testStandings() {
+        UUID player3 = UUID.randomUUID();
+        tally.toggle(player1, "game3");
+        tally.toggle(player2, "game3");
+        tally.toggle(player3, "game3");
+        tally.toggle(player1, "game2");
+        tally.toggle(player2, "game2");
+        tally.toggle(player3, "game4");
+
+        assertEquals(List.of("game3", "game2", "game4"), tally.getStandings(10));
+        assertEquals(List.of("game3", "game2"), tally.getStandings(2));
+        assertEquals("game3", tally.getLeader());
+        assertEquals(2, tally.getRank("game2"));
+        assertEquals(0, tally.getRank("game1"), "Games without votes should have no rank");
+
+        // Removing votes moves games back down
+        tally.toggle(player1, "game3");
+        tally.toggle(player2, "game3");
+        assertEquals("game2", tally.getLeader());
+        assertEquals(2, tally.getRank("game3"), "Tied games should share a rank");
+        assertEquals(2, tally.getRank("game4"), "Tied games should share a rank");
+    }
+
+    @Test
+    @DisplayName("Should have no leader when no votes are cast")
+    void testNoLeader() {
+        assertNull(tally.getLeader());
+        assertTrue(tally.getStandings(10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should clear votes but keep the game index")
+    void testClear() {
+        tally.toggle(player1, "game1");
+        tally.toggle(player2, "game2");
+        tally.clear();
+
+        assertEquals(0, tally.getTotalVotes());
+        assertEquals(0, tally.getBallotSize(player1));
+        assertTrue(tally.getCounts().isEmpty());
+        assertEquals(4, tally.getGameCount());
+    }
+}
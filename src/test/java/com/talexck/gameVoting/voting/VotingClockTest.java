@@ -0,0 +1,104 @@
+package com.talexck.gameVoting.voting;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VotingClock class.
+ */
+class VotingClockTest {
+    private static ServerMock server;
+    private static Plugin plugin;
+    private VotingClock clock;
+    private VotingSession session;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+        plugin = MockBukkit.createMockPlugin();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        clock = VotingClock.getInstance();
+        clock.stop();
+        clock.start(plugin);
+        session = VotingSession.getInstance();
+        session.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.stop();
+    }
+
+    @Test
+    @DisplayName("Should render one frame per second and expire once")
+    void testFramesAndExpiry() {
+        List<Integer> frames = new ArrayList<>();
+        int[] expired = {0};
+        clock.schedule(session, VotingClock.Phase.START_COUNTDOWN, 60L, new VotingClock.Countdown() {
+            @Override
+            public void onSecond(int remainingSeconds) {
+                frames.add(remainingSeconds);
+            }
+
+            @Override
+            public void onExpire() {
+                expired[0]++;
+            }
+        });
+
+        server.getScheduler().performTicks(59);
+        assertEquals(List.of(3, 2, 1), frames);
+        assertEquals(0, expired[0]);
+        assertTrue(clock.isScheduled(session, VotingClock.Phase.START_COUNTDOWN));
+
+        server.getScheduler().performTicks(40);
+        assertEquals(1, expired[0]);
+        assertFalse(clock.isScheduled(session, VotingClock.Phase.START_COUNTDOWN));
+    }
+
+    @Test
+    @DisplayName("Should replace and cancel countdowns per phase")
+    void testReplaceAndCancel() {
+        int[] fired = new int[3];
+        clock.schedule(session, VotingClock.Phase.VOTING, 20L, () -> fired[0]++);
+        clock.schedule(session, VotingClock.Phase.VOTING, 40L, () -> fired[1]++);
+        clock.schedule(session, VotingClock.Phase.TELEPORT, 20L, () -> fired[2]++);
+        assertEquals(2, clock.getRemainingSeconds(session, VotingClock.Phase.VOTING));
+
+        assertTrue(clock.cancel(session, VotingClock.Phase.TELEPORT));
+        assertFalse(clock.cancel(session, VotingClock.Phase.TELEPORT));
+
+        server.getScheduler().performTicks(60);
+        assertArrayEquals(new int[] {0, 1, 0}, fired);
+    }
+
+    @Test
+    @DisplayName("Should run a countdown scheduled from an expiry callback")
+    void testScheduleFromCallback() {
+        int[] teleported = {0};
+        clock.schedule(session, VotingClock.Phase.TELEPORT, 20L, () ->
+            clock.schedule(session, VotingClock.Phase.TELEPORT, 10L, () -> teleported[0]++));
+
+        server.getScheduler().performTicks(25);
+        assertEquals(0, teleported[0]);
+        assertTrue(clock.isScheduled(session, VotingClock.Phase.TELEPORT));
+
+        server.getScheduler().performTicks(10);
+        assertEquals(1, teleported[0]);
+    }
+}
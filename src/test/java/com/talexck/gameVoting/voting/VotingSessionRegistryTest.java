@@ -0,0 +1,79 @@
+package com.talexck.gameVoting.voting;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VotingSessionRegistry class.
+ */
+class VotingSessionRegistryTest {
+    private static ServerMock server;
+    private VotingSessionRegistry registry;
+    private WorldMock arena;
+
+    @BeforeAll
+    static void setUpServer() {
+        server = MockBukkit.mock();
+    }
+
+    @AfterAll
+    static void tearDownServer() {
+        MockBukkit.unmock();
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = VotingSessionRegistry.getInstance();
+        arena = server.addSimpleWorld("arena_red");
+
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("rooms.arena_red", "red");
+        registry.load(config.getConfigurationSection("rooms"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Restore the single default room for other tests
+        registry.load(null);
+    }
+
+    @Test
+    @DisplayName("Should route players to the room of their world")
+    void testRouting() {
+        PlayerMock lobbyPlayer = server.addPlayer("LobbyPlayer");
+        PlayerMock arenaPlayer = server.addPlayer("ArenaPlayer");
+        arenaPlayer.teleport(arena.getSpawnLocation());
+
+        registry.route(lobbyPlayer);
+        registry.route(arenaPlayer);
+
+        VotingSession red = registry.getSession("red");
+        assertSame(registry.getDefaultSession(), registry.getSession(lobbyPlayer));
+        assertSame(red, registry.getSession(arenaPlayer));
+        assertTrue(red.getPlayers().contains(arenaPlayer), "Arena player should be in the red room");
+        assertFalse(red.getPlayers().contains(lobbyPlayer), "Lobby player should not be in the red room");
+
+        registry.remove(arenaPlayer);
+        assertTrue(red.getPlayers().isEmpty(), "Removed player should leave the room");
+    }
+
+    @Test
+    @DisplayName("Should keep votes separate per room")
+    void testIndependentSessions() {
+        VotingSession red = registry.getSession("red");
+        VotingSession lobby = registry.getDefaultSession();
+        red.clear();
+        lobby.clear();
+
+        red.startVoting();
+        assertTrue(red.isActive());
+        assertFalse(lobby.isActive(), "Starting one room should not start another");
+        red.clear();
+    }
+}
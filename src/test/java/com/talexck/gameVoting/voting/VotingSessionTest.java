@@ -204,6 +204,26 @@ class VotingSessionTest {
         assertTrue(first.getValue() >= second.getValue(), "Results should be sorted by count descending");
     }
 
+    @Test
+    @DisplayName("Should share one snapshot until votes change")
+    void testSnapshot() {
+        session.startVoting();
+        session.vote(player1, game1);
+
+        VoteSnapshot first = session.getSnapshot();
+        assertSame(first, session.getSnapshot(), "Unchanged tally should reuse the published snapshot");
+        assertEquals(1, first.getCount("game1"));
+
+        session.vote(player2, game2);
+        session.vote(player1, game2);
+        VoteSnapshot second = session.getSnapshot();
+        assertTrue(second.isNewerThan(first.getVersion()), "Votes should publish a newer snapshot");
+        assertEquals("game2", second.getLeader());
+        assertEquals(2, second.getVoterCount());
+        assertEquals(1, first.getCount("game1"), "Older snapshots must not change");
+        assertThrows(UnsupportedOperationException.class, () -> second.getCounts().put("game3", 1));
+    }
+
     @Test
     @DisplayName("Should get winner correctly")
     void testGetWinner() {
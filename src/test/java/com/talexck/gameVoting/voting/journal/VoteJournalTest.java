@@ -0,0 +1,172 @@
+package com.talexck.gameVoting.voting.journal;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VoteJournal class.
+ */
+class VoteJournalTest {
+    @TempDir
+    Path directory;
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should replay votes in order after reopening")
+    void testReplayVoting() throws Exception {
+        Path file = directory.resolve("default.journal");
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.voteStarter(alice);
+            journal.votingStarted(1000L, 3);
+            journal.voteToggled(alice, "bedwars");
+            journal.voteToggled(bob, "skywars");
+            journal.voteToggled(alice, "bedwars");
+            journal.voteToggled(alice, "skywars");
+        }
+
+        JournalState state = new JournalState();
+        try (VoteJournal ignored = VoteJournal.open(file, state)) {
+            assertTrue(state.isInProgress());
+            assertTrue(state.isActive());
+            assertEquals(1000L, state.getStartTime());
+            assertEquals(3, state.getDurationMinutes());
+            assertEquals(alice, state.getVoteStarter());
+
+            List<JournalState.VoteToggle> toggles = state.getToggles();
+            assertEquals(4, toggles.size());
+            assertEquals(bob, toggles.get(1).getPlayerId());
+            assertEquals("skywars", toggles.get(3).getGameId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should replay the ready phase")
+    void testReplayReadyPhase() throws Exception {
+        Path file = directory.resolve("default.journal");
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.votingStarted(1000L, 3);
+            journal.voteToggled(alice, "bedwars");
+            journal.votingStopped();
+            journal.readyPhaseStarted();
+            journal.playerReady(alice, true);
+            journal.playerReady(bob, true);
+            journal.playerReady(bob, false);
+        }
+
+        JournalState state = new JournalState();
+        VoteJournal.open(file, state).close();
+        assertFalse(state.isActive());
+        assertTrue(state.isReadyPhase());
+        assertEquals(Set.of(alice), state.getReadyPlayers());
+        assertEquals(1, state.getToggles().size(), "Votes are needed to resolve the winner");
+    }
+
+    @Test
+    @DisplayName("Should discard all records on compaction and keep appending")
+    void testCompaction() throws Exception {
+        Path file = directory.resolve("default.journal");
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.votingStarted(1000L, 3);
+            journal.voteToggled(alice, "bedwars");
+            journal.compact();
+            journal.preVotingStarted();
+            journal.preVotingReady(bob, true);
+        }
+
+        JournalState state = new JournalState();
+        VoteJournal.open(file, state).close();
+        assertFalse(state.isActive());
+        assertTrue(state.getToggles().isEmpty());
+        assertTrue(state.isPreVotingReady());
+        assertEquals(Set.of(bob), state.getPreVotingReadyPlayers());
+    }
+
+    @Test
+    @DisplayName("Should journal game IDs longer than the staging buffer")
+    void testLongGameId() throws Exception {
+        Path file = directory.resolve("default.journal");
+        String gameId = "g".repeat(40_000);
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.votingStarted(1000L, 3);
+            assertTrue(journal.voteToggled(alice, gameId));
+            assertFalse(journal.voteToggled(bob, "g".repeat(70_000)));
+        }
+
+        JournalState state = new JournalState();
+        try (VoteJournal ignored = VoteJournal.open(file, state)) {
+            assertEquals(1, state.getToggles().size());
+            assertEquals(gameId, state.getToggles().get(0).getGameId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial mapping")
+    void testGrow() throws Exception {
+        Path file = directory.resolve("default.journal");
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.votingStarted(1000L, 3);
+            for (int i = 0; i < 20_000; i++) {
+                journal.voteToggled(UUID.randomUUID(), "bedwars");
+            }
+        }
+
+        JournalState state = new JournalState();
+        VoteJournal.open(file, state).close();
+        assertEquals(20_000, state.getToggles().size());
+    }
+
+    @Test
+    @DisplayName("Should disable itself instead of failing votes when the file cannot grow")
+    void testGrowFailure() throws Exception {
+        Path file = directory.resolve("default.journal");
+        VoteJournal journal = VoteJournal.open(file, new JournalState());
+        journal.votingStarted(1000L, 3);
+        journal.voteToggled(alice, "bedwars");
+        // The mapping outlives the channel, but a closed channel cannot be remapped
+        journal.close();
+
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                journal.voteToggled(UUID.randomUUID(), "bedwars");
+            }
+        });
+
+        JournalState state = new JournalState();
+        VoteJournal.open(file, state).close();
+        assertFalse(state.isInProgress(), "A journal with missing votes should not be recovered");
+    }
+
+    @Test
+    @DisplayName("Should stop replay at a torn record")
+    void testTornRecord() throws Exception {
+        Path file = directory.resolve("default.journal");
+        try (VoteJournal journal = VoteJournal.open(file, new JournalState())) {
+            journal.votingStarted(1000L, 3);
+            journal.voteToggled(alice, "bedwars");
+            journal.voteToggled(bob, "skywars");
+        }
+
+        // Corrupt the last byte of the last record, as if the crash hit mid-write
+        long lastRecordEnd = 8 + (12 + 1 + 12) + 2L * (12 + 1 + 16 + 2 + 7);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(lastRecordEnd - 1);
+            raf.write('x');
+        }
+
+        JournalState state = new JournalState();
+        VoteJournal.open(file, state).close();
+        assertTrue(state.isActive());
+        assertEquals(1, state.getToggles().size());
+        assertEquals(alice, state.getToggles().get(0).getPlayerId());
+    }
+}
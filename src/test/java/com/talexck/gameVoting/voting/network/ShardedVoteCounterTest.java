@@ -0,0 +1,86 @@
+package com.talexck.gameVoting.voting.network;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ShardedVoteCounter class.
+ */
+class ShardedVoteCounterTest {
+    private static final String ROUND = "round-1";
+
+    private ShardedVoteCounter lobbyA;
+    private ShardedVoteCounter lobbyB;
+
+    @BeforeEach
+    void setUp() {
+        lobbyA = new ShardedVoteCounter("Lobby-A");
+        lobbyB = new ShardedVoteCounter("Lobby-B");
+        lobbyA.reset(ROUND);
+        lobbyB.reset(ROUND);
+    }
+
+    @Test
+    @DisplayName("Should converge regardless of message order and duplicates")
+    void testConvergence() {
+        ShardedVoteCounter.Shard a1 = lobbyA.updateLocal(Map.of("bedwars", 2));
+        ShardedVoteCounter.Shard a2 = lobbyA.updateLocal(Map.of("bedwars", 1, "skywars", 3));
+        ShardedVoteCounter.Shard b1 = lobbyB.updateLocal(Map.of("bedwars", 4));
+
+        // B receives A's shards out of order and duplicated
+        assertTrue(lobbyB.merge(ROUND, "Lobby-A", a2.getVersion(), a2.getCounts()));
+        assertFalse(lobbyB.merge(ROUND, "Lobby-A", a1.getVersion(), a1.getCounts()), "Older shard should be ignored");
+        assertFalse(lobbyB.merge(ROUND, "Lobby-A", a2.getVersion(), a2.getCounts()), "Duplicate shard should be ignored");
+        lobbyA.merge(ROUND, "Lobby-B", b1.getVersion(), b1.getCounts());
+
+        assertEquals(lobbyA.getResults(), lobbyB.getResults(), "Both lobbies should see the same results");
+        assertEquals(Map.of("bedwars", 5, "skywars", 3), lobbyA.getCounts());
+        assertEquals("bedwars", lobbyB.getLeader());
+    }
+
+    @Test
+    @DisplayName("Should break ties by game ID and agree on the coordinator")
+    void testDeterministicDecisions() {
+        ShardedVoteCounter.Shard a = lobbyA.updateLocal(Map.of("skywars", 2));
+        ShardedVoteCounter.Shard b = lobbyB.updateLocal(Map.of("bedwars", 2));
+        lobbyA.merge(ROUND, "Lobby-B", b.getVersion(), b.getCounts());
+        lobbyB.merge(ROUND, "Lobby-A", a.getVersion(), a.getCounts());
+
+        assertEquals(List.of("bedwars", "skywars"), List.copyOf(lobbyA.getResults().keySet()));
+        assertEquals("bedwars", lobbyB.getLeader());
+        assertTrue(lobbyA.isCoordinator(), "Lowest node ID should coordinate");
+        assertFalse(lobbyB.isCoordinator());
+    }
+
+    @Test
+    @DisplayName("Should copy local votes again after switching to an older round")
+    void testRoundSwitch() {
+        lobbyA.reset("round-2");
+        assertNotNull(lobbyA.updateLocal(7, Map.of("bedwars", 2)));
+        assertFalse(lobbyA.isBehind(7));
+
+        // A concurrent start elsewhere resolved to the older round
+        lobbyA.reset(ROUND);
+        assertTrue(lobbyA.isBehind(7), "Votes cast before the switch must be copied into the new shard");
+        assertNotNull(lobbyA.updateLocal(7, Map.of("bedwars", 2)));
+        assertEquals(Map.of("bedwars", 2), lobbyA.getLocalShard().getCounts());
+        assertFalse(lobbyA.isBehind(7));
+
+        lobbyA.reset(null);
+        assertFalse(lobbyA.isBehind(8), "Nothing to copy outside a round");
+    }
+
+    @Test
+    @DisplayName("Should ignore shards from other rounds")
+    void testRoundIsolation() {
+        assertFalse(lobbyA.merge("round-0", "Lobby-B", 1, Map.of("bedwars", 9)));
+        assertTrue(lobbyA.getCounts().isEmpty());
+
+        lobbyA.reset(null);
+        assertNull(lobbyA.updateLocal(Map.of("bedwars", 1)), "Local updates outside a round should be ignored");
+    }
+}
@@ -0,0 +1,97 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Micro-benchmark for end-of-session evaluation: 200 ranked ballots over 12 games.
+ * Not picked up by the default test run; run it with
+ * mvn test -Dtest=TallyStrategyBenchmark
+ *
+ * Reports the average time per evaluation and checks that a warmed-up
+ * evaluation allocates nothing.
+ */
+class TallyStrategyBenchmark {
+    private static final int BALLOTS = 200;
+    private static final int GAMES = 12;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final long[] ballots = new long[BALLOTS];
+    private final int[] ranking = new int[GAMES];
+    private final int[] scores = new int[GAMES];
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < BALLOTS; i++) {
+            // Three distinct preferences, skewed towards low game indexes so several runoff rounds happen
+            long ballot = 0;
+            int filled = 0;
+            while (filled < 3) {
+                int game = (int) Math.min(GAMES - 1, Math.abs(random.nextGaussian()) * GAMES / 3);
+                if (!contains(ballot, game)) {
+                    ballot |= (game + 1L) << (filled++ * 16);
+                }
+            }
+            ballots[i] = ballot;
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark plurality")
+    void benchmarkPlurality() {
+        run(new PluralityStrategy());
+    }
+
+    @Test
+    @DisplayName("Benchmark approval")
+    void benchmarkApproval() {
+        run(new ApprovalStrategy(3));
+    }
+
+    @Test
+    @DisplayName("Benchmark instant-runoff")
+    void benchmarkInstantRunoff() {
+        run(new InstantRunoffStrategy(3));
+    }
+
+    private void run(TallyStrategy strategy) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += strategy.evaluate(ballots, BALLOTS, GAMES, ranking, scores);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += strategy.evaluate(ballots, BALLOTS, GAMES, ranking, scores);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+
+        double micros = elapsed / 1000.0 / ITERATIONS;
+        System.out.printf("%s: %.2f us per evaluation, %d bytes allocated over %d evaluations (sink %d)%n",
+            strategy.getName(), micros, allocated, ITERATIONS, sink);
+
+        // Allow for allocation by the measurement itself, but nothing per evaluation
+        assertTrue(allocated < ITERATIONS, "Evaluation should not allocate");
+        assertTrue(micros < 100, "Evaluation should take microseconds");
+    }
+
+    private static boolean contains(long ballot, int game) {
+        for (int slot = 0; slot < 4; slot++) {
+            if (((ballot >>> (slot * 16)) & 0xFFFF) == game + 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
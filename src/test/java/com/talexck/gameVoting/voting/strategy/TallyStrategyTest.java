@@ -0,0 +1,110 @@
+package com.talexck.gameVoting.voting.strategy;
+
+import com.talexck.gameVoting.voting.IndexedVoteTally;
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the built-in tally strategies.
+ */
+class TallyStrategyTest {
+    private static final int A = 0;
+    private static final int B = 1;
+    private static final int C = 2;
+
+    private final int[] ranking = new int[8];
+    private final int[] scores = new int[8];
+
+    /**
+     * Pack preferences into a ballot (game index + 1 per 16-bit slot).
+     */
+    private static long ballot(int... games) {
+        long packed = 0;
+        for (int i = 0; i < games.length; i++) {
+            packed |= (games[i] + 1L) << (i * 16);
+        }
+        return packed;
+    }
+
+    @Test
+    @DisplayName("Plurality should count first preferences only")
+    void testPlurality() {
+        long[] ballots = {ballot(A, B), ballot(B), ballot(B, A)};
+        int ranked = new PluralityStrategy().evaluate(ballots, ballots.length, 3, ranking, scores);
+
+        assertEquals(2, ranked);
+        assertEquals(B, ranking[0]);
+        assertEquals(2, scores[0]);
+        assertEquals(A, ranking[1]);
+        assertEquals(1, scores[1]);
+    }
+
+    @Test
+    @DisplayName("Approval should count every vote and break ties by game order")
+    void testApproval() {
+        long[] ballots = {ballot(A, B), ballot(B, C), ballot(C, A)};
+        int ranked = new ApprovalStrategy(3).evaluate(ballots, ballots.length, 3, ranking, scores);
+
+        assertEquals(3, ranked);
+        assertArrayEquals(new int[]{A, B, C}, java.util.Arrays.copyOf(ranking, 3));
+        assertArrayEquals(new int[]{2, 2, 2}, java.util.Arrays.copyOf(scores, 3));
+    }
+
+    @Test
+    @DisplayName("Instant-runoff should transfer eliminated ballots")
+    void testInstantRunoff() {
+        // A leads first preferences (2) but C's voter prefers B, so B wins 3-2
+        long[] ballots = {ballot(A), ballot(A), ballot(B), ballot(B, A), ballot(C, B)};
+        int ranked = new InstantRunoffStrategy(3).evaluate(ballots, ballots.length, 3, ranking, scores);
+
+        assertEquals(3, ranked);
+        assertEquals(B, ranking[0], "B should win after C is eliminated");
+        assertEquals(3, scores[0]);
+        assertEquals(A, ranking[1]);
+        assertEquals(C, ranking[2], "First eliminated game should be ranked last");
+        assertEquals(1, scores[2]);
+    }
+
+    @Test
+    @DisplayName("Instant-runoff should stop at a first-round majority")
+    void testInstantRunoffMajority() {
+        long[] ballots = {ballot(A, B), ballot(A), ballot(B, C)};
+        int ranked = new InstantRunoffStrategy(3).evaluate(ballots, ballots.length, 3, ranking, scores);
+
+        assertEquals(3, ranked, "Games only listed as later preferences are still ranked");
+        assertEquals(A, ranking[0]);
+        assertEquals(B, ranking[1]);
+        assertEquals(C, ranking[2]);
+        assertEquals(0, scores[2]);
+    }
+
+    @Test
+    @DisplayName("Should rank nothing without ballots")
+    void testEmpty() {
+        for (String name : TallyStrategies.names()) {
+            assertEquals(0, TallyStrategies.create(name).evaluate(new long[0], 0, 3, ranking, scores), name);
+        }
+        assertNull(TallyStrategies.create("borda"));
+    }
+
+    @Test
+    @DisplayName("Tally ballots should keep preference order after a vote is removed")
+    void testTallyBallotOrder() {
+        IndexedVoteTally tally = new IndexedVoteTally(3);
+        tally.reset(List.of("a", "b", "c"));
+        UUID player = UUID.randomUUID();
+        tally.toggle(player, "a");
+        tally.toggle(player, "b");
+        tally.toggle(player, "c");
+        tally.toggle(player, "a");  // Remove first preference
+        tally.toggle(player, "a");  // Re-add as last preference
+
+        long[] ballots = new long[1];
+        assertEquals(1, tally.copyBallots(ballots));
+        assertEquals(ballot(B, C, A), ballots[0]);
+    }
+}